@@ -0,0 +1,61 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import ortus.boxlang.compiler.parser.BoxSourceType;
+
+/**
+ * A source file of the compiler benchmarks, loaded from the fixtures folder of the classpath
+ *
+ * @param name       The file name
+ * @param source     The source code
+ * @param sourceType The source type of the file
+ * @param isClass    Whether the file is a class
+ */
+public record Fixture( String name, String source, BoxSourceType sourceType, boolean isClass ) {
+
+	/**
+	 * Load a fixture, its type comes from the file extension
+	 *
+	 * @param name The file name
+	 *
+	 * @return The fixture
+	 */
+	public static Fixture load( String name ) throws IOException {
+		try ( InputStream stream = Fixture.class.getResourceAsStream( "/fixtures/" + name ) ) {
+			if ( stream == null ) {
+				throw new IOException( "Fixture not found: " + name );
+			}
+			String source = new String( stream.readAllBytes(), StandardCharsets.UTF_8 );
+			return switch ( name.substring( name.lastIndexOf( '.' ) + 1 ) ) {
+				case "bx" -> new Fixture( name, source, BoxSourceType.BOXSCRIPT, true );
+				case "bxs" -> new Fixture( name, source, BoxSourceType.BOXSCRIPT, false );
+				case "bxm" -> new Fixture( name, source, BoxSourceType.BOXTEMPLATE, false );
+				case "cfc" -> new Fixture( name, source, BoxSourceType.CFSCRIPT, true );
+				case "cfs" -> new Fixture( name, source, BoxSourceType.CFSCRIPT, false );
+				case "cfm" -> new Fixture( name, source, BoxSourceType.CFTEMPLATE, false );
+				default -> throw new IOException( "Unknown fixture type: " + name );
+			};
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.javaboxpiler.JavaBoxpiler;
+import ortus.boxlang.compiler.parser.Parser;
+import ortus.boxlang.runtime.RuntimeState;
+
+/**
+ * Transpiles the AST of representative sources to Java source, without the Java compilation
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+public class TranspilerBenchmark {
+
+	@Param( { "Service.bx", "Service.cfc", "script.bxs", "template.cfm" } )
+	String			fixtureName;
+
+	JavaBoxpiler	boxpiler;
+	BoxNode			root;
+	ClassInfo		classInfo;
+
+	@Setup
+	public void setup( RuntimeState runtime ) throws IOException {
+		Fixture fixture = Fixture.load( fixtureName );
+		boxpiler	= JavaBoxpiler.getInstance();
+		root		= new Parser().parse( fixture.source(), fixture.sourceType(), fixture.isClass() ).getRoot();
+		classInfo	= fixture.isClass()
+		    ? ClassInfo.forClass( fixture.source(), fixture.sourceType(), boxpiler )
+		    : ClassInfo.forScript( fixture.source(), fixture.sourceType(), boxpiler );
+	}
+
+	@Benchmark
+	public String transpile() {
+		return boxpiler.generateJavaSource( root, classInfo );
+	}
+
+}
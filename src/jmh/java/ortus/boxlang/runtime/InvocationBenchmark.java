@@ -0,0 +1,86 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Calls of user defined functions, closures, lambdas and built-in functions from Java
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class InvocationBenchmark {
+
+	Key			add			= Key.of( "add" );
+	Key			max			= Key.of( "max" );
+	Object[]	arguments	= new Object[] { 1, 2 };
+	IBoxContext	context;
+	Object		closure;
+	Object		lambda;
+
+	@Setup
+	public void setup( RuntimeState runtime ) {
+		context = runtime.context;
+		runtime.instance.executeSource(
+		    """
+		    function add( a, b ) {
+		        return a + b;
+		    }
+		    closureAdd = function( a, b ) {
+		        return a + b;
+		    };
+		    lambdaAdd = ( a, b ) -> a + b;
+		    """,
+		    context );
+		closure	= runtime.variables.get( Key.of( "closureAdd" ) );
+		lambda	= runtime.variables.get( Key.of( "lambdaAdd" ) );
+	}
+
+	@Benchmark
+	public Object udf() {
+		return context.invokeFunction( add, arguments );
+	}
+
+	@Benchmark
+	public Object closure() {
+		return context.invokeFunction( closure, arguments );
+	}
+
+	@Benchmark
+	public Object lambda() {
+		return context.invokeFunction( lambda, arguments );
+	}
+
+	@Benchmark
+	public Object bif() {
+		return context.invokeFunction( max, arguments );
+	}
+
+}
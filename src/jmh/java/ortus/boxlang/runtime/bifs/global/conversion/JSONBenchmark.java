@@ -0,0 +1,77 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ortus.boxlang.runtime.RuntimeState;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * Serializes and deserializes a nested structure with the JSON functions
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+public class JSONBenchmark {
+
+	Key			serialize	= Key.of( "JSONSerialize" );
+	Key			deserialize	= Key.of( "JSONDeserialize" );
+	IBoxContext	context;
+	IStruct		data;
+	String		json;
+
+	@Setup
+	public void setup( RuntimeState runtime ) {
+		context = runtime.context;
+		Array developers = new Array();
+		for ( int i = 0; i < 100; i++ ) {
+			developers.add( Struct.of( "id", i, "name", "Developer " + i, "active", i % 2 == 0, "skills", Array.of( "java", "boxlang" ) ) );
+		}
+		data	= Struct.of( "team", "BoxLang", "developers", developers );
+		json	= ( String ) context.invokeFunction( serialize, new Object[] { data } );
+	}
+
+	@Benchmark
+	public Object serialize() {
+		return context.invokeFunction( serialize, new Object[] { data } );
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return context.invokeFunction( deserialize, new Object[] { json } );
+	}
+
+	@Benchmark
+	public Object roundTrip() {
+		return context.invokeFunction( deserialize, new Object[] { context.invokeFunction( serialize, new Object[] { data } ) } );
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.providers;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ortus.boxlang.runtime.RuntimeState;
+
+/**
+ * Reads, writes and evictions on the default cache
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class BoxCacheProviderBenchmark {
+
+	private static final int	KEYS	= 1000;
+
+	ICacheProvider				cache;
+	String[]					keys;
+	int							index;
+
+	@Setup
+	public void setup( RuntimeState runtime ) {
+		cache	= runtime.instance.getCacheService().getDefaultCache();
+		keys	= new String[ KEYS ];
+		for ( int i = 0; i < KEYS; i++ ) {
+			keys[ i ] = "benchmark-" + i;
+			cache.set( keys[ i ], i );
+		}
+	}
+
+	@Benchmark
+	public Optional<Object> get() {
+		index = ( index + 1 ) % KEYS;
+		return cache.get( keys[ index ] );
+	}
+
+	@Benchmark
+	public void set() {
+		index = ( index + 1 ) % KEYS;
+		cache.set( keys[ index ], index );
+	}
+
+	@Benchmark
+	public boolean evict() {
+		index = ( index + 1 ) % KEYS;
+		// Put the entry back, so every call evicts something
+		cache.set( keys[ index ], index );
+		return cache.clear( keys[ index ] );
+	}
+
+}
@@ -0,0 +1,63 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ortus.boxlang.runtime.RuntimeState;
+import ortus.boxlang.runtime.context.IBoxContext.ScopeSearchResult;
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Finds an unscoped variable through a chain of nested contexts, like code inside nested catch blocks does
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class ScopeLookupBenchmark {
+
+	@Param( { "0", "1", "4", "16" } )
+	int			depth;
+
+	Key			name	= Key.of( "target" );
+	IBoxContext	context;
+
+	@Setup
+	public void setup( RuntimeState runtime ) {
+		runtime.variables.put( name, "found" );
+		context = runtime.context;
+		for ( int i = 0; i < depth; i++ ) {
+			context = new CatchBoxContext( context, Key.of( "e" + i ), new RuntimeException() );
+		}
+	}
+
+	@Benchmark
+	public ScopeSearchResult scopeFindNearby() {
+		return context.scopeFindNearby( name, null );
+	}
+
+}
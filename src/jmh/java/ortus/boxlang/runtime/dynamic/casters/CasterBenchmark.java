@@ -0,0 +1,62 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.dynamic.casters;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The casters, from values which need converting
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class CasterBenchmark {
+
+	Object	numeric	= "12345.678";
+	Object	digits	= "12345";
+	Object	integer	= 12345;
+	Object	bool	= "yes";
+
+	@Benchmark
+	public Double doubleFromString() {
+		return DoubleCaster.cast( numeric );
+	}
+
+	@Benchmark
+	public Integer integerFromString() {
+		return IntegerCaster.cast( digits );
+	}
+
+	@Benchmark
+	public String stringFromInteger() {
+		return StringCaster.cast( integer );
+	}
+
+	@Benchmark
+	public Boolean booleanFromString() {
+		return BooleanCaster.cast( bool );
+	}
+
+}
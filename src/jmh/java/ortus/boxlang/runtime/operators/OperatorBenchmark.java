@@ -0,0 +1,68 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The arithmetic and comparison operators on the operand types generated code passes them
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class OperatorBenchmark {
+
+	Object	integer		= 42;
+	Object	decimal		= 3.14;
+	Object	numeric		= "42";
+	Object	string		= "brad";
+	Object	otherString	= "BRAD";
+
+	@Benchmark
+	public Double plusNumbers() {
+		return Plus.invoke( integer, decimal );
+	}
+
+	@Benchmark
+	public Double plusStrings() {
+		return Plus.invoke( numeric, integer );
+	}
+
+	@Benchmark
+	public int compareNumbers() {
+		return Compare.invoke( integer, decimal );
+	}
+
+	@Benchmark
+	public int compareNumericString() {
+		return Compare.invoke( numeric, integer );
+	}
+
+	@Benchmark
+	public int compareStrings() {
+		return Compare.invoke( string, otherString );
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.scopes;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Creation and comparison of keys, which back every variable lookup
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class KeyBenchmark {
+
+	String	name		= "firstName";
+	String	digits		= "42";
+	Key		key			= Key.of( "firstName" );
+	Key		sameCase	= Key.of( "firstName" );
+	Key		otherCase	= Key.of( "FIRSTNAME" );
+	Key		different	= Key.of( "lastName" );
+
+	@Benchmark
+	public Key keyOf() {
+		return Key.of( name );
+	}
+
+	@Benchmark
+	public Key keyOfDigits() {
+		return Key.of( digits );
+	}
+
+	@Benchmark
+	public boolean equalsSameCase() {
+		return key.equals( sameCase );
+	}
+
+	@Benchmark
+	public boolean equalsOtherCase() {
+		return key.equals( otherCase );
+	}
+
+	@Benchmark
+	public boolean equalsDifferent() {
+		return key.equals( different );
+	}
+
+}
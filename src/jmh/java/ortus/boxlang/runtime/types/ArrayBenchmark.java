@@ -0,0 +1,68 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Appends to and reads from arrays
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+public class ArrayBenchmark {
+
+	@Param( { "10", "1000" } )
+	int		size;
+
+	Array	array;
+	int		index;
+
+	@Setup
+	public void setup() {
+		array = new Array();
+		for ( int i = 0; i < size; i++ ) {
+			array.add( i );
+		}
+	}
+
+	@Benchmark
+	public Array fill() {
+		Array filled = new Array();
+		for ( int i = 0; i < size; i++ ) {
+			filled.add( i );
+		}
+		return filled;
+	}
+
+	@Benchmark
+	public Object get() {
+		index = ( index + 1 ) % size;
+		return array.get( index );
+	}
+
+}
@@ -0,0 +1,99 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Builds queries from the result sets of an in-memory Derby database. The time includes running the select, which
+ * {@link #selectOnly()} measures alone.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+public class QueryBenchmark {
+
+	private static final String	URL		= "jdbc:derby:memory:queryBenchmark";
+
+	@Param( { "10", "1000", "10000" } )
+	int							rows;
+
+	Connection					connection;
+
+	@Setup
+	public void setup() throws SQLException {
+		connection = DriverManager.getConnection( URL + ";create=true" );
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( "CREATE TABLE developers ( id INTEGER, name VARCHAR(155), role VARCHAR(155), created TIMESTAMP )" );
+		}
+		try ( PreparedStatement insert = connection.prepareStatement( "INSERT INTO developers VALUES ( ?, ?, ?, CURRENT_TIMESTAMP )" ) ) {
+			for ( int i = 0; i < rows; i++ ) {
+				insert.setInt( 1, i );
+				insert.setString( 2, "Developer " + i );
+				insert.setString( 3, i % 2 == 0 ? "Developer" : "Manager" );
+				insert.addBatch();
+			}
+			insert.executeBatch();
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+		try {
+			DriverManager.getConnection( URL + ";drop=true" );
+		} catch ( SQLException e ) {
+			// Derby reports a dropped database with an exception
+		}
+	}
+
+	@Benchmark
+	public Query fromResultSet() throws SQLException {
+		try ( Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery( "SELECT * FROM developers" ) ) {
+			return Query.fromResultSet( resultSet );
+		}
+	}
+
+	@Benchmark
+	public int selectOnly() throws SQLException {
+		int count = 0;
+		try ( Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery( "SELECT * FROM developers" ) ) {
+			while ( resultSet.next() ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}
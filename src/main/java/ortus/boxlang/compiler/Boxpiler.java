@@ -5,20 +5,26 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.visitor.OptimizingBoxVisitor;
 import ortus.boxlang.compiler.javaboxpiler.JavaBoxpiler;
 import ortus.boxlang.compiler.parser.BoxSourceType;
 import ortus.boxlang.compiler.parser.Parser;
 import ortus.boxlang.compiler.parser.ParsingResult;
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.CompilerConfig;
+import ortus.boxlang.runtime.config.segments.CompilerConfig.CacheMode;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.javaproxy.InterfaceProxyDefinition;
+import ortus.boxlang.runtime.events.jfr.CompilationEvent;
+import ortus.boxlang.runtime.interop.BoxClassInstantiationPlan;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.runnables.IBoxRunnable;
 import ortus.boxlang.runtime.runnables.IProxyRunnable;
@@ -32,28 +38,49 @@ public abstract class Boxpiler implements IBoxpiler {
 	/**
 	 * Logger
 	 */
-	protected static final Logger		logger			= LoggerFactory.getLogger( JavaBoxpiler.class );
+	protected static final Logger				logger			= LoggerFactory.getLogger( JavaBoxpiler.class );
 	/**
 	 * Keeps track of the classes we've compiled
 	 */
-	protected Map<String, ClassInfo>	classPool		= new HashMap<>();
+	protected Map<String, ClassInfo>			classPool		= new ConcurrentHashMap<>();
+	/**
+	 * Locks so each class is only recompiled by one thread at a time
+	 */
+	protected Map<String, Object>				compileLocks	= new ConcurrentHashMap<>();
+	/**
+	 * The compiled templates by source file, used to skip file checks in the trusted and watch cache modes
+	 */
+	protected Map<ResolvedFilePath, ClassInfo>	templateIndex	= new ConcurrentHashMap<>();
+	/**
+	 * The compiled classes by source file, used to skip file checks in the trusted and watch cache modes
+	 */
+	protected Map<ResolvedFilePath, ClassInfo>	classIndex		= new ConcurrentHashMap<>();
+	/**
+	 * How compiled sources detect changes to their files
+	 */
+	protected CacheMode							cacheMode;
+	/**
+	 * The source file watcher, only used in the watch cache mode
+	 */
+	protected SourceFileWatcher					sourceFileWatcher;
 	/**
 	 * The transaction service used to track subtransactions
 	 */
-	protected FRTransService			frTransService	= FRTransService.getInstance( true );
+	protected FRTransService					frTransService	= FRTransService.getInstance( true );
 	/**
 	 * The disk class util
 	 */
-	protected DiskClassUtil				diskClassUtil;
+	protected DiskClassUtil						diskClassUtil;
 	/**
 	 * The directory where the generated classes are stored
 	 */
-	protected Path						classGenerationDirectory;
+	protected Path								classGenerationDirectory;
 
 	public Boxpiler() {
 		this.classGenerationDirectory	= Paths.get( BoxRuntime.getInstance().getConfiguration().compiler.classGenerationDirectory );
 		this.diskClassUtil				= new DiskClassUtil( classGenerationDirectory );
 		this.classGenerationDirectory.toFile().mkdirs();
+		this.cacheMode = BoxRuntime.getInstance().getConfiguration().compiler.cacheMode;
 
 		// If we are in debug mode, let's clean out the class generation directory
 		if ( BoxRuntime.getInstance().inDebugMode() && Files.exists( this.classGenerationDirectory ) ) {
@@ -87,14 +114,16 @@ public abstract class Boxpiler implements IBoxpiler {
 	 */
 	@Override
 	public ParsingResult parse( String source, BoxSourceType type, Boolean classOrInterface ) {
-		DynamicObject	trans	= frTransService.startTransaction( "BL Source Parse", type.name() );
-		Parser			parser	= new Parser();
+		DynamicObject	trans		= frTransService.startTransaction( "BL Source Parse", type.name() );
+		Compilation		compilation	= startCompilation();
+		Parser			parser		= new Parser();
 		try {
 			return parser.parse( source, type, classOrInterface );
 		} catch ( IOException e ) {
 			throw new BoxRuntimeException( "Error compiling source", e );
 		} finally {
 			frTransService.endTransaction( trans );
+			endCompilation( compilation, "Source Parse", type.name() );
 		}
 	}
 
@@ -119,13 +148,54 @@ public abstract class Boxpiler implements IBoxpiler {
 	 */
 	@Override
 	public ParsingResult parse( File file ) {
-		DynamicObject	trans	= frTransService.startTransaction( "BL File Parse", file.toString() );
-		Parser			parser	= new Parser();
+		DynamicObject	trans		= frTransService.startTransaction( "BL File Parse", file.toString() );
+		Compilation		compilation	= startCompilation();
+		Parser			parser		= new Parser();
 		try {
 			return parser.parse( file );
 		} finally {
 			frTransService.endTransaction( trans );
+			endCompilation( compilation, "File Parse", file.toString() );
+		}
+	}
+
+	/**
+	 * A compilation phase in progress, measured by JFR and by the runtime metrics
+	 *
+	 * @param event The JFR event
+	 * @param start The metrics timer
+	 */
+	protected record Compilation( CompilationEvent event, long start ) {
+	}
+
+	/**
+	 * Begin measuring a compilation phase
+	 *
+	 * @return The compilation, to pass to {@link #endCompilation(Compilation, String, String)}
+	 */
+	protected Compilation startCompilation() {
+		CompilationEvent event = new CompilationEvent();
+		event.begin();
+		return new Compilation( event, BoxRuntime.getInstance().getMetricsRegistry().startTimer() );
+	}
+
+	/**
+	 * End measuring a compilation phase. The JFR event is committed if JFR is recording it and the duration is recorded in
+	 * the {@code compiler.<phase>} metric, such as {@code compiler.source.parse}.
+	 *
+	 * @param compilation The compilation
+	 * @param phase       The compilation phase
+	 * @param source      The file or class being compiled
+	 */
+	protected void endCompilation( Compilation compilation, String phase, String source ) {
+		CompilationEvent event = compilation.event();
+		if ( event.shouldCommit() ) {
+			event.phase		= phase;
+			event.source	= source;
+			event.commit();
 		}
+		BoxRuntime.getInstance().getMetricsRegistry()
+		    .stopTimer( "compiler." + phase.toLowerCase().replace( ' ', '.' ), compilation.start() );
 	}
 
 	/**
@@ -141,6 +211,29 @@ public abstract class Boxpiler implements IBoxpiler {
 		return validateParse( parse( source, type, classOrInterface ), "ad-hoc source" );
 	}
 
+	/**
+	 * Simplify a parsed AST before it is transpiled, if the compiler is configured to do so.
+	 *
+	 * @param root The root node of the AST
+	 * @param name The name of the source, used when the AST is logged
+	 *
+	 * @return The root node to transpile
+	 */
+	protected BoxNode optimize( BoxNode root, String name ) {
+		CompilerConfig config = BoxRuntime.getInstance().getConfiguration().compiler;
+		if ( !config.optimizeAST ) {
+			return root;
+		}
+		if ( config.dumpOptimizedAST ) {
+			logger.info( "AST of [{}] before optimization:\n{}", name, root );
+		}
+		BoxNode optimized = root.accept( new OptimizingBoxVisitor() );
+		if ( config.dumpOptimizedAST ) {
+			logger.info( "AST of [{}] after optimization:\n{}", name, optimized );
+		}
+		return optimized;
+	}
+
 	/**
 	 * Validate a parsing result and throw an exception if the parse failed.
 	 *
@@ -200,22 +293,7 @@ public abstract class Boxpiler implements IBoxpiler {
 	 */
 	@Override
 	public Class<IBoxRunnable> compileTemplate( ResolvedFilePath resolvedFilePath ) {
-		ClassInfo classInfo = ClassInfo.forTemplate( resolvedFilePath, Parser.detectFile( resolvedFilePath.absolutePath().toFile() ), this );
-		classPool.putIfAbsent( classInfo.FQN(), classInfo );
-		// If the new class is newer than the one on disk, recompile it
-		if ( classPool.get( classInfo.FQN() ).lastModified() < classInfo.lastModified() ) {
-			try {
-				// Don't know if this does anything, but calling it for good measure
-				classPool.get( classInfo.FQN() ).getClassLoader().close();
-			} catch ( IOException e ) {
-				e.printStackTrace();
-			}
-			classPool.put( classInfo.FQN(), classInfo );
-			compileClassInfo( classInfo.FQN() );
-		} else {
-			classInfo = classPool.get( classInfo.FQN() );
-		}
-		return classInfo.getDiskClass();
+		return getOrCompile( resolvedFilePath, false ).getDiskClass();
 	}
 
 	/**
@@ -243,22 +321,118 @@ public abstract class Boxpiler implements IBoxpiler {
 	 */
 	@Override
 	public Class<IBoxRunnable> compileClass( ResolvedFilePath resolvedFilePath ) {
-		ClassInfo classInfo = ClassInfo.forClass( resolvedFilePath, Parser.detectFile( resolvedFilePath.absolutePath().toFile() ), this );
-		classPool.putIfAbsent( classInfo.FQN(), classInfo );
-		// If the new class is newer than the one on disk, recompile it
-		if ( classPool.get( classInfo.FQN() ).lastModified() < classInfo.lastModified() ) {
-			try {
-				// Don't know if this does anything, but calling it for good measure
-				classPool.get( classInfo.FQN() ).getClassLoader().close();
-			} catch ( IOException e ) {
-				e.printStackTrace();
+		return getOrCompile( resolvedFilePath, true ).getDiskClass();
+	}
+
+	/**
+	 * Get the class info of a source file, compiling it if it is new or changed on disk.
+	 * <p>
+	 * In the trusted and watch cache modes a source which was compiled before is returned without touching the file
+	 * system. In the watch mode the source file watcher evicts files which change so they are checked again.
+	 *
+	 * @param resolvedFilePath The source file
+	 * @param isClass          True for a class, false for a template
+	 *
+	 * @return The class info
+	 */
+	protected ClassInfo getOrCompile( ResolvedFilePath resolvedFilePath, boolean isClass ) {
+		Map<ResolvedFilePath, ClassInfo> index = isClass ? classIndex : templateIndex;
+		if ( cacheMode != CacheMode.CHECK ) {
+			ClassInfo known = index.get( resolvedFilePath );
+			if ( known != null ) {
+				return known;
 			}
-			classPool.put( classInfo.FQN(), classInfo );
-			compileClassInfo( classInfo.FQN() );
-		} else {
-			classInfo = classPool.get( classInfo.FQN() );
 		}
-		return classInfo.getDiskClass();
+
+		BoxSourceType	sourceType	= Parser.detectFile( resolvedFilePath.absolutePath().toFile() );
+		ClassInfo		classInfo	= isClass
+		    ? ClassInfo.forClass( resolvedFilePath, sourceType, this )
+		    : ClassInfo.forTemplate( resolvedFilePath, sourceType, this );
+		String			FQN			= classInfo.FQN();
+		ClassInfo		current		= classPool.get( FQN );
+
+		if ( current == null || current.lastModified() < classInfo.lastModified() ) {
+			// Only one thread compiles a given class, the others wait and use its result
+			Object lock = compileLocks.computeIfAbsent( FQN, key -> new Object() );
+			synchronized ( lock ) {
+				current = classPool.get( FQN );
+				if ( current == null ) {
+					classPool.put( FQN, classInfo );
+					current = classInfo;
+				} else if ( current.lastModified() < classInfo.lastModified() ) {
+					// If the new class is newer than the one on disk, recompile it
+					try {
+						// Don't know if this does anything, but calling it for good measure
+						current.getClassLoader().close();
+					} catch ( IOException e ) {
+						e.printStackTrace();
+					}
+					classPool.put( FQN, classInfo );
+					compileClassInfo( FQN );
+					current = classInfo;
+				}
+			}
+			// Threads arriving later see the compiled class in the pool, so the lock is not needed anymore
+			compileLocks.remove( FQN, lock );
+		}
+
+		if ( cacheMode != CacheMode.CHECK ) {
+			index.put( resolvedFilePath, current );
+			if ( cacheMode == CacheMode.WATCH ) {
+				getSourceFileWatcher().watch( resolvedFilePath.absolutePath() );
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Get the source file watcher, starting it on first use
+	 *
+	 * @return The source file watcher
+	 */
+	protected synchronized SourceFileWatcher getSourceFileWatcher() {
+		if ( sourceFileWatcher == null ) {
+			sourceFileWatcher = new SourceFileWatcher( this::evictSource );
+		}
+		return sourceFileWatcher;
+	}
+
+	/**
+	 * Evict a changed source file from the trusted indexes so it is checked on its next use. The class instantiation plans
+	 * are all dropped, since any of them may have resolved the changed file.
+	 *
+	 * @param path The changed file, or null to evict everything
+	 */
+	protected void evictSource( Path path ) {
+		BoxClassInstantiationPlan.invalidateAll();
+		if ( path == null ) {
+			templateIndex.clear();
+			classIndex.clear();
+			return;
+		}
+		Path changed = path.toAbsolutePath().normalize();
+		templateIndex.keySet().removeIf( resolved -> resolved.absolutePath().toAbsolutePath().normalize().equals( changed ) );
+		classIndex.keySet().removeIf( resolved -> resolved.absolutePath().toAbsolutePath().normalize().equals( changed ) );
+	}
+
+	/**
+	 * Clear the trusted indexes, so every source file is checked again on its next use
+	 */
+	public void clearTrustedCache() {
+		evictSource( null );
+	}
+
+	/**
+	 * Stop the source file watcher and clear the trusted indexes. A watcher is started again if the boxpiler is used
+	 * after a new runtime starts.
+	 */
+	@Override
+	public synchronized void shutdown() {
+		if ( sourceFileWatcher != null ) {
+			sourceFileWatcher.close();
+			sourceFileWatcher = null;
+		}
+		clearTrustedCache();
 	}
 
 	@Override
@@ -181,4 +181,6 @@ public interface IBoxpiler {
 	}
 
 	void compileClassInfo( String FQN );
+
+	void shutdown();
 }
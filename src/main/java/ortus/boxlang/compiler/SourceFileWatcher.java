@@ -0,0 +1,152 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * Watches the directories of compiled source files and reports every file which is created, modified or deleted.
+ * <p>
+ * Directories are registered as sources get compiled, so only directories which contain code in use are watched.
+ * The events are delivered on a single daemon thread. When the file system drops events the listener receives
+ * {@code null}, meaning that anything may have changed.
+ */
+public class SourceFileWatcher implements AutoCloseable {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger		logger		= LoggerFactory.getLogger( SourceFileWatcher.class );
+
+	/**
+	 * The watch service
+	 */
+	private final WatchService		watchService;
+
+	/**
+	 * The directories registered so far
+	 */
+	private final Set<Path>			directories	= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Called with the absolute path of each changed file, or null if events were lost
+	 */
+	private final Consumer<Path>	onChange;
+
+	/**
+	 * The thread delivering the events
+	 */
+	private final Thread			thread;
+
+	/**
+	 * Constructor
+	 *
+	 * @param onChange Called with the absolute path of each changed file, or null if events were lost
+	 */
+	public SourceFileWatcher( Consumer<Path> onChange ) {
+		try {
+			this.watchService = FileSystems.getDefault().newWatchService();
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Unable to start the source file watcher", e );
+		}
+		this.onChange	= onChange;
+		this.thread		= new Thread( this::run, "boxlang-source-watcher" );
+		this.thread.setDaemon( true );
+		this.thread.start();
+	}
+
+	/**
+	 * Watch the directory of a source file
+	 *
+	 * @param file The source file
+	 */
+	public void watch( Path file ) {
+		Path directory = file.toAbsolutePath().normalize().getParent();
+		if ( directory == null || !directories.add( directory ) ) {
+			return;
+		}
+		try {
+			directory.register(
+			    watchService,
+			    StandardWatchEventKinds.ENTRY_CREATE,
+			    StandardWatchEventKinds.ENTRY_MODIFY,
+			    StandardWatchEventKinds.ENTRY_DELETE
+			);
+		} catch ( IOException | ClosedWatchServiceException e ) {
+			directories.remove( directory );
+			logger.warn( "Unable to watch the source directory [{}]: {}", directory, e.getMessage() );
+		}
+	}
+
+	/**
+	 * Stop watching
+	 */
+	@Override
+	public void close() {
+		try {
+			watchService.close();
+		} catch ( IOException e ) {
+			logger.debug( "Error closing the source file watcher", e );
+		}
+	}
+
+	/**
+	 * Deliver events until the watch service is closed
+	 */
+	private void run() {
+		while ( true ) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch ( InterruptedException | ClosedWatchServiceException e ) {
+				return;
+			}
+			Path directory = ( Path ) key.watchable();
+			for ( WatchEvent<?> event : key.pollEvents() ) {
+				try {
+					if ( event.kind() == StandardWatchEventKinds.OVERFLOW ) {
+						onChange.accept( null );
+					} else {
+						onChange.accept( directory.resolve( ( Path ) event.context() ) );
+					}
+				} catch ( RuntimeException e ) {
+					logger.error( "Error handling a source file change", e );
+				}
+			}
+			if ( !key.reset() ) {
+				directories.remove( directory );
+			}
+		}
+	}
+
+}
@@ -0,0 +1,197 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor;
+
+import java.util.ArrayList;
+
+import ortus.boxlang.compiler.ast.BoxExpression;
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.BoxStatement;
+import ortus.boxlang.compiler.ast.expression.BoxBinaryOperation;
+import ortus.boxlang.compiler.ast.expression.BoxBooleanLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxDecimalLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxIntegerLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxParenthesis;
+import ortus.boxlang.compiler.ast.expression.BoxStringConcat;
+import ortus.boxlang.compiler.ast.expression.BoxStringInterpolation;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
+import ortus.boxlang.compiler.ast.statement.BoxExpressionStatement;
+import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
+import ortus.boxlang.compiler.ast.statement.BoxIfElse;
+import ortus.boxlang.compiler.ast.statement.BoxStatementBlock;
+import ortus.boxlang.runtime.operators.Divide;
+import ortus.boxlang.runtime.operators.Minus;
+import ortus.boxlang.runtime.operators.Multiply;
+import ortus.boxlang.runtime.operators.Plus;
+
+/**
+ * Simplifies the AST before it is transpiled:
+ * <ul>
+ * <li>Arithmetic on number literals is computed with the runtime operators, so the result is exactly what the code would produce</li>
+ * <li>Concatenations and interpolations made only of string literals become a single string literal</li>
+ * <li>Parentheses around a literal are dropped</li>
+ * <li>An if statement with a literal boolean condition is replaced by the branch which would run, unless it declares functions</li>
+ * </ul>
+ * Children are visited first, so nested expressions fold from the inside out. An expression statement keeps its outermost
+ * operation, since Java does not allow a literal as a statement.
+ */
+public class OptimizingBoxVisitor extends ReplacingBoxVisitor {
+
+	/**
+	 * The longest string literal we create. Java limits a string constant to 65535 bytes of modified UTF-8.
+	 */
+	private static final int MAX_STRING_LENGTH = 16384;
+
+	public BoxNode visit( BoxBinaryOperation node ) {
+		super.visit( node );
+		Double	left	= numberValue( node.getLeft() );
+		Double	right	= numberValue( node.getRight() );
+		if ( left == null || right == null ) {
+			return node;
+		}
+		Double result;
+		try {
+			result = switch ( node.getOperator() ) {
+				case Plus -> Plus.invoke( left, right );
+				case Minus -> Minus.invoke( left, right );
+				case Star -> Multiply.invoke( left, right );
+				case Slash -> Divide.invoke( left, right );
+				default -> null;
+			};
+		} catch ( RuntimeException e ) {
+			// Such as a division by zero, leave it to fail at runtime like it always did
+			return node;
+		}
+		if ( result == null || result.isNaN() || result.isInfinite() ) {
+			return node;
+		}
+		return new BoxDecimalLiteral( result.toString(), node.getPosition(), node.getSourceText() );
+	}
+
+	public BoxNode visit( BoxStringConcat node ) {
+		super.visit( node );
+		return foldStrings( node );
+	}
+
+	public BoxNode visit( BoxStringInterpolation node ) {
+		super.visit( node );
+		return foldStrings( node );
+	}
+
+	public BoxNode visit( BoxParenthesis node ) {
+		super.visit( node );
+		BoxExpression expression = node.getExpression();
+		if ( isLiteral( expression ) ) {
+			return expression;
+		}
+		return node;
+	}
+
+	public BoxNode visit( BoxExpressionStatement node ) {
+		BoxExpression outermost = unwrap( node.getExpression() );
+		super.visit( node );
+		// A literal on its own is not a valid Java statement, so keep the outermost operation. Its operands are still folded.
+		if ( isLiteral( unwrap( node.getExpression() ) ) && !isLiteral( outermost ) ) {
+			node.setExpression( outermost );
+		}
+		return node;
+	}
+
+	public BoxNode visit( BoxIfElse node ) {
+		super.visit( node );
+		if ( ! ( node.getCondition() instanceof BoxBooleanLiteral condition ) ) {
+			return node;
+		}
+		// Function declarations are registered no matter where they are, so a branch declaring one must be kept
+		if ( !node.getDescendantsOfType( BoxFunctionDeclaration.class ).isEmpty() ) {
+			return node;
+		}
+		BoxStatement branch = condition.getValue() ? node.getThenBody() : node.getElseBody();
+		if ( branch == null ) {
+			// An empty block rather than null, since the if may be the only statement of another body
+			return new BoxStatementBlock( new ArrayList<>(), node.getPosition(), node.getSourceText() );
+		}
+		return branch;
+	}
+
+	/**
+	 * Replace a concatenation by a single string literal if all its parts are string literals
+	 *
+	 * @param node The concatenation
+	 *
+	 * @return The string literal, or the node itself if it can't be folded
+	 */
+	private BoxNode foldStrings( BoxStringConcat node ) {
+		StringBuilder value = new StringBuilder();
+		for ( BoxExpression part : node.getValues() ) {
+			if ( ! ( part instanceof BoxStringLiteral literal ) ) {
+				return node;
+			}
+			value.append( literal.getValue() );
+		}
+		if ( value.length() > MAX_STRING_LENGTH ) {
+			return node;
+		}
+		return new BoxStringLiteral( value.toString(), node.getPosition(), node.getSourceText() );
+	}
+
+	/**
+	 * Check if an expression is a string, number or boolean literal
+	 *
+	 * @param expression The expression
+	 *
+	 * @return True if the expression is a literal
+	 */
+	private boolean isLiteral( BoxExpression expression ) {
+		return expression instanceof BoxStringLiteral || expression instanceof BoxIntegerLiteral || expression instanceof BoxDecimalLiteral
+		    || expression instanceof BoxBooleanLiteral;
+	}
+
+	/**
+	 * Remove the parentheses around an expression
+	 *
+	 * @param expression The expression
+	 *
+	 * @return The expression inside all the parentheses
+	 */
+	private BoxExpression unwrap( BoxExpression expression ) {
+		while ( expression instanceof BoxParenthesis parenthesis ) {
+			expression = parenthesis.getExpression();
+		}
+		return expression;
+	}
+
+	/**
+	 * Get the value of a number literal
+	 *
+	 * @param expression The expression
+	 *
+	 * @return The value, or null if the expression is not a number literal
+	 */
+	private Double numberValue( BoxExpression expression ) {
+		try {
+			if ( expression instanceof BoxIntegerLiteral literal ) {
+				return ( double ) Integer.parseInt( literal.getValue() );
+			}
+			if ( expression instanceof BoxDecimalLiteral literal ) {
+				return Double.valueOf( literal.getValue() );
+			}
+		} catch ( NumberFormatException e ) {
+			// Too large or in a format Java doesn't read, leave it alone
+		}
+		return null;
+	}
+
+}
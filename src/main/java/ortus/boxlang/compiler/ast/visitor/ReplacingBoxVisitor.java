@@ -115,7 +115,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxImport	importNode	= node.getImports().get( i );
 			BoxNode		newImport	= importNode.accept( this );
 			if ( newImport != importNode ) {
-				node.replaceChildren( newImport, importNode );
+				node.replaceChildren( importNode, newImport );
 				node.getImports().set( i, ( BoxImport ) newImport );
 			}
 		}
@@ -123,7 +123,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotationNode	= node.getAnnotations().get( i );
 			BoxNode			newAnnotation	= annotationNode.accept( this );
 			if ( newAnnotation != annotationNode ) {
-				node.replaceChildren( newAnnotation, annotationNode );
+				node.replaceChildren( annotationNode, newAnnotation );
 				node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -131,7 +131,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotationNode	= node.getPostAnnotations().get( i );
 			BoxNode			newAnnotation	= annotationNode.accept( this );
 			if ( newAnnotation != annotationNode ) {
-				node.replaceChildren( newAnnotation, annotationNode );
+				node.replaceChildren( annotationNode, newAnnotation );
 				node.getPostAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -139,7 +139,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxDocumentationAnnotation	documentationNode	= node.getDocumentation().get( i );
 			BoxNode						newDocumentation	= documentationNode.accept( this );
 			if ( newDocumentation != documentationNode ) {
-				node.replaceChildren( newDocumentation, documentationNode );
+				node.replaceChildren( documentationNode, newDocumentation );
 				node.getDocumentation().set( i, ( BoxDocumentationAnnotation ) newDocumentation );
 			}
 		}
@@ -161,7 +161,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxImport	importNode	= node.getImports().get( i );
 			BoxNode		newImport	= importNode.accept( this );
 			if ( newImport != importNode ) {
-				node.replaceChildren( newImport, importNode );
+				node.replaceChildren( importNode, newImport );
 				node.getImports().set( i, ( BoxImport ) newImport );
 			}
 		}
@@ -169,7 +169,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotationNode	= node.getAnnotations().get( i );
 			BoxNode			newAnnotation	= annotationNode.accept( this );
 			if ( newAnnotation != annotationNode ) {
-				node.replaceChildren( newAnnotation, annotationNode );
+				node.replaceChildren( annotationNode, newAnnotation );
 				node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -177,7 +177,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxDocumentationAnnotation	documentationNode	= node.getDocumentation().get( i );
 			BoxNode						newDocumentation	= documentationNode.accept( this );
 			if ( newDocumentation != documentationNode ) {
-				node.replaceChildren( newDocumentation, documentationNode );
+				node.replaceChildren( documentationNode, newDocumentation );
 				node.getDocumentation().set( i, ( BoxDocumentationAnnotation ) newDocumentation );
 			}
 		}
@@ -185,7 +185,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxProperty	propertyNode	= node.getProperties().get( i );
 			BoxNode		newProperty		= propertyNode.accept( this );
 			if ( newProperty != propertyNode ) {
-				node.replaceChildren( newProperty, propertyNode );
+				node.replaceChildren( propertyNode, newProperty );
 				node.getProperties().set( i, ( BoxProperty ) newProperty );
 			}
 		}
@@ -202,7 +202,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxDocumentationAnnotation	annotationNode	= node.getAnnotations().get( i );
 			BoxDocumentationAnnotation	newAnnotation	= ( BoxDocumentationAnnotation ) annotationNode.accept( this );
 			if ( newAnnotation != annotationNode ) {
-				node.replaceChildren( newAnnotation, annotationNode );
+				node.replaceChildren( annotationNode, newAnnotation );
 				node.getAnnotations().set( i, newAnnotation );
 			}
 		}
@@ -279,7 +279,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxExpression	value		= node.getValues().get( i );
 			BoxNode			newValue	= value.accept( this );
 			if ( newValue != value ) {
-				node.replaceChildren( newValue, value );
+				node.replaceChildren( value, newValue );
 				node.getValues().set( i, ( BoxExpression ) newValue );
 			}
 		}
@@ -323,7 +323,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgumentDeclaration	arg		= node.getArgs().get( i );
 			BoxNode					newArg	= arg.accept( this );
 			if ( newArg != arg ) {
-				node.replaceChildren( newArg, arg );
+				node.replaceChildren( arg, newArg );
 				node.getArgs().set( i, ( BoxArgumentDeclaration ) newArg );
 			}
 		}
@@ -331,7 +331,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotation		= node.getAnnotations().get( i );
 			BoxNode			newAnnotation	= annotation.accept( this );
 			if ( newAnnotation != annotation ) {
-				node.replaceChildren( newAnnotation, annotation );
+				node.replaceChildren( annotation, newAnnotation );
 				node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -369,7 +369,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgument	argument	= node.getArguments().get( i );
 			BoxNode		newArgument	= argument.accept( this );
 			if ( newArgument != argument ) {
-				node.replaceChildren( newArgument, argument );
+				node.replaceChildren( argument, newArgument );
 				node.getArguments().set( i, ( BoxArgument ) newArgument );
 			}
 		}
@@ -386,7 +386,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgument	argument	= node.getArguments().get( i );
 			BoxNode		newArgument	= argument.accept( this );
 			if ( newArgument != argument ) {
-				node.replaceChildren( newArgument, argument );
+				node.replaceChildren( argument, newArgument );
 				node.getArguments().set( i, ( BoxArgument ) newArgument );
 			}
 		}
@@ -406,7 +406,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgumentDeclaration	arg		= node.getArgs().get( i );
 			BoxNode					newArg	= arg.accept( this );
 			if ( newArg != arg ) {
-				node.replaceChildren( newArg, arg );
+				node.replaceChildren( arg, newArg );
 				node.getArgs().set( i, ( BoxArgumentDeclaration ) newArg );
 			}
 		}
@@ -414,7 +414,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotation		= node.getAnnotations().get( i );
 			BoxNode			newAnnotation	= annotation.accept( this );
 			if ( newAnnotation != annotation ) {
-				node.replaceChildren( newAnnotation, annotation );
+				node.replaceChildren( annotation, newAnnotation );
 				node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -432,7 +432,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgument	argument	= node.getArguments().get( i );
 			BoxNode		newArgument	= argument.accept( this );
 			if ( newArgument != argument ) {
-				node.replaceChildren( newArgument, argument );
+				node.replaceChildren( argument, newArgument );
 				node.getArguments().set( i, ( BoxArgument ) newArgument );
 			}
 		}
@@ -454,7 +454,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgument	argument	= node.getArguments().get( i );
 			BoxNode		newArgument	= argument.accept( this );
 			if ( newArgument != argument ) {
-				node.replaceChildren( newArgument, argument );
+				node.replaceChildren( argument, newArgument );
 				node.getArguments().set( i, ( BoxArgument ) newArgument );
 			}
 		}
@@ -494,7 +494,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgument	argument	= node.getArguments().get( i );
 			BoxNode		newArgument	= argument.accept( this );
 			if ( newArgument != argument ) {
-				node.replaceChildren( newArgument, argument );
+				node.replaceChildren( argument, newArgument );
 				node.getArguments().set( i, ( BoxArgument ) newArgument );
 			}
 		}
@@ -523,7 +523,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxExpression	value		= node.getValues().get( i );
 			BoxNode			newValue	= value.accept( this );
 			if ( newValue != value ) {
-				node.replaceChildren( newValue, value );
+				node.replaceChildren( value, newValue );
 				node.getValues().set( i, ( BoxExpression ) newValue );
 			}
 		}
@@ -535,7 +535,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxExpression	value		= node.getValues().get( i );
 			BoxNode			newValue	= value.accept( this );
 			if ( newValue != value ) {
-				node.replaceChildren( newValue, value );
+				node.replaceChildren( value, newValue );
 				node.getValues().set( i, ( BoxExpression ) newValue );
 			}
 		}
@@ -551,7 +551,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxExpression	value		= node.getValues().get( i );
 			BoxNode			newValue	= value.accept( this );
 			if ( newValue != value ) {
-				node.replaceChildren( newValue, value );
+				node.replaceChildren( value, newValue );
 				node.getValues().set( i, ( BoxExpression ) newValue );
 			}
 		}
@@ -615,7 +615,7 @@ public abstract class ReplacingBoxVisitor {
 				BoxAnnotation	annotation		= node.getAnnotations().get( i );
 				BoxNode			newAnnotation	= annotation.accept( this );
 				if ( newAnnotation != annotation ) {
-					node.replaceChildren( newAnnotation, annotation );
+					node.replaceChildren( annotation, newAnnotation );
 					node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 				}
 			}
@@ -625,7 +625,7 @@ public abstract class ReplacingBoxVisitor {
 				BoxDocumentationAnnotation	documentation		= node.getDocumentation().get( i );
 				BoxNode						newDocumentation	= documentation.accept( this );
 				if ( newDocumentation != documentation ) {
-					node.replaceChildren( newDocumentation, documentation );
+					node.replaceChildren( documentation, newDocumentation );
 					node.getDocumentation().set( i, ( BoxDocumentationAnnotation ) newDocumentation );
 				}
 			}
@@ -741,7 +741,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxArgumentDeclaration	arg		= node.getArgs().get( i );
 			BoxNode					newArg	= arg.accept( this );
 			if ( newArg != arg ) {
-				node.replaceChildren( newArg, arg );
+				node.replaceChildren( arg, newArg );
 				node.getArgs().set( i, ( BoxArgumentDeclaration ) newArg );
 			}
 		}
@@ -759,7 +759,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotation		= node.getAnnotations().get( i );
 			BoxNode			newAnnotation	= annotation.accept( this );
 			if ( newAnnotation != annotation ) {
-				node.replaceChildren( newAnnotation, annotation );
+				node.replaceChildren( annotation, newAnnotation );
 				node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -767,7 +767,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxDocumentationAnnotation	documentation		= node.getDocumentation().get( i );
 			BoxNode						newDocumentation	= documentation.accept( this );
 			if ( newDocumentation != documentation ) {
-				node.replaceChildren( newDocumentation, documentation );
+				node.replaceChildren( documentation, newDocumentation );
 				node.getDocumentation().set( i, ( BoxDocumentationAnnotation ) newDocumentation );
 			}
 		}
@@ -841,7 +841,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotation		= node.getAnnotations().get( i );
 			BoxNode			newAnnotation	= annotation.accept( this );
 			if ( newAnnotation != annotation ) {
-				node.replaceChildren( newAnnotation, annotation );
+				node.replaceChildren( annotation, newAnnotation );
 				node.getAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -849,7 +849,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxAnnotation	annotation		= node.getPostAnnotations().get( i );
 			BoxNode			newAnnotation	= annotation.accept( this );
 			if ( newAnnotation != annotation ) {
-				node.replaceChildren( newAnnotation, annotation );
+				node.replaceChildren( annotation, newAnnotation );
 				node.getPostAnnotations().set( i, ( BoxAnnotation ) newAnnotation );
 			}
 		}
@@ -857,7 +857,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxDocumentationAnnotation	documentation		= node.getDocumentation().get( i );
 			BoxNode						newDocumentation	= documentation.accept( this );
 			if ( newDocumentation != documentation ) {
-				node.replaceChildren( newDocumentation, documentation );
+				node.replaceChildren( documentation, newDocumentation );
 				node.getDocumentation().set( i, ( BoxDocumentationAnnotation ) newDocumentation );
 			}
 		}
@@ -893,7 +893,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxSwitchCase	caseNode	= node.getCases().get( i );
 			BoxNode			newCase		= caseNode.accept( this );
 			if ( newCase != caseNode ) {
-				node.replaceChildren( newCase, caseNode );
+				node.replaceChildren( caseNode, newCase );
 				node.getCases().set( i, ( BoxSwitchCase ) newCase );
 			}
 		}
@@ -971,7 +971,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxTryCatch	catchNode	= node.getCatches().get( i );
 			BoxNode		newCatch	= catchNode.accept( this );
 			if ( newCatch != catchNode ) {
-				node.replaceChildren( newCatch, catchNode );
+				node.replaceChildren( catchNode, newCatch );
 				node.getCatches().set( i, ( BoxTryCatch ) newCatch );
 			}
 		}
@@ -990,7 +990,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxExpression	type	= node.getCatchTypes().get( i );
 			BoxNode			newType	= type.accept( this );
 			if ( newType != type ) {
-				node.replaceChildren( newType, type );
+				node.replaceChildren( type, newType );
 				node.getCatchTypes().set( i, ( BoxExpression ) newType );
 			}
 		}
@@ -1017,7 +1017,7 @@ public abstract class ReplacingBoxVisitor {
 				BoxAnnotation	annotation		= node.getAttributes().get( i );
 				BoxNode			newAnnotation	= annotation.accept( this );
 				if ( newAnnotation != annotation ) {
-					node.replaceChildren( newAnnotation, annotation );
+					node.replaceChildren( annotation, newAnnotation );
 					node.getAttributes().set( i, ( BoxAnnotation ) newAnnotation );
 				}
 			}
@@ -1034,7 +1034,7 @@ public abstract class ReplacingBoxVisitor {
 			BoxStatement	statement		= statements.get( i );
 			BoxNode			newStatement	= statement.accept( this );
 			if ( newStatement != statement ) {
-				node.replaceChildren( newStatement, statement );
+				node.replaceChildren( statement, newStatement );
 				if ( newStatement != null ) {
 					statements.set( i, ( BoxStatement ) newStatement );
 				} else {
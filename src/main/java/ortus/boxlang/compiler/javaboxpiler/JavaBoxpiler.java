@@ -126,7 +126,8 @@ public class JavaBoxpiler extends Boxpiler {
 		transpiler.setProperty( "relativePath", classInfo.resolvedFilePath() == null ? null : classInfo.resolvedFilePath().relativePath() );
 
 		TranspiledCode	javaASTs;
-		DynamicObject	trans	= frTransService.startTransaction( "Java Transpilation", classInfo.toString() );
+		DynamicObject	trans		= frTransService.startTransaction( "Java Transpilation", classInfo.toString() );
+		Compilation		compilation	= startCompilation();
 		try {
 			javaASTs = transpiler.transpile( node );
 		} catch ( ExpressionException e ) {
@@ -137,6 +138,7 @@ public class JavaBoxpiler extends Boxpiler {
 			throw new BoxRuntimeException( "Error transpiling BoxLang to Java. " + classInfo.toString(), e );
 		} finally {
 			frTransService.endTransaction( trans );
+			endCompilation( compilation, "Java Transpilation", classInfo.FQN() );
 		}
 		ClassOrInterfaceDeclaration outerClass = javaASTs.getEntryPoint().getClassByName( classInfo.className() ).get();
 
@@ -173,10 +175,10 @@ public class JavaBoxpiler extends Boxpiler {
 				return;
 			}
 			ParsingResult result = parseOrFail( sourceFile );
-			compileSource( generateJavaSource( result.getRoot(), classInfo ), classInfo.FQN() );
+			compileSource( generateJavaSource( optimize( result.getRoot(), FQN ), classInfo ), classInfo.FQN() );
 		} else if ( classInfo.source() != null ) {
 			ParsingResult result = parseOrFail( classInfo.source(), classInfo.sourceType(), classInfo.isClass() );
-			compileSource( generateJavaSource( result.getRoot(), classInfo ), classInfo.FQN() );
+			compileSource( generateJavaSource( optimize( result.getRoot(), FQN ), classInfo ), classInfo.FQN() );
 		} else if ( classInfo.interfaceProxyDefinition() != null ) {
 			compileSource( generateProxyJavaSource( classInfo ), classInfo.FQN() );
 		} else {
@@ -192,7 +194,8 @@ public class JavaBoxpiler extends Boxpiler {
 	 */
 	@SuppressWarnings( "unused" )
 	private void compileSource( String javaSource, String fqn ) {
-		DynamicObject trans = frTransService.startTransaction( "Java Compilation", fqn );
+		DynamicObject	trans		= frTransService.startTransaction( "Java Compilation", fqn );
+		Compilation		compilation	= startCompilation();
 
 		// This is just for debugging. Remove later.
 		diskClassUtil.writeJavaSource( fqn, javaSource );
@@ -229,6 +232,7 @@ public class JavaBoxpiler extends Boxpiler {
 			throw new BoxRuntimeException( "Error compiling source " + fqn, e );
 		} finally {
 			frTransService.endTransaction( trans );
+			endCompilation( compilation, "Java Compilation", fqn );
 		}
 
 	}
@@ -33,6 +33,7 @@ import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.Statement;
 
 import ortus.boxlang.compiler.ast.BoxExpression;
@@ -196,6 +197,21 @@ public abstract class AbstractTransformer implements Transformer {
 		return true;
 	}
 
+	/**
+	 * Prefix the body of a loop with a request timeout check, so a runaway loop stops once its request has timed out.
+	 * The check runs at the start of every iteration, which a {@code continue} can't skip.
+	 *
+	 * @param body The transformed body of the loop
+	 *
+	 * @return A block running the check, then the body
+	 */
+	protected BlockStmt withTimeoutCheck( Statement body ) {
+		BlockStmt block = new BlockStmt();
+		block.addStatement( parseStatement( "${contextName}.checkRequestTimeout();", Map.of( "contextName", transpiler.peekContextName() ) ) );
+		block.addStatement( body );
+		return block;
+	}
+
 	/**
 	 * Add cross-reference index entry
 	 *
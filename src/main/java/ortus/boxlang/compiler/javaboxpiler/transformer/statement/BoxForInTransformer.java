@@ -145,7 +145,7 @@ public class BoxForInTransformer extends AbstractTransformer {
 		stmt.addStatement( ( Statement ) parseStatement( template1d, values ) );
 
 		// May be a single statement or a block statement, which is still a single statement :)
-		whileStmt.getBody().asBlockStmt().addStatement( ( Statement ) transpiler.transform( boxFor.getBody() ) );
+		whileStmt.getBody().asBlockStmt().addStatement( withTimeoutCheck( ( Statement ) transpiler.transform( boxFor.getBody() ) ) );
 		whileStmt.getBody().asBlockStmt().addStatement( incrementQueryStmt );
 
 		if ( boxFor.getLabel() != null ) {
@@ -89,7 +89,7 @@ public class BoxForIndexTransformer extends AbstractTransformer {
 		BlockStmt	body		= new BlockStmt();
 
 		// May be a single statement or a block statement, which is still a single statement :)
-		body.asBlockStmt().addStatement( ( Statement ) transpiler.transform( boxFor.getBody() ) );
+		body.asBlockStmt().addStatement( withTimeoutCheck( ( Statement ) transpiler.transform( boxFor.getBody() ) ) );
 		// for body is in the try body
 		TryStmt tryStmt = new TryStmt();
 		tryStmt.setTryBlock( body );
@@ -58,7 +58,7 @@ public class BoxWhileTransformer extends AbstractTransformer {
 		WhileStmt			javaWhile	= ( WhileStmt ) parseStatement( template, values );
 
 		// May be a single statement or a block statement, which is still a single statement :)
-		javaWhile.setBody( ( Statement ) transpiler.transform( boxWhile.getBody() ) );
+		javaWhile.setBody( withTimeoutCheck( ( Statement ) transpiler.transform( boxWhile.getBody() ) ) );
 		if ( !whileLabel.isEmpty() ) {
 			LabeledStmt labeledWhile = new LabeledStmt( whileLabel, javaWhile );
 			addIndex( labeledWhile, node );
@@ -19,16 +19,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.io.ByteOrderMark;
 import org.apache.commons.io.input.BOMInputStream;
 
@@ -52,6 +58,16 @@ public abstract class AbstractParser {
 	protected Source					sourceToParse;
 	protected final List<Issue>			issues;
 
+	/**
+	 * Whether rules first run with the SLL prediction mode
+	 */
+	private boolean						sllFirst		= true;
+
+	/**
+	 * How many rules had to run again with the LL prediction mode
+	 */
+	private int							llFallbacks		= 0;
+
 	/**
 	 * Overrides the ANTL4 default error listener collecting the errors
 	 */
@@ -140,6 +156,74 @@ public abstract class AbstractParser {
 		// parser.setErrorHandler( new ParserErrorStrategy() );
 	}
 
+	/**
+	 * Run a parser rule in two stages. The rule first runs with the SLL prediction mode and an error strategy that gives
+	 * up on the first error, which is much faster and enough for almost all valid code. Only if that fails, the tokens
+	 * are rewound and the rule runs again with the full LL prediction mode and the regular error reporting, so the
+	 * reported issues are the same as with a single LL parse.
+	 * <p>
+	 * Most rules do not end with EOF, so SLL may also stop early and leave tokens behind where LL would have kept going.
+	 * That is handled as a failure too, since a correct SLL parse consumes the same input as LL.
+	 * <p>
+	 * The DFA caches used by the prediction are static in the generated grammars, so they are warmed up once and shared
+	 * by every parser instance and thread.
+	 *
+	 * @param parser ANTLR parser instance, with the error listeners already added
+	 * @param rule   the rule to run
+	 *
+	 * @return the parse tree of the rule
+	 */
+	protected <P extends Parser, T extends ParserRuleContext> T parseTwoStage( P parser, Function<P, T> rule ) {
+		if ( !this.sllFirst ) {
+			parser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			return rule.apply( parser );
+		}
+		List<ANTLRErrorListener> listeners = new ArrayList<>( parser.getErrorListeners() );
+		parser.removeErrorListeners();
+		parser.setErrorHandler( new BailErrorStrategy() );
+		parser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		T parseTree = null;
+		try {
+			parseTree = rule.apply( parser );
+			if ( parser.getInputStream().LA( 1 ) != Token.EOF ) {
+				parseTree = null;
+			}
+		} catch ( ParseCancellationException e ) {
+			// SLL couldn't decide
+		}
+		parser.setErrorHandler( new DefaultErrorStrategy() );
+		listeners.forEach( parser::addErrorListener );
+		if ( parseTree == null ) {
+			// Start over with LL
+			this.llFallbacks++;
+			parser.reset();
+			parser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			parseTree = rule.apply( parser );
+		}
+		return parseTree;
+	}
+
+	/**
+	 * Set whether rules first run with the SLL prediction mode. When off, every rule runs with LL only.
+	 *
+	 * @param sllFirst true to try SLL first
+	 *
+	 * @return this parser
+	 */
+	public AbstractParser setSLLFirst( boolean sllFirst ) {
+		this.sllFirst = sllFirst;
+		return this;
+	}
+
+	/**
+	 * How many rules this parser had to run again with the LL prediction mode
+	 *
+	 * @return the number of fallbacks
+	 */
+	public int getLLFallbacks() {
+		return this.llFallbacks;
+	}
+
 	/**
 	 * Fist stage parser
 	 *
@@ -256,7 +256,7 @@ public class BoxScriptParser extends AbstractParser {
 		// System.out.println( t + " " + lexer.getVocabulary().getSymbolicName( t.getType() ) + " " + lexer.getModeNames()[ lexer._mode ] );
 		// t = lexer.nextToken();
 		// }
-		BoxScriptGrammar.ExpressionContext parseTree = parser.expression();
+		BoxScriptGrammar.ExpressionContext parseTree = parseTwoStage( parser, BoxScriptGrammar::expression );
 		if ( issues.isEmpty() ) {
 			BoxExpression ast = toAst( null, parseTree );
 			return new ParsingResult( ast, issues );
@@ -291,7 +291,7 @@ public class BoxScriptParser extends AbstractParser {
 		BoxScriptLexerCustom	lexer		= new BoxScriptLexerCustom( CharStreams.fromStream( inputStream, StandardCharsets.UTF_8 ) );
 		BoxScriptGrammar		parser		= new BoxScriptGrammar( new CommonTokenStream( lexer ) );
 		addErrorListeners( lexer, parser );
-		BoxScriptGrammar.FunctionOrStatementContext	parseTree	= parser.functionOrStatement();
+		BoxScriptGrammar.FunctionOrStatementContext	parseTree	= parseTwoStage( parser, BoxScriptGrammar::functionOrStatement );
 
 		BoxStatement								ast			= toAst( null, parseTree );
 		return new ParsingResult( ast, issues );
@@ -315,9 +315,9 @@ public class BoxScriptParser extends AbstractParser {
 		BoxScriptGrammar.ClassOrInterfaceContext	classOrInterfaceContext	= null;
 		BoxScriptGrammar.ScriptContext				scriptContext			= null;
 		if ( classOrInterface ) {
-			classOrInterfaceContext = parser.classOrInterface();
+			classOrInterfaceContext = parseTwoStage( parser, BoxScriptGrammar::classOrInterface );
 		} else {
-			scriptContext = parser.script();
+			scriptContext = parseTwoStage( parser, BoxScriptGrammar::script );
 		}
 
 		if ( lexer.hasUnpoppedModes() ) {
@@ -878,7 +878,7 @@ public class BoxScriptParser extends AbstractParser {
 				if ( root instanceof BoxTemplate template ) {
 					return template.getStatements();
 				} else if ( root instanceof BoxStatement statement ) {
-					return List.of( statement );
+					return new ArrayList<>( List.of( statement ) );
 				} else {
 					// Could be a BoxClass, which we may actually need to support
 					throw new BoxRuntimeException( "Unexpected root node type [" + root.getClass().getName() + "] in component island." );
@@ -886,7 +886,7 @@ public class BoxScriptParser extends AbstractParser {
 			} else {
 				// Add these issues to the main parser
 				issues.addAll( result.getIssues() );
-				return List.of();
+				return new ArrayList<>();
 			}
 		} catch ( IOException e ) {
 			throw new BoxRuntimeException( "Error parsing component island: " + code, e );
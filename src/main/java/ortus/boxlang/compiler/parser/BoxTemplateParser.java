@@ -155,7 +155,7 @@ public class BoxTemplateParser extends AbstractParser {
 			throw new BoxRuntimeException( "Classes and Interfaces are only supported in Script format." );
 		} else {
 			try {
-				templateContext = parser.template();
+				templateContext = parseTwoStage( parser, BoxTemplateGrammar::template );
 			} catch ( Exception e ) {
 				Token		lastToken	= lexer.getLastToken();
 				String		message		= "Syntax Error.";
@@ -844,7 +844,7 @@ public class BoxTemplateParser extends AbstractParser {
 			    new Point( node.ELSEIF( i ).getSymbol().getLine(), node.ELSEIF( i ).getSymbol().getCharPositionInLine() - 3 ),
 			    end, sourceToParse );
 			BoxExpression	thisCondition	= parseBoxExpression( node.elseIfCondition.get( i ).getText(), getPosition( node.elseIfCondition.get( i ) ) );
-			elseBodyStatements	= List.of(
+			elseBodyStatements	= new ArrayList<>( List.of(
 			    new BoxIfElse(
 			        thisCondition,
 			        // TODO: I don't think this pos var is correct
@@ -853,7 +853,7 @@ public class BoxTemplateParser extends AbstractParser {
 			        pos,
 			        getSourceText( node, node.ELSEIF().get( i ).getSymbol().getStartIndex() - 3, stopIndex )
 			    )
-			);
+			) );
 			elseBody			= new BoxStatementBlock( elseBodyStatements, pos,
 			    getSourceText( node, node.ELSEIF().get( i ).getSymbol().getStartIndex() - 3, stopIndex ) );
 		}
@@ -1027,19 +1027,19 @@ public class BoxTemplateParser extends AbstractParser {
 				if ( root instanceof BoxScript script ) {
 					return script.getStatements();
 				} else if ( root instanceof BoxStatement statement ) {
-					return List.of( statement );
+					return new ArrayList<>( List.of( statement ) );
 				} else {
 					issues.add( new Issue( "Unexpected root node type [" + root.getClass().getName() + "] in script island.", position ) );
-					return List.of();
+					return new ArrayList<>();
 				}
 			} else {
 				// Add these issues to the main parser
 				issues.addAll( result.getIssues() );
-				return List.of( new BoxExpressionStatement( new BoxNull( null, null ), null, null ) );
+				return new ArrayList<>( List.of( new BoxExpressionStatement( new BoxNull( null, null ), null, null ) ) );
 			}
 		} catch ( IOException e ) {
 			issues.add( new Issue( "Error parsing interpolated expression " + e.getMessage(), position ) );
-			return List.of();
+			return new ArrayList<>();
 		}
 	}
 
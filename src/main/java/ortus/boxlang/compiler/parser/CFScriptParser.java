@@ -258,7 +258,7 @@ public class CFScriptParser extends AbstractParser {
 		// System.out.println( t + " " + lexer.getVocabulary().getSymbolicName( t.getType() ) + " " + lexer.getModeNames()[ lexer._mode ] );
 		// t = lexer.nextToken();
 		// }
-		CFScriptGrammar.ExpressionContext parseTree = parser.expression();
+		CFScriptGrammar.ExpressionContext parseTree = parseTwoStage( parser, CFScriptGrammar::expression );
 		if ( issues.isEmpty() ) {
 			BoxExpression ast = toAst( null, parseTree );
 			return new ParsingResult( ast, issues );
@@ -293,7 +293,7 @@ public class CFScriptParser extends AbstractParser {
 		CFScriptLexer	lexer		= new CFScriptLexerCustom( CharStreams.fromStream( inputStream, StandardCharsets.UTF_8 ) );
 		CFScriptGrammar	parser		= new CFScriptGrammar( new CommonTokenStream( lexer ) );
 		addErrorListeners( lexer, parser );
-		CFScriptGrammar.FunctionOrStatementContext	parseTree	= parser.functionOrStatement();
+		CFScriptGrammar.FunctionOrStatementContext	parseTree	= parseTwoStage( parser, CFScriptGrammar::functionOrStatement );
 
 		BoxStatement								ast			= toAst( null, parseTree );
 		return new ParsingResult( ast, issues );
@@ -317,9 +317,9 @@ public class CFScriptParser extends AbstractParser {
 		CFScriptGrammar.ClassOrInterfaceContext	classOrInterfaceContext	= null;
 		CFScriptGrammar.ScriptContext			scriptContext			= null;
 		if ( classOrInterface ) {
-			classOrInterfaceContext = parser.classOrInterface();
+			classOrInterfaceContext = parseTwoStage( parser, CFScriptGrammar::classOrInterface );
 		} else {
-			scriptContext = parser.script();
+			scriptContext = parseTwoStage( parser, CFScriptGrammar::script );
 		}
 
 		if ( lexer.hasUnpoppedModes() ) {
@@ -792,7 +792,7 @@ public class CFScriptParser extends AbstractParser {
 				if ( root instanceof BoxTemplate template ) {
 					return template.getStatements();
 				} else if ( root instanceof BoxStatement statement ) {
-					return List.of( statement );
+					return new ArrayList<>( List.of( statement ) );
 				} else {
 					// Could be a BoxClass, which we may actually need to support
 					throw new BoxRuntimeException( "Unexpected root node type [" + root.getClass().getName() + "] in component island." );
@@ -800,7 +800,7 @@ public class CFScriptParser extends AbstractParser {
 			} else {
 				// Add these issues to the main parser
 				issues.addAll( result.getIssues() );
-				return List.of();
+				return new ArrayList<>();
 			}
 		} catch ( IOException e ) {
 			throw new BoxRuntimeException( "Error parsing component island: " + code, e );
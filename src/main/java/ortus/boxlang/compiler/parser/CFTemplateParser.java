@@ -162,9 +162,9 @@ public class CFTemplateParser extends AbstractParser {
 		CFTemplateGrammar.ClassOrInterfaceContext	classOrInterfaceContext	= null;
 		CFTemplateGrammar.TemplateContext			templateContext			= null;
 		if ( classOrInterface ) {
-			classOrInterfaceContext = parser.classOrInterface();
+			classOrInterfaceContext = parseTwoStage( parser, CFTemplateGrammar::classOrInterface );
 		} else {
-			templateContext = parser.template();
+			templateContext = parseTwoStage( parser, CFTemplateGrammar::template );
 		}
 
 		if ( lexer.hasUnpoppedModes() ) {
@@ -966,7 +966,7 @@ public class CFTemplateParser extends AbstractParser {
 			    new Point( node.ELSEIF( i ).getSymbol().getLine(), node.ELSEIF( i ).getSymbol().getCharPositionInLine() - 3 ),
 			    end, sourceToParse );
 			BoxExpression	thisCondition	= parseCFExpression( node.elseIfCondition.get( i ).getText(), getPosition( node.elseIfCondition.get( i ) ) );
-			elseBodyStatements	= List.of(
+			elseBodyStatements	= new ArrayList<>( List.of(
 			    new BoxIfElse(
 			        thisCondition,
 			        // TODO: I don't think this pos var is correct
@@ -975,7 +975,7 @@ public class CFTemplateParser extends AbstractParser {
 			        pos,
 			        getSourceText( node, node.ELSEIF().get( i ).getSymbol().getStartIndex() - 3, stopIndex )
 			    )
-			);
+			) );
 			elseBody			= new BoxStatementBlock( elseBodyStatements, pos,
 			    getSourceText( node, node.ELSEIF().get( i ).getSymbol().getStartIndex() - 3, stopIndex ) );
 		}
@@ -1175,21 +1175,21 @@ public class CFTemplateParser extends AbstractParser {
 				if ( root instanceof BoxScript script ) {
 					return script.getStatements();
 				} else if ( root instanceof BoxStatement statement ) {
-					return List.of( statement );
+					return new ArrayList<>( List.of( statement ) );
 				} else {
 					// Could be a BoxClass, which we may actually need to support if there is a .cfc file with a top-level <cfscript> node containing a
 					// component.
 					issues.add( new Issue( "Unexpected root node type [" + root.getClass().getName() + "] in script island.", position ) );
-					return List.of();
+					return new ArrayList<>();
 				}
 			} else {
 				// Add these issues to the main parser
 				issues.addAll( result.getIssues() );
-				return List.of( new BoxExpressionStatement( new BoxNull( null, null ), null, null ) );
+				return new ArrayList<>( List.of( new BoxExpressionStatement( new BoxNull( null, null ), null, null ) ) );
 			}
 		} catch ( IOException e ) {
 			issues.add( new Issue( "Error parsing interpolated expression " + e.getMessage(), position ) );
-			return List.of();
+			return new ArrayList<>();
 		}
 	}
 
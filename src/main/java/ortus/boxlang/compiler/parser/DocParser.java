@@ -139,7 +139,7 @@ public class DocParser extends AbstractParser {
 		DocGrammar	parser	= new DocGrammar( new CommonTokenStream( lexer ) );
 		addErrorListeners( lexer, parser );
 
-		return parser.documentation();
+		return parseTwoStage( parser, DocGrammar::documentation );
 	}
 
 	public int getStartLine() {
@@ -47,6 +47,7 @@ import ortus.boxlang.compiler.parser.ParsingResult;
 import ortus.boxlang.runtime.config.ConfigLoader;
 import ortus.boxlang.runtime.config.Configuration;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.IJDBCCapableContext;
 import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.RuntimeBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
@@ -57,7 +58,10 @@ import ortus.boxlang.runtime.interceptors.ASTCapture;
 import ortus.boxlang.runtime.interceptors.Logging;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.loader.DynamicClassLoader;
+import ortus.boxlang.runtime.loader.resolvers.BoxResolver;
+import ortus.boxlang.runtime.logging.LogFileManager;
 import ortus.boxlang.runtime.logging.LoggingConfigurator;
+import ortus.boxlang.runtime.metrics.MetricsRegistry;
 import ortus.boxlang.runtime.runnables.BoxScript;
 import ortus.boxlang.runtime.runnables.BoxTemplate;
 import ortus.boxlang.runtime.runnables.IBoxRunnable;
@@ -226,6 +230,16 @@ public class BoxRuntime {
 	 */
 	private DatasourceService					dataSourceService;
 
+	/**
+	 * The log files written by {@code writeLog()} and {@code bx:log}
+	 */
+	private LogFileManager						logFileManager;
+
+	/**
+	 * The runtime metrics, recorded only when enabled by the configuration
+	 */
+	private final MetricsRegistry				metricsRegistry	= new MetricsRegistry();
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Public Fields
@@ -326,6 +340,7 @@ public class BoxRuntime {
 		}
 
 		// Load core logger and other core interceptions
+		this.logFileManager = new LogFileManager( this.configuration.runtime );
 		this.interceptorService.register( new Logging( this ) );
 
 	}
@@ -360,6 +375,12 @@ public class BoxRuntime {
 		// Load the configurations and overrides
 		loadConfiguration( this.debugMode, this.configPath );
 
+		// Metrics are recorded if the configuration asks for them, caches and executors are only read by snapshots
+		this.metricsRegistry
+		    .setEnabled( getConfiguration().runtime.metricsEnabled )
+		    .registerGauge( "cache", this::getCacheMetrics )
+		    .registerGauge( "executor", this::getExecutorMetrics );
+
 		// Load the Dynamic Class Loader for the runtime
 		this.runtimeLoader = new DynamicClassLoader(
 		    Key.runtime,
@@ -571,6 +592,24 @@ public class BoxRuntime {
 		return dataSourceService;
 	}
 
+	/**
+	 * Get the manager of the log files written by {@code writeLog()} and {@code bx:log}
+	 *
+	 * @return {@link LogFileManager} or null if the runtime has not started
+	 */
+	public LogFileManager getLogFileManager() {
+		return logFileManager;
+	}
+
+	/**
+	 * Get the runtime metrics
+	 *
+	 * @return {@link MetricsRegistry}
+	 */
+	public MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Methods
@@ -726,6 +765,11 @@ public class BoxRuntime {
 		instance.schedulerService.onShutdown( force );
 		instance.dataSourceService.onShutdown( force );
 
+		// Stop watching compiled sources and forget the trusted lookups
+		instance.boxpiler.shutdown();
+		RunnableLoader.getInstance().getBoxpiler().shutdown();
+		BoxResolver.getInstance().clearTrustedCache();
+
 		// Shutdown logging
 		instance.logger.debug( "+ BoxLang Runtime has been shutdown" );
 
@@ -977,6 +1021,8 @@ public class BoxRuntime {
 		    .invokeConstructor( scriptingContext )
 		    .getTargetInstance();
 
+		long requestStart = metricsRegistry.startTimer();
+
 		// Does it have a main method?
 		if ( target.getThisScope().containsKey( Key.main ) ) {
 			// Fire!!!
@@ -990,6 +1036,7 @@ public class BoxRuntime {
 				}
 			} finally {
 				scriptingContext.flushBuffer( false );
+				endRequest( scriptingContext, context, requestStart );
 
 				// Debugging Timer
 				/*
@@ -1019,6 +1066,7 @@ public class BoxRuntime {
 
 		IBoxContext scriptingContext = ensureRequestTypeContext( context, template.getRunnablePath().absolutePath().toUri() );
 
+		long requestStart = metricsRegistry.startTimer();
 		try {
 			// Fire!!!
 			template.invoke( scriptingContext );
@@ -1030,6 +1078,7 @@ public class BoxRuntime {
 			}
 		} finally {
 			scriptingContext.flushBuffer( false );
+			endRequest( scriptingContext, context, requestStart );
 
 			// Debugging Timer
 			/*
@@ -1071,6 +1120,8 @@ public class BoxRuntime {
 		/* timerUtil.start( "execute-" + source.hashCode() ); */
 
 		IBoxContext	scriptingContext	= ensureRequestTypeContext( context );
+
+		long requestStart = metricsRegistry.startTimer();
 		try {
 			// Fire!!!
 			return scriptRunnable.invoke( scriptingContext );
@@ -1083,6 +1134,7 @@ public class BoxRuntime {
 			return null;
 		} finally {
 			scriptingContext.flushBuffer( false );
+			endRequest( scriptingContext, context, requestStart );
 			// Debugging Timer
 			/*
 			 * instance.logger.debug(
@@ -1128,6 +1180,8 @@ public class BoxRuntime {
 		/* timerUtil.start( "execute-" + source.hashCode() ); */
 
 		IBoxContext	scriptingContext	= ensureRequestTypeContext( context );
+
+		long requestStart = metricsRegistry.startTimer();
 		try {
 			// Fire!!!
 			scriptRunnable.invoke( scriptingContext );
@@ -1139,6 +1193,7 @@ public class BoxRuntime {
 			}
 		} finally {
 			scriptingContext.flushBuffer( false );
+			endRequest( scriptingContext, context, requestStart );
 
 			// Debugging Timer
 			/*
@@ -1230,6 +1285,9 @@ public class BoxRuntime {
 			}
 		} catch ( IOException e ) {
 			throw new BoxRuntimeException( "Error reading source stream", e );
+		} finally {
+			// A REPL session is not timed as a request
+			endRequest( scriptingContext, context, MetricsRegistry.TIMER_OFF );
 		}
 
 	}
@@ -1267,6 +1325,48 @@ public class BoxRuntime {
 		return ensureRequestTypeContext( context, null );
 	}
 
+	/**
+	 * End a request the runtime created to run some code, once the code is done: release its database connections and record
+	 * its duration. Nothing is done for a context given by the caller, which ends the request itself.
+	 *
+	 * @param scriptingContext The context the code ran in
+	 * @param context          The context given by the caller
+	 * @param requestStart     The value returned by {@link MetricsRegistry#startTimer()} when the code started
+	 */
+	private void endRequest( IBoxContext scriptingContext, IBoxContext context, long requestStart ) {
+		if ( scriptingContext == context ) {
+			return;
+		}
+		if ( scriptingContext instanceof IJDBCCapableContext jdbcContext ) {
+			jdbcContext.shutdownConnections();
+		}
+		this.metricsRegistry.stopTimer( "request", requestStart );
+	}
+
+	/**
+	 * Get the stats of all the registered caches, for the cache gauge of the metrics
+	 *
+	 * @return A struct of cache name to its stats
+	 */
+	private IStruct getCacheMetrics() {
+		IStruct stats = new Struct( IStruct.TYPES.SORTED );
+		for ( String name : this.cacheService.getRegisteredCaches() ) {
+			stats.put( name, this.cacheService.getCache( Key.of( name ) ).getStats().toStruct() );
+		}
+		return stats;
+	}
+
+	/**
+	 * Get the stats of all the executors, for the executor gauge of the metrics
+	 *
+	 * @return A struct of executor name to its stats
+	 */
+	private IStruct getExecutorMetrics() {
+		IStruct stats = new Struct( IStruct.TYPES.SORTED );
+		this.asyncService.getExecutors().forEach( ( name, executor ) -> stats.put( name, executor.getStats() ) );
+		return stats;
+	}
+
 	/**
 	 * Check the given context to see if it has a request scope. If not, create a new scripting
 	 * context that has a request scope and return that with the original context as the parent.
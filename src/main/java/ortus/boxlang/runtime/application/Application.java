@@ -19,7 +19,10 @@ package ortus.boxlang.runtime.application;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,6 +85,21 @@ public class Application {
 	 */
 	private ICacheProvider			sessionsCache;
 
+	/**
+	 * The live sessions of this application and when they expire
+	 */
+	private final SessionTracker	sessionTracker					= new SessionTracker();
+
+	/**
+	 * The task expiring sessions
+	 */
+	private ScheduledFuture<?>		sessionExpiryFuture;
+
+	/**
+	 * How many expired sessions share a context to run their onSessionEnd
+	 */
+	private static final int		SESSION_END_BATCH_SIZE			= 100;
+
 	/**
 	 * The listener that started this application (used for stopping it)
 	 */
@@ -131,7 +149,7 @@ public class Application {
 	 */
 	public Application( Key name ) {
 		this.name				= name;
-		this.cacheFilter		= new PrefixFilter( this.name.getName() );
+		this.cacheFilter		= new PrefixFilter( this.name.getName() + Session.idConcatenator );
 		this.applicationScope	= new ApplicationScope();
 	}
 
@@ -183,7 +201,15 @@ public class Application {
 				);
 			}
 
-			this.sessionsCache = cacheService.getCache( sessionCacheName );
+			this.sessionsCache			= cacheService.getCache( sessionCacheName );
+
+			// Expire the sessions every tick of the session tracker
+			this.sessionExpiryFuture	= cacheService.getTaskScheduler()
+			    .newTask( "boxlang-sessions-" + this.name.getName() )
+			    .delay( SessionTracker.TICK_MILLIS, TimeUnit.MILLISECONDS )
+			    .spacedDelay( SessionTracker.TICK_MILLIS, TimeUnit.MILLISECONDS )
+			    .call( this::expireSessions )
+			    .start();
 
 			if ( startingListener != null ) {
 				startingListener.onApplicationStart( context, new Object[] {} );
@@ -211,21 +237,33 @@ public class Application {
 			    .ofMillis( LongCaster.cast( IntegerCaster.cast( startingListener.getSettings().get( Key.sessionTimeout ) ).longValue() * 8.64e+7 ) );
 		}
 
-		Optional<Object> session = sessionsCache.getOrSet(
+		Optional<Object>	session	= sessionsCache.getOrSet(
 		    entryKey,
 		    () -> new Session( ID, this ),
 		    timeoutDuration,
 		    timeoutDuration
 		);
+		Session				result	= ( Session ) session.get();
+		this.sessionTracker.touch( result, timeoutDuration.toMillis(), System.currentTimeMillis() );
 
-		return ( Session ) session.get();
+		return result;
+	}
+
+	/**
+	 * Remove a session from this application, such as when it is invalidated. Its onSessionEnd is left to the caller.
+	 *
+	 * @param ID The ID of the session
+	 */
+	public void removeSession( Key ID ) {
+		this.sessionsCache.clearQuiet( this.name + Session.idConcatenator + ID );
+		this.sessionTracker.remove( ID );
 	}
 
 	/**
 	 * How many sessions are currently tracked
 	 */
 	public int getSessionCount() {
-		return hasStarted() ? ( int ) sessionsCache.getKeysStream( cacheFilter ).count() : 0;
+		return hasStarted() ? this.sessionTracker.size() : 0;
 	}
 
 	/**
@@ -281,6 +319,8 @@ public class Application {
 		BoxRuntime.getInstance().getInterceptorService().announce( Key.onApplicationRestart, Struct.of(
 		    "application", this
 		) );
+		// A restart picks up an Application descriptor added or removed since the lookups were cached
+		BoxRuntime.getInstance().getApplicationService().clearApplicationDescriptorCache();
 		shutdown();
 		start( context );
 	}
@@ -301,12 +341,13 @@ public class Application {
 		) );
 
 		// Shutdown all sessions
-		if ( !BooleanCaster.cast( startingListener.getSettings().get( Key.sessionCluster ) ) ) {
-			sessionsCache.getKeysStream( cacheFilter )
-			    .parallel()
-			    .map( Key::of )
-			    .map( key -> getSession( key ) )
-			    .forEach( Session::shutdown );
+		if ( this.sessionExpiryFuture != null ) {
+			this.sessionExpiryFuture.cancel( false );
+			this.sessionExpiryFuture = null;
+		}
+		List<Session> sessions = this.sessionTracker.clear();
+		if ( !isSessionCluster() ) {
+			endSessions( sessions );
 		}
 
 		if ( startingListener != null ) {
@@ -324,4 +365,48 @@ public class Application {
 		logger.debug( "Application.shutdown() - {}", this.name );
 	}
 
+	/**
+	 * End the sessions which have expired. Clustered sessions may still be in use on another node, so they are only
+	 * forgotten.
+	 */
+	private void expireSessions() {
+		List<Session> expired = this.sessionTracker.expire( System.currentTimeMillis() );
+		if ( expired.isEmpty() || isSessionCluster() ) {
+			return;
+		}
+		for ( Session session : expired ) {
+			this.sessionsCache.clearQuiet( this.name + Session.idConcatenator + session.getID() );
+		}
+		endSessions( expired );
+	}
+
+	/**
+	 * Run the onSessionEnd of sessions, in batches sharing a context
+	 *
+	 * @param sessions The sessions to end
+	 */
+	private void endSessions( List<Session> sessions ) {
+		IBoxContext context = null;
+		for ( int i = 0; i < sessions.size(); i++ ) {
+			if ( i % SESSION_END_BATCH_SIZE == 0 ) {
+				// Any buffer output in this context will be discarded
+				context = new ScriptingRequestBoxContext( BoxRuntime.getInstance().getRuntimeContext() );
+			}
+			try {
+				sessions.get( i ).shutdown( context );
+			} catch ( Exception e ) {
+				logger.error( "Error ending a session of application [{}]", this.name, e );
+			}
+		}
+	}
+
+	/**
+	 * Verify if the sessions are shared with other nodes through the sessions cache
+	 *
+	 * @return True if the application uses the {@code sessionCluster} setting
+	 */
+	private boolean isSessionCluster() {
+		return startingListener != null && BooleanCaster.cast( startingListener.getSettings().get( Key.sessionCluster ) );
+	}
+
 }
@@ -214,7 +214,7 @@ public abstract class ApplicationListener {
 	 */
 	public void invalidateSession( Key newID ) {
 		Session terminalSession = context.getParentOfType( SessionBoxContext.class ).getSession();
-		context.getParentOfType( ApplicationBoxContext.class ).getApplication().getSessionsCache().clearQuiet( terminalSession.getID().getName() );
+		context.getParentOfType( ApplicationBoxContext.class ).getApplication().removeSession( terminalSession.getID() );
 		terminalSession.shutdown();
 		initializeSession( newID );
 	}
@@ -114,9 +114,17 @@ public class Session {
 
 	public void shutdown() {
 		// Any buffer output in this context will be discarded
-		if ( startingListener != null ) {
-			startingListener.onSessionEnd( new ScriptingRequestBoxContext( BoxRuntime.getInstance().getRuntimeContext() ),
-			    new Object[] { sessionScope, application.getApplicationScope() } );
+		shutdown( new ScriptingRequestBoxContext( BoxRuntime.getInstance().getRuntimeContext() ) );
+	}
+
+	/**
+	 * Shutdown this session, running its onSessionEnd in a given context. Ending many sessions can share one context.
+	 *
+	 * @param context The context to run onSessionEnd in
+	 */
+	public void shutdown( IBoxContext context ) {
+		if ( startingListener != null && sessionScope != null ) {
+			startingListener.onSessionEnd( context, new Object[] { sessionScope, application.getApplicationScope() } );
 		}
 		sessionScope = null;
 	}
@@ -0,0 +1,244 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Tracks the live sessions of one application and when they expire, so counting and expiring sessions never has to scan the
+ * sessions cache, which is shared by all the applications.
+ * <p>
+ * Expirations are indexed in a timer wheel: a ring of slots of one tick each, a session sitting in the slot of the tick it
+ * expires at. Touching a session on a request only moves its expiration time forward. The wheel is corrected lazily: when
+ * the slot of a session comes up and the session has been touched since, it is moved to the slot of its new expiration.
+ * Sessions expiring more than one turn of the wheel away are moved the same way, once per turn.
+ * <p>
+ * Tracking and touching sessions is safe from any thread. The wheel itself is only handled by {@link #expire(long)}, which
+ * is called periodically by a single task. A session is expired by swapping its expiration time for a marker, so a touch
+ * racing with the expiration either moves the expiration forward first and keeps the session, or sees the marker and
+ * tracks the session again.
+ */
+public class SessionTracker {
+
+	/**
+	 * The duration of a tick of the wheel, in milliseconds
+	 */
+	public static final long				TICK_MILLIS	= 1000;
+
+	/**
+	 * The number of slots of the wheel
+	 */
+	private static final int				SLOTS		= 512;
+
+	/**
+	 * The tracked sessions by ID. Its size is kept by a striped counter, so counting sessions is constant time.
+	 */
+	private final Map<Key, Entry>			sessions	= new ConcurrentHashMap<>();
+
+	/**
+	 * The sessions tracked since the last expiration run, waiting to be placed in the wheel
+	 */
+	private final Queue<Entry>				incoming	= new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The slots of the wheel
+	 */
+	private final List<List<Entry>>			wheel		= new ArrayList<>( SLOTS );
+
+	/**
+	 * The last tick the wheel has expired, -1 before the first run
+	 */
+	private long							currentTick	= -1;
+
+	/**
+	 * A tracked session
+	 */
+	private static final class Entry {
+
+		/**
+		 * The expiration time of an expired entry
+		 */
+		static final long	EXPIRED	= Long.MIN_VALUE;
+
+		/**
+		 * The session
+		 */
+		final Session		session;
+
+		/**
+		 * When the session expires, in epoch milliseconds, or {@link #EXPIRED}
+		 */
+		final AtomicLong	expiresAt;
+
+		Entry( Session session, long expiresAt ) {
+			this.session	= session;
+			this.expiresAt	= new AtomicLong( expiresAt );
+		}
+
+		/**
+		 * Move the expiration time, unless the entry has expired
+		 *
+		 * @param expiresAt The new expiration time
+		 *
+		 * @return False if the entry has expired
+		 */
+		boolean extend( long expiresAt ) {
+			long current;
+			do {
+				current = this.expiresAt.get();
+				if ( current == EXPIRED ) {
+					return false;
+				}
+			} while ( !this.expiresAt.compareAndSet( current, expiresAt ) );
+			return true;
+		}
+	}
+
+	/**
+	 * Constructor
+	 */
+	public SessionTracker() {
+		for ( int i = 0; i < SLOTS; i++ ) {
+			this.wheel.add( new ArrayList<>() );
+		}
+	}
+
+	/**
+	 * Record a use of a session, tracking it if it is not tracked yet. A session replacing another one with the same ID, such
+	 * as when the cache dropped the previous one, replaces it here as well.
+	 *
+	 * @param session The session
+	 * @param timeout The session timeout in milliseconds
+	 * @param now     The current time in epoch milliseconds
+	 */
+	public void touch( Session session, long timeout, long now ) {
+		long	expiresAt	= now + timeout;
+		Entry	entry		= this.sessions.get( session.getID() );
+		if ( entry != null && entry.session == session && entry.extend( expiresAt ) ) {
+			return;
+		}
+		entry = new Entry( session, expiresAt );
+		this.sessions.put( session.getID(), entry );
+		this.incoming.add( entry );
+	}
+
+	/**
+	 * Stop tracking a session, such as when it is invalidated
+	 *
+	 * @param ID The session ID
+	 *
+	 * @return The session, or null if it was not tracked
+	 */
+	public Session remove( Key ID ) {
+		Entry entry = this.sessions.remove( ID );
+		return entry == null ? null : entry.session;
+	}
+
+	/**
+	 * How many sessions are tracked
+	 *
+	 * @return The number of sessions
+	 */
+	public int size() {
+		return this.sessions.size();
+	}
+
+	/**
+	 * Stop tracking the sessions which have expired. Only the slots of the ticks elapsed since the last run are visited.
+	 *
+	 * @param now The current time in epoch milliseconds
+	 *
+	 * @return The expired sessions, which are no longer tracked
+	 */
+	public synchronized List<Session> expire( long now ) {
+		long nowTick = now / TICK_MILLIS;
+		if ( this.currentTick < 0 ) {
+			this.currentTick = nowTick - 1;
+		}
+
+		// Place the new sessions
+		Entry entry;
+		while ( ( entry = this.incoming.poll() ) != null ) {
+			schedule( entry );
+		}
+
+		List<Session> expired = new ArrayList<>();
+		// After a long pause there is no need to visit the wheel more than once
+		long firstTick = Math.max( this.currentTick + 1, nowTick - SLOTS + 1 );
+		for ( long tick = firstTick; tick <= nowTick; tick++ ) {
+			int			slot	= ( int ) ( tick % SLOTS );
+			List<Entry>	entries	= this.wheel.get( slot );
+			this.wheel.set( slot, new ArrayList<>() );
+			this.currentTick = tick;
+			for ( Entry candidate : entries ) {
+				// Sessions removed or replaced since are dropped
+				if ( this.sessions.get( candidate.session.getID() ) != candidate ) {
+					continue;
+				}
+				long expiresAt = candidate.expiresAt.get();
+				// A touch since the read wins, and the session waits for its new expiration
+				if ( expiresAt <= now && candidate.expiresAt.compareAndSet( expiresAt, Entry.EXPIRED ) ) {
+					if ( this.sessions.remove( candidate.session.getID(), candidate ) ) {
+						expired.add( candidate.session );
+					}
+				} else {
+					schedule( candidate );
+				}
+			}
+		}
+		return expired;
+	}
+
+	/**
+	 * Stop tracking all the sessions, such as when the application stops
+	 *
+	 * @return The sessions which were tracked
+	 */
+	public synchronized List<Session> clear() {
+		List<Session> all = new ArrayList<>();
+		for ( Key ID : this.sessions.keySet() ) {
+			Session session = remove( ID );
+			if ( session != null ) {
+				all.add( session );
+			}
+		}
+		this.incoming.clear();
+		this.wheel.replaceAll( slot -> new ArrayList<>() );
+		this.currentTick = -1;
+		return all;
+	}
+
+	/**
+	 * Place a session in the slot of the tick it expires at, or of the next tick if that one has already been expired
+	 *
+	 * @param entry The session entry
+	 */
+	private void schedule( Entry entry ) {
+		long tick = Math.max( entry.expiresAt.get() / TICK_MILLIS, this.currentTick + 1 );
+		this.wheel.get( ( int ) ( tick % SLOTS ) ).add( entry );
+	}
+
+}
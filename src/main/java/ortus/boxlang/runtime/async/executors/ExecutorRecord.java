@@ -196,7 +196,7 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 			case FORK_JOIN :
 				ForkJoinPool pool = ( ForkJoinPool ) this.executor;
 				return Struct.of(
-				    "activeCount", 0,
+				    "activeCount", pool.getActiveThreadCount(),
 				    "completedTaskCount", 0,
 				    "corePoolSize", pool.getPoolSize(),
 				    "isShutdown", pool.isShutdown(),
@@ -214,6 +214,17 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 				    "hasQueuedSubmissions", pool.hasQueuedSubmissions(),
 				    "stealCount", pool.getStealCount()
 				);
+			case VIRTUAL :
+				// A thread per task executor has no pool, there is nothing to report beyond its state
+				return Struct.of(
+				    "isShutdown", this.executor.isShutdown(),
+				    "isTerminated", this.executor.isTerminated(),
+				    "maxThreads", this.maxThreads,
+				    "name", this.name,
+				    "poolSize", 0,
+				    "type", this.type,
+				    "virtualThreads", VirtualThreads.isSupported()
+				);
 			default :
 				return new Struct();
 		}
@@ -242,7 +253,8 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 	}
 
 	/**
-	 * Method to submit a Callable to the executor and return the result
+	 * Method to submit a Callable to the executor and return the result.
+	 * The executor is left running, shutting it down is up to whoever owns it.
 	 *
 	 * @param fn The Runnable lambda to submit
 	 *
@@ -260,8 +272,6 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 			throw new BoxRuntimeException(
 			    "An execution error occurred while attempting to process the requested method in  in parallel", e
 			);
-		} finally {
-			shutdownQuiet();
 		}
 	}
 
@@ -285,8 +295,6 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 			throw new BoxRuntimeException(
 			    "An execution error occurred while attempting to process the requested method in  in parallel", e
 			);
-		} finally {
-			shutdownQuiet();
 		}
 	}
 
@@ -309,8 +317,6 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 			throw new BoxRuntimeException(
 			    "An execution error occurred while attempting to process the requested method in  in parallel", e
 			);
-		} finally {
-			shutdownQuiet();
 		}
 	}
 }
@@ -0,0 +1,189 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async.executors;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * Access to virtual threads when the running JVM supports them (Java 21+).
+ * <p>
+ * The runtime is compiled for Java 17, so the virtual thread API is looked up reflectively once. On a JVM without
+ * virtual threads every method falls back to daemon platform threads, so callers never need to branch on the JVM version.
+ */
+public final class VirtualThreads {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger	logger			= LoggerFactory.getLogger( VirtualThreads.class );
+
+	/**
+	 * {@code Thread.ofVirtual()}, null if not supported
+	 */
+	private static final Method	OF_VIRTUAL;
+
+	/**
+	 * {@code Thread.Builder.name( String, long )}
+	 */
+	private static final Method	BUILDER_NAME;
+
+	/**
+	 * {@code Thread.Builder.factory()}
+	 */
+	private static final Method	BUILDER_FACTORY;
+
+	/**
+	 * {@code Executors.newThreadPerTaskExecutor( ThreadFactory )}
+	 */
+	private static final Method	THREAD_PER_TASK;
+
+	/**
+	 * {@code Thread.isVirtual()}
+	 */
+	private static final Method	IS_VIRTUAL;
+
+	static {
+		Method	ofVirtual		= null;
+		Method	builderName		= null;
+		Method	builderFactory	= null;
+		Method	threadPerTask	= null;
+		Method	isVirtual		= null;
+		try {
+			Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+			ofVirtual		= Thread.class.getMethod( "ofVirtual" );
+			builderName		= builderClass.getMethod( "name", String.class, long.class );
+			builderFactory	= builderClass.getMethod( "factory" );
+			threadPerTask	= Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class );
+			isVirtual		= Thread.class.getMethod( "isVirtual" );
+			// Java 19 and 20 ship the API as a preview feature which throws unless previews are enabled
+			ofVirtual.invoke( null );
+		} catch ( ReflectiveOperationException | RuntimeException e ) {
+			logger.debug( "Virtual threads are not supported by this JVM, platform threads will be used instead" );
+			ofVirtual = null;
+		}
+		OF_VIRTUAL		= ofVirtual;
+		BUILDER_NAME	= builderName;
+		BUILDER_FACTORY	= builderFactory;
+		THREAD_PER_TASK	= threadPerTask;
+		IS_VIRTUAL		= isVirtual;
+	}
+
+	/**
+	 * Static utility
+	 */
+	private VirtualThreads() {
+	}
+
+	/**
+	 * Verify if the running JVM supports virtual threads
+	 *
+	 * @return True if virtual threads are available
+	 */
+	public static boolean isSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/**
+	 * Verify if a thread is a virtual thread
+	 *
+	 * @param thread The thread
+	 *
+	 * @return True if the thread is virtual
+	 */
+	public static boolean isVirtual( Thread thread ) {
+		if ( !isSupported() ) {
+			return false;
+		}
+		try {
+			return ( Boolean ) IS_VIRTUAL.invoke( thread );
+		} catch ( ReflectiveOperationException e ) {
+			return false;
+		}
+	}
+
+	/**
+	 * Build a thread factory which creates virtual threads named with a prefix and a counter.
+	 * Falls back to daemon platform threads if virtual threads are not supported.
+	 *
+	 * @param prefix The thread name prefix
+	 *
+	 * @return The thread factory
+	 */
+	public static ThreadFactory factory( String prefix ) {
+		if ( isSupported() ) {
+			try {
+				Object builder = OF_VIRTUAL.invoke( null );
+				builder = BUILDER_NAME.invoke( builder, prefix, 0L );
+				return ( ThreadFactory ) BUILDER_FACTORY.invoke( builder );
+			} catch ( ReflectiveOperationException e ) {
+				throw new BoxRuntimeException( "Unable to build a virtual thread factory", e );
+			}
+		}
+
+		AtomicLong counter = new AtomicLong();
+		return runnable -> {
+			Thread thread = new Thread( runnable, prefix + counter.getAndIncrement() );
+			thread.setDaemon( true );
+			return thread;
+		};
+	}
+
+	/**
+	 * Create an unstarted virtual thread, or an unstarted daemon platform thread if virtual threads are not supported.
+	 *
+	 * @param name The name of the thread
+	 * @param task The task to run
+	 *
+	 * @return The unstarted thread
+	 */
+	public static Thread newThread( String name, Runnable task ) {
+		Thread thread = factory( name ).newThread( task );
+		thread.setName( name );
+		return thread;
+	}
+
+	/**
+	 * Build an executor which starts a new virtual thread for each task. Falls back to a cached pool of daemon platform
+	 * threads if virtual threads are not supported.
+	 *
+	 * @param prefix The thread name prefix
+	 *
+	 * @return The executor
+	 */
+	public static ExecutorService newExecutor( String prefix ) {
+		ThreadFactory factory = factory( prefix );
+		if ( isSupported() ) {
+			try {
+				return ( ExecutorService ) THREAD_PER_TASK.invoke( null, factory );
+			} catch ( ReflectiveOperationException e ) {
+				throw new BoxRuntimeException( "Unable to build a virtual thread executor", e );
+			}
+		}
+		return Executors.newCachedThreadPool( factory );
+	}
+
+}
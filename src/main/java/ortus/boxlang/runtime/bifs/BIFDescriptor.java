@@ -22,6 +22,7 @@ import java.util.Map;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.events.BoxEvent;
+import ortus.boxlang.runtime.events.jfr.BIFInvocationEvent;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
@@ -161,7 +162,7 @@ public class BIFDescriptor {
 		for ( var argument : getBIF().getDeclaredArguments() ) {
 			argument.validate( context, this.name, scope );
 		}
-		return this.getBIF().invoke( context, scope );
+		return invokeBIF( context, scope, this.name, isMember );
 	}
 
 	/**
@@ -184,7 +185,7 @@ public class BIFDescriptor {
 			argument.validate( context, name, scope );
 		}
 		// Invoke it baby!
-		return this.getBIF().invoke( context, scope );
+		return invokeBIF( context, scope, name, isMember );
 	}
 
 	/**
@@ -207,7 +208,34 @@ public class BIFDescriptor {
 			argument.validate( context, name, scope );
 		}
 		// Invoke it baby!
-		return this.getBIF().invoke( context, scope );
+		return invokeBIF( context, scope, name, isMember );
+	}
+
+	/**
+	 * Invoke the BIF with its arguments scope, recording a {@link BIFInvocationEvent} when JFR is listening and the
+	 * {@code bif} metric when metrics are enabled
+	 *
+	 * @param context  The context
+	 * @param scope    The arguments scope
+	 * @param name     The name the BIF was called with
+	 * @param isMember Is this a member BIF?
+	 *
+	 * @return The result of the invocation
+	 */
+	private Object invokeBIF( IBoxContext context, ArgumentsScope scope, Key name, boolean isMember ) {
+		BIFInvocationEvent	event	= new BIFInvocationEvent();
+		long				start	= BoxRuntime.getInstance().getMetricsRegistry().startTimer();
+		event.begin();
+		try {
+			return this.getBIF().invoke( context, scope );
+		} finally {
+			if ( event.shouldCommit() ) {
+				event.name		= name.getName();
+				event.member	= isMember;
+				event.commit();
+			}
+			BoxRuntime.getInstance().getMetricsRegistry().stopTimer( "bif", start );
+		}
 	}
 
 }
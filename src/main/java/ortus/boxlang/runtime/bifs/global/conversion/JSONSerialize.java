@@ -17,11 +17,6 @@
  */
 package ortus.boxlang.runtime.bifs.global.conversion;
 
-import java.io.IOException;
-import java.util.Map;
-
-import com.fasterxml.jackson.jr.ob.JSON.Feature;
-
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.bifs.BoxMember;
@@ -30,12 +25,7 @@ import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
 import ortus.boxlang.runtime.types.BoxLangType;
-import ortus.boxlang.runtime.types.IStruct;
-import ortus.boxlang.runtime.types.Query;
-import ortus.boxlang.runtime.types.QueryColumn;
-import ortus.boxlang.runtime.types.Struct;
-import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
-import ortus.boxlang.runtime.types.util.JSONUtil;
+import ortus.boxlang.runtime.types.util.JSONWriter;
 import ortus.boxlang.runtime.types.util.ListUtil;
 
 @BoxBIF
@@ -77,52 +67,13 @@ public class JSONSerialize extends BIF {
 	 * @argument.useCustomSerializer If true, the JSON string is serialized using a custom serializer. (Not used)
 	 */
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
-		Object	obj			= arguments.get( Key.var );
-		String	queryFormat	= arguments.getAsString( Key.queryFormat ).toLowerCase();
-		if ( queryFormat.equals( "yes" ) ) {
-			queryFormat = "true";
-		}
-		if ( queryFormat.equals( "no" ) ) {
-			queryFormat = "false";
-		}
-
-		// TODO: Only checking top item, need to recurse and check for deep items, but Jackson JR is very simple so getting away with this for now
-		if ( obj instanceof Query qry ) {
-			// "row" is the same as "false". Top level struct with columns (array of strings), data (array of arrays)
-			if ( queryFormat.equals( "row" ) || queryFormat.equals( "false" ) ) {
-				obj = Struct.linkedOf(
-				    "columns", qry.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
-				    "data", qry.getData()
-				);
-				// "column" is the same as "true". Top level struct with rowcount, columns (array of strings), data (struct with column name as key and array of
-				// values as value)
-			} else if ( queryFormat.equals( "column" ) || queryFormat.equals( "true" ) ) {
-				var						data	= new Struct( IStruct.TYPES.LINKED );
-				Map<Key, QueryColumn>	cols	= qry.getColumns();
-				for ( var col : cols.keySet() ) {
-					data.put( col, cols.get( col ).getColumnData() );
-				}
-				obj = Struct.linkedOf(
-				    "rowCount", qry.size(),
-				    "columns", qry.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
-				    "data", data
-				);
-				// "struct" is what we get by default (array of structs)
-			} else if ( queryFormat.equals( "struct" ) ) {
-				obj = qry;
-			} else {
-				throw new BoxRuntimeException( "Invalid queryFormat: " + queryFormat );
-			}
-
-		}
+		Object obj = arguments.get( Key.var );
 		// If we called "foo,bar".listToJSON(), then we need to convert the string to a list
 		if ( arguments.get( BIF.__functionName ).equals( Key.listToJSON ) ) {
 			obj = ListUtil.asList( arguments.getAsString( Key.var ), "," );
 		}
-		try {
-			return JSONUtil.getJSONBuilder().with( Feature.PRETTY_PRINT_OUTPUT, Feature.WRITE_NULL_PROPERTIES ).asString( obj );
-		} catch ( IOException e ) {
-			throw new BoxRuntimeException( "Error serializing to JSON", e );
-		}
+		// Queries are walked directly in the requested format, at any depth
+		JSONWriter writer = new JSONWriter( JSONWriter.QueryFormat.fromString( arguments.getAsString( Key.queryFormat ) ), false );
+		return writer.asString( obj );
 	}
 }
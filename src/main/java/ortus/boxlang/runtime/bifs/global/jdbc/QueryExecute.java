@@ -14,6 +14,7 @@
  */
 package ortus.boxlang.runtime.bifs.global.jdbc;
 
+import java.sql.Connection;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -79,7 +80,17 @@ public class QueryExecute extends BIF {
 		pendingQuery.setQueryTimeout( options.getQueryTimeout() );
 		pendingQuery.setMaxRows( options.getMaxRows() );
 
-		ExecutedQuery executedQuery = pendingQuery.execute( options.getConnnection() );
+		ExecutedQuery executedQuery;
+		if ( options.isQueryOfQueries() ) {
+			executedQuery = pendingQuery.executeQoQ( context );
+		} else {
+			Connection connection = options.getConnnection();
+			try {
+				executedQuery = options.getDataSource().executePendingQuery( pendingQuery, connection );
+			} finally {
+				connectionManager.releaseConnection( connection );
+			}
+		}
 
 		if ( options.wantsResultStruct() ) {
 			assert options.getResultVariableName() != null;
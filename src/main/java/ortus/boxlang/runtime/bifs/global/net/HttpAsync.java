@@ -0,0 +1,62 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.net;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.net.HttpManager;
+import ortus.boxlang.runtime.net.HttpUtil;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+
+@BoxBIF
+public class HttpAsync extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public HttpAsync() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, "struct", Key.request ),
+		    new Argument( false, "string", Key.client, "default" )
+		};
+	}
+
+	/**
+	 * Make an HTTP call without blocking the current thread.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.request The request definition: url (required), method, params (array of httpparam structs), headers (struct), body and timeout (seconds)
+	 *
+	 * @argument.client The name of the HTTP client to use, defaults to the default client
+	 *
+	 * @return A CompletableFuture of the HTTP result struct
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		return HttpUtil.sendAsync(
+		    HttpManager.getClient( Key.of( arguments.getAsString( Key.client ) ) ),
+		    HttpUtil.buildRequest( arguments.getAsStruct( Key.request ) )
+		);
+	}
+
+}
@@ -0,0 +1,62 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.query;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.BoxLangType;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.util.QueryUtil;
+
+@BoxBIF
+@BoxMember( type = BoxLangType.QUERY )
+public class QueryCreateIndex extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public QueryCreateIndex() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, "query", Key.query ),
+		    new Argument( true, "string", Key.columns ),
+		    new Argument( false, "boolean", Key.sorted, false )
+		};
+	}
+
+	/**
+	 * Creates an index on one or more columns of a query, so looking rows up by these columns with queryFindRows() no longer scans
+	 * the query. The index is kept up to date as rows are added or cells are set.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.query The query to index
+	 *
+	 * @argument.columns Comma-delimited list of the columns to index
+	 *
+	 * @argument.sorted Whether to keep the keys in order, which allows range scans from Java
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Query query = arguments.getAsQuery( Key.query );
+		query.createIndex( arguments.getAsBoolean( Key.sorted ), QueryUtil.columnKeys( arguments.getAsString( Key.columns ) ) );
+		return query;
+	}
+}
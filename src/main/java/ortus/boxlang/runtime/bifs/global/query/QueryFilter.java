@@ -14,7 +14,6 @@
  */
 package ortus.boxlang.runtime.bifs.global.query;
 
-import java.util.UUID;
 import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
@@ -25,7 +24,6 @@ import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
-import ortus.boxlang.runtime.services.AsyncService;
 import ortus.boxlang.runtime.types.Argument;
 import ortus.boxlang.runtime.types.BoxLangType;
 import ortus.boxlang.runtime.types.Query;
@@ -66,7 +64,7 @@ public class QueryFilter extends BIF {
 		var				maxThreads	= arguments.getAsInteger( Key.maxThreads );
 
 		IntPredicate	test		= idx -> BooleanCaster.cast( context.invokeFunction( callback,
-		    new Object[] { query.getRowAsStruct( idx ), idx + 1, query } ) );
+		    new Object[] { query.getRowView( idx ), idx + 1, query } ) );
 
 		IntStream		intStream	= query.intStream();
 
@@ -77,15 +75,13 @@ public class QueryFilter extends BIF {
 		}
 
 		if ( parallel ) {
-			return AsyncService.buildExecutor(
-			    "QueryFilter_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> query.intStream().parallel().filter( test ).mapToObj( query::getRowAsStruct ).collect( BLCollector.toQuery( newQuery ) ) );
+			return asyncService.getParallelExecutor( maxThreads ).submitAndGet(
+			    () -> query.intStream().parallel().filter( test ).mapToObj( query::getRowView ).collect( BLCollector.toQuery( newQuery ) )
+			);
 		} else {
 			return intStream
 			    .filter( test )
-			    .mapToObj( query::getRowAsStruct )
+			    .mapToObj( query::getRowView )
 			    .collect( BLCollector.toQuery( newQuery ) );
 		}
 	}
@@ -0,0 +1,72 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.query;
+
+import java.util.Arrays;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.BoxLangType;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.util.QueryUtil;
+
+@BoxBIF
+@BoxMember( type = BoxLangType.QUERY )
+public class QueryFindRows extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public QueryFindRows() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, "query", Key.query ),
+		    new Argument( true, "string", Key.columns ),
+		    new Argument( true, "any", Key.values )
+		};
+	}
+
+	/**
+	 * Finds the rows of a query having the given values in some columns. Strings are matched without case and numbers by value.
+	 * Uses the index created by queryCreateIndex() on these columns if there is one, and scans the rows otherwise.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.query The query to search
+	 *
+	 * @argument.columns Comma-delimited list of the columns to match
+	 *
+	 * @argument.values The value to match when there is one column, or an array with one value per column
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Query	query	= arguments.getAsQuery( Key.query );
+		Key[]	columns	= QueryUtil.columnKeys( arguments.getAsString( Key.columns ) );
+		Object	values	= arguments.get( Key.values );
+		int[]	rows	= query.findRows(
+		    columns,
+		    columns.length == 1 ? new Object[] { values } : ArrayCaster.cast( values ).toArray()
+		);
+		// Row numbers start at 1
+		return Array.fromList( Arrays.stream( rows ).mapToObj( row -> row + 1 ).toList() );
+	}
+}
@@ -71,7 +71,7 @@ public class QuerySetRow extends BIF {
 		Object[]	rowValues	= new Object[ columns.size() ];
 		fillRowValues( query, rowData, columns, rowValues );
 
-		updateQueryData( query, rowNumber, rowValues );
+		query.setRow( rowNumber, rowValues );
 		return true;
 	}
 
@@ -88,12 +88,4 @@ public class QuerySetRow extends BIF {
 			throw new BoxRuntimeException( "Invalid row data type: " + rowData.getClass().getSimpleName() );
 		}
 	}
-
-	private void updateQueryData( Query query, int rowNumber, Object[] rowValues ) {
-		if ( query.getRow( rowNumber ) == null ) {
-			query.getData().add( rowValues );
-		} else {
-			query.getData().set( rowNumber, rowValues );
-		}
-	}
 }
\ No newline at end of file
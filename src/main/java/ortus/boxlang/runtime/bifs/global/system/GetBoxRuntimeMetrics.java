@@ -0,0 +1,66 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import java.util.Set;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.metrics.MetricsRegistry;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.validation.Validator;
+
+@BoxBIF
+public class GetBoxRuntimeMetrics extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public GetBoxRuntimeMetrics() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( false, "String", Key.format, "struct", Set.of( Validator.valueOneOf( "struct", "json", "prometheus" ) ) )
+		};
+	}
+
+	/**
+	 * Get the metrics of the runtime: request, function, BIF, query, compilation and class resolution latencies, counters,
+	 * and the stats of the caches and executors. Latencies are only recorded when {@code metricsEnabled} is set in the
+	 * runtime configuration.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.format The format of the metrics: {@code struct} (default), {@code json} or {@code prometheus} for the
+	 *                  Prometheus text format
+	 *
+	 * @return The metrics as a struct or a string
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		MetricsRegistry metrics = runtime.getMetricsRegistry();
+		return switch ( arguments.getAsString( Key.format ).toLowerCase() ) {
+			case "json" -> metrics.toJSON();
+			case "prometheus" -> metrics.toPrometheus();
+			default -> metrics.snapshot();
+		};
+	}
+
+}
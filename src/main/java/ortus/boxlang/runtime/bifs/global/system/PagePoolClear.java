@@ -33,13 +33,14 @@ public class PagePoolClear extends BIF {
 	}
 
 	/**
-	 * For Lucee compat right now. We'll see if we need to do anything else.
+	 * Clears the cached Application descriptor lookups, so the next requests search for their descriptors again.
 	 *
 	 * @param context   The context in which the BIF is being invoked.
 	 * @param arguments Argument scope for the BIF.
 	 *
 	 */
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		runtime.getApplicationService().clearApplicationDescriptorCache();
 		return null;
 	}
 }
@@ -36,6 +36,7 @@ import ortus.boxlang.runtime.cache.store.IObjectStore;
 import ortus.boxlang.runtime.cache.util.BoxCacheStats;
 import ortus.boxlang.runtime.config.segments.CacheConfig;
 import ortus.boxlang.runtime.events.BoxEvent;
+import ortus.boxlang.runtime.events.jfr.CacheOperationEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.CacheService;
 import ortus.boxlang.runtime.types.IStruct;
@@ -371,7 +372,10 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 * @return True if the object was cleared, false otherwise (if the object was not found in the store)
 	 */
 	public boolean clear( String key ) {
+		CacheOperationEvent event = new CacheOperationEvent();
+		event.begin();
 		boolean cleared = clearQuiet( key );
+		commitEvent( event, "clear", key, cleared );
 
 		// Announce it
 		announce(
@@ -532,7 +536,10 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	public Optional<Object> get( String key ) {
 		// Get it like a ninja
+		CacheOperationEvent event = new CacheOperationEvent();
+		event.begin();
 		var results = getQuiet( key );
+		commitEvent( event, "get", key, results.isPresent() );
 
 		// Record the hit or miss
 		if ( results.isPresent() ) {
@@ -616,7 +623,10 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		getTaskScheduler().submit( this::evictChecks );
 
 		// set the new object
+		CacheOperationEvent event = new CacheOperationEvent();
+		event.begin();
 		setQuiet( boxKey, newEntry );
+		commitEvent( event, "set", key, oldEntry.isPresent() );
 
 		// Announce it
 		if ( oldEntry.isPresent() ) {
@@ -848,7 +858,28 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 
 		// Run the eviction
 		if ( runEvict ) {
+			CacheOperationEvent event = new CacheOperationEvent();
+			event.begin();
 			this.objectStore.evict();
+			commitEvent( event, "evict", null, false );
+		}
+	}
+
+	/**
+	 * Commit a cache operation event if JFR is recording it
+	 *
+	 * @param event     The event, begun before the operation
+	 * @param operation The operation
+	 * @param key       The key of the entry, if any
+	 * @param hit       True if the entry was found
+	 */
+	private void commitEvent( CacheOperationEvent event, String operation, String key, boolean hit ) {
+		if ( event.shouldCommit() ) {
+			event.cache		= getName().getName();
+			event.operation	= operation;
+			event.key		= key;
+			event.hit		= hit;
+			event.commit();
 		}
 	}
 
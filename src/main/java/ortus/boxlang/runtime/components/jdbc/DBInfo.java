@@ -33,8 +33,10 @@ import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.IJDBCCapableContext;
 import ortus.boxlang.runtime.dynamic.ExpressionInterpreter;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.jdbc.ConnectionManager;
 import ortus.boxlang.runtime.jdbc.DataSource;
+import ortus.boxlang.runtime.jdbc.DatabaseMetadataCache;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
@@ -91,6 +93,7 @@ public class DBInfo extends Component {
 		    new Attribute( Key.table, "string" ),
 		    new Attribute( Key.pattern, "string" ),
 		    new Attribute( Key.dbname, "string" ),
+		    new Attribute( Key.refresh, "boolean", false ),
 		    new Attribute( Key.username, "string", Set.of(
 		        Validator.NOT_IMPLEMENTED
 		    ) ),
@@ -115,6 +118,9 @@ public class DBInfo extends Component {
 	 *
 	 * @attribute.datasource Name of the datasource to check metadata on. If not provided, the default datasource will be used.
 	 *
+	 * @attribute.refresh Flush the cached metadata of the table, or all the cached metadata of the datasource if no table is given, before reading it.
+	 *                    Metadata is cached for the `metadataCacheTimeout` of the datasource, in seconds.
+	 *
 	 * @attribute.username Not currently implemented.
 	 *
 	 * @attribute.password Not currently implemented.
@@ -136,13 +142,41 @@ public class DBInfo extends Component {
 		    ? connectionManager.getDatasourceOrThrow( Key.of( attributes.getAsString( Key.datasource ) ) )
 		    : connectionManager.getDefaultDatasourceOrThrow();
 		String				databaseName		= attributes.getAsString( Key.dbname );
-		String				tableNameLookup		= attributes.getAsString( Key.table );
-		if ( tableNameLookup == null ) {
-			tableNameLookup = attributes.getAsString( Key.pattern );
+		String				tableNameLookup		= attributes.getAsString( Key.table ) != null
+		    ? attributes.getAsString( Key.table )
+		    : attributes.getAsString( Key.pattern );
+
+		DBInfoType				type			= DBInfoType.fromString( attributes.getAsString( Key.type ) );
+		DatabaseMetadataCache	metadataCache	= datasource.getMetadataCache();
+		if ( BooleanCaster.cast( attributes.getOrDefault( Key.refresh, false ) ) ) {
+			if ( tableNameLookup == null ) {
+				metadataCache.flush();
+			} else {
+				metadataCache.flush( tableNameLookup );
+			}
 		}
 
-		DBInfoType type = DBInfoType.fromString( attributes.getAsString( Key.type ) );
+		try {
+			Query result = metadataCache.get( type.name(), databaseName, tableNameLookup,
+			    () -> readMetadata( datasource, type, databaseName, tableNameLookup ) );
+			ExpressionInterpreter.setVariable( context, attributes.getAsString( Key._NAME ), result );
+		} catch ( SQLException e ) {
+			throw new DatabaseException( "Unable to read " + attributes.getAsString( Key.type ) + " metadata", e );
+		}
+		return DEFAULT_RETURN;
+	}
 
+	/**
+	 * Read metadata from the database.
+	 *
+	 * @param datasource      Datasource to read the metadata from.
+	 * @param type            Type of metadata to read.
+	 * @param databaseName    Name of the database, or null to use the database name from the connection.
+	 * @param tableNameLookup Table name or pattern, optionally prefixed by a schema name like `mySchema.tblUsers`.
+	 *
+	 * @return Query object with the metadata.
+	 */
+	private Query readMetadata( DataSource datasource, DBInfoType type, String databaseName, String tableNameLookup ) throws SQLException {
 		try ( Connection conn = datasource.getConnection(); ) {
 			DatabaseMetaData databaseMetadata = conn.getMetaData();
 			// Lucee compat: Default to the database name set on the connection (provided by the datasource config).
@@ -152,20 +186,16 @@ public class DBInfo extends Component {
 			tableNameLookup	= normalizeTableNameCasing( databaseMetadata, tableNameLookup );
 			String	tableName	= parseTableName( tableNameLookup );
 			String	schema		= parseSchemaFromTableName( tableNameLookup );
-			Query	result		= ( switch ( type ) {
-									case DBNAMES -> getDbNames( databaseMetadata );
-									case VERSION -> getVersion( databaseMetadata );
-									case COLUMNS -> getColumnsForTable( databaseMetadata, databaseName, schema, tableName );
-									case TABLES -> getTables( databaseMetadata, databaseName, schema, tableName );
-									case FOREIGNKEYS -> getForeignKeys( databaseMetadata, databaseName, schema, tableName );
-									case INDEX -> getIndexes( databaseMetadata, databaseName, schema, tableName );
-									case PROCEDURES -> getProcedures( databaseMetadata, databaseName, schema, tableName );
-								} );
-			ExpressionInterpreter.setVariable( context, attributes.getAsString( Key._NAME ), result );
-		} catch ( SQLException e ) {
-			throw new DatabaseException( "Unable to read " + attributes.getAsString( Key.type ) + " metadata", e );
+			return switch ( type ) {
+				case DBNAMES -> getDbNames( databaseMetadata );
+				case VERSION -> getVersion( databaseMetadata );
+				case COLUMNS -> getColumnsForTable( databaseMetadata, databaseName, schema, tableName );
+				case TABLES -> getTables( databaseMetadata, databaseName, schema, tableName );
+				case FOREIGNKEYS -> getForeignKeys( databaseMetadata, databaseName, schema, tableName );
+				case INDEX -> getIndexes( databaseMetadata, databaseName, schema, tableName );
+				case PROCEDURES -> getProcedures( databaseMetadata, databaseName, schema, tableName );
+			};
 		}
-		return DEFAULT_RETURN;
 	}
 
 	/**
@@ -17,6 +17,7 @@
  */
 package ortus.boxlang.runtime.components.jdbc;
 
+import java.sql.Connection;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -63,9 +64,7 @@ public class Query extends Component {
 		    new Attribute( Key.timezone, "string", Set.of(
 		        Validator.NOT_IMPLEMENTED
 		    ) ),
-		    new Attribute( Key.dbtype, "string", Set.of(
-		        Validator.NOT_IMPLEMENTED
-		    ) ),
+		    new Attribute( Key.dbtype, "string" ),
 		    new Attribute( Key.username, "string", Set.of(
 		        Validator.NOT_IMPLEMENTED
 		    ) ),
@@ -138,7 +137,17 @@ public class Query extends Component {
 		pendingQuery.setQueryTimeout( options.getQueryTimeout() );
 		pendingQuery.setMaxRows( options.getMaxRows() );
 
-		ExecutedQuery executedQuery = pendingQuery.execute( options.getConnnection() );
+		ExecutedQuery executedQuery;
+		if ( options.isQueryOfQueries() ) {
+			executedQuery = pendingQuery.executeQoQ( context );
+		} else {
+			Connection connection = options.getConnnection();
+			try {
+				executedQuery = options.getDataSource().executePendingQuery( pendingQuery, connection );
+			} finally {
+				connectionManager.releaseConnection( connection );
+			}
+		}
 
 		if ( options.wantsResultStruct() ) {
 			assert options.getResultVariableName() != null;
@@ -18,6 +18,7 @@
 package ortus.boxlang.runtime.components.jdbc;
 
 import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
@@ -94,20 +95,30 @@ public class StoredProc extends Component {
 			return bodyResult;
 		}
 
-		try {
-			CallableStatement procedure = options.getConnnection()
-			    .prepareCall( buildCallString( attributes.getAsString( Key.procedure ), params ) );
+		Connection connection = options.getConnnection();
+		try ( CallableStatement procedure = connection.prepareCall( buildCallString( attributes.getAsString( Key.procedure ), params ) ) ) {
+
+			// A procedure can't outlive the request it runs in
+			Integer queryTimeout = options.getQueryTimeout();
+			if ( queryTimeout != null ) {
+				procedure.setQueryTimeout( queryTimeout );
+			}
 
 			registerProcedureParams( procedure, params );
 
 			procedure.execute();
 
+			// The procedure may have changed the schema, and its body can't be checked for that
+			options.getDataSource().getMetadataCache().flush();
+
 			putOutVariablesInContext( context, procedure, params );
 
 			putResultSetsInContext( context, procedure, procResults );
 
 		} catch ( SQLException e ) {
 			throw new DatabaseException( e.getMessage(), e );
+		} finally {
+			connectionManager.releaseConnection( connection );
 		}
 
 		return DEFAULT_RETURN;
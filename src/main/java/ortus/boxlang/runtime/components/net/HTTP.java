@@ -17,44 +17,28 @@
  */
 package ortus.boxlang.runtime.components.net;
 
-import java.io.IOException;
 import java.net.URISyntaxException;
-import java.net.URLEncoder;
 import java.net.http.HttpClient;
-import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.nio.file.Path;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import ortus.boxlang.runtime.components.Attribute;
 import ortus.boxlang.runtime.components.BoxComponent;
 import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.ExpressionInterpreter;
-import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
-import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
-import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
-import ortus.boxlang.runtime.dynamic.casters.StructCaster;
-import ortus.boxlang.runtime.net.HTTPStatusReasons;
 import ortus.boxlang.runtime.net.HttpManager;
-import ortus.boxlang.runtime.net.URIBuilder;
+import ortus.boxlang.runtime.net.HttpUtil;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
-import ortus.boxlang.runtime.types.Query;
-import ortus.boxlang.runtime.types.QueryColumnType;
-import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.exceptions.BoxValidationException;
+import ortus.boxlang.runtime.util.FileSystemUtil;
 import ortus.boxlang.runtime.validation.Validator;
 
 @BoxComponent( allowsBody = true )
@@ -126,6 +110,9 @@ public class HTTP extends Component {
 		    new Attribute( Key.workstation, "string" ),
 		    new Attribute( Key.cachedWithin, "string" ),
 		    new Attribute( Key.encodeUrl, "boolean", true, Set.of( Validator.TYPE ) ),
+		    new Attribute( Key.async, "boolean", false, Set.of( Validator.TYPE ) ),
+		    new Attribute( Key.client, "string", "default", Set.of( Validator.NON_EMPTY ) ),
+		    new Attribute( Key.onChunk, "function" ),
 		};
 	}
 
@@ -151,220 +138,61 @@ public class HTTP extends Component {
 		String	theURL			= attributes.getAsString( Key.URL );
 		String	method			= StringCaster.cast( attributes.getOrDefault( Key.method, "GET" ) ).toUpperCase();
 		Array	params			= executionState.getAsArray( Key.HTTPParams );
-		Struct	HTTPResult		= new Struct();
+		Object	timeout			= attributes.get( Key.timeout );
+
+		String	getAsBinary	= StringCaster.cast( attributes.getOrDefault( Key.getAsBinary, "auto" ) );
+		boolean	async		= BooleanCaster.cast( attributes.getOrDefault( Key.async, false ) );
+		Object	onChunk		= attributes.get( Key.onChunk );
+		Path	target		= null;
+		if ( attributes.get( Key.path ) != null ) {
+			// The directory may not exist yet, so only relative paths are expanded
+			String	path		= attributes.getAsString( Key.path );
+			Path	directory	= Path.of( path ).isAbsolute() ? Path.of( path ) : FileSystemUtil.expandPath( context, path ).absolutePath();
+			target = directory.resolve( attributes.getAsString( Key.file ) );
+		}
 
-		try {
-			HttpRequest.Builder			builder			= HttpRequest.newBuilder();
-			URIBuilder					uriBuilder		= new URIBuilder( theURL );
-			HttpRequest.BodyPublisher	bodyPublisher	= HttpRequest.BodyPublishers.noBody();
-			Map<String, String>			formFields		= new HashMap<>();
-			builder.header( "User-Agent", "BoxLang" );
-			for ( Object p : params ) {
-				IStruct	param	= StructCaster.cast( p );
-				String	type	= param.getAsString( Key.type );
-				switch ( type.toLowerCase() ) {
-					case "header" -> builder.header( param.getAsString( Key._NAME ), param.getAsString( Key.value ) );
-					case "body" -> bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
-					case "xml" -> {
-						builder.header( "Content-Type", "text/xml" );
-						bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
-					}
-					// @TODO move URLEncoder.encode usage a non-deprecated method
-					case "cgi" -> builder.header( param.getAsString( Key._NAME ),
-					    java.net.URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
-					case "file" -> throw new BoxRuntimeException( "Unhandled HTTPParam type: " + type );
-					case "url" -> uriBuilder.addParameter(
-					    param.getAsString( Key._NAME ),
-					    BooleanCaster.cast( param.getOrDefault( Key.encoded, true ) )
-					        ? URLEncoder.encode( StringCaster.cast( param.get( Key.value ) ), StandardCharsets.UTF_8 )
-					        : StringCaster.cast( param.get( Key.value ) )
-					);
-					case "formfield" -> {
-						String value = param.getAsString( Key.value );
-						if ( BooleanCaster.cast( param.getOrDefault( Key.encoded, true ) ) ) {
-							value = URLEncoder.encode( value, StandardCharsets.UTF_8 );
-						}
-						formFields.put( param.getAsString( Key._NAME ), value );
-					}
-					case "cookie" -> builder.header( "Cookie",
-					    param.getAsString( Key._NAME ) + "=" + URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
-					default -> throw new BoxRuntimeException( "Unhandled HTTPParam type: " + type );
-				}
-			}
+		if ( async && onChunk != null ) {
+			throw new BoxRuntimeException( "The onChunk attribute cannot be combined with async" );
+		}
 
-			if ( !formFields.isEmpty() ) {
-				bodyPublisher = HttpRequest.BodyPublishers.ofString(
-				    formFields.entrySet()
-				        .stream()
-				        .map( e -> e.getKey() + "=" + e.getValue() )
-				        .collect( Collectors.joining( "&" ) )
+		try {
+			HttpRequest	request	= HttpUtil.buildRequest(
+			    theURL,
+			    method,
+			    params,
+			    timeout == null ? null : IntegerCaster.cast( timeout ),
+			    BooleanCaster.cast( attributes.getOrDefault( Key.multipart, false ) ),
+			    StringCaster.cast( attributes.getOrDefault( Key.multipartType, "form-data" ) )
+			);
+			HttpClient	client	= HttpManager.getClient( Key.of( StringCaster.cast( attributes.getOrDefault( Key.client, "default" ) ) ) );
+
+			// Async calls put a future of the result struct into the result variable instead
+			if ( async ) {
+				ExpressionInterpreter.setVariable(
+				    context,
+				    variableName,
+				    target != null ? HttpUtil.sendToFileAsync( client, request, target ) : HttpUtil.sendAsync( client, request, getAsBinary )
 				);
-				builder.header( "Content-Type", "application/x-www-form-urlencoded" );
+				return DEFAULT_RETURN;
 			}
 
-			builder.method( method, bodyPublisher );
-			builder.uri( uriBuilder.build() );
-			HttpRequest				request				= builder.build();
-			HttpClient				client				= HttpManager.getClient();
-			HttpResponse<String>	response			= client.send( request, HttpResponse.BodyHandlers.ofString() );
-
-			HttpHeaders				httpHeaders			= response.headers();
-			IStruct					headers				= transformToResponseHeaderStruct( httpHeaders.map(), response );
-			String					httpVersionString	= response.version() == HttpClient.Version.HTTP_1_1 ? "HTTP/1.1" : "HTTP/2";
-			String					statusCodeString	= String.valueOf( response.statusCode() );
-			String					statusText			= HTTPStatusReasons.getReasonForStatus( response.statusCode() );
-
-			headers.put( Key.HTTP_Version, httpVersionString );
-			headers.put( Key.status_code, statusCodeString );
-			headers.put( Key.explanation, statusText );
-
-			HTTPResult.put( Key.responseHeader, headers );
-			HTTPResult.put( Key.header, generateHeaderString( generateStatusLine( httpVersionString, statusCodeString, statusText ), headers ) );
-			HTTPResult.put( Key.HTTP_Version, httpVersionString );
-			HTTPResult.put( Key.statusCode, response.statusCode() );
-			HTTPResult.put( Key.status_code, response.statusCode() );
-			HTTPResult.put( Key.statusText, statusText );
-			HTTPResult.put( Key.status_text, statusText );
-			HTTPResult.put( Key.fileContent, response.body() );
-			HTTPResult.put( Key.errorDetail, "" );
-			Optional<String> contentTypeHeader = httpHeaders.firstValue( "Content-Type" );
-			contentTypeHeader.ifPresent( ( contentType ) -> {
-				String[] contentTypeParts = contentType.split( ";\s*" );
-				if ( contentTypeParts.length > 0 ) {
-					HTTPResult.put( Key.mimetype, contentTypeParts[ 0 ] );
-				}
-				if ( contentTypeParts.length > 1 ) {
-					String charset = contentTypeParts[ 1 ].replace( "charset=", "" );
-					HTTPResult.put( Key.charset, charset );
-				}
-			} );
-			HTTPResult.put( Key.cookies, generateCookiesQuery( headers ) );
+			IStruct result;
+			if ( target != null ) {
+				// Stream the body straight to disk
+				result = HttpUtil.sendToFile( client, request, target );
+			} else if ( onChunk != null ) {
+				// Hand each line to the callback as it arrives
+				result = HttpUtil.sendToConsumer( client, request, line -> context.invokeFunction( onChunk, new Object[] { line } ) );
+			} else {
+				result = HttpUtil.send( client, request, getAsBinary );
+			}
 
 			// Set the result back into the page
-			ExpressionInterpreter.setVariable( context, variableName, HTTPResult );
+			ExpressionInterpreter.setVariable( context, variableName, result );
 
 			return DEFAULT_RETURN;
-		} catch ( URISyntaxException | IOException | InterruptedException e ) {
+		} catch ( URISyntaxException e ) {
 			throw new BoxRuntimeException( e.getMessage() );
 		}
 	}
-
-	private Query generateCookiesQuery( IStruct headers ) {
-		Query cookies = new Query();
-		cookies.addColumn( Key._NAME, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.value, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.path, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.domain, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.expires, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.secure, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.httpOnly, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.samesite, QueryColumnType.VARCHAR );
-
-		Object				cookieValue		= headers.getOrDefault( Key.of( "Set-Cookie" ), new Array() );
-		CastAttempt<Array>	isValuesArray	= ArrayCaster.attempt( cookieValue );
-		if ( isValuesArray.wasSuccessful() ) {
-			Array values = isValuesArray.getOrFail();
-			for ( Object value : values ) {
-				parseCookieStringIntoQuery( StringCaster.cast( value ), cookies );
-			}
-		} else {
-			parseCookieStringIntoQuery( StringCaster.cast( cookieValue ), cookies );
-		}
-
-		return cookies;
-	}
-
-	private void parseCookieStringIntoQuery( String cookieString, Query cookies ) {
-		IStruct		cookieStruct;
-		String[]	parts	= cookieString.split( ";" );
-		if ( parts.length == 0 ) {
-			return;
-		}
-
-		String[] nameAndValue = parts[ 0 ].split( "=" );
-		if ( nameAndValue.length != 2 ) {
-			return;
-		}
-
-		cookieStruct = new Struct();
-		cookieStruct.put( Key._NAME, nameAndValue[ 0 ] );
-		cookieStruct.put( Key.value, nameAndValue[ 1 ] );
-
-		if ( parts.length > 1 ) {
-			Arrays.stream( parts, 1, parts.length )
-			    .forEach( metadata -> {
-				    String[] metadataParts = metadata.split( "=" );
-				    if ( metadataParts.length == 0 ) {
-					    return;
-				    }
-				    Key	metadataType	= Key.of( metadataParts[ 0 ] );
-				    Object metadataValue = true;
-				    if ( metadataParts.length == 2 ) {
-					    metadataValue = metadataParts[ 1 ];
-				    }
-
-				    if ( metadataType.equals( Key.of( "max-age" ) ) ) {
-					    metadataType = Key.expires;
-					    metadataValue = StringCaster.cast( DoubleCaster.cast( metadataValue ) / 60 / 60 / 24 );
-				    }
-
-				    cookieStruct.put( metadataType, metadataValue );
-			    } );
-		}
-
-		cookies.add( cookieStruct );
-	}
-
-	private String generateStatusLine( String httpVersionString, String statusCodeString, String statusText ) {
-		return httpVersionString + " " + statusCodeString + " " + statusText;
-	}
-
-	private String generateHeaderString( String statusLine, IStruct headers ) {
-		return statusLine + " " + headers.entrySet()
-		    .stream()
-		    .sorted( Map.Entry.comparingByKey() )
-		    .map( entry -> {
-			    StringBuilder	sb				= new StringBuilder();
-			    Object			headerValues	= entry.getValue();
-			    CastAttempt<Array> isValuesArray = ArrayCaster.attempt( headerValues );
-			    if ( isValuesArray.wasSuccessful() ) {
-				    Array values = isValuesArray.getOrFail();
-				    for ( Object value : values ) {
-					    String headerValue = StringCaster.cast( value );
-					    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
-				    }
-			    } else {
-				    String headerValue = StringCaster.cast( headerValues );
-				    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
-			    }
-			    return sb.toString().trim();
-		    } ).collect( Collectors.joining( " " ) );
-	}
-
-	private <T> IStruct transformToResponseHeaderStruct( Map<String, List<String>> headersMap, HttpResponse<T> response ) {
-		IStruct responseHeaders = new Struct();
-
-		// Add all the headers to our struct
-		for ( String headerName : headersMap.keySet() ) {
-			if ( ":status".equals( headerName ) ) {
-				continue;
-			}
-			Key		headerNameKey	= Key.of( headerName );
-			Array	values			= ( Array ) responseHeaders.getOrDefault( headerNameKey, new Array() );
-			values.addAll( headersMap.get( headerName ) );
-			responseHeaders.put( headerNameKey, values );
-		}
-
-		for ( Key structHeaderKey : responseHeaders.keySet() ) {
-			CastAttempt<Array> isValuesArray = ArrayCaster.attempt( responseHeaders.get( structHeaderKey ) );
-			if ( isValuesArray.wasSuccessful() ) {
-				Array values = isValuesArray.getOrFail();
-				if ( values.size() == 1 ) {
-					responseHeaders.put( structHeaderKey, values.get( 0 ) );
-				}
-			}
-		}
-
-		return responseHeaders;
-	}
 }
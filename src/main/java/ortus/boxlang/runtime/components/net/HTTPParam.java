@@ -17,6 +17,7 @@
  */
 package ortus.boxlang.runtime.components.net;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 import ortus.boxlang.runtime.components.Attribute;
@@ -26,6 +27,7 @@ import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.exceptions.BoxValidationException;
+import ortus.boxlang.runtime.util.FileSystemUtil;
 import ortus.boxlang.runtime.validation.Validator;
 
 @BoxComponent
@@ -98,6 +100,10 @@ public class HTTPParam extends Component {
 		if ( parentState == null ) {
 			throw new RuntimeException( "HTTPParam must be nested in the body of an HTTP component" );
 		}
+		// Resolve files relative to the template, like every other file attribute
+		if ( attributes.get( Key.file ) != null && !Path.of( attributes.getAsString( Key.file ) ).isAbsolute() ) {
+			attributes.put( Key.file, FileSystemUtil.expandPath( context, attributes.getAsString( Key.file ) ).absolutePath().toString() );
+		}
 		// Set our data into the HTTP component for it to use
 		parentState.getAsArray( Key.HTTPParams ).add( attributes );
 		return DEFAULT_RETURN;
@@ -29,6 +29,7 @@ import ortus.boxlang.runtime.components.Attribute;
 import ortus.boxlang.runtime.components.BoxComponent;
 import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.events.jfr.LockWaitEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
@@ -105,7 +106,9 @@ public class Lock extends Component {
 		java.util.concurrent.locks.Lock		lockToUse	= null;
 		try {
 			// Will be set to false if we time out
-			boolean acquired;
+			boolean			acquired;
+			LockWaitEvent	event	= new LockWaitEvent();
+			event.begin();
 			if ( type.equals( "readonly" ) ) {
 				acquired	= readLock.tryLock( timeout, TimeUnit.SECONDS );
 				lockToUse	= readLock;
@@ -116,6 +119,12 @@ public class Lock extends Component {
 				// This will never happen based on the attribute validation, but the compiler doens't know that so it wants this
 				throw new BoxRuntimeException( "Lock type [" + type + "] is not supported" );
 			}
+			if ( event.shouldCommit() ) {
+				event.name		= lockName;
+				event.type		= type;
+				event.acquired	= acquired;
+				event.commit();
+			}
 
 			if ( !acquired ) {
 				if ( throwOnTimeout ) {
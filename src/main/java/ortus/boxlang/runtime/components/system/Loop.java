@@ -137,6 +137,7 @@ public class Loop extends Component {
 	private BodyResult _invokeCondition( IBoxContext context, Function condition, ComponentBody body, IStruct executionState, String label ) {
 		// Loop over array, executing body every time
 		while ( BooleanCaster.cast( context.invokeFunction( condition ) ) ) {
+			context.checkRequestTimeout();
 			// Run the code inside of the output loop
 			BodyResult bodyResult = processBody( context, body );
 			// IF there was a return statement inside our body, we early exit now
@@ -157,6 +158,7 @@ public class Loop extends Component {
 		// Loop over array, executing body every time
 		for ( Key key : collection.keySet() ) {
 			ExpressionInterpreter.setVariable( context, item, key.getName() );
+			context.checkRequestTimeout();
 			// Run the code inside of the output loop
 			BodyResult bodyResult = processBody( context, body );
 			// IF there was a return statement inside our body, we early exit now
@@ -183,6 +185,7 @@ public class Loop extends Component {
 			String thisLine = lines[ i ];
 			// Set the index and item variables
 			ExpressionInterpreter.setVariable( context, index, thisLine );
+			context.checkRequestTimeout();
 			// Run the code inside of the output loop
 			BodyResult bodyResult = processBody( context, body );
 			// IF there was a return statement inside our body, we early exit now
@@ -204,6 +207,7 @@ public class Loop extends Component {
 		for ( int i = from.intValue(); i <= to.intValue(); i++ ) {
 			// Set the index and item variables
 			ExpressionInterpreter.setVariable( context, index, i );
+			context.checkRequestTimeout();
 			// Run the code inside of the output loop
 			BodyResult bodyResult = processBody( context, body );
 			// IF there was a return statement inside our body, we early exit now
@@ -247,6 +251,7 @@ public class Loop extends Component {
 			if ( item != null ) {
 				ExpressionInterpreter.setVariable( context, item, array.get( i ) );
 			}
+			context.checkRequestTimeout();
 			// Run the code inside of the output loop
 			BodyResult bodyResult = processBody( context, body );
 			// IF there was a return statement inside our body, we early exit now
@@ -33,7 +33,7 @@ public class Setting extends Component {
 		declaredAttributes = new Attribute[] {
 		    new Attribute( Key.enableOutputOnly, "boolean" ),
 		    new Attribute( Key.showDebugOutput, "boolean" ),
-		    new Attribute( Key.requestTimeout, "long" )
+		    new Attribute( Key.requestTimeout, "numeric" )
 
 		};
 	}
@@ -45,13 +45,14 @@ public class Setting extends Component {
 	 * @param attributes     The attributes to the Component
 	 * @param body           The body of the Component
 	 * @param executionState The execution state of the Component
-	 * 
+	 *
+	 * @attribute.requestTimeout The request timeout in seconds, as in CFML. 0 means no timeout.
 	 *
 	 */
 	public BodyResult _invoke( IBoxContext context, IStruct attributes, ComponentBody body, IStruct executionState ) {
 		Boolean				showDebugOutput		= attributes.getAsBoolean( Key.showDebugOutput );
 		Boolean				enableOutputOnly	= attributes.getAsBoolean( Key.enableOutputOnly );
-		Long				requestTimeout		= attributes.getAsLong( Key.requestTimeout );
+		Double				requestTimeout		= attributes.getAsDouble( Key.requestTimeout );
 
 		RequestBoxContext	requestContext		= context.getParentOfType( RequestBoxContext.class );
 
@@ -60,8 +61,8 @@ public class Setting extends Component {
 			requestContext.setEnforceExplicitOutput( enableOutputOnly );
 		}
 		if ( requestTimeout != null ) {
-			// This will change the setting for the request of the request
-			requestContext.setRequestTimeout( requestTimeout );
+			// The attribute is in seconds, the request context counts milliseconds
+			requestContext.setRequestTimeout( Math.round( requestTimeout * 1000 ) );
 		}
 
 		// TODO: Implemet showDebugOutput. It feels like this should be specific to a web server, but since the setting component is core, maybe we add it to
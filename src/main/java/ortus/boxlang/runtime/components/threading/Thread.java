@@ -23,12 +23,14 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ortus.boxlang.runtime.async.executors.VirtualThreads;
 import ortus.boxlang.runtime.components.Attribute;
 import ortus.boxlang.runtime.components.BoxComponent;
 import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
+import ortus.boxlang.runtime.events.jfr.ThreadStartEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.LocalScope;
 import ortus.boxlang.runtime.types.IStruct;
@@ -137,42 +139,42 @@ public class Thread extends Component {
 		final Key			nameKey		= Key.of( name );
 		// Generate a new thread context of execution
 		ThreadBoxContext	tContext	= new ThreadBoxContext( context, threadManager, nameKey );
-		// Create a new thread definition
-		java.lang.Thread	thread		= new java.lang.Thread(
-		    // thread group
-		    threadManager.getThreadGroup(),
-		    // Runnable Proxy
-		    () -> {
-			    StringBuffer buffer		= new StringBuffer();
-			    Throwable	exception	= null;
-			    try {
-				    processBody( tContext, body, buffer );
-			    } catch ( AbortException e ) {
-				    // We log it so we can potentially find out why it was aborted
-				    logger.error( "Thread [{}] aborted at stacktrace: {}", nameKey.getName(), e.getStackTrace() );
-			    } catch ( Throwable e ) {
-				    exception = e;
-				    logger.error( "Thread [{}] terminated with exception: {}", nameKey.getName(), e.getMessage() );
-				    logger.error( "-> Exception", e );
-			    } finally {
-				    threadManager.completeThread(
-				        nameKey,
-				        buffer.toString(),
-				        exception,
-				        java.lang.Thread.interrupted()
-				    );
-			    }
-		    },
-		    // Name
-		    threadManager.DEFAULT_THREAD_PREFIX + name
-		);
-
-		// Set the priority of the thread if it's not the default
-		thread.setPriority( switch ( priority ) {
-			case "high" -> java.lang.Thread.MAX_PRIORITY;
-			case "low" -> java.lang.Thread.MIN_PRIORITY;
-			default -> java.lang.Thread.NORM_PRIORITY;
-		} );
+
+		// The body of the thread
+		Runnable task = () -> {
+			StringBuffer buffer		= new StringBuffer();
+			Throwable	exception	= null;
+			try {
+				processBody( tContext, body, buffer );
+			} catch ( AbortException e ) {
+				// We log it so we can potentially find out why it was aborted
+				logger.error( "Thread [{}] aborted at stacktrace: {}", nameKey.getName(), e.getStackTrace() );
+			} catch ( Throwable e ) {
+				exception = e;
+				logger.error( "Thread [{}] terminated with exception: {}", nameKey.getName(), e.getMessage() );
+				logger.error( "-> Exception", e );
+			} finally {
+				tContext.shutdownConnections();
+				threadManager.completeThread(
+				    nameKey,
+				    buffer.toString(),
+				    exception,
+				    java.lang.Thread.interrupted()
+				);
+			}
+		};
+
+		// Create a new thread definition: a platform thread in the request thread group, or a virtual thread if enabled
+		java.lang.Thread thread = threadManager.newThread( RequestThreadManager.DEFAULT_THREAD_PREFIX + name, task );
+
+		// Set the priority of the thread if it's not the default. Virtual threads ignore priorities.
+		if ( !VirtualThreads.isVirtual( thread ) ) {
+			thread.setPriority( switch ( priority ) {
+				case "high" -> java.lang.Thread.MAX_PRIORITY;
+				case "low" -> java.lang.Thread.MIN_PRIORITY;
+				default -> java.lang.Thread.NORM_PRIORITY;
+			} );
+		}
 
 		// Register the thread in the context
 		tContext.setThread( thread );
@@ -183,6 +185,13 @@ public class Thread extends Component {
 		threadManager.registerThread( nameKey, tContext );
 		// Up up and away
 		thread.start();
+
+		ThreadStartEvent event = new ThreadStartEvent();
+		if ( event.shouldCommit() ) {
+			event.name		= name;
+			event.priority	= priority;
+			event.commit();
+		}
 	}
 
 	/**
@@ -18,9 +18,11 @@
 package ortus.boxlang.runtime.config.segments;
 
 import ortus.boxlang.runtime.config.util.PlaceholderHelper;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 /**
  * The BoxLang compiler configuration
@@ -31,7 +33,43 @@ public class CompilerConfig {
 	 * The directory where the generated classes will be placed
 	 * The default is the system temp directory + {@code /boxlang}
 	 */
-	public String classGenerationDirectory = System.getProperty( "java.io.tmpdir" ) + "boxlang";
+	public String		classGenerationDirectory	= System.getProperty( "java.io.tmpdir" ) + "boxlang";
+
+	/**
+	 * How compiled templates and classes detect changes to their source files
+	 * The default is {@code CHECK}
+	 */
+	public CacheMode	cacheMode					= CacheMode.CHECK;
+
+	/**
+	 * Whether the AST is simplified before it is transpiled, folding constants and removing dead branches
+	 * The default is {@code true}
+	 */
+	public boolean		optimizeAST					= true;
+
+	/**
+	 * Whether the AST is logged before and after it is optimized, to verify what the optimizer did
+	 * The default is {@code false}
+	 */
+	public boolean		dumpOptimizedAST			= false;
+
+	/**
+	 * The ways compiled sources detect changes to their source files
+	 */
+	public enum CacheMode {
+		/**
+		 * Check the modification time of the source file on every use
+		 */
+		CHECK,
+		/**
+		 * Never check a source file again once it has been compiled. Changes are only picked up after a restart.
+		 */
+		TRUSTED,
+		/**
+		 * Don't check source files on use, a file system watcher evicts compiled sources when their files change
+		 */
+		WATCH
+	}
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -52,6 +90,24 @@ public class CompilerConfig {
 			this.classGenerationDirectory = PlaceholderHelper.resolve( config.get( "classGenerationDirectory" ) );
 		}
 
+		// Process the cache mode
+		if ( config.containsKey( "cacheMode" ) ) {
+			String mode = PlaceholderHelper.resolve( config.get( "cacheMode" ) );
+			try {
+				this.cacheMode = CacheMode.valueOf( mode.trim().toUpperCase() );
+			} catch ( IllegalArgumentException e ) {
+				throw new BoxRuntimeException( "Invalid compiler cacheMode [" + mode + "], valid values are check, trusted and watch" );
+			}
+		}
+
+		// Process the AST optimizer settings
+		if ( config.containsKey( "optimizeAST" ) ) {
+			this.optimizeAST = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( "optimizeAST" ) ) );
+		}
+		if ( config.containsKey( "dumpOptimizedAST" ) ) {
+			this.dumpOptimizedAST = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( "dumpOptimizedAST" ) ) );
+		}
+
 		return this;
 	}
 
@@ -62,7 +118,10 @@ public class CompilerConfig {
 	 */
 	public IStruct asStruct() {
 		return Struct.of(
-		    Key.classGenerationDirectory, this.classGenerationDirectory
+		    Key.classGenerationDirectory, this.classGenerationDirectory,
+		    Key.cacheMode, this.cacheMode.name().toLowerCase(),
+		    Key.optimizeAST, this.optimizeAST,
+		    Key.dumpOptimizedAST, this.dumpOptimizedAST
 		);
 	}
 }
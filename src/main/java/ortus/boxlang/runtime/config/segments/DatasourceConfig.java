@@ -130,6 +130,8 @@ public class DatasourceConfig implements Comparable<DatasourceConfig> {
 	    // Register mbeans or not. By default, this is false
 	    // However, if you are using JMX, you can set this to true to get some additional monitoring information
 	    "registerMbeans", false,
+	    // How long the database metadata read by dbinfo is cached, in seconds. 0 disables the cache
+	    "metadataCacheTimeout", 60,
 	    // Prep the custom properties
 	    "custom", new Struct()
 	);
@@ -150,6 +152,7 @@ public class DatasourceConfig implements Comparable<DatasourceConfig> {
 	    Key.keepaliveTime,
 	    Key.maxConnections,
 	    Key.maxLifetime,
+	    Key.metadataCacheTimeout,
 	    Key.metricRegistry,
 	    Key.minConnections,
 	    Key.password,
@@ -290,8 +293,8 @@ public class DatasourceConfig implements Comparable<DatasourceConfig> {
 		uniqueName.append( this.name.toString() );
 		uniqueName.append( "_" );
 
-		// Hash the properties
-		uniqueName.append( properties.hashCode() );
+		// Hash the properties, unsigned so the name only has digits after the last underscore
+		uniqueName.append( Integer.toUnsignedString( properties.hashCode() ) );
 
 		return Key.of( uniqueName.toString() );
 	}
@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.config.util.PlaceholderHelper;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
 import ortus.boxlang.runtime.dynamic.casters.KeyCaster;
 import ortus.boxlang.runtime.dynamic.casters.LongCaster;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
@@ -84,6 +86,36 @@ public class RuntimeConfig {
 	 */
 	public String				logsDirectory		= Paths.get( BoxRuntime.getInstance().getRuntimeHome().toString(), "/logs" ).normalize().toString();
 
+	/**
+	 * The size at which a log file is rolled over, like {@code 100MB}
+	 */
+	public String				logsMaxFileSize		= "100MB";
+
+	/**
+	 * The number of days rolled log files are kept
+	 */
+	public int					logsMaxHistory		= 90;
+
+	/**
+	 * The most disk space all the rolled files of a log may use, like {@code 5GB}
+	 */
+	public String				logsTotalSizeCap	= "5GB";
+
+	/**
+	 * The number of log messages which can wait to be written to their files
+	 */
+	public int					logsQueueSize		= 1024;
+
+	/**
+	 * Drop log messages when the queue is full instead of waiting for room
+	 */
+	public boolean				logsNeverBlock		= false;
+
+	/**
+	 * Record runtime metrics, such as request, function and query latencies. When off, the instrumented code only checks this flag.
+	 */
+	public boolean				metricsEnabled		= false;
+
 	/**
 	 * An array of directories where custom tags are located and loaded from.
 	 * {@code [ /{boxlang-home}/customTags ]}
@@ -110,11 +142,29 @@ public class RuntimeConfig {
 	 */
 	public IStruct				datasources			= new Struct();
 
+	/**
+	 * Hold the first connection a request gets from a datasource until the request ends, instead of returning it to the pool after
+	 * each query
+	 */
+	public boolean				stickyConnections	= false;
+
 	/**
 	 * Default cache registration
 	 */
 	public CacheConfig			defaultCache		= new CacheConfig();
 
+	/**
+	 * Named HTTP client registrations
+	 * The key is the name of the client and the value is a struct of client settings
+	 */
+	public IStruct				httpClients			= new Struct();
+
+	/**
+	 * Run {@code bx:thread} threads on virtual threads instead of platform threads.
+	 * Only honoured on JVMs which support virtual threads, platform threads are used otherwise.
+	 */
+	public boolean				useVirtualThreads	= false;
+
 	/**
 	 * Logger
 	 */
@@ -296,6 +346,33 @@ public class RuntimeConfig {
 			this.requestTimeout = LongCaster.cast( PlaceholderHelper.resolve( config.get( "requestTimeout" ) ) );
 		}
 
+		// Log files
+		if ( config.containsKey( Key.logsMaxFileSize ) && StringCaster.cast( config.get( Key.logsMaxFileSize ) ).length() > 0 ) {
+			this.logsMaxFileSize = PlaceholderHelper.resolve( config.get( Key.logsMaxFileSize ) );
+		}
+		if ( config.containsKey( Key.logsMaxHistory ) ) {
+			this.logsMaxHistory = IntegerCaster.cast( PlaceholderHelper.resolve( config.get( Key.logsMaxHistory ) ) );
+		}
+		if ( config.containsKey( Key.logsTotalSizeCap ) && StringCaster.cast( config.get( Key.logsTotalSizeCap ) ).length() > 0 ) {
+			this.logsTotalSizeCap = PlaceholderHelper.resolve( config.get( Key.logsTotalSizeCap ) );
+		}
+		if ( config.containsKey( Key.logsQueueSize ) ) {
+			this.logsQueueSize = IntegerCaster.cast( PlaceholderHelper.resolve( config.get( Key.logsQueueSize ) ) );
+		}
+		if ( config.containsKey( Key.logsNeverBlock ) ) {
+			this.logsNeverBlock = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( Key.logsNeverBlock ) ) );
+		}
+
+		// Process metrics
+		if ( config.containsKey( Key.metricsEnabled ) ) {
+			this.metricsEnabled = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( Key.metricsEnabled ) ) );
+		}
+
+		// Process virtual threads
+		if ( config.containsKey( Key.useVirtualThreads ) ) {
+			this.useVirtualThreads = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( Key.useVirtualThreads ) ) );
+		}
+
 		// Process mappings
 		if ( config.containsKey( Key.mappings ) ) {
 			if ( config.get( Key.mappings ) instanceof Map<?, ?> castedMap ) {
@@ -383,6 +460,11 @@ public class RuntimeConfig {
 			this.defaultDatasource = PlaceholderHelper.resolve( config.get( Key.defaultDatasource ) );
 		}
 
+		// Sticky connections
+		if ( config.containsKey( Key.stickyConnections ) ) {
+			this.stickyConnections = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( Key.stickyConnections ) ) );
+		}
+
 		// Process Datasource Configurations
 		if ( config.containsKey( Key.datasources ) ) {
 			if ( config.get( Key.datasources ) instanceof Map<?, ?> castedDataSources ) {
@@ -402,6 +484,23 @@ public class RuntimeConfig {
 			}
 		}
 
+		// Process HTTP client configurations
+		if ( config.containsKey( Key.httpClients ) ) {
+			if ( config.get( Key.httpClients ) instanceof Map<?, ?> castedClients ) {
+				castedClients
+				    .entrySet()
+				    .forEach( entry -> {
+					    if ( entry.getValue() instanceof Map<?, ?> castedMap ) {
+						    this.httpClients.put( KeyCaster.cast( entry.getKey() ), new Struct( castedMap ) );
+					    } else {
+						    logger.warn( "The [runtime.httpClients.{}] configuration is not a JSON Object, ignoring it.", entry.getKey() );
+					    }
+				    } );
+			} else {
+				logger.warn( "The [runtime.httpClients] configuration is not a JSON Object, ignoring it." );
+			}
+		}
+
 		// Process modules
 		if ( config.containsKey( Key.modules ) ) {
 			if ( config.get( Key.modules ) instanceof Map<?, ?> castedModules ) {
@@ -442,6 +541,9 @@ public class RuntimeConfig {
 		IStruct datsourcesCopy = new Struct();
 		this.datasources.entrySet().forEach( entry -> datsourcesCopy.put( entry.getKey(), ( ( DatasourceConfig ) entry.getValue() ).toStruct() ) );
 
+		IStruct httpClientsCopy = new Struct();
+		this.httpClients.entrySet().forEach( entry -> httpClientsCopy.put( entry.getKey(), new Struct( ( IStruct ) entry.getValue() ) ) );
+
 		IStruct modulesCopy = new Struct();
 		this.modules.entrySet().forEach( entry -> modulesCopy.put( entry.getKey(), ( ( ModuleConfig ) entry.getValue() ).toStruct() ) );
 
@@ -451,13 +553,22 @@ public class RuntimeConfig {
 		    Key.datasources, datsourcesCopy,
 		    Key.defaultCache, this.defaultCache.toStruct(),
 		    Key.defaultDatasource, this.defaultDatasource,
+		    Key.httpClients, httpClientsCopy,
 		    Key.javaLibraryPaths, Array.fromList( this.javaLibraryPaths ),
 		    Key.locale, this.locale,
+		    Key.logsMaxFileSize, this.logsMaxFileSize,
+		    Key.logsMaxHistory, this.logsMaxHistory,
+		    Key.logsNeverBlock, this.logsNeverBlock,
+		    Key.logsQueueSize, this.logsQueueSize,
+		    Key.logsTotalSizeCap, this.logsTotalSizeCap,
 		    Key.mappings, mappingsCopy,
+		    Key.metricsEnabled, this.metricsEnabled,
 		    Key.modules, modulesCopy,
 		    Key.modulesDirectory, Array.fromList( this.modulesDirectory ),
 		    Key.requestTimeout, this.requestTimeout,
-		    Key.timezone, this.timezone
+		    Key.stickyConnections, this.stickyConnections,
+		    Key.timezone, this.timezone,
+		    Key.useVirtualThreads, this.useVirtualThreads
 		);
 	}
 
@@ -110,6 +110,11 @@ public class BaseBoxContext implements IBoxContext {
 	 */
 	private final IBoxAttachable			attachable		= new Attachable();
 
+	/**
+	 * The request context this context runs in, looked up on first use
+	 */
+	private RequestBoxContext				requestContext	= null;
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Constructors
@@ -209,9 +214,14 @@ public class BaseBoxContext implements IBoxContext {
 	 * @return The execution state for the closest component, null if none was found
 	 */
 	public IStruct findClosestComponent( Key name, Predicate<IStruct> predicate ) {
-		IStruct[] componentArray = getComponents();
-		for ( int i = 0; i < componentArray.length; i++ ) {
-			IStruct component = componentArray[ i ];
+		// Same order as getComponents(), without copying every stack of the context chain into arrays
+		if ( hasParent() ) {
+			IStruct component = getParent().findClosestComponent( name, predicate );
+			if ( component != null ) {
+				return component;
+			}
+		}
+		for ( IStruct component : this.components ) {
 			if ( component.get( Key._NAME ).equals( name ) && ( predicate == null || predicate.test( component ) ) ) {
 				return component;
 			}
@@ -319,7 +329,8 @@ public class BaseBoxContext implements IBoxContext {
 	 * @return This context
 	 */
 	public IBoxContext setParent( IBoxContext parentContext ) {
-		this.parent = parentContext;
+		this.parent			= parentContext;
+		this.requestContext	= null;
 		return this;
 	}
 
@@ -842,21 +853,14 @@ public class BaseBoxContext implements IBoxContext {
 		if ( o == null ) {
 			return this;
 		}
-		Boolean	explicitOutput	= ( Boolean ) getConfigItem( Key.enforceExplicitOutput, false );
-		IStruct	outputState		= null;
-		if ( explicitOutput ) {
-			// If we are requiring to be in an output component, let's look for it
-			outputState = findClosestComponent( Key.output );
-			if ( outputState == null ) {
-				return this;
-			}
+		// The output component copies the encodefor of its parents into its own state, so the closest one knows it
+		IStruct outputState = findClosestComponent( Key.output );
+		if ( outputState == null && isEnforceExplicitOutput() ) {
+			// We are requiring to be in an output component
+			return this;
 		}
 
 		String content = StringCaster.cast( o );
-		// If the closest output didn't have an encode for, let's look a little harder to see if we can find one.
-		if ( outputState == null || outputState.getAsString( Key.encodefor ) == null ) {
-			outputState = findClosestComponent( Key.output, state -> state.get( Key.encodefor ) != null );
-		}
 		if ( outputState != null ) {
 			String encodeFor = outputState.getAsString( Key.encodefor );
 			// TODO: encode the content
@@ -867,6 +871,17 @@ public class BaseBoxContext implements IBoxContext {
 		return this;
 	}
 
+	/**
+	 * Verify if output must be inside an output component. This reads the request flag directly instead of building
+	 * the config struct on every write.
+	 *
+	 * @return True if output outside of an output component is discarded
+	 */
+	protected boolean isEnforceExplicitOutput() {
+		RequestBoxContext requestContext = getParentOfType( RequestBoxContext.class );
+		return requestContext != null && requestContext.isEnforceExplicitOutput();
+	}
+
 	/**
 	 * Can the current context output to the response stream?
 	 * Contexts tied to a specific object like a function or class may override this to return false based on their own logic.
@@ -890,26 +905,40 @@ public class BaseBoxContext implements IBoxContext {
 		// If there are extra buffers registered, we ignore flush requests since someone
 		// out there is wanting to capture our buffer instead.
 		if ( hasParent() && buffers.size() == 1 ) {
-			StringBuffer thisBuffer = getBuffer();
-			synchronized ( thisBuffer ) {
-				getParent().writeToBuffer( thisBuffer.toString() );
-				thisBuffer.setLength( 0 );
-			}
+			spliceBuffer( getBuffer() );
 			if ( force ) {
 				getParent().flushBuffer( true );
 			}
 		} else if ( force && hasParent() ) {
 			for ( StringBuffer buf : buffers ) {
-				synchronized ( buf ) {
-					getParent().writeToBuffer( buf.toString() );
-					buf.setLength( 0 );
-				}
+				spliceBuffer( buf );
 			}
 			getParent().flushBuffer( true );
 		}
 		return this;
 	}
 
+	/**
+	 * Move the content of one of our buffers to the end of the parent buffer and empty it.
+	 * The characters are copied once, straight into the parent buffer, instead of being turned into a String first.
+	 * The output was already checked when it was written, so it doesn't go through the parent's writeToBuffer().
+	 *
+	 * @param buffer The buffer to move
+	 */
+	protected void spliceBuffer( StringBuffer buffer ) {
+		StringBuffer parentBuffer = getParent().getBuffer();
+		if ( parentBuffer == buffer ) {
+			return;
+		}
+		synchronized ( buffer ) {
+			if ( buffer.length() == 0 ) {
+				return;
+			}
+			parentBuffer.append( buffer );
+			buffer.setLength( 0 );
+		}
+	}
+
 	/**
 	 * Clear the buffer
 	 *
@@ -1072,6 +1101,38 @@ public class BaseBoxContext implements IBoxContext {
 		return null;
 	}
 
+	/**
+	 * Get the request context this context runs in. The lookup is remembered, so compiled code can call this often.
+	 * A new context asks its parent, which has usually remembered it already, instead of walking the whole chain.
+	 *
+	 * @return The request context, or null if this context does not run in a request
+	 */
+	@Override
+	public RequestBoxContext getRequestContext() {
+		RequestBoxContext result = this.requestContext;
+		if ( result == null ) {
+			if ( this instanceof RequestBoxContext request ) {
+				result = request;
+			} else if ( hasParent() ) {
+				result = getParent().getRequestContext();
+			}
+			this.requestContext = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Throw a {@link ortus.boxlang.runtime.types.exceptions.RequestTimeoutException} if the request this context runs in
+	 * has timed out. Compiled code calls this at every loop iteration.
+	 */
+	@Override
+	public void checkRequestTimeout() {
+		RequestBoxContext request = getRequestContext();
+		if ( request != null ) {
+			request.checkTimeout();
+		}
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Attachable Delegation
@@ -547,6 +547,18 @@ public interface IBoxContext extends IBoxAttachable, Serializable {
 	 */
 	public <T> T getParentOfType( Class<T> type );
 
+	/**
+	 * Get the request context this context runs in
+	 *
+	 * @return The request context, or null if this context does not run in a request
+	 */
+	public RequestBoxContext getRequestContext();
+
+	/**
+	 * Throw a request timeout exception if the request this context runs in has timed out
+	 */
+	public void checkRequestTimeout();
+
 	/**
 	 * Convenience method to retrieve a single config item
 	 *
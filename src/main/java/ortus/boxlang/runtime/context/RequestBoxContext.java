@@ -33,6 +33,7 @@ import ortus.boxlang.runtime.types.DateTime;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.KeyNotFoundException;
+import ortus.boxlang.runtime.types.exceptions.RequestTimeoutException;
 import ortus.boxlang.runtime.util.RequestThreadManager;
 
 /**
@@ -46,6 +47,11 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 * --------------------------------------------------------------------------
 	 */
 
+	/**
+	 * The deadline of a request which never times out
+	 */
+	private static final long		NO_DEADLINE				= Long.MAX_VALUE;
+
 	/**
 	 * The locale for this request
 	 */
@@ -76,6 +82,16 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 */
 	private DateTime				requestStart			= new DateTime();
 
+	/**
+	 * The {@link System#nanoTime()} when the request started, which the request timeout counts from
+	 */
+	private final long				startNanos				= System.nanoTime();
+
+	/**
+	 * The {@link System#nanoTime()} after which the request has timed out, or {@link #NO_DEADLINE}
+	 */
+	private volatile long			deadline				= NO_DEADLINE;
+
 	/**
 	 * The JDBC connection manager, which tracks transaction state/context and allows a thread or request to retrieve connections.
 	 */
@@ -106,6 +122,7 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	protected RequestBoxContext( IBoxContext parent ) {
 		super( parent );
 		this.connectionManager = new ConnectionManager( this );
+		setDeadline( null );
 	}
 
 	/**
@@ -368,6 +385,7 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 */
 	public RequestBoxContext setRequestTimeout( Long requestTimeout ) {
 		this.requestTimeout = requestTimeout;
+		setDeadline( requestTimeout );
 		return this;
 	}
 
@@ -380,6 +398,47 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 		return this.requestTimeout;
 	}
 
+	/**
+	 * Throw a {@link RequestTimeoutException} if the request has run past its timeout. This is the safepoint compiled code
+	 * calls at every loop iteration and function call, so it only reads a field unless the request has a timeout.
+	 * The first time the request times out, its threads are interrupted so they stop as well.
+	 *
+	 * @throws RequestTimeoutException If the request has timed out
+	 */
+	public void checkTimeout() {
+		long currentDeadline = this.deadline;
+		if ( currentDeadline == NO_DEADLINE || System.nanoTime() - currentDeadline < 0 ) {
+			return;
+		}
+		if ( this.threadManager != null && this.threadManager.hasThreads() ) {
+			this.threadManager.interruptThreads();
+		}
+		throw new RequestTimeoutException( ( currentDeadline - this.startNanos ) / 1_000_000 );
+	}
+
+	/**
+	 * Get the time left before the request times out
+	 *
+	 * @return The time left in milliseconds, 0 if the request has timed out, or -1 if the request has no timeout
+	 */
+	public long getRemainingTime() {
+		long currentDeadline = this.deadline;
+		if ( currentDeadline == NO_DEADLINE ) {
+			return -1;
+		}
+		return Math.max( 0, ( currentDeadline - System.nanoTime() ) / 1_000_000 );
+	}
+
+	/**
+	 * Set the deadline of the request from its timeout, counted from the start of the request
+	 *
+	 * @param requestTimeout The timeout in milliseconds, 0 for no timeout, or null to use the runtime {@code requestTimeout} setting
+	 */
+	private void setDeadline( Long requestTimeout ) {
+		long timeout = requestTimeout != null ? requestTimeout : getRuntime().getConfiguration().runtime.requestTimeout;
+		this.deadline = timeout > 0 ? this.startNanos + timeout * 1_000_000 : NO_DEADLINE;
+	}
+
 	/**
 	 * Get the settings for this request. These are known as "application settings" since they configure the
 	 * application that uses them, but they are really set every request.
@@ -49,23 +49,28 @@ public class ScriptingRequestBoxContext extends RequestBoxContext {
 	 * --------------------------------------------------------------------------
 	 */
 
-	private static BoxRuntime	runtime			= BoxRuntime.getInstance();
+	private static BoxRuntime	runtime				= BoxRuntime.getInstance();
+
+	/**
+	 * The number of characters printed at a time when flushing to the output stream
+	 */
+	private static final int	PRINT_CHUNK_SIZE	= 8192;
 
 	/**
 	 * The variables scope
 	 */
-	protected IScope			variablesScope	= new VariablesScope();
+	protected IScope			variablesScope		= new VariablesScope();
 
 	/**
 	 * The request scope
 	 */
-	protected IScope			requestScope	= new RequestScope();
+	protected IScope			requestScope		= new RequestScope();
 
 	/**
 	 * The tied session ID to this context of execution, if any.
 	 * By default we default a random key GUID
 	 */
-	private Key					sessionID		= new Key( UUID.randomUUID().toString() );
+	private Key					sessionID			= new Key( UUID.randomUUID().toString() );
 
 	/**
 	 * The output buffer for the script
@@ -311,27 +316,32 @@ public class ScriptingRequestBoxContext extends RequestBoxContext {
 		if ( !canOutput() && !force ) {
 			return this;
 		}
-		String output;
 		// If there are extra buffers registered, we ignore flush requests since someone
 		// out there is wanting to capture our buffer instead.
 		if ( hasParent() && buffers.size() == 1 ) {
-			StringBuffer buffer = getBuffer();
-			synchronized ( buffer ) {
-				output = buffer.toString();
-				clearBuffer();
-			}
 			// If a scripting context is our top-level context, we flush to the console.
-			getOut().print( output );
+			printBuffer( getBuffer() );
 		} else if ( force ) {
 			for ( StringBuffer buf : buffers ) {
-				synchronized ( buf ) {
-					output = buf.toString();
-					buf.setLength( 0 );
-				}
-				getOut().print( output );
+				printBuffer( buf );
 			}
 		}
 		return this;
 	}
 
+	/**
+	 * Print a buffer to the output stream in chunks and empty it, so large output is never copied into a single String
+	 *
+	 * @param buffer The buffer to print
+	 */
+	private void printBuffer( StringBuffer buffer ) {
+		synchronized ( buffer ) {
+			int length = buffer.length();
+			for ( int start = 0; start < length; start += PRINT_CHUNK_SIZE ) {
+				getOut().append( buffer, start, Math.min( length, start + PRINT_CHUNK_SIZE ) );
+			}
+			buffer.setLength( 0 );
+		}
+	}
+
 }
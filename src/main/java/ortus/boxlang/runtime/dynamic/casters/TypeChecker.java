@@ -0,0 +1,214 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.dynamic.casters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.runnables.IClassRunnable;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.Function;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.NullValue;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.XML;
+import ortus.boxlang.runtime.types.exceptions.BoxCastException;
+
+/**
+ * A type check for a declared argument or return type which is resolved once and then reused on every call.
+ * <p>
+ * {@link GenericCaster#attempt(IBoxContext, Object, Object, boolean)} lowercases the type and walks a chain of string
+ * comparisons on every invocation. A checker does that work up front: values which already are of the declared type
+ * pass through an {@code instanceof} check, anything else goes straight to the bound caster.
+ * <p>
+ * Checkers are immutable and cached by type name, so every argument declared as {@code string} shares one instance.
+ * Checks are strict, the same as {@code GenericCaster.attempt( context, value, type, true )}.
+ */
+public final class TypeChecker {
+
+	/**
+	 * Cache of checkers by declared type name
+	 */
+	private static final Map<String, TypeChecker>			checkers	= new ConcurrentHashMap<>();
+
+	/**
+	 * The checker for {@code any}
+	 */
+	public static final TypeChecker							ANY			= of( "any" );
+
+	/**
+	 * The type as declared
+	 */
+	private final String									declaredType;
+
+	/**
+	 * The declared type, lowercased
+	 */
+	private final String									type;
+
+	/**
+	 * True if the type is {@code null} or {@code void}
+	 */
+	private final boolean									isNull;
+
+	/**
+	 * True if the type is {@code any}
+	 */
+	private final boolean									isAny;
+
+	/**
+	 * Values of this class are already of the declared type and are returned as-is, can be null
+	 */
+	private final Class<?>									fastClass;
+
+	/**
+	 * The caster bound to the declared type, called with fail set to false
+	 */
+	private final BiFunction<IBoxContext, Object, Object>	caster;
+
+	/**
+	 * Constructor
+	 *
+	 * @param declaredType The declared type
+	 */
+	private TypeChecker( String declaredType ) {
+		this.declaredType	= declaredType;
+		this.type			= declaredType.toLowerCase();
+		this.isNull			= type.equals( "null" ) || type.equals( "void" );
+		this.isAny			= type.equals( "any" );
+		this.fastClass		= resolveFastClass( type );
+		this.caster			= resolveCaster( type );
+	}
+
+	/**
+	 * Get the checker for a declared type
+	 *
+	 * @param type The declared type, null is treated as {@code any}
+	 *
+	 * @return The shared checker
+	 */
+	public static TypeChecker of( String type ) {
+		if ( type == null ) {
+			return ANY;
+		}
+		TypeChecker checker = checkers.get( type );
+		if ( checker == null ) {
+			checker = checkers.computeIfAbsent( type, TypeChecker::new );
+		}
+		return checker;
+	}
+
+	/**
+	 * Get the type as declared
+	 *
+	 * @return The type
+	 */
+	public String getType() {
+		return declaredType;
+	}
+
+	/**
+	 * Tests to see if the value matches the declared type. Follows the same rules as
+	 * {@link GenericCaster#attempt(IBoxContext, Object, Object, boolean)} in strict mode.
+	 *
+	 * @param context The context
+	 * @param value   The value to check
+	 *
+	 * @throws BoxCastException If the type is {@code null} or {@code void} and the value is not null
+	 *
+	 * @return A CastAttempt, which contains the casted value, if successful
+	 */
+	public CastAttempt<Object> attempt( IBoxContext context, Object value ) {
+		if ( isNull ) {
+			if ( value != null ) {
+				throw new BoxCastException(
+				    String.format( "Cannot cast type [%s] to %s.", value.getClass().getName(), type )
+				);
+			}
+			return CastAttempt.ofNullable( new NullValue() );
+		}
+		if ( isAny ) {
+			return CastAttempt.ofNullable( value == null ? new NullValue() : value );
+		}
+		if ( fastClass != null && fastClass.isInstance( value ) ) {
+			return CastAttempt.ofNullable( value );
+		}
+		return CastAttempt.ofNullable( caster.apply( context, value ) );
+	}
+
+	/**
+	 * Find the class whose instances need no casting for a type
+	 *
+	 * @param type The lowercased type
+	 *
+	 * @return The class, or null if every value goes through the caster
+	 */
+	private static Class<?> resolveFastClass( String type ) {
+		return switch ( type ) {
+			case "string" -> String.class;
+			case "double", "numeric" -> Double.class;
+			case "boolean" -> Boolean.class;
+			case "int", "integer" -> Integer.class;
+			case "long" -> Long.class;
+			case "array" -> Array.class;
+			case "struct", "structloose" -> IStruct.class;
+			case "datetime", "date" -> DateTime.class;
+			case "xml" -> XML.class;
+			case "function" -> Function.class;
+			case "query" -> Query.class;
+			case "component", "class" -> IClassRunnable.class;
+			default -> null;
+		};
+	}
+
+	/**
+	 * Bind the caster for a type. Types without a dedicated caster, such as arrays like {@code int[]} and class names,
+	 * are delegated to {@link GenericCaster}.
+	 *
+	 * @param type The lowercased type
+	 *
+	 * @return The caster
+	 */
+	private static BiFunction<IBoxContext, Object, Object> resolveCaster( String type ) {
+		return switch ( type ) {
+			case "string" -> ( context, value ) -> StringCaster.cast( value, false );
+			case "double", "numeric" -> ( context, value ) -> DoubleCaster.cast( value, false );
+			case "boolean" -> ( context, value ) -> BooleanCaster.cast( value, false );
+			case "bigdecimal" -> ( context, value ) -> BigDecimalCaster.cast( value, false );
+			case "char" -> ( context, value ) -> CharacterCaster.cast( value, false );
+			case "byte" -> ( context, value ) -> ByteCaster.cast( value, false );
+			case "int", "integer" -> ( context, value ) -> IntegerCaster.cast( value, false );
+			case "long" -> ( context, value ) -> LongCaster.cast( value, false );
+			case "short" -> ( context, value ) -> ShortCaster.cast( value, false );
+			case "float" -> ( context, value ) -> FloatCaster.cast( value, false );
+			case "array" -> ( context, value ) -> ArrayCaster.cast( value, false );
+			case "datetime", "date" -> ( context, value ) -> DateTimeCaster.cast( value, false );
+			case "time" -> ( context, value ) -> TimeCaster.cast( value, false );
+			case "modifiablearray" -> ( context, value ) -> ModifiableArrayCaster.cast( value, false );
+			case "struct" -> ( context, value ) -> StructCaster.cast( value, false );
+			case "structloose" -> ( context, value ) -> StructCasterLoose.cast( value, false );
+			case "modifiablestruct" -> ( context, value ) -> ModifiableStructCaster.cast( value, false );
+			case "xml" -> ( context, value ) -> XMLCaster.cast( value, false );
+			default -> ( context, value ) -> GenericCaster.cast( context, value, type, false );
+		};
+	}
+
+}
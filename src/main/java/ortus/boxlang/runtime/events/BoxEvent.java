@@ -18,6 +18,8 @@
 package ortus.boxlang.runtime.events;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import ortus.boxlang.runtime.scopes.Key;
 
@@ -138,11 +140,22 @@ public enum BoxEvent {
 	ON_MODULE_SERVICE_STARTUP( "onModuleServiceStartup" ),
 	ON_MODULE_SERVICE_SHUTDOWN( "onModuleServiceShutdown" );
 
+	/**
+	 * Lookup of events by their key
+	 */
+	private static final Map<Key, BoxEvent>	BY_KEY	= new HashMap<>();
+
+	static {
+		for ( BoxEvent event : values() ) {
+			BY_KEY.put( event.key, event );
+		}
+	}
+
 	/**
 	 * The key representing the event name.
 	 *
 	 */
-	private final Key key;
+	private final Key						key;
 
 	/**
 	 * Constructor
@@ -162,6 +175,17 @@ public enum BoxEvent {
 		return key;
 	}
 
+	/**
+	 * Get the event for a key
+	 *
+	 * @param key The event key
+	 *
+	 * @return The event, or null if the key is not a core event
+	 */
+	public static BoxEvent of( Key key ) {
+		return BY_KEY.get( key );
+	}
+
 	/**
 	 * Returns an array of all the event keys.
 	 *
@@ -23,6 +23,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -60,22 +62,27 @@ public class InterceptorPool {
 	/**
 	 * Logger
 	 */
-	private static final Logger					logger				= LoggerFactory.getLogger( InterceptorPool.class );
+	private static final Logger							logger				= LoggerFactory.getLogger( InterceptorPool.class );
 
 	/**
 	 * The list of interception points we can listen for
 	 */
-	protected Set<Key>							interceptionPoints	= ConcurrentHashMap.newKeySet( 32 );
+	protected Set<Key>									interceptionPoints	= ConcurrentHashMap.newKeySet( 32 );
 
 	/**
 	 * The collection of interception states registered with the service
 	 */
-	protected Map<Key, InterceptorState>		interceptionStates	= new ConcurrentHashMap<>();
+	protected Map<Key, InterceptorState>				interceptionStates	= new ConcurrentHashMap<>();
+
+	/**
+	 * The states of the core {@link BoxEvent}s indexed by ordinal, so hot paths can check for listeners without a map lookup
+	 */
+	protected AtomicReferenceArray<InterceptorState>	eventStates			= new AtomicReferenceArray<>( BoxEvent.values().length );
 
 	/**
 	 * Key registry of announced states, to avoid key creation
 	 */
-	protected ConcurrentHashMap<String, Key>	keyRegistry			= new ConcurrentHashMap<>();
+	protected ConcurrentHashMap<String, Key>			keyRegistry			= new ConcurrentHashMap<>();
 
 	/**
 	 * The name of the pool
@@ -244,10 +251,17 @@ public class InterceptorPool {
 		// Register it or return it
 
 		// Comput if absent
-		return interceptionStates.computeIfAbsent(
+		InterceptorState	state	= interceptionStates.computeIfAbsent(
 		    name,
 		    InterceptorState::new
 		);
+
+		// Track core events for the fast listener check
+		BoxEvent			event	= BoxEvent.of( name );
+		if ( event != null ) {
+			this.eventStates.set( event.ordinal(), state );
+		}
+		return state;
 	}
 
 	/**
@@ -260,9 +274,38 @@ public class InterceptorPool {
 	 */
 	public synchronized InterceptorPool removeState( Key name ) {
 		this.interceptionStates.remove( name );
+		BoxEvent event = BoxEvent.of( name );
+		if ( event != null ) {
+			this.eventStates.set( event.ordinal(), null );
+		}
 		return this;
 	}
 
+	/**
+	 * Check if anyone is listening to a core event. This is a single volatile read, so hot paths should call it
+	 * before building an announcement payload.
+	 *
+	 * @param event The event
+	 *
+	 * @return True if at least one interceptor is registered for the event
+	 */
+	public boolean hasListeners( BoxEvent event ) {
+		InterceptorState state = this.eventStates.get( event.ordinal() );
+		return state != null && state.hasObservers();
+	}
+
+	/**
+	 * Check if anyone is listening to a state
+	 *
+	 * @param name The name of the state
+	 *
+	 * @return True if at least one interceptor is registered for the state
+	 */
+	public boolean hasListeners( Key name ) {
+		InterceptorState state = this.interceptionStates.get( name );
+		return state != null && state.hasObservers();
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Interceptor Registration Methods
@@ -521,6 +564,31 @@ public class InterceptorPool {
 		announce( state.key(), data );
 	}
 
+	/**
+	 * Announce an event whose data is only built if someone is listening.
+	 *
+	 * @param state The state to announce
+	 * @param data  The supplier of the data to announce
+	 */
+	public void announce( BoxEvent state, Supplier<IStruct> data ) {
+		if ( hasListeners( state ) ) {
+			announce( state.key(), data.get() );
+		}
+	}
+
+	/**
+	 * Announce an event whose data is only built if someone is listening, with the provided context.
+	 *
+	 * @param state   The state to announce
+	 * @param data    The supplier of the data to announce
+	 * @param context The context to announce on
+	 */
+	public void announce( BoxEvent state, Supplier<IStruct> data, IBoxContext context ) {
+		if ( hasListeners( state ) ) {
+			announce( state.key(), data.get(), context );
+		}
+	}
+
 	/**
 	 * Announce an event with the provided {@link IStruct} of data.
 	 *
@@ -548,11 +616,12 @@ public class InterceptorPool {
 	 * @param data  The data to announce
 	 */
 	public void announce( Key state, IStruct data, IBoxContext context ) {
-		if ( hasState( state ) ) {
+		InterceptorState interceptorState = getState( state );
+		if ( interceptorState != null && interceptorState.hasObservers() ) {
 			// logger.trace( "InterceptorService.announce() - announcing {}", state.getName() );
 
 			try {
-				getState( state ).announce( data, context );
+				interceptorState.announce( data, context );
 			} catch ( Exception e ) {
 				String errorMessage = String.format( "Errors announcing [%s] interception", state.getName() );
 				logger.error( errorMessage, e );
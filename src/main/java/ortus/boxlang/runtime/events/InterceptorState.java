@@ -17,8 +17,8 @@
  */
 package ortus.boxlang.runtime.events;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.IReferenceable;
@@ -42,9 +42,9 @@ public class InterceptorState {
 	private Key					name;
 
 	/**
-	 * The observers for this state
+	 * The observers for this state. Announcements vastly outnumber registrations, so reads are lock free.
 	 */
-	private List<DynamicObject>	observers	= new ArrayList<>();
+	private List<DynamicObject>	observers	= new CopyOnWriteArrayList<>();
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -129,6 +129,15 @@ public class InterceptorState {
 		return this.observers.size();
 	}
 
+	/**
+	 * Check if at least one observer is registered for this state
+	 *
+	 * @return True if the state has observers
+	 */
+	public boolean hasObservers() {
+		return !this.observers.isEmpty();
+	}
+
 	/**
 	 * Process the state by announcing it to all observers
 	 *
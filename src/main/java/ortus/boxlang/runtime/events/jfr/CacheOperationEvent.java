@@ -0,0 +1,57 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An operation on a BoxLang cache provider.
+ * <p>
+ * Only recorded when it lasts longer than the threshold, which is 1 ms by default and can be changed in the JFR settings.
+ */
+@Name( "boxlang.CacheOperation" )
+@Label( "Cache Operation" )
+@Category( { "BoxLang", "Cache" } )
+@Description( "A get, set, clear or eviction on a cache" )
+@StackTrace( false )
+@Threshold( "1 ms" )
+public class CacheOperationEvent extends Event {
+
+	@Label( "Cache" )
+	@Description( "The name of the cache" )
+	public String	cache;
+
+	@Label( "Operation" )
+	@Description( "One of get, set, clear or evict" )
+	public String	operation;
+
+	@Label( "Key" )
+	@Description( "The key of the entry, if any" )
+	public String	key;
+
+	@Label( "Hit" )
+	@Description( "True if the entry was found, or replaced by a set" )
+	public boolean	hit;
+
+}
@@ -0,0 +1,49 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An invocation of a user defined function, closure or lambda.
+ * <p>
+ * Only recorded when it lasts longer than the threshold, which is 20 ms by default and can be changed in the JFR settings.
+ */
+@Name( "boxlang.FunctionInvocation" )
+@Label( "Function Invocation" )
+@Category( { "BoxLang", "Execution" } )
+@Description( "The invocation of a user defined function" )
+@StackTrace( false )
+@Threshold( "20 ms" )
+public class FunctionInvocationEvent extends Event {
+
+	@Label( "Name" )
+	@Description( "The name of the function" )
+	public String	name;
+
+	@Label( "Class" )
+	@Description( "The class declaring the function, if any" )
+	public String	className;
+
+}
@@ -0,0 +1,53 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An outgoing HTTP request, from sending it until its whole response is read.
+ * <p>
+ * Only recorded when it lasts longer than the threshold, which is 10 ms by default and can be changed in the JFR settings.
+ */
+@Name( "boxlang.HTTPRequest" )
+@Label( "HTTP Request" )
+@Category( { "BoxLang", "Network" } )
+@Description( "An outgoing HTTP request" )
+@StackTrace( false )
+@Threshold( "10 ms" )
+public class HTTPRequestEvent extends Event {
+
+	@Label( "Method" )
+	@Description( "The HTTP method" )
+	public String	method;
+
+	@Label( "URL" )
+	@Description( "The URL of the request" )
+	public String	url;
+
+	@Label( "Status Code" )
+	@Description( "The status code of the response, 0 if there was none" )
+	public int		statusCode;
+
+}
@@ -0,0 +1,53 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The execution of a SQL query on a datasource. The SQL is recorded as a hash, which groups identical queries without recording their text.
+ * <p>
+ * Only recorded when it lasts longer than the threshold, which is 10 ms by default and can be changed in the JFR settings.
+ */
+@Name( "boxlang.QueryExecution" )
+@Label( "Query Execution" )
+@Category( { "BoxLang", "Database" } )
+@Description( "The execution of a SQL query" )
+@StackTrace( false )
+@Threshold( "10 ms" )
+public class QueryExecutionEvent extends Event {
+
+	@Label( "Datasource" )
+	@Description( "The unique name of the datasource" )
+	public String	datasource;
+
+	@Label( "SQL Hash" )
+	@Description( "The hash code of the SQL" )
+	public int		sqlHash;
+
+	@Label( "Rows" )
+	@Description( "The number of rows returned" )
+	public long		rows;
+
+}
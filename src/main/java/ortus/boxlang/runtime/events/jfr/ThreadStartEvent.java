@@ -0,0 +1,45 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A BoxLang thread being spawned with the thread component. The event is instant, the thread itself is recorded by the JVM.
+ */
+@Name( "boxlang.ThreadStart" )
+@Label( "Thread Start" )
+@Category( { "BoxLang", "Concurrency" } )
+@Description( "A BoxLang thread being spawned" )
+@StackTrace( false )
+public class ThreadStartEvent extends Event {
+
+	@Label( "Name" )
+	@Description( "The BoxLang name of the thread" )
+	public String	name;
+
+	@Label( "Priority" )
+	@Description( "The priority of the thread" )
+	public String	priority;
+
+}
@@ -20,21 +20,14 @@ package ortus.boxlang.runtime.interceptors;
 import java.nio.file.Paths;
 import java.util.Map;
 
-import org.slf4j.LoggerFactory;
-
 import ch.qos.logback.classic.Level;
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.LoggerContext;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.FileAppender;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.events.BaseInterceptor;
 import ortus.boxlang.runtime.events.InterceptionPoint;
-import ortus.boxlang.runtime.logging.LoggingConfigurator;
+import ortus.boxlang.runtime.logging.LogFileManager;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
 import ortus.boxlang.runtime.types.IStruct;
-import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 /**
@@ -48,9 +41,14 @@ public class Logging extends BaseInterceptor {
 	private final String					logsDirectory;
 
 	/**
-	 * A map of appenders
+	 * The log files
+	 */
+	private final LogFileManager			logFileManager;
+
+	/**
+	 * The most milliseconds to wait for queued messages on shutdown
 	 */
-	private Struct							appendersMap	= new Struct();
+	private static final long				STOP_TIMEOUT	= 5000;
 
 	/**
 	 * The arguments for the logMessage method
@@ -90,7 +88,8 @@ public class Logging extends BaseInterceptor {
 	 * @param instance The BoxRuntime instance
 	 */
 	public Logging( BoxRuntime instance ) {
-		this.logsDirectory = instance.getConfiguration().runtime.logsDirectory;
+		this.logsDirectory	= instance.getConfiguration().runtime.logsDirectory;
+		this.logFileManager	= instance.getLogFileManager();
 	}
 
 	/**
@@ -124,54 +123,14 @@ public class Logging extends BaseInterceptor {
 			);
 		}
 
-		Logger						logger			= ( ch.qos.logback.classic.Logger ) LoggerFactory.getLogger( logCategory );
-		FileAppender<ILoggingEvent>	fileAppender	= null;
+		if ( file == null ) {
+			file = logCategory + ".log";
+		}
+		String filePath = Paths.get( logsDirectory, "/", file ).normalize().toString();
 		try {
-			if ( file == null ) {
-				file = logCategory + ".log";
-			}
-			String			filePath	= Paths.get( logsDirectory, "/", file ).normalize().toString();
-			LoggerContext	logContext	= ( LoggerContext ) LoggerFactory.getILoggerFactory();
-			fileAppender = new FileAppender<>();
-			fileAppender.setFile( filePath );
-			fileAppender.setEncoder( LoggingConfigurator.encoder );
-			fileAppender.setContext( logContext );
-			fileAppender.start();
-
-			logger.addAppender( fileAppender );
-			logger.setLevel( Level.ALL );
-			logger.setAdditive( false );
-
-			switch ( levelMap.get( levelKey ) ) {
-				case LEVEL_TRACE : {
-					logger.trace( logText );
-					break;
-				}
-				case LEVEL_DEBUG : {
-					logger.debug( logText );
-					break;
-				}
-				default :
-				case LEVEL_INFO : {
-					logger.info( logText );
-					break;
-				}
-				case LEVEL_WARN : {
-					logger.warn( logText );
-					break;
-				}
-				case LEVEL_ERROR : {
-					logger.error( logText );
-					break;
-				}
-			}
-
+			logFileManager.log( filePath, logCategory, Level.toLevel( levelMap.get( levelKey ), Level.INFO ), logText );
 		} catch ( Exception e ) {
 			throw new BoxRuntimeException( "An error occurred while attempting to log the message", e );
-		} finally {
-			if ( fileAppender != null ) {
-				fileAppender.stop();
-			}
 		}
 
 	}
@@ -179,10 +138,9 @@ public class Logging extends BaseInterceptor {
 	/**
 	 * Runtime shutdown interception
 	 */
-	@SuppressWarnings( "unchecked" )
 	@InterceptionPoint
 	public void onRuntimeShutdown() {
-		this.appendersMap.keySet().stream().forEach( key -> ( ( FileAppender<ILoggingEvent> ) this.appendersMap.get( key ) ).stop() );
+		this.logFileManager.shutdown( STOP_TIMEOUT );
 	}
 
 	/**
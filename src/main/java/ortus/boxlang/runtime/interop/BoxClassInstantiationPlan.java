@@ -0,0 +1,295 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.interop;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.CompilerConfig.CacheMode;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
+import ortus.boxlang.runtime.loader.ClassLocator;
+import ortus.boxlang.runtime.runnables.BoxInterface;
+import ortus.boxlang.runtime.runnables.IBoxRunnable;
+import ortus.boxlang.runtime.runnables.IClassRunnable;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.util.ListUtil;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+/**
+ * The cached steps to create an instance of a BoxLang class.
+ * <p>
+ * The {@code extends}, {@code implements} and {@code initMethod} annotations of a class never change for a compiled class,
+ * so they are parsed and resolved on the first instantiation and reused by every following {@code new}. A plan keeps:
+ * <ul>
+ * <li>The resolved super class, which is still instantiated per object since every object owns its super instance</li>
+ * <li>The resolved interfaces, which are shared by all instances</li>
+ * <li>The key of the init method</li>
+ * </ul>
+ * <p>
+ * Super classes and interfaces are BoxLang sources which may be edited while the class which uses them is not. The plans
+ * follow the compiler cache mode, the same way compiled sources do:
+ * <ul>
+ * <li>{@code check}: a plan remembers the last modified time of the files it resolved and is rebuilt when one of them
+ * changes. This costs a stat per dependency on every {@code new}, like the class loader pays for the class itself.</li>
+ * <li>{@code watch}: the source file watcher calls {@link #invalidateAll()} when a source changes, so plans don't touch
+ * the file system.</li>
+ * <li>{@code trusted}: plans are only rebuilt after {@link #invalidateAll()}, when the trusted cache is cleared.</li>
+ * </ul>
+ * <p>
+ * The pseudo-constructor is not part of the plan: it runs arbitrary code, so it still runs for each instance.
+ */
+public final class BoxClassInstantiationPlan {
+
+	/**
+	 * The plans by class. A {@link ClassValue} lets recompiled classes and their class loaders be collected.
+	 */
+	private static final PlanCache		plans			= new PlanCache();
+
+	/**
+	 * Incremented by {@link #invalidateAll()}, plans built before are rebuilt on their next use
+	 */
+	private static final AtomicLong		generation		= new AtomicLong();
+
+	/**
+	 * The class locator
+	 */
+	private static final ClassLocator	classLocator	= ClassLocator.getInstance();
+
+	/**
+	 * The resolved super class, null if the class does not extend another BoxLang class
+	 */
+	private final Class<?>				superClass;
+
+	/**
+	 * The resolved interfaces
+	 */
+	private final List<BoxInterface>	interfaces;
+
+	/**
+	 * The key of the init method
+	 */
+	private final Key					initKey;
+
+	/**
+	 * The generation this plan was built in
+	 */
+	private final long					planGeneration;
+
+	/**
+	 * The source files this plan was resolved from
+	 */
+	private final List<Dependency>		dependencies;
+
+	/**
+	 * The source file of the super class, only known once the first super instance has been created
+	 */
+	private volatile Dependency			superDependency;
+
+	/**
+	 * A source file and its last modified time when it was resolved
+	 *
+	 * @param path         The absolute path of the file
+	 * @param lastModified The last modified time of the file
+	 */
+	private record Dependency( Path path, long lastModified ) {
+
+		static Dependency of( IBoxRunnable runnable ) {
+			ResolvedFilePath resolvedFilePath = runnable.getRunnablePath();
+			if ( resolvedFilePath == null || resolvedFilePath.absolutePath() == null ) {
+				return null;
+			}
+			Path path = resolvedFilePath.absolutePath();
+			return new Dependency( path, path.toFile().lastModified() );
+		}
+
+		boolean isCurrent() {
+			return path.toFile().lastModified() == lastModified;
+		}
+	}
+
+	/**
+	 * Holds one plan reference per class
+	 */
+	private static class PlanCache extends ClassValue<AtomicReference<BoxClassInstantiationPlan>> {
+
+		@Override
+		protected AtomicReference<BoxClassInstantiationPlan> computeValue( Class<?> type ) {
+			return new AtomicReference<>();
+		}
+	}
+
+	/**
+	 * Build a plan by resolving the annotations of a class
+	 *
+	 * @param classContext   The class context used for resolution
+	 * @param boxClass       An instance of the class
+	 * @param planGeneration The generation the plan is built in
+	 */
+	private BoxClassInstantiationPlan( IBoxContext classContext, IClassRunnable boxClass, long planGeneration ) {
+		this.planGeneration = planGeneration;
+
+		IStruct annotations = boxClass.getAnnotations();
+
+		// Super class
+		Class<?>	resolvedSuper		= null;
+		Object		superClassObject	= annotations.get( Key._EXTENDS );
+		if ( superClassObject != null ) {
+			String superClassName = StringCaster.cast( superClassObject );
+			if ( superClassName != null && superClassName.length() > 0 && !superClassName.toLowerCase().startsWith( "java:" ) ) {
+				resolvedSuper = classLocator.load( classContext, superClassName, classContext.getCurrentImports() ).getTargetClass();
+			}
+		}
+		this.superClass = resolvedSuper;
+
+		// Interfaces, ignoring anything starting with java: (case insensitive)
+		this.interfaces		= new ArrayList<>();
+		this.dependencies	= new ArrayList<>();
+
+		Object oInterfaces = annotations.get( Key._IMPLEMENTS );
+		if ( oInterfaces != null ) {
+			for ( Object name : ListUtil.asList( StringCaster.cast( oInterfaces ), "," ) ) {
+				String interfaceName = String.valueOf( name ).trim();
+				if ( interfaceName.toLowerCase().startsWith( "java:" ) ) {
+					continue;
+				}
+				BoxInterface thisInterface = ( BoxInterface ) classLocator.load( classContext, interfaceName, classContext.getCurrentImports() )
+				    .unWrapBoxLangClass();
+				this.interfaces.add( thisInterface );
+				Dependency dependency = Dependency.of( thisInterface );
+				if ( dependency != null ) {
+					this.dependencies.add( dependency );
+				}
+			}
+		}
+
+		// Init method
+		Object initMethod = annotations.get( Key.initMethod );
+		this.initKey = initMethod != null ? Key.of( StringCaster.cast( initMethod ) ) : Key.init;
+	}
+
+	/**
+	 * Get the current plan for a class, building it if it does not exist yet, if the plans were invalidated or if one of its
+	 * dependencies changed
+	 *
+	 * @param classContext The class context used for resolution
+	 * @param boxClass     An instance of the class
+	 *
+	 * @return The plan
+	 */
+	public static BoxClassInstantiationPlan of( IBoxContext classContext, IClassRunnable boxClass ) {
+		AtomicReference<BoxClassInstantiationPlan>	ref		= plans.get( boxClass.getClass() );
+		BoxClassInstantiationPlan					plan	= ref.get();
+		long										current	= generation.get();
+		if ( plan == null || plan.planGeneration != current || ( checksSources() && !plan.isCurrent() ) ) {
+			// Two threads may build a plan at the same time, they resolve to the same classes so the last one wins
+			plan = new BoxClassInstantiationPlan( classContext, boxClass, current );
+			ref.set( plan );
+		}
+		return plan;
+	}
+
+	/**
+	 * Get the cached plan of a class, without building it
+	 *
+	 * @param clazz The class
+	 *
+	 * @return The plan, or null if the class was not instantiated since it was loaded or since the plans were invalidated
+	 */
+	public static BoxClassInstantiationPlan peek( Class<?> clazz ) {
+		BoxClassInstantiationPlan plan = plans.get( clazz ).get();
+		return plan == null || plan.planGeneration != generation.get() ? null : plan;
+	}
+
+	/**
+	 * Discard all the plans, so they are rebuilt on their next use. Called when source files change or the trusted cache is
+	 * cleared.
+	 */
+	public static void invalidateAll() {
+		generation.incrementAndGet();
+	}
+
+	/**
+	 * Verify if the runtime checks source files for changes on every use
+	 *
+	 * @return True in the check cache mode
+	 */
+	private static boolean checksSources() {
+		return BoxRuntime.getInstance().getConfiguration().compiler.cacheMode == CacheMode.CHECK;
+	}
+
+	/**
+	 * Verify if the files this plan was resolved from are unchanged
+	 *
+	 * @return True if the plan can be reused
+	 */
+	public boolean isCurrent() {
+		Dependency dependency = this.superDependency;
+		if ( dependency != null && !dependency.isCurrent() ) {
+			return false;
+		}
+		for ( Dependency interfaceDependency : this.dependencies ) {
+			if ( !interfaceDependency.isCurrent() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Create a new instance of the super class. Constructor args are NOT passed, only the outermost class gets to use those.
+	 *
+	 * @param classContext The class context
+	 *
+	 * @return The super instance, or null if the class does not extend another BoxLang class
+	 */
+	public IClassRunnable newSuper( IBoxContext classContext ) {
+		if ( this.superClass == null ) {
+			return null;
+		}
+		IClassRunnable _super = ( IClassRunnable ) DynamicInteropService.invokeConstructor( classContext, this.superClass, new Object[] { Key.noInit } );
+		if ( this.superDependency == null ) {
+			this.superDependency = Dependency.of( _super );
+		}
+		return _super;
+	}
+
+	/**
+	 * Get the resolved interfaces
+	 *
+	 * @return The interfaces
+	 */
+	public List<BoxInterface> getInterfaces() {
+		return this.interfaces;
+	}
+
+	/**
+	 * Get the key of the init method, from the {@code initMethod} annotation or {@code init}
+	 *
+	 * @return The init method key
+	 */
+	public Key getInitKey() {
+		return this.initKey;
+	}
+
+}
@@ -46,10 +46,8 @@ import ortus.boxlang.runtime.context.ClassBoxContext;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.IReferenceable;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
-import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.dynamic.casters.StructCasterLoose;
 import ortus.boxlang.runtime.events.BoxEvent;
-import ortus.boxlang.runtime.loader.ClassLocator;
 import ortus.boxlang.runtime.runnables.BoxInterface;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.scopes.IntKey;
@@ -67,7 +65,6 @@ import ortus.boxlang.runtime.types.exceptions.NoFieldException;
 import ortus.boxlang.runtime.types.exceptions.NoMethodException;
 import ortus.boxlang.runtime.types.meta.BoxMeta;
 import ortus.boxlang.runtime.types.meta.GenericMeta;
-import ortus.boxlang.runtime.types.util.ListUtil;
 
 /**
  * This class is used to provide a way to dynamically and efficiently interact with the java layer from the within a BoxLang environment.
@@ -152,8 +149,6 @@ public class DynamicInteropService {
 	 */
 	private static Boolean											handlesCacheEnabled	= true;
 
-	private static ClassLocator										classLocator		= ClassLocator.getInstance();
-
 	/**
 	 * Static Initializer
 	 */
@@ -269,7 +264,7 @@ public class DynamicInteropService {
 			    .getInterceptorService()
 			    .announce(
 			        BoxEvent.AFTER_DYNAMIC_OBJECT_CREATION,
-			        Struct.of(
+			        () -> Struct.of(
 			            Key.object, thisInstance,
 			            Key.clazz, targetClass
 			        )
@@ -360,56 +355,26 @@ public class DynamicInteropService {
 		classContext.pushTemplate( boxClass );
 
 		try {
+			// The plan caches the resolved hierarchy, interfaces and init method of the class
+			BoxClassInstantiationPlan plan = BoxClassInstantiationPlan.of( classContext, boxClass );
+
 			// First, we load an super class
-			Object superClassObject = boxClass.getAnnotations().get( Key._EXTENDS );
-			if ( superClassObject != null ) {
-				String superClassName = StringCaster.cast( superClassObject );
-				if ( superClassName != null && superClassName.length() > 0 && !superClassName.toLowerCase().startsWith( "java:" ) ) {
-					// Recursivley load the super class
-					IClassRunnable _super = ( IClassRunnable ) classLocator.load( classContext,
-					    superClassName,
-					    classContext.getCurrentImports()
-					)
-					    // Constructor args are NOT passed. Only the outermost class gets to use those
-					    .invokeConstructor( classContext, new Object[] { Key.noInit } )
-					    .unWrapBoxLangClass();
-
-					// Set in our super class
-					boxClass.setSuper( _super );
-				}
+			IClassRunnable _super = plan.newSuper( classContext );
+			if ( _super != null ) {
+				// Set in our super class
+				boxClass.setSuper( _super );
 			}
 
 			boxClass.pseudoConstructor( classContext );
 
 			// Now that UDFs are defined, let's enforce any interfaces
-			Object oInterfaces = boxClass.getAnnotations().get( Key._IMPLEMENTS );
-			if ( oInterfaces != null ) {
-				List<String> interfaceNames = ListUtil.asList( StringCaster.cast( oInterfaces ), "," )
-				    .stream()
-				    .map( String::valueOf )
-				    .map( String::trim )
-				    // ignore anything starting with java: (case insensitive)
-				    .filter( name -> !name.toLowerCase().startsWith( "java:" ) )
-				    .toList();
-
-				for ( String interfaceName : interfaceNames ) {
-					BoxInterface thisInterface = ( BoxInterface ) classLocator.load( classContext, interfaceName, classContext.getCurrentImports() )
-					    .unWrapBoxLangClass();
-					boxClass.registerInterface( thisInterface );
-				}
-
+			for ( BoxInterface thisInterface : plan.getInterfaces() ) {
+				boxClass.registerInterface( thisInterface );
 			}
 
 			if ( !noInit ) {
 				// Call constructor
-				// look for initMethod annotation
-				Object	initMethod	= boxClass.getAnnotations().get( Key.initMethod );
-				Key		initKey;
-				if ( initMethod != null ) {
-					initKey = Key.of( StringCaster.cast( initMethod ) );
-				} else {
-					initKey = Key.init;
-				}
+				Key initKey = plan.getInitKey();
 				if ( boxClass.dereference( context, initKey, true ) != null ) {
 					Object result;
 					if ( positionalArgs != null ) {
@@ -15,16 +15,23 @@
 package ortus.boxlang.runtime.jdbc;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.application.ApplicationListener;
 import ortus.boxlang.runtime.config.segments.DatasourceConfig;
+import ortus.boxlang.runtime.config.segments.RuntimeConfig;
 import ortus.boxlang.runtime.context.ApplicationBoxContext;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
+import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.DatasourceService;
 import ortus.boxlang.runtime.types.IStruct;
@@ -36,6 +43,12 @@ import ortus.boxlang.runtime.types.exceptions.DatabaseException;
  *
  * Primrarily offers transactional context management by tracking whether the current context has an ongoing transaction and returning the appropriate
  * Connection object... However, this class also provides methods for retrieving a JDBC connection matching the datasource Key name or config Struct.
+ * <p>
+ * Datasources are resolved by name through the runtime-wide registry of the {@link DatasourceService}, so a request only builds the
+ * configuration of a datasource when no other request of its application did it before.
+ * <p>
+ * With the <code>stickyConnections</code> runtime setting, the first connection a request gets from a datasource outside a transaction is
+ * held until the request ends, or until {@link #releaseConnections()} is called, instead of going back to the pool after each query.
  */
 public class ConnectionManager {
 
@@ -48,34 +61,59 @@ public class ConnectionManager {
 	/**
 	 * Logger
 	 */
-	private static final Logger		logger				= LoggerFactory.getLogger( ConnectionManager.class );
+	private static final Logger					logger				= LoggerFactory.getLogger( ConnectionManager.class );
 
 	/**
 	 * The active transaction (if any) for this request/thread/BoxLang context.
 	 *
 	 * @TODO: Consider converting this to a HashMap of transactions (using some unique key?) to allow us to track multiple (nested) transactions.
 	 */
-	private Transaction				transaction;
+	private Transaction							transaction;
 
 	/**
 	 * The context this ConnectionManager is associated with.
 	 */
-	private IBoxContext				context;
+	private IBoxContext							context;
 
 	/**
 	 * A default datasource, that can be set manully mostly for testing purpose mostly
 	 */
-	private DataSource				defaultDatasource	= null;
+	private DataSource							defaultDatasource	= null;
 
 	/**
 	 * A concurrent map of datasources registered with the manager.
 	 */
-	private Map<Key, DataSource>	datasources			= new ConcurrentHashMap<>();
+	private Map<Key, DataSource>				datasources			= new ConcurrentHashMap<>();
 
 	/**
 	 * The DatasourceService instance
 	 */
-	private DatasourceService		datasourceService	= BoxRuntime.getInstance().getDataSourceService();
+	private DatasourceService					datasourceService	= BoxRuntime.getInstance().getDataSourceService();
+
+	/**
+	 * Whether connections are held until the end of the request instead of going back to the pool after each query
+	 */
+	private boolean								stickyConnections	= BoxRuntime.getInstance().getConfiguration().runtime.stickyConnections;
+
+	/**
+	 * The connections held for the rest of the request, by datasource and credentials
+	 */
+	private Map<HeldConnectionKey, Connection>	heldConnections		= new ConcurrentHashMap<>();
+
+	/**
+	 * The fingerprint of the runtime and application datasource settings, computed on the first datasource lookup
+	 */
+	private String								settingsFingerprint;
+
+	/**
+	 * The key of a held connection
+	 *
+	 * @param datasource The datasource
+	 * @param username   The username the connection was opened with, null for the datasource credentials
+	 * @param password   The password the connection was opened with, null for the datasource credentials
+	 */
+	private record HeldConnectionKey( DataSource datasource, String username, String password ) {
+	}
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -92,6 +130,15 @@ public class ConnectionManager {
 		this.context = context;
 	}
 
+	/**
+	 * Get the BoxLang context this ConnectionManager is associated with.
+	 *
+	 * @return The context
+	 */
+	public IBoxContext getContext() {
+		return this.context;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Transaction Methods
@@ -224,6 +271,12 @@ public class ConnectionManager {
 				return datasource.getConnection( username, password );
 			}
 		}
+
+		if ( this.stickyConnections ) {
+			logger.trace( "Not within transaction; using the connection held for this request and these credentials" );
+			return getHeldConnection( new HeldConnectionKey( datasource, username, password ) );
+		}
+
 		logger.trace( "Not within transaction; obtaining new connection from pool" );
 		return datasource.getConnection( username, password );
 	}
@@ -263,10 +316,68 @@ public class ConnectionManager {
 			}
 		}
 
+		if ( this.stickyConnections ) {
+			logger.trace( "Not within transaction; using the connection held for this request" );
+			return getHeldConnection( new HeldConnectionKey( datasource, null, null ) );
+		}
+
 		logger.trace( "Not within transaction; obtaining new connection from the datasource object" );
 		return datasource.getConnection();
 	}
 
+	/**
+	 * Release a connection obtained from {@link #getConnection(DataSource)} or {@link #getConnection(DataSource, String, String)} once a query is
+	 * done with it.
+	 * <p>
+	 * The connection goes back to its pool, unless it belongs to the active transaction or is held for the rest of the request.
+	 *
+	 * @param connection The connection to release, may be null
+	 */
+	public void releaseConnection( Connection connection ) {
+		if ( connection == null || this.heldConnections.containsValue( connection )
+		    || ( isInTransaction() && getTransaction().isConnection( connection ) ) ) {
+			return;
+		}
+		close( connection );
+	}
+
+	/**
+	 * Return the connections held for this request to their pools. The next query gets a new one.
+	 * <p>
+	 * Called when the request ends, and by anything which is about to keep the request busy without using the database.
+	 */
+	public void releaseConnections() {
+		this.heldConnections.values().removeIf( connection -> {
+			close( connection );
+			return true;
+		} );
+	}
+
+	/**
+	 * Hold connections for the rest of the request instead of returning them to the pool after each query.
+	 * Defaults to the <code>stickyConnections</code> runtime setting.
+	 *
+	 * @param stickyConnections True to hold connections until the request ends
+	 *
+	 * @return ConnectionManager
+	 */
+	public ConnectionManager setStickyConnections( boolean stickyConnections ) {
+		this.stickyConnections = stickyConnections;
+		if ( !stickyConnections ) {
+			releaseConnections();
+		}
+		return this;
+	}
+
+	/**
+	 * Are connections held until the end of the request?
+	 *
+	 * @return true if connections are held until the end of the request
+	 */
+	public boolean isStickyConnections() {
+		return this.stickyConnections;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Datasource Methods
@@ -289,6 +400,16 @@ public class ConnectionManager {
 			return this.defaultDatasource;
 		}
 
+		this.defaultDatasource = resolve( null, this::discoverDefaultDatasource );
+		return this.defaultDatasource;
+	}
+
+	/**
+	 * Build the default datasource from the configuration of the context
+	 *
+	 * @return The default datasource object, if found, or null if not found.
+	 */
+	private DataSource discoverDefaultDatasource() {
 		// Discover the datasource name from the settings
 		Key		defaultDSN			= Key.of(
 		    this.context.getConfig()
@@ -309,9 +430,7 @@ public class ConnectionManager {
 		targetConfig.put( Key.applicationName, getApplicationName().getName() );
 
 		// Build it up back to the config with overrides
-		this.defaultDatasource = this.datasourceService.register( DatasourceConfig.fromStruct( targetConfig ) );
-
-		return this.defaultDatasource;
+		return this.datasourceService.register( DatasourceConfig.fromStruct( targetConfig ) );
 	}
 
 	/**
@@ -343,7 +462,22 @@ public class ConnectionManager {
 			return target;
 		}
 
-		// Try to discover now: These come from the context, so overrides are already applied
+		target = resolve( datasourceName, () -> discoverDatasource( datasourceName ) );
+		if ( target != null ) {
+			this.datasources.put( datasourceName, target );
+		}
+		return target;
+	}
+
+	/**
+	 * Build a datasource from the configuration of the context
+	 *
+	 * @param datasourceName The name of the datasource
+	 *
+	 * @return The datasource object, or null if not found.
+	 */
+	private DataSource discoverDatasource( Key datasourceName ) {
+		// These come from the context, so overrides are already applied
 		IStruct configDatasources = this.context.getConfig()
 		    .getAsStruct( Key.runtime )
 		    .getAsStruct( Key.datasources );
@@ -353,12 +487,10 @@ public class ConnectionManager {
 			return null;
 		}
 
-		// Else we build it out, cache it and return it
-		target = this.datasourceService.register(
+		// Else we build it out
+		return this.datasourceService.register(
 		    DatasourceConfig.fromStruct( configDatasources.getAsStruct( datasourceName ) )
 		);
-		datasources.put( datasourceName, target );
-		return target;
 	}
 
 	/**
@@ -492,6 +624,7 @@ public class ConnectionManager {
 	 * Shutdown the ConnectionManager and release any resources.
 	 */
 	public void shutdown() {
+		releaseConnections();
 		this.datasources.clear();
 	}
 
@@ -509,6 +642,89 @@ public class ConnectionManager {
 	 * --------------------------------------------------------------------------
 	 */
 
+	/**
+	 * Resolve a datasource through the runtime-wide registry, which is shared by the requests of an application.
+	 * <p>
+	 * The registry is skipped when modules can change the configuration of each request, since the same name may then mean a
+	 * different datasource from one request to the next.
+	 *
+	 * @param datasourceName The name of the datasource, null for the default datasource
+	 * @param discover       Builds the datasource from the configuration of the context
+	 *
+	 * @return The datasource object, or null if not found.
+	 */
+	private DataSource resolve( Key datasourceName, Supplier<DataSource> discover ) {
+		if ( BoxRuntime.getInstance().getInterceptorService().hasListeners( BoxEvent.ON_REQUEST_CONTEXT_CONFIG ) ) {
+			return discover.get();
+		}
+		return this.datasourceService.resolve( getApplicationName(), datasourceName, getSettingsFingerprint(), discover );
+	}
+
+	/**
+	 * Get the fingerprint of the runtime and application datasource settings, so that a changed configuration or Application
+	 * descriptor resolves its datasources again. Runtime datasource configurations are compared by their unique names, which carry
+	 * a hash of their properties, the same way the service tells registered datasources apart.
+	 *
+	 * @return The fingerprint
+	 */
+	private String getSettingsFingerprint() {
+		if ( this.settingsFingerprint == null ) {
+			RuntimeConfig		runtimeConfig		= BoxRuntime.getInstance().getConfiguration().runtime;
+			RequestBoxContext	requestContext		= this.context.getParentOfType( RequestBoxContext.class );
+			ApplicationListener	listener			= requestContext == null ? null : requestContext.getApplicationListener();
+			IStruct				settings			= listener == null ? null : listener.getSettings();
+			IStruct				runtimeDatasources	= new Struct();
+			runtimeConfig.datasources.entrySet().forEach( entry -> runtimeDatasources.put(
+			    entry.getKey(),
+			    entry.getValue() instanceof DatasourceConfig datasourceConfig ? datasourceConfig.getUniqueName().getName() : entry.getValue()
+			) );
+			this.settingsFingerprint = this.datasourceService.getSettingsFingerprint( getApplicationName(), Arrays.asList(
+			    runtimeConfig.defaultDatasource,
+			    runtimeDatasources,
+			    settings == null ? null : settings.get( Key.datasource ),
+			    settings == null ? null : settings.get( Key.datasources )
+			) );
+		}
+		return this.settingsFingerprint;
+	}
+
+	/**
+	 * Get the connection held for this request, getting one from the datasource if there is none yet.
+	 * Connections opened with other credentials than the datasource ones are held apart.
+	 *
+	 * @param key The datasource and credentials
+	 *
+	 * @return The held connection
+	 */
+	private Connection getHeldConnection( HeldConnectionKey key ) {
+		Connection connection = this.heldConnections.get( key );
+		try {
+			if ( connection != null && !connection.isClosed() ) {
+				return connection;
+			}
+		} catch ( SQLException e ) {
+			logger.debug( "Unable to check a held connection, replacing it", e );
+		}
+		connection = key.username() == null
+		    ? key.datasource().getConnection()
+		    : key.datasource().getConnection( key.username(), key.password() );
+		this.heldConnections.put( key, connection );
+		return connection;
+	}
+
+	/**
+	 * Return a connection to its pool
+	 *
+	 * @param connection The connection
+	 */
+	private void close( Connection connection ) {
+		try {
+			connection.close();
+		} catch ( SQLException e ) {
+			logger.warn( "Unable to release a database connection", e );
+		}
+	}
+
 	/**
 	 * Get the application name for this connection manager.
 	 *
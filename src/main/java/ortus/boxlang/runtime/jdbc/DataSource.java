@@ -21,7 +21,11 @@ import java.util.List;
 
 import com.zaxxer.hikari.HikariDataSource;
 
+import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.config.segments.DatasourceConfig;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
+import ortus.boxlang.runtime.events.jfr.QueryExecutionEvent;
+import ortus.boxlang.runtime.metrics.MetricsRegistry;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
@@ -42,12 +46,17 @@ public class DataSource implements Comparable<DataSource> {
 	/**
 	 * Underlying HikariDataSource object, used in connection pooling.
 	 */
-	private final HikariDataSource	hikariDataSource;
+	private final HikariDataSource		hikariDataSource;
 
 	/**
 	 * The configuration object for this datasource.
 	 */
-	private final DatasourceConfig	configuration;
+	private final DatasourceConfig		configuration;
+
+	/**
+	 * The database metadata read by dbinfo
+	 */
+	private final DatabaseMetadataCache	metadataCache;
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -68,6 +77,8 @@ public class DataSource implements Comparable<DataSource> {
 		} catch ( RuntimeException e ) {
 			throw new BoxRuntimeException( "Unable to create datasource connection: " + e.getMessage(), e );
 		}
+		Object timeout = this.configuration.properties.get( Key.metadataCacheTimeout );
+		this.metadataCache = new DatabaseMetadataCache( timeout == null ? 0 : LongCaster.cast( timeout ) * 1000 );
 	}
 
 	/**
@@ -96,6 +107,15 @@ public class DataSource implements Comparable<DataSource> {
 		return this.configuration.getUniqueName();
 	}
 
+	/**
+	 * Get the cache of the database metadata read by dbinfo
+	 *
+	 * @return The metadata cache
+	 */
+	public DatabaseMetadataCache getMetadataCache() {
+		return this.metadataCache;
+	}
+
 	/**
 	 * Are we an on the fly datasource?
 	 */
@@ -292,7 +312,27 @@ public class DataSource implements Comparable<DataSource> {
 	}
 
 	public ExecutedQuery executePendingQuery( PendingQuery pendingQuery, Connection conn ) {
-		return pendingQuery.execute( conn );
+		QueryExecutionEvent	event			= new QueryExecutionEvent();
+		MetricsRegistry		metrics			= BoxRuntime.getInstance().getMetricsRegistry();
+		long				start			= metrics.startTimer();
+		ExecutedQuery		executedQuery	= null;
+		event.begin();
+		try {
+			executedQuery = pendingQuery.execute( conn );
+		} catch ( RuntimeException e ) {
+			metrics.increment( "jdbc.query.errors" );
+			throw e;
+		} finally {
+			metrics.stopTimer( "jdbc.query", start );
+			if ( event.shouldCommit() ) {
+				event.datasource	= getUniqueName().getName();
+				event.sqlHash		= pendingQuery.getOriginalSql().hashCode();
+				event.rows			= executedQuery != null ? executedQuery.getRecordCount() : 0;
+				event.commit();
+			}
+		}
+		this.metadataCache.flushOnSchemaChange( pendingQuery.getOriginalSql() );
+		return executedQuery;
 	}
 
 	/**
@@ -0,0 +1,232 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.immutable.ImmutableQuery;
+
+/**
+ * Caches the database metadata read by {@code dbinfo} for a single datasource.
+ * <p>
+ * Reading the JDBC metadata is slow on most drivers and the answer seldom changes, so each result is kept as an
+ * {@link ImmutableQuery} which all requests share. Entries are loaded on first use and expire after the timeout of the
+ * datasource. They are also flushed when the datasource runs a statement which changes the schema, or explicitly
+ * with {@link #flush()} and {@link #flush(String)}.
+ */
+public class DatabaseMetadataCache {
+
+	/**
+	 * The statements which change the schema
+	 */
+	private static final Set<String>	SCHEMA_STATEMENTS	= Set.of( "CREATE", "ALTER", "DROP", "RENAME", "TRUNCATE" );
+
+	/**
+	 * The cached results
+	 */
+	private final Map<EntryKey, Entry>	entries				= new ConcurrentHashMap<>();
+
+	/**
+	 * How long a result is cached, in milliseconds
+	 */
+	private final long					timeout;
+
+	/**
+	 * Identifies a cached result
+	 *
+	 * @param type     The type of metadata, such as {@code columns}
+	 * @param database The database name, or null
+	 * @param table    The table name or pattern, or null
+	 */
+	private record EntryKey( String type, String database, String table ) {
+	}
+
+	/**
+	 * A cached result
+	 *
+	 * @param result  The result
+	 * @param expires When the result expires, in milliseconds since the epoch
+	 */
+	private record Entry( ImmutableQuery result, long expires ) {
+	}
+
+	/**
+	 * Reads metadata from the database
+	 */
+	@FunctionalInterface
+	public interface Loader {
+
+		/**
+		 * Read the metadata
+		 *
+		 * @return The metadata as a query
+		 *
+		 * @throws SQLException If the database can't be read
+		 */
+		Query load() throws SQLException;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param timeout How long a result is cached, in milliseconds. Zero or less disables the cache.
+	 */
+	public DatabaseMetadataCache( long timeout ) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Get a result from the cache, loading it if it is missing or expired
+	 *
+	 * @param type     The type of metadata, such as {@code columns}
+	 * @param database The database name, or null
+	 * @param table    The table name or pattern, or null
+	 * @param loader   Reads the metadata
+	 *
+	 * @return The metadata, which can't be modified
+	 *
+	 * @throws SQLException If the database can't be read
+	 */
+	public ImmutableQuery get( String type, String database, String table, Loader loader ) throws SQLException {
+		if ( !isEnabled() ) {
+			return ImmutableQuery.of( loader.load() );
+		}
+		EntryKey	key		= new EntryKey( type.toLowerCase( Locale.ROOT ), normalize( database ), normalize( table ) );
+		Entry		entry	= entries.get( key );
+		long		now		= System.currentTimeMillis();
+		if ( entry != null && entry.expires() > now ) {
+			return entry.result();
+		}
+		// Two threads may load the same metadata at the same time, they read the same answer so the last one wins
+		ImmutableQuery result = ImmutableQuery.of( loader.load() );
+		entries.put( key, new Entry( result, now + timeout ) );
+		return result;
+	}
+
+	/**
+	 * Verify if results are cached at all
+	 *
+	 * @return True if the timeout is positive
+	 */
+	public boolean isEnabled() {
+		return timeout > 0;
+	}
+
+	/**
+	 * Get the number of cached results, expired ones included
+	 *
+	 * @return The number of results
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Flush all the cached results
+	 */
+	public void flush() {
+		entries.clear();
+	}
+
+	/**
+	 * Flush the cached results of a table, along with the results which are not about a single table, such as the list
+	 * of tables. A name without a schema, like {@code tblUsers}, also flushes the results read with one, like
+	 * {@code mySchema.tblUsers}, and the other way around.
+	 *
+	 * @param table The table name or pattern as it was given to dbinfo, the case does not matter
+	 */
+	public void flush( String table ) {
+		String tableName = tableName( table );
+		entries.keySet().removeIf( key -> key.table() == null
+		    || key.table().equalsIgnoreCase( table )
+		    || ( ( !key.table().contains( "." ) || !table.contains( "." ) ) && tableName( key.table() ).equalsIgnoreCase( tableName ) ) );
+	}
+
+	/**
+	 * Flush all the cached results if a SQL statement changes the schema. Comments before the statement keyword are
+	 * skipped.
+	 *
+	 * @param sql The SQL statement which was run
+	 */
+	public void flushOnSchemaChange( String sql ) {
+		if ( entries.isEmpty() || sql == null ) {
+			return;
+		}
+		int	start	= skipComments( sql );
+		int	end		= start;
+		while ( end < sql.length() && Character.isLetter( sql.charAt( end ) ) ) {
+			end++;
+		}
+		if ( SCHEMA_STATEMENTS.contains( sql.substring( start, end ).toUpperCase( Locale.ROOT ) ) ) {
+			flush();
+		}
+	}
+
+	/**
+	 * Find where the first keyword of a SQL statement starts, after any whitespace, line comments and block comments
+	 *
+	 * @param sql The SQL statement
+	 *
+	 * @return The index of the first keyword, or the length of the statement if there is none
+	 */
+	private static int skipComments( String sql ) {
+		int index = 0;
+		while ( index < sql.length() ) {
+			if ( Character.isWhitespace( sql.charAt( index ) ) ) {
+				index++;
+			} else if ( sql.startsWith( "--", index ) ) {
+				int lineEnd = sql.indexOf( '\n', index );
+				index = lineEnd < 0 ? sql.length() : lineEnd + 1;
+			} else if ( sql.startsWith( "/*", index ) ) {
+				int commentEnd = sql.indexOf( "*/", index + 2 );
+				index = commentEnd < 0 ? sql.length() : commentEnd + 2;
+			} else {
+				break;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Get the table part of a name which may be prefixed by a schema, like {@code mySchema.tblUsers}
+	 *
+	 * @param name The table name
+	 *
+	 * @return The name after the last period, or the name itself
+	 */
+	private static String tableName( String name ) {
+		return name.substring( name.lastIndexOf( '.' ) + 1 );
+	}
+
+	/**
+	 * Treat an empty name like a missing one, the same as dbinfo does
+	 *
+	 * @param name The name, or null
+	 *
+	 * @return The name, or null if it is null or empty
+	 */
+	private static String normalize( String name ) {
+		return name == null || name.isEmpty() ? null : name;
+	}
+
+}
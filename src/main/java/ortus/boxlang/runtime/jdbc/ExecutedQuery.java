@@ -108,13 +108,34 @@ public final class ExecutedQuery {
 			}
 		}
 
+		announceExecution();
+	}
+
+	/**
+	 * Creates an ExecutedQuery instance from results computed without a statement, such as a query of queries.
+	 *
+	 * @param pendingQuery  The {@link PendingQuery} executed.
+	 * @param results       The results of the query.
+	 * @param executionTime The execution time the query took.
+	 */
+	public ExecutedQuery( @Nonnull PendingQuery pendingQuery, @Nonnull Query results, long executionTime ) {
+		this.pendingQuery	= pendingQuery;
+		this.executionTime	= executionTime;
+		this.results		= results;
+		announceExecution();
+	}
+
+	/**
+	 * Announces the {@link BoxEvent#POST_QUERY_EXECUTE} event for this execution.
+	 */
+	private void announceExecution() {
 		interceptorService.announce(
 		    BoxEvent.POST_QUERY_EXECUTE,
-		    Struct.of(
+		    () -> Struct.of(
 		        "sql", this.pendingQuery.getOriginalSql(),
 		        "bindings", this.pendingQuery.getParameterValues(),
-		        "executionTime", executionTime,
-		        "data", results,
+		        "executionTime", this.executionTime,
+		        "data", this.results,
 		        "result", getResultStruct(),
 		        "pendingQuery", this.pendingQuery,
 		        "executedQuery", this
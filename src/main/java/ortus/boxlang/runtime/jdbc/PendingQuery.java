@@ -28,10 +28,13 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.events.BoxEvent;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExecutor;
 import ortus.boxlang.runtime.services.InterceptorService;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.exceptions.DatabaseException;
@@ -223,6 +226,35 @@ public class PendingQuery {
 		}
 	}
 
+	/**
+	 * Executes the PendingQuery as a query of queries, over the query variables visible from a context, and returns the results
+	 * in an {@link ExecutedQuery} instance.
+	 *
+	 * @param context The context to look the queried variables up from.
+	 *
+	 * @throws DatabaseException If the SQL is not valid or does not match the queried variables.
+	 *
+	 * @return An ExecutedQuery instance with the results of this execution, as well as a link to this PendingQuery instance.
+	 *
+	 * @see QoQExecutor
+	 */
+	public @Nonnull ExecutedQuery executeQoQ( @Nonnull IBoxContext context ) {
+		interceptorService.announce(
+		    BoxEvent.PRE_QUERY_EXECUTE,
+		    () -> Struct.of(
+		        "sql", getOriginalSql(),
+		        "bindings", getParameterValues(),
+		        "pendingQuery", this
+		    )
+		);
+
+		long	startTick	= System.currentTimeMillis();
+		Query	results		= QoQExecutor.execute( context, this.sql, getParameterValues(), this.maxRows );
+		long	endTick		= System.currentTimeMillis();
+
+		return new ExecutedQuery( this, results, endTick - startTick );
+	}
+
 	private ExecutedQuery executeStatement( Connection conn ) throws SQLException {
 		// @TODO: Consider refactoring this to use a try-with-resources block, as the ExecutedQuery
 		// should not need the Statement object once the constructor completes and returns.
@@ -232,7 +264,7 @@ public class PendingQuery {
 
 		interceptorService.announce(
 		    BoxEvent.PRE_QUERY_EXECUTE,
-		    Struct.of(
+		    () -> Struct.of(
 		        "sql", getOriginalSql(),
 		        "bindings", getParameterValues(),
 		        "pendingQuery", this
@@ -18,6 +18,7 @@ import java.sql.Connection;
 
 import javax.annotation.Nullable;
 
+import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.dynamic.casters.StructCaster;
@@ -39,6 +40,7 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
  * <li><code>password</code> - The password to use when connecting to the datasource.
  * <li><code>timeout</code> - The number of seconds to wait for the query to execute before timing out.
  * <li><code>maxRows</code> - The maximum number of rows to return from the query.
+ * <li><code>dbtype</code> - Set to <code>query</code> to run the SQL over query variables instead of a datasource, a query of queries.
  * </ul>
  */
 public class QueryOptions {
@@ -94,6 +96,11 @@ public class QueryOptions {
 	 */
 	private Long				maxRows;
 
+	/**
+	 * Whether the SQL runs over query variables instead of a datasource
+	 */
+	private boolean				queryOfQueries;
+
 	/**
 	 * The JDBC connection manager, which is a contextual transaction and connection state object used to retrieve the correct connection for the query.
 	 */
@@ -124,9 +131,13 @@ public class QueryOptions {
 		this.password			= options.getAsString( Key.password );
 		this.queryTimeout		= options.getAsInteger( Key.timeout );
 		Integer intMaxRows = options.getAsInteger( Key.maxRows );
-		this.maxRows = Long.valueOf( intMaxRows != null ? intMaxRows : -1 );
+		this.maxRows		= Long.valueOf( intMaxRows != null ? intMaxRows : -1 );
+		this.queryOfQueries	= "query".equalsIgnoreCase( options.getAsString( Key.dbtype ) );
 
-		determineDataSource();
+		// A query of queries does not use a datasource
+		if ( !this.queryOfQueries ) {
+			determineDataSource();
+		}
 		determineReturnType();
 	}
 
@@ -176,14 +187,39 @@ public class QueryOptions {
 		return this.resultVariableName;
 	}
 
-	public Integer getQueryTimeout() {
-		return this.queryTimeout;
+	/**
+	 * Get the query timeout in seconds: the <code>timeout</code> option, capped by the time left before the request times out so a slow query
+	 * can't outlive its request.
+	 *
+	 * @return The query timeout in seconds, or null if there is none.
+	 */
+	public @Nullable Integer getQueryTimeout() {
+		RequestBoxContext	requestContext	= this.connectionManager.getContext().getRequestContext();
+		long				remaining		= requestContext == null ? -1 : requestContext.getRemainingTime();
+		if ( remaining < 0 ) {
+			return this.queryTimeout;
+		}
+		// JDBC timeouts are whole seconds, and 0 means no timeout
+		int remainingSeconds = ( int ) Math.max( 1, Math.min( Integer.MAX_VALUE, ( remaining + 999 ) / 1000 ) );
+		if ( this.queryTimeout == null || this.queryTimeout <= 0 ) {
+			return remainingSeconds;
+		}
+		return Math.min( this.queryTimeout, remainingSeconds );
 	}
 
 	public Long getMaxRows() {
 		return this.maxRows;
 	}
 
+	/**
+	 * Is this a query of queries, which runs over query variables instead of a datasource
+	 *
+	 * @return True if the <code>dbtype</code> option is <code>query</code>
+	 */
+	public boolean isQueryOfQueries() {
+		return this.queryOfQueries;
+	}
+
 	/**
 	 * Get the query results as the configured return type.
 	 *
@@ -122,6 +122,17 @@ public class Transaction {
 		return this.connection;
 	}
 
+	/**
+	 * Check if a connection is the one of this transaction, without acquiring one if the transaction has not used any yet.
+	 *
+	 * @param connection The connection to check
+	 *
+	 * @return true if the connection belongs to this transaction
+	 */
+	public boolean isConnection( Connection connection ) {
+		return this.connection != null && this.connection == connection;
+	}
+
 	/**
 	 * Get the datasource associated with this transaction.
 	 * <p>
@@ -0,0 +1,1136 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.ExpressionInterpreter;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.DateTimeCaster;
+import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
+import ortus.boxlang.runtime.dynamic.casters.QueryCaster;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Between;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Binary;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Case;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Cast;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Column;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Function;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.In;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.IsNull;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Like;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Literal;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Operator;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Param;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Star;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Unary;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.Join;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.JoinType;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.OrderItem;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.Select;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.SelectItem;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.Table;
+import ortus.boxlang.runtime.operators.Compare;
+import ortus.boxlang.runtime.operators.Concat;
+import ortus.boxlang.runtime.operators.Divide;
+import ortus.boxlang.runtime.operators.Minus;
+import ortus.boxlang.runtime.operators.Modulus;
+import ortus.boxlang.runtime.operators.Multiply;
+import ortus.boxlang.runtime.operators.Plus;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.QueryIndex;
+import ortus.boxlang.runtime.types.exceptions.DatabaseException;
+
+/**
+ * Runs queries of queries ({@code dbtype="query"}): SQL selects over the {@link Query} variables visible from a context,
+ * without a database.
+ * <p>
+ * The SQL is parsed once by the {@link QoQParser} and its plan is cached per SQL string. Each execution binds the plan to the
+ * queried tables, turning every expression into an evaluator with resolved column positions and parameter values, then runs it:
+ * <ol>
+ * <li>The tables are joined. Equality joins match rows through a hash of the joined column, other joins and columns holding
+ * values without a hash key, such as dates, compare every pair of rows.</li>
+ * <li>The {@code WHERE} clause selects the rows. On a single table, an equality between an indexed column and a constant
+ * only looks at the rows the index returns.</li>
+ * <li>Rows are grouped and aggregated if needed, and the selected expressions are computed one column at a time over the
+ * selected rows.</li>
+ * <li>{@code DISTINCT}, {@code UNION}, {@code ORDER BY}, {@code TOP} and {@code LIMIT} are applied.</li>
+ * </ol>
+ * Values are compared like BoxLang compares them: strings ignore case and a string holding a number matches the number. Join
+ * keys are hashed the same way, and an index is only used for a value it compares like the condition does.
+ */
+public class QoQExecutor {
+
+	/**
+	 * The maximum number of cached plans. The least recently used plan is dropped when it is full, dynamic SQL should use
+	 * parameters.
+	 */
+	static final int								MAX_PLANS	= 1024;
+
+	/**
+	 * The parsed plans by SQL, in access order
+	 */
+	private static final Map<String, QoQStatement>	plans		= Collections.synchronizedMap( new PlanCache() );
+
+	/**
+	 * A map of plans which drops its least recently used plan beyond {@link #MAX_PLANS}
+	 */
+	private static class PlanCache extends LinkedHashMap<String, QoQStatement> {
+
+		private static final long serialVersionUID = 1L;
+
+		PlanCache() {
+			super( 16, 0.75f, true );
+		}
+
+		@Override
+		protected boolean removeEldestEntry( Map.Entry<String, QoQStatement> eldest ) {
+			return size() > MAX_PLANS;
+		}
+	}
+
+	/**
+	 * Computes an expression for a row. In an aggregate select, the row is the first row of its group and the group holds all
+	 * the rows of the group. Otherwise the group is null.
+	 */
+	@FunctionalInterface
+	private interface Evaluator {
+
+		Object evaluate( Object[] row, List<Object[]> group );
+	}
+
+	/**
+	 * A queried table, bound to its query
+	 *
+	 * @param table   The table of the SQL
+	 * @param query   The query
+	 * @param columns The column names of the query
+	 * @param types   The column types of the query
+	 * @param offset  The position of the first column of this table in a joined row
+	 * @param rows    The rows of the query when the execution started
+	 */
+	private record Source( Table table, Query query, Key[] columns, QueryColumnType[] types, int offset, Object[][] rows ) {
+	}
+
+	/**
+	 * The result of a select
+	 *
+	 * @param names The column names
+	 * @param types The column types
+	 * @param rows  The rows
+	 */
+	private record Result( List<String> names, List<QueryColumnType> types, List<Object[]> rows ) {
+	}
+
+	/**
+	 * The tables of a select, used to resolve column names
+	 */
+	private static class Scope {
+
+		private final List<Source>	sources	= new ArrayList<>();
+
+		private int					width	= 0;
+
+		/**
+		 * Add a table, looking its query up in the context
+		 */
+		Source add( IBoxContext context, Table table ) {
+			Object				value	= ExpressionInterpreter.getVariable( context, table.name(), true );
+			CastAttempt<Query>	query	= QueryCaster.attempt( value );
+			if ( !query.wasSuccessful() ) {
+				throw new DatabaseException( "The table [" + table.name() + "] of the query of queries is not a query variable" );
+			}
+			Query				source		= query.get();
+			Key[]				columns		= source.getColumns().keySet().toArray( new Key[ 0 ] );
+			QueryColumnType[]	types		= new QueryColumnType[ columns.length ];
+			for ( int i = 0; i < columns.length; i++ ) {
+				types[ i ] = source.getColumn( columns[ i ] ).getType();
+			}
+			Source bound = new Source( table, source, columns, types, width, source.getData().toArray( new Object[ 0 ][] ) );
+			sources.add( bound );
+			width += columns.length;
+			return bound;
+		}
+
+		/**
+		 * Find the position of a column in a joined row
+		 */
+		int resolve( String table, String name ) {
+			Key	key		= Key.of( name );
+			int	found	= -1;
+			for ( Source source : sources ) {
+				if ( table != null && !source.table().reference().equalsIgnoreCase( table ) && !source.table().name().equalsIgnoreCase( table ) ) {
+					continue;
+				}
+				for ( int i = 0; i < source.columns().length; i++ ) {
+					if ( source.columns()[ i ].equals( key ) ) {
+						if ( found >= 0 ) {
+							throw new DatabaseException( "The column [" + name + "] of the query of queries is ambiguous, qualify it with its table" );
+						}
+						found = source.offset() + i;
+					}
+				}
+			}
+			if ( found < 0 ) {
+				throw new DatabaseException( "The column [" + ( table == null ? name : table + "." + name ) + "] does not exist in the query of queries" );
+			}
+			return found;
+		}
+
+		/**
+		 * Get the type of the column at a position of a joined row
+		 */
+		QueryColumnType type( int position ) {
+			for ( Source source : sources ) {
+				if ( position < source.offset() + source.columns().length ) {
+					return source.types()[ position - source.offset() ];
+				}
+			}
+			return QueryColumnType.OBJECT;
+		}
+	}
+
+	/**
+	 * Get the plan of a query of queries, parsing it if it is not cached
+	 *
+	 * @param sql The SQL
+	 *
+	 * @return The plan
+	 */
+	public static QoQStatement getPlan( String sql ) {
+		// Parsed under the lock of the map, so concurrent executions of new SQL parse it once
+		return plans.computeIfAbsent( sql, QoQParser::parse );
+	}
+
+	/**
+	 * Run a query of queries
+	 *
+	 * @param context The context the table names are looked up from
+	 * @param sql     The SQL, with {@code ?} for parameters
+	 * @param params  The parameter values, in order
+	 * @param maxRows The maximum number of rows to return, 0 or less for all
+	 *
+	 * @return The results
+	 */
+	public static Query execute( IBoxContext context, String sql, List<Object> params, long maxRows ) {
+		QoQStatement plan = getPlan( sql );
+		if ( params.size() < plan.paramCount() ) {
+			throw new DatabaseException( "The query of queries has " + plan.paramCount() + " parameters but " + params.size() + " were given" );
+		}
+		Object[]	values	= params.toArray();
+		Result		result;
+		if ( plan.selects().size() == 1 ) {
+			result = select( context, plan.selects().get( 0 ), values, plan.orderBy() );
+		} else {
+			result = select( context, plan.selects().get( 0 ), values, List.of() );
+			for ( int i = 1; i < plan.selects().size(); i++ ) {
+				Result next = select( context, plan.selects().get( i ), values, List.of() );
+				if ( next.names().size() != result.names().size() ) {
+					throw new DatabaseException( "All the selects of a UNION must have the same number of columns" );
+				}
+				result.rows().addAll( next.rows() );
+				if ( !plan.unionAll().get( i - 1 ) ) {
+					distinct( result.rows(), result.names().size() );
+				}
+			}
+			int[] order = new int[ plan.orderBy().size() ];
+			for ( int i = 0; i < order.length; i++ ) {
+				order[ i ] = outputPosition( plan.orderBy().get( i ).expression(), result.names() );
+				if ( order[ i ] < 0 ) {
+					throw new DatabaseException( "The ORDER BY of a UNION must use the names or the positions of the selected columns" );
+				}
+			}
+			sort( result.rows(), order, plan.orderBy() );
+		}
+
+		long limit = plan.limit() != null ? plan.limit() : Long.MAX_VALUE;
+		if ( maxRows > 0 ) {
+			limit = Math.min( limit, maxRows );
+		}
+		List<Object[]> rows = result.rows();
+		if ( rows.size() > limit ) {
+			rows = rows.subList( 0, ( int ) limit );
+		}
+
+		Query query = new Query();
+		for ( int i = 0; i < result.names().size(); i++ ) {
+			query.addColumn( Key.of( result.names().get( i ) ), result.types().get( i ) );
+		}
+		for ( Object[] row : rows ) {
+			query.addRow( row );
+		}
+		return query;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Select execution
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Run a single select
+	 *
+	 * @param context The context the table names are looked up from
+	 * @param select  The select
+	 * @param params  The parameter values
+	 * @param orderBy The ordering to apply, empty when the select is part of a UNION
+	 *
+	 * @return The result
+	 */
+	private static Result select( IBoxContext context, Select select, Object[] params, List<OrderItem> orderBy ) {
+		// FROM and JOIN
+		Scope			scope		= new Scope();
+		Source			first		= scope.add( context, select.from() );
+		List<Object[]>	relation	= Arrays.asList( first.rows() );
+		for ( Join join : select.joins() ) {
+			int		leftWidth	= scope.width;
+			Source	right		= scope.add( context, join.table() );
+			relation = join( relation, leftWidth, right, join, scope, params );
+		}
+
+		// WHERE
+		if ( select.where() != null ) {
+			relation = filter( relation, select.where(), scope, params, select.joins().isEmpty() ? first : null );
+		}
+
+		// The selected columns
+		List<String>			names		= new ArrayList<>();
+		List<QueryColumnType>	types		= new ArrayList<>();
+		List<Evaluator>			evaluators	= new ArrayList<>();
+		for ( int i = 0; i < select.items().size(); i++ ) {
+			SelectItem		item		= select.items().get( i );
+			QoQExpression	expression	= item.expression();
+			if ( expression instanceof Star star ) {
+				for ( Source source : scope.sources ) {
+					if ( star.table() != null && !source.table().reference().equalsIgnoreCase( star.table() ) ) {
+						continue;
+					}
+					for ( int c = 0; c < source.columns().length; c++ ) {
+						names.add( uniqueName( names, source.columns()[ c ].getName() ) );
+						types.add( source.types()[ c ] );
+						evaluators.add( column( source.offset() + c ) );
+					}
+				}
+				continue;
+			}
+			String name = item.alias();
+			if ( name == null ) {
+				name = expression instanceof Column column ? column.name() : "column_" + i;
+			}
+			names.add( uniqueName( names, name ) );
+			types.add( expression instanceof Column column ? scope.type( scope.resolve( column.table(), column.name() ) ) : null );
+			evaluators.add( bind( expression, scope, params ) );
+		}
+
+		// ORDER BY expressions which are not selected are computed as hidden columns
+		int		visible			= evaluators.size();
+		int[]	order			= new int[ orderBy.size() ];
+		boolean	orderAggregates	= false;
+		for ( int i = 0; i < order.length; i++ ) {
+			QoQExpression expression = orderBy.get( i ).expression();
+			order[ i ] = outputPosition( expression, names );
+			if ( order[ i ] < 0 ) {
+				evaluators.add( bind( expression, scope, params ) );
+				order[ i ]		= evaluators.size() - 1;
+				orderAggregates	= orderAggregates || expression.hasAggregate();
+			}
+		}
+
+		// Compute the selected columns, as groups if the select aggregates
+		List<Object[]> output;
+		if ( select.isAggregate() || orderAggregates ) {
+			Map<List<Object>, List<Object[]>>	groups		= group( relation, select, scope, params );
+			List<Object[]>						firsts		= new ArrayList<>( groups.size() );
+			List<List<Object[]>>				members		= new ArrayList<>( groups.size() );
+			Evaluator							having		= select.having() == null ? null : bind( select.having(), scope, params );
+			Object[]							emptyRow	= new Object[ scope.width ];
+			for ( List<Object[]> group : groups.values() ) {
+				Object[] firstRow = group.isEmpty() ? emptyRow : group.get( 0 );
+				if ( having != null && !isTrue( having.evaluate( firstRow, group ) ) ) {
+					continue;
+				}
+				firsts.add( firstRow );
+				members.add( group );
+			}
+			output = project( firsts, members, evaluators );
+		} else {
+			output = project( relation, null, evaluators );
+		}
+
+		if ( select.distinct() ) {
+			distinct( output, visible );
+		}
+		sort( output, order, orderBy );
+		if ( evaluators.size() > visible ) {
+			output.replaceAll( row -> Arrays.copyOf( row, visible ) );
+		}
+		if ( select.top() != null && output.size() > select.top() ) {
+			output = new ArrayList<>( output.subList( 0, select.top() ) );
+		}
+
+		// Columns which are not plain columns get the type of their first value
+		for ( int c = 0; c < visible; c++ ) {
+			if ( types.get( c ) == null ) {
+				Object value = null;
+				for ( int r = 0; r < output.size() && value == null; r++ ) {
+					value = output.get( r )[ c ];
+				}
+				types.set( c, typeOf( value ) );
+			}
+		}
+		return new Result( names, types, output );
+	}
+
+	/**
+	 * Join a table to the rows of the previous ones
+	 */
+	private static List<Object[]> join( List<Object[]> left, int leftWidth, Source right, Join join, Scope scope, Object[] params ) {
+		int				rightWidth	= right.columns().length;
+		Object[][]		rightRows	= right.rows();
+		List<Object[]>	result		= new ArrayList<>();
+		if ( join.type() == JoinType.CROSS ) {
+			for ( Object[] leftRow : left ) {
+				for ( Object[] rightRow : rightRows ) {
+					result.add( concat( leftRow, leftWidth, rightRow, rightWidth ) );
+				}
+			}
+			return result;
+		}
+
+		Evaluator					on		= bind( join.on(), scope, params );
+		int[]						keys	= joinKeys( join.on(), scope, right );
+		// Match the rows through a hash of the joined column, unless some of its values have no hash key
+		Map<Object, List<Integer>>	hash	= keys == null ? null : hashRows( rightRows, keys[ 1 ] );
+		int[]						all		= null;
+		for ( Object[] leftRow : left ) {
+			Object	key			= hash == null ? null : joinKey( cell( leftRow, keys[ 0 ] ) );
+			int[]	candidates;
+			if ( hash == null || key == null ) {
+				// Compare the row with every row of the joined table
+				if ( all == null ) {
+					all = new int[ rightRows.length ];
+					for ( int i = 0; i < all.length; i++ ) {
+						all[ i ] = i;
+					}
+				}
+				candidates = all;
+			} else {
+				List<Integer> found = hash.get( key );
+				candidates = found == null ? new int[ 0 ] : found.stream().mapToInt( Integer::intValue ).toArray();
+			}
+			boolean matched = false;
+			for ( int candidate : candidates ) {
+				Object[] row = concat( leftRow, leftWidth, rightRows[ candidate ], rightWidth );
+				if ( isTrue( on.evaluate( row, null ) ) ) {
+					result.add( row );
+					matched = true;
+				}
+			}
+			if ( !matched && join.type() == JoinType.LEFT ) {
+				result.add( concat( leftRow, leftWidth, null, rightWidth ) );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Hash the rows of a joined table by the key of one of their columns. Null values never match, so they are left out.
+	 *
+	 * @return The row positions by key, or null if a value has no key and rows must be compared pair by pair
+	 */
+	private static Map<Object, List<Integer>> hashRows( Object[][] rows, int column ) {
+		Map<Object, List<Integer>> hash = new HashMap<>();
+		for ( int i = 0; i < rows.length; i++ ) {
+			Object value = cell( rows[ i ], column );
+			if ( value == null ) {
+				continue;
+			}
+			Object key = joinKey( value );
+			if ( key == null ) {
+				return null;
+			}
+			hash.computeIfAbsent( key, k -> new ArrayList<>() ).add( i );
+		}
+		return hash;
+	}
+
+	/**
+	 * Turn a joined value into a key which is the same for two values exactly when {@link Compare} finds them equal. This is the
+	 * key of query indexes, GROUP BY and DISTINCT, see {@link QueryIndex#normalize(Object)}.
+	 *
+	 * @return The key, or null for a value Compare may match in other ways, such as a date
+	 */
+	private static Object joinKey( Object value ) {
+		Object key = QueryIndex.normalize( value );
+		return key instanceof Double || key instanceof String ? key : null;
+	}
+
+	/**
+	 * Find an equality between a column of the joined table and a column of the previous tables in a join condition
+	 *
+	 * @return The position of the previous column in a joined row and the index of the joined column in its table, or null
+	 */
+	private static int[] joinKeys( QoQExpression on, Scope scope, Source right ) {
+		if ( on instanceof Binary binary && binary.operator() == Operator.AND ) {
+			int[] keys = joinKeys( binary.left(), scope, right );
+			return keys != null ? keys : joinKeys( binary.right(), scope, right );
+		}
+		if ( on instanceof Binary binary && binary.operator() == Operator.EQUAL && binary.left() instanceof Column left
+		    && binary.right() instanceof Column rightColumn ) {
+			int	a	= scope.resolve( left.table(), left.name() );
+			int	b	= scope.resolve( rightColumn.table(), rightColumn.name() );
+			if ( a < right.offset() && b >= right.offset() ) {
+				return new int[] { a, b - right.offset() };
+			}
+			if ( b < right.offset() && a >= right.offset() ) {
+				return new int[] { b, a - right.offset() };
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Keep the rows matching a condition
+	 *
+	 * @param only The table if there is a single one, whose indexes can be used
+	 */
+	private static List<Object[]> filter( List<Object[]> rows, QoQExpression where, Scope scope, Object[] params, Source only ) {
+		Evaluator		predicate	= bind( where, scope, params );
+		List<Object[]>	candidates	= rows;
+		int[]			found		= only == null ? null : indexLookup( where, only, params );
+		if ( found != null ) {
+			candidates = new ArrayList<>( found.length );
+			for ( int position : found ) {
+				if ( position < only.rows().length ) {
+					candidates.add( only.rows()[ position ] );
+				}
+			}
+		}
+		List<Object[]> selected = new ArrayList<>();
+		for ( Object[] row : candidates ) {
+			if ( isTrue( predicate.evaluate( row, null ) ) ) {
+				selected.add( row );
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Use an index to find the rows which may match a condition. The condition is still checked on each of them.
+	 *
+	 * @return The row positions, or null if no index applies
+	 */
+	private static int[] indexLookup( QoQExpression where, Source source, Object[] params ) {
+		if ( where instanceof Binary binary && binary.operator() == Operator.AND ) {
+			int[] found = indexLookup( binary.left(), source, params );
+			return found != null ? found : indexLookup( binary.right(), source, params );
+		}
+		if ( ! ( where instanceof Binary binary ) || binary.operator() != Operator.EQUAL ) {
+			return null;
+		}
+		Column			column	= binary.left() instanceof Column c ? c : binary.right() instanceof Column c ? c : null;
+		QoQExpression	other	= column == binary.left() ? binary.right() : binary.left();
+		Object			value;
+		if ( other instanceof Literal literal ) {
+			value = literal.value();
+		} else if ( other instanceof Param param && param.index() < params.length ) {
+			value = params[ param.index() ];
+		} else {
+			return null;
+		}
+		if ( column == null || value == null ) {
+			return null;
+		}
+		Key key = Key.of( column.name() );
+		for ( int i = 0; i < source.columns().length; i++ ) {
+			if ( source.columns()[ i ].equals( key ) ) {
+				QueryIndex		index	= source.query().getIndex( key );
+				// Only when the index compares the value the way the condition does, which is not the case for dates and objects
+				QueryColumnType	type	= source.types()[ i ];
+				boolean			simple	= type == QueryColumnType.INTEGER || type == QueryColumnType.BIGINT || type == QueryColumnType.DOUBLE
+				    || type == QueryColumnType.DECIMAL || type == QueryColumnType.VARCHAR;
+				return index != null && simple && joinKey( value ) != null ? index.find( value ) : null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Group rows by the GROUP BY expressions. Without GROUP BY all the rows form a single group, even if there are none.
+	 */
+	private static Map<List<Object>, List<Object[]>> group( List<Object[]> rows, Select select, Scope scope, Object[] params ) {
+		Map<List<Object>, List<Object[]>> groups = new LinkedHashMap<>();
+		if ( select.groupBy().isEmpty() ) {
+			groups.put( List.of(), new ArrayList<>( rows ) );
+			return groups;
+		}
+		List<Evaluator> keys = new ArrayList<>();
+		for ( QoQExpression expression : select.groupBy() ) {
+			keys.add( bind( expression, scope, params ) );
+		}
+		for ( Object[] row : rows ) {
+			Object[] key = new Object[ keys.size() ];
+			for ( int i = 0; i < key.length; i++ ) {
+				key[ i ] = QueryIndex.normalize( keys.get( i ).evaluate( row, null ) );
+			}
+			groups.computeIfAbsent( Arrays.asList( key ), k -> new ArrayList<>() ).add( row );
+		}
+		return groups;
+	}
+
+	/**
+	 * Compute the output rows, one column at a time
+	 */
+	private static List<Object[]> project( List<Object[]> rows, List<List<Object[]>> groups, List<Evaluator> evaluators ) {
+		int			count	= rows.size();
+		Object[][]	output	= new Object[ count ][ evaluators.size() ];
+		for ( int c = 0; c < evaluators.size(); c++ ) {
+			Evaluator evaluator = evaluators.get( c );
+			for ( int r = 0; r < count; r++ ) {
+				output[ r ][ c ] = evaluator.evaluate( rows.get( r ), groups == null ? null : groups.get( r ) );
+			}
+		}
+		return new ArrayList<>( Arrays.asList( output ) );
+	}
+
+	/**
+	 * Remove duplicate rows, comparing their first columns
+	 */
+	private static void distinct( List<Object[]> rows, int width ) {
+		Set<List<Object>> seen = new HashSet<>();
+		rows.removeIf( row -> {
+			Object[] key = new Object[ width ];
+			for ( int i = 0; i < width; i++ ) {
+				key[ i ] = QueryIndex.normalize( row[ i ] );
+			}
+			return !seen.add( Arrays.asList( key ) );
+		} );
+	}
+
+	/**
+	 * Sort rows on some of their columns
+	 */
+	private static void sort( List<Object[]> rows, int[] order, List<OrderItem> orderBy ) {
+		if ( order.length == 0 ) {
+			return;
+		}
+		rows.sort( ( a, b ) -> {
+			for ( int i = 0; i < order.length; i++ ) {
+				int result = Compare.invoke( a[ order[ i ] ], b[ order[ i ] ] );
+				if ( result != 0 ) {
+					return orderBy.get( i ).descending() ? -result : result;
+				}
+			}
+			return 0;
+		} );
+	}
+
+	/**
+	 * Find the output column an ORDER BY expression refers to
+	 *
+	 * @return The position of the column, or -1 if the expression is not a position or the name of an output column
+	 */
+	private static int outputPosition( QoQExpression expression, List<String> names ) {
+		if ( expression instanceof Literal literal && literal.value() instanceof Integer position ) {
+			if ( position < 1 || position > names.size() ) {
+				throw new DatabaseException( "The ORDER BY position " + position + " is not a selected column" );
+			}
+			return position - 1;
+		}
+		if ( expression instanceof Column column ) {
+			for ( int i = 0; i < names.size(); i++ ) {
+				if ( names.get( i ).equalsIgnoreCase( column.name() ) ) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Expression binding
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Turn an expression into an evaluator for the tables of a select
+	 */
+	private static Evaluator bind( QoQExpression expression, Scope scope, Object[] params ) {
+		if ( expression instanceof Literal literal ) {
+			Object value = literal.value();
+			return ( row, group ) -> value;
+		}
+		if ( expression instanceof Param param ) {
+			Object value = params[ param.index() ];
+			return ( row, group ) -> value;
+		}
+		if ( expression instanceof Column column ) {
+			return column( scope.resolve( column.table(), column.name() ) );
+		}
+		if ( expression instanceof Unary unary ) {
+			Evaluator operand = bind( unary.operand(), scope, params );
+			if ( unary.not() ) {
+				return ( row, group ) -> {
+					Boolean value = truth( operand.evaluate( row, group ) );
+					return value == null ? null : !value;
+				};
+			}
+			return ( row, group ) -> {
+				Object value = operand.evaluate( row, group );
+				return value == null ? null : Minus.invoke( 0, value );
+			};
+		}
+		if ( expression instanceof Binary binary ) {
+			return bindBinary( binary, scope, params );
+		}
+		if ( expression instanceof Like like ) {
+			Evaluator	value	= bind( like.value(), scope, params );
+			Evaluator	pattern	= bind( like.pattern(), scope, params );
+			boolean		negated	= like.negated();
+			// Constant patterns are compiled once
+			Pattern		regex	= like.pattern() instanceof Literal || like.pattern() instanceof Param
+			    ? likePattern( pattern.evaluate( null, null ) )
+			    : null;
+			return ( row, group ) -> {
+				Object	left	= value.evaluate( row, group );
+				Object	right	= regex == null ? pattern.evaluate( row, group ) : "";
+				if ( left == null || right == null ) {
+					return null;
+				}
+				Pattern compiled = regex != null ? regex : likePattern( right );
+				return compiled == null ? null : compiled.matcher( StringCaster.cast( left ) ).matches() != negated;
+			};
+		}
+		if ( expression instanceof In in ) {
+			Evaluator		value	= bind( in.value(), scope, params );
+			List<Evaluator>	list	= new ArrayList<>();
+			for ( QoQExpression item : in.list() ) {
+				list.add( bind( item, scope, params ) );
+			}
+			boolean negated = in.negated();
+			return ( row, group ) -> {
+				Object left = value.evaluate( row, group );
+				if ( left == null ) {
+					return null;
+				}
+				for ( Evaluator item : list ) {
+					Object right = item.evaluate( row, group );
+					if ( right != null && Compare.invoke( left, right ) == 0 ) {
+						return !negated;
+					}
+				}
+				return negated;
+			};
+		}
+		if ( expression instanceof Between between ) {
+			Evaluator	value	= bind( between.value(), scope, params );
+			Evaluator	low		= bind( between.low(), scope, params );
+			Evaluator	high	= bind( between.high(), scope, params );
+			boolean		negated	= between.negated();
+			return ( row, group ) -> {
+				Object	v	= value.evaluate( row, group );
+				Object	l	= low.evaluate( row, group );
+				Object	h	= high.evaluate( row, group );
+				if ( v == null || l == null || h == null ) {
+					return null;
+				}
+				return ( Compare.invoke( v, l ) >= 0 && Compare.invoke( v, h ) <= 0 ) != negated;
+			};
+		}
+		if ( expression instanceof IsNull isNull ) {
+			Evaluator	value	= bind( isNull.value(), scope, params );
+			boolean		negated	= isNull.negated();
+			return ( row, group ) -> ( value.evaluate( row, group ) == null ) != negated;
+		}
+		if ( expression instanceof Function function ) {
+			return QoQExpression.AGGREGATES.contains( function.name() )
+			    ? bindAggregate( function, scope, params )
+			    : bindFunction( function, scope, params );
+		}
+		if ( expression instanceof Case caseExpression ) {
+			return bindCase( caseExpression, scope, params );
+		}
+		if ( expression instanceof Cast cast ) {
+			Evaluator								value	= bind( cast.value(), scope, params );
+			java.util.function.Function<Object, ?>	caster	= switch ( cast.type() ) {
+																case "VARCHAR", "CHAR", "NVARCHAR", "TEXT", "STRING" -> StringCaster::cast;
+																case "INTEGER", "INT", "SMALLINT", "TINYINT" -> IntegerCaster::cast;
+																case "BIGINT" -> LongCaster::cast;
+																case "DOUBLE", "FLOAT", "REAL", "DECIMAL", "NUMERIC" -> DoubleCaster::cast;
+																case "BIT", "BOOLEAN" -> BooleanCaster::cast;
+																case "DATE", "TIME", "TIMESTAMP", "DATETIME" -> DateTimeCaster::cast;
+																default -> throw new DatabaseException( "Unknown type [" + cast.type() + "] in CAST" );
+															};
+			return ( row, group ) -> {
+				Object v = value.evaluate( row, group );
+				return v == null ? null : caster.apply( v );
+			};
+		}
+		throw new DatabaseException( "* can only be used in the select list or in COUNT(*)" );
+	}
+
+	/**
+	 * Bind an operation on two values. Logical operators follow the SQL rules for null, other operators return null if an operand is null.
+	 */
+	private static Evaluator bindBinary( Binary binary, Scope scope, Object[] params ) {
+		Evaluator	left	= bind( binary.left(), scope, params );
+		Evaluator	right	= bind( binary.right(), scope, params );
+		switch ( binary.operator() ) {
+			case AND :
+				return ( row, group ) -> {
+					Boolean a = truth( left.evaluate( row, group ) );
+					if ( Boolean.FALSE.equals( a ) ) {
+						return false;
+					}
+					Boolean b = truth( right.evaluate( row, group ) );
+					if ( Boolean.FALSE.equals( b ) ) {
+						return false;
+					}
+					return a == null || b == null ? null : true;
+				};
+			case OR :
+				return ( row, group ) -> {
+					Boolean a = truth( left.evaluate( row, group ) );
+					if ( Boolean.TRUE.equals( a ) ) {
+						return true;
+					}
+					Boolean b = truth( right.evaluate( row, group ) );
+					if ( Boolean.TRUE.equals( b ) ) {
+						return true;
+					}
+					return a == null || b == null ? null : false;
+				};
+			default :
+				break;
+		}
+		Operator operator = binary.operator();
+		return ( row, group ) -> {
+			Object	a	= left.evaluate( row, group );
+			Object	b	= right.evaluate( row, group );
+			if ( a == null || b == null ) {
+				return null;
+			}
+			return switch ( operator ) {
+				case EQUAL -> Compare.invoke( a, b ) == 0;
+				case NOT_EQUAL -> Compare.invoke( a, b ) != 0;
+				case LESS -> Compare.invoke( a, b ) < 0;
+				case LESS_EQUAL -> Compare.invoke( a, b ) <= 0;
+				case GREATER -> Compare.invoke( a, b ) > 0;
+				case GREATER_EQUAL -> Compare.invoke( a, b ) >= 0;
+				case PLUS -> Plus.invoke( a, b );
+				case MINUS -> Minus.invoke( a, b );
+				case TIMES -> Multiply.invoke( a, b );
+				case DIVIDE -> Divide.invoke( a, b );
+				case MODULO -> Modulus.invoke( a, b );
+				case CONCAT -> Concat.invoke( a, b );
+				default -> throw new DatabaseException( "Unsupported operator " + operator );
+			};
+		};
+	}
+
+	/**
+	 * Bind an aggregate function, which is computed over the rows of a group
+	 */
+	private static Evaluator bindAggregate( Function function, Scope scope, Object[] params ) {
+		String name = function.name();
+		if ( function.arguments().size() != 1 ) {
+			throw new DatabaseException( name + " takes one argument" );
+		}
+		QoQExpression argument = function.arguments().get( 0 );
+		if ( argument instanceof Star ) {
+			if ( !name.equals( "COUNT" ) ) {
+				throw new DatabaseException( "Only COUNT can be used with *" );
+			}
+			return ( row, group ) -> inGroup( group, name ).size();
+		}
+		if ( argument.hasAggregate() ) {
+			throw new DatabaseException( "Aggregate functions can't be nested" );
+		}
+		Evaluator	value		= bind( argument, scope, params );
+		boolean		distinct	= function.distinct();
+		return ( row, group ) -> {
+			// The non null values of the group
+			List<Object>	values	= new ArrayList<>();
+			Set<Object>		seen	= distinct ? new HashSet<>() : null;
+			for ( Object[] member : inGroup( group, name ) ) {
+				Object v = value.evaluate( member, null );
+				if ( v != null && ( seen == null || seen.add( QueryIndex.normalize( v ) ) ) ) {
+					values.add( v );
+				}
+			}
+			if ( name.equals( "COUNT" ) ) {
+				return values.size();
+			}
+			if ( values.isEmpty() ) {
+				return null;
+			}
+			Object result = name.equals( "SUM" ) || name.equals( "AVG" ) ? 0 : values.get( 0 );
+			for ( Object v : values ) {
+				result = switch ( name ) {
+					case "SUM", "AVG" -> Plus.invoke( result, v );
+					case "MIN" -> Compare.invoke( v, result ) < 0 ? v : result;
+					default -> Compare.invoke( v, result ) > 0 ? v : result;
+				};
+			}
+			return name.equals( "AVG" ) ? Divide.invoke( result, values.size() ) : result;
+		};
+	}
+
+	/**
+	 * Bind a scalar function. Except for COALESCE and CONCAT, a null argument gives a null result.
+	 */
+	private static Evaluator bindFunction( Function function, Scope scope, Object[] params ) {
+		String			name		= function.name();
+		List<Evaluator>	arguments	= new ArrayList<>();
+		for ( QoQExpression argument : function.arguments() ) {
+			arguments.add( bind( argument, scope, params ) );
+		}
+		int count = arguments.size();
+		java.util.function.Function<Object[], Object> implementation = switch ( name ) {
+			case "UPPER", "UCASE" -> arity( name, count, 1, 1, a -> StringCaster.cast( a[ 0 ] ).toUpperCase() );
+			case "LOWER", "LCASE" -> arity( name, count, 1, 1, a -> StringCaster.cast( a[ 0 ] ).toLowerCase() );
+			case "LENGTH", "LEN" -> arity( name, count, 1, 1, a -> StringCaster.cast( a[ 0 ] ).length() );
+			case "TRIM" -> arity( name, count, 1, 1, a -> StringCaster.cast( a[ 0 ] ).trim() );
+			case "LTRIM" -> arity( name, count, 1, 1, a -> StringCaster.cast( a[ 0 ] ).stripLeading() );
+			case "RTRIM" -> arity( name, count, 1, 1, a -> StringCaster.cast( a[ 0 ] ).stripTrailing() );
+			case "ABS" -> arity( name, count, 1, 1, a -> Math.abs( DoubleCaster.cast( a[ 0 ] ) ) );
+			case "FLOOR" -> arity( name, count, 1, 1, a -> Math.floor( DoubleCaster.cast( a[ 0 ] ) ) );
+			case "CEILING", "CEIL" -> arity( name, count, 1, 1, a -> Math.ceil( DoubleCaster.cast( a[ 0 ] ) ) );
+			case "ROUND" -> arity( name, count, 1, 2, a -> BigDecimal.valueOf( DoubleCaster.cast( a[ 0 ] ) )
+			    .setScale( a.length > 1 ? IntegerCaster.cast( a[ 1 ] ) : 0, RoundingMode.HALF_UP ).doubleValue() );
+			case "MOD" -> arity( name, count, 2, 2, a -> Modulus.invoke( a[ 0 ], a[ 1 ] ) );
+			case "SUBSTRING", "SUBSTR" -> arity( name, count, 2, 3, a -> {
+				String	value	= StringCaster.cast( a[ 0 ] );
+				int		start	= Math.max( IntegerCaster.cast( a[ 1 ] ) - 1, 0 );
+				int		end		= a.length > 2 ? Math.min( start + Math.max( IntegerCaster.cast( a[ 2 ] ), 0 ), value.length() ) : value.length();
+				return start >= value.length() ? "" : value.substring( start, end );
+			} );
+			case "NULLIF" -> arity( name, count, 2, 2, a -> Compare.invoke( a[ 0 ], a[ 1 ] ) == 0 ? null : a[ 0 ] );
+			case "COALESCE", "ISNULL", "IFNULL", "NVL", "CONCAT" -> null;
+			default -> throw new DatabaseException( "Unknown function [" + name + "] in the query of queries" );
+		};
+		if ( implementation == null ) {
+			if ( name.equals( "CONCAT" ) ) {
+				return ( row, group ) -> {
+					StringBuilder result = new StringBuilder();
+					for ( Evaluator argument : arguments ) {
+						Object value = argument.evaluate( row, group );
+						if ( value != null ) {
+							result.append( StringCaster.cast( value ) );
+						}
+					}
+					return result.toString();
+				};
+			}
+			return ( row, group ) -> {
+				for ( Evaluator argument : arguments ) {
+					Object value = argument.evaluate( row, group );
+					if ( value != null ) {
+						return value;
+					}
+				}
+				return null;
+			};
+		}
+		return ( row, group ) -> {
+			Object[] values = new Object[ count ];
+			for ( int i = 0; i < count; i++ ) {
+				values[ i ] = arguments.get( i ).evaluate( row, group );
+				if ( values[ i ] == null ) {
+					return null;
+				}
+			}
+			return implementation.apply( values );
+		};
+	}
+
+	/**
+	 * Bind a CASE expression
+	 */
+	private static Evaluator bindCase( Case caseExpression, Scope scope, Object[] params ) {
+		Evaluator		operand		= caseExpression.operand() == null ? null : bind( caseExpression.operand(), scope, params );
+		List<Evaluator>	conditions	= new ArrayList<>();
+		List<Evaluator>	results		= new ArrayList<>();
+		for ( int i = 0; i < caseExpression.conditions().size(); i++ ) {
+			conditions.add( bind( caseExpression.conditions().get( i ), scope, params ) );
+			results.add( bind( caseExpression.results().get( i ), scope, params ) );
+		}
+		Evaluator otherwise = caseExpression.otherwise() == null ? null : bind( caseExpression.otherwise(), scope, params );
+		return ( row, group ) -> {
+			Object value = operand == null ? null : operand.evaluate( row, group );
+			for ( int i = 0; i < conditions.size(); i++ ) {
+				Object	condition	= conditions.get( i ).evaluate( row, group );
+				boolean	matches		= operand == null
+				    ? isTrue( condition )
+				    : value != null && condition != null && Compare.invoke( value, condition ) == 0;
+				if ( matches ) {
+					return results.get( i ).evaluate( row, group );
+				}
+			}
+			return otherwise == null ? null : otherwise.evaluate( row, group );
+		};
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Helpers
+	 * --------------------------------------------------------------------------
+	 */
+
+	private static Evaluator column( int position ) {
+		return ( row, group ) -> cell( row, position );
+	}
+
+	/**
+	 * Read a cell, rows added with fewer values than columns are padded with nulls
+	 */
+	private static Object cell( Object[] row, int position ) {
+		return position < row.length ? row[ position ] : null;
+	}
+
+	/**
+	 * Concatenate the row of a table to a joined row. A null right row gives nulls, for unmatched rows of a left join.
+	 */
+	private static Object[] concat( Object[] left, int leftWidth, Object[] right, int rightWidth ) {
+		Object[] row = new Object[ leftWidth + rightWidth ];
+		System.arraycopy( left, 0, row, 0, Math.min( left.length, leftWidth ) );
+		if ( right != null ) {
+			System.arraycopy( right, 0, row, leftWidth, Math.min( right.length, rightWidth ) );
+		}
+		return row;
+	}
+
+	private static List<Object[]> inGroup( List<Object[]> group, String function ) {
+		if ( group == null ) {
+			throw new DatabaseException( "The aggregate function " + function + " can't be used in a WHERE or a JOIN condition" );
+		}
+		return group;
+	}
+
+	private static java.util.function.Function<Object[], Object> arity( String name, int count, int min, int max,
+	    java.util.function.Function<Object[], Object> implementation ) {
+		if ( count < min || count > max ) {
+			throw new DatabaseException( "Wrong number of arguments for the function " + name );
+		}
+		return implementation;
+	}
+
+	/**
+	 * Get the truth of a condition, null when it is unknown
+	 */
+	private static Boolean truth( Object value ) {
+		if ( value == null || value instanceof Boolean ) {
+			return ( Boolean ) value;
+		}
+		return BooleanCaster.cast( value );
+	}
+
+	private static boolean isTrue( Object value ) {
+		return Boolean.TRUE.equals( truth( value ) );
+	}
+
+	/**
+	 * Turn a LIKE pattern into a regular expression
+	 */
+	private static Pattern likePattern( Object pattern ) {
+		if ( pattern == null ) {
+			return null;
+		}
+		String			like	= StringCaster.cast( pattern );
+		StringBuilder	regex	= new StringBuilder();
+		for ( char c : like.toCharArray() ) {
+			if ( c == '%' ) {
+				regex.append( ".*" );
+			} else if ( c == '_' ) {
+				regex.append( '.' );
+			} else if ( "\\.[]{}()<>*+-=!?^$|".indexOf( c ) >= 0 ) {
+				regex.append( '\\' ).append( c );
+			} else {
+				regex.append( c );
+			}
+		}
+		return Pattern.compile( regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL );
+	}
+
+	private static String uniqueName( List<String> names, String name ) {
+		String	unique	= name;
+		int		suffix	= 1;
+		while ( containsIgnoreCase( names, unique ) ) {
+			unique = name + "_" + ( ++suffix );
+		}
+		return unique;
+	}
+
+	private static boolean containsIgnoreCase( List<String> names, String name ) {
+		for ( String existing : names ) {
+			if ( existing.equalsIgnoreCase( name ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the column type for a computed value
+	 */
+	private static QueryColumnType typeOf( Object value ) {
+		if ( value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+			return QueryColumnType.INTEGER;
+		}
+		if ( value instanceof Long ) {
+			return QueryColumnType.BIGINT;
+		}
+		if ( value instanceof BigDecimal ) {
+			return QueryColumnType.DECIMAL;
+		}
+		if ( value instanceof Number ) {
+			return QueryColumnType.DOUBLE;
+		}
+		if ( value instanceof Boolean ) {
+			return QueryColumnType.BIT;
+		}
+		if ( value instanceof DateTime ) {
+			return QueryColumnType.TIMESTAMP;
+		}
+		if ( value == null || value instanceof String ) {
+			return QueryColumnType.VARCHAR;
+		}
+		return QueryColumnType.OBJECT;
+	}
+
+}
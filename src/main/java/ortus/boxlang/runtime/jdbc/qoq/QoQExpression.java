@@ -0,0 +1,188 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An expression of a query of queries, as parsed from the SQL. Expressions are bound to the columns of the queried
+ * tables by the {@link QoQExecutor} before they are evaluated.
+ */
+public sealed interface QoQExpression {
+
+	/**
+	 * The functions which aggregate the rows of a group
+	 */
+	Set<String> AGGREGATES = Set.of( "COUNT", "SUM", "AVG", "MIN", "MAX" );
+
+	/**
+	 * The binary operators
+	 */
+	enum Operator {
+		AND,
+		OR,
+		EQUAL,
+		NOT_EQUAL,
+		LESS,
+		LESS_EQUAL,
+		GREATER,
+		GREATER_EQUAL,
+		PLUS,
+		MINUS,
+		TIMES,
+		DIVIDE,
+		MODULO,
+		CONCAT
+	}
+
+	/**
+	 * A constant: a string, a number, a boolean or null
+	 */
+	record Literal( Object value ) implements QoQExpression {
+	}
+
+	/**
+	 * A positional parameter, {@code ?} in the SQL. Named parameters are turned into positional ones before parsing.
+	 */
+	record Param( int index ) implements QoQExpression {
+	}
+
+	/**
+	 * A column, optionally qualified by the name or alias of its table
+	 */
+	record Column( String table, String name ) implements QoQExpression {
+	}
+
+	/**
+	 * All the columns, of one table if it is qualified. Only valid in the select list and in {@code COUNT(*)}.
+	 */
+	record Star( String table ) implements QoQExpression {
+	}
+
+	/**
+	 * {@code NOT} or a negation
+	 */
+	record Unary( boolean not, QoQExpression operand ) implements QoQExpression {
+	}
+
+	/**
+	 * An operation on two values
+	 */
+	record Binary( Operator operator, QoQExpression left, QoQExpression right ) implements QoQExpression {
+	}
+
+	/**
+	 * {@code value [NOT] LIKE pattern}
+	 */
+	record Like( QoQExpression value, QoQExpression pattern, boolean negated ) implements QoQExpression {
+	}
+
+	/**
+	 * {@code value [NOT] IN ( list )}
+	 */
+	record In( QoQExpression value, List<QoQExpression> list, boolean negated ) implements QoQExpression {
+	}
+
+	/**
+	 * {@code value [NOT] BETWEEN low AND high}
+	 */
+	record Between( QoQExpression value, QoQExpression low, QoQExpression high, boolean negated ) implements QoQExpression {
+	}
+
+	/**
+	 * {@code value IS [NOT] NULL}
+	 */
+	record IsNull( QoQExpression value, boolean negated ) implements QoQExpression {
+	}
+
+	/**
+	 * A function call, the name is in upper case
+	 */
+	record Function( String name, List<QoQExpression> arguments, boolean distinct ) implements QoQExpression {
+	}
+
+	/**
+	 * {@code CASE [operand] WHEN condition THEN result ... [ELSE otherwise] END}
+	 */
+	record Case( QoQExpression operand, List<QoQExpression> conditions, List<QoQExpression> results, QoQExpression otherwise )
+	    implements QoQExpression {
+	}
+
+	/**
+	 * {@code CAST( value AS type )}, the type is in upper case
+	 */
+	record Cast( QoQExpression value, String type ) implements QoQExpression {
+	}
+
+	/**
+	 * Verify if this expression computes an aggregate
+	 *
+	 * @return True if an aggregate function is used anywhere in the expression
+	 */
+	default boolean hasAggregate() {
+		if ( this instanceof Function function ) {
+			return AGGREGATES.contains( function.name() ) || anyAggregate( function.arguments() );
+		}
+		if ( this instanceof Unary unary ) {
+			return unary.operand().hasAggregate();
+		}
+		if ( this instanceof Binary binary ) {
+			return binary.left().hasAggregate() || binary.right().hasAggregate();
+		}
+		if ( this instanceof Like like ) {
+			return like.value().hasAggregate() || like.pattern().hasAggregate();
+		}
+		if ( this instanceof In in ) {
+			return in.value().hasAggregate() || anyAggregate( in.list() );
+		}
+		if ( this instanceof Between between ) {
+			return between.value().hasAggregate() || between.low().hasAggregate() || between.high().hasAggregate();
+		}
+		if ( this instanceof IsNull isNull ) {
+			return isNull.value().hasAggregate();
+		}
+		if ( this instanceof Case caseExpression ) {
+			return ( caseExpression.operand() != null && caseExpression.operand().hasAggregate() )
+			    || anyAggregate( caseExpression.conditions() )
+			    || anyAggregate( caseExpression.results() )
+			    || ( caseExpression.otherwise() != null && caseExpression.otherwise().hasAggregate() );
+		}
+		if ( this instanceof Cast cast ) {
+			return cast.value().hasAggregate();
+		}
+		return false;
+	}
+
+	/**
+	 * Verify if any of a list of expressions computes an aggregate
+	 *
+	 * @param expressions The expressions
+	 *
+	 * @return True if one of them uses an aggregate function
+	 */
+	private static boolean anyAggregate( List<QoQExpression> expressions ) {
+		for ( QoQExpression expression : expressions ) {
+			if ( expression.hasAggregate() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,672 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Between;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Binary;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Case;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Cast;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Column;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Function;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.In;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.IsNull;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Like;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Literal;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Operator;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Param;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Star;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpression.Unary;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.Join;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.JoinType;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.OrderItem;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.Select;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.SelectItem;
+import ortus.boxlang.runtime.jdbc.qoq.QoQStatement.Table;
+import ortus.boxlang.runtime.types.exceptions.DatabaseException;
+
+/**
+ * A recursive descent parser for the SQL of queries of queries.
+ * <p>
+ * The supported dialect is a subset of SQL-92 select statements:
+ * <ul>
+ * <li>{@code SELECT [DISTINCT] [TOP n]} with expressions, {@code *}, {@code table.*} and {@code AS} aliases</li>
+ * <li>{@code FROM} query variables, joined with commas, {@code [INNER] JOIN}, {@code LEFT [OUTER] JOIN} or {@code CROSS JOIN}</li>
+ * <li>{@code WHERE}, {@code GROUP BY}, {@code HAVING}, {@code ORDER BY} with positions or aliases, {@code LIMIT}</li>
+ * <li>{@code UNION} and {@code UNION ALL}</li>
+ * <li>Operators, {@code LIKE}, {@code IN}, {@code BETWEEN}, {@code IS NULL}, {@code CASE}, {@code CAST} and function calls</li>
+ * <li>{@code ?} parameters</li>
+ * </ul>
+ * Keywords and identifiers ignore case. Identifiers may be quoted with {@code []}, {@code ""} or backticks.
+ */
+public class QoQParser {
+
+	/**
+	 * Words which end an expression or a table reference, so they can't be used as implicit aliases
+	 */
+	private static final Set<String>	RESERVED	= Set.of(
+	    "SELECT", "FROM", "WHERE", "GROUP", "BY", "HAVING", "ORDER", "UNION", "ALL", "JOIN", "INNER", "LEFT", "RIGHT", "OUTER", "CROSS", "ON",
+	    "AS", "AND", "OR", "NOT", "IN", "IS", "NULL", "LIKE", "BETWEEN", "CASE", "WHEN", "THEN", "ELSE", "END", "ASC", "DESC", "LIMIT", "TOP",
+	    "DISTINCT"
+	);
+
+	/**
+	 * The kinds of tokens
+	 */
+	private enum TokenType {
+		WORD,
+		QUOTED,
+		STRING,
+		NUMBER,
+		SYMBOL,
+		END
+	}
+
+	/**
+	 * A token of the SQL
+	 *
+	 * @param type     The kind of token
+	 * @param text     The text, without quotes for strings and quoted identifiers
+	 * @param position The position in the SQL
+	 */
+	private record Token( TokenType type, String text, int position ) {
+	}
+
+	/**
+	 * The SQL being parsed
+	 */
+	private final String		sql;
+
+	/**
+	 * The tokens of the SQL
+	 */
+	private final List<Token>	tokens;
+
+	/**
+	 * The position of the current token
+	 */
+	private int					current;
+
+	/**
+	 * The number of parameters seen so far
+	 */
+	private int					params;
+
+	/**
+	 * Constructor
+	 *
+	 * @param sql The SQL to parse
+	 */
+	private QoQParser( String sql ) {
+		this.sql	= sql;
+		this.tokens	= tokenize( sql );
+	}
+
+	/**
+	 * Parse a query of queries
+	 *
+	 * @param sql The SQL
+	 *
+	 * @return The logical plan
+	 *
+	 * @throws DatabaseException If the SQL is not valid
+	 */
+	public static QoQStatement parse( String sql ) {
+		return new QoQParser( sql ).statement();
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Statements
+	 * --------------------------------------------------------------------------
+	 */
+
+	private QoQStatement statement() {
+		List<Select>	selects		= new ArrayList<>();
+		List<Boolean>	unionAll	= new ArrayList<>();
+		selects.add( select() );
+		while ( acceptWord( "UNION" ) ) {
+			unionAll.add( acceptWord( "ALL" ) );
+			selects.add( select() );
+		}
+		List<OrderItem> orderBy = new ArrayList<>();
+		if ( acceptWord( "ORDER" ) ) {
+			expectWord( "BY" );
+			do {
+				QoQExpression	expression	= expression();
+				boolean			descending	= acceptWord( "DESC" );
+				if ( !descending ) {
+					acceptWord( "ASC" );
+				}
+				orderBy.add( new OrderItem( expression, descending ) );
+			} while ( acceptSymbol( "," ) );
+		}
+		Integer limit = null;
+		if ( acceptWord( "LIMIT" ) ) {
+			limit = integer();
+		}
+		acceptSymbol( ";" );
+		if ( peek().type() != TokenType.END ) {
+			throw error( "Unexpected [" + peek().text() + "]" );
+		}
+		return new QoQStatement( selects, unionAll, orderBy, limit, params );
+	}
+
+	private Select select() {
+		expectWord( "SELECT" );
+		boolean distinct = acceptWord( "DISTINCT" );
+		if ( !distinct ) {
+			acceptWord( "ALL" );
+		}
+		Integer top = null;
+		if ( acceptWord( "TOP" ) ) {
+			top = integer();
+		}
+
+		List<SelectItem> items = new ArrayList<>();
+		do {
+			items.add( selectItem() );
+		} while ( acceptSymbol( "," ) );
+
+		expectWord( "FROM" );
+		Table		from	= table();
+		List<Join>	joins	= new ArrayList<>();
+		while ( true ) {
+			if ( acceptSymbol( "," ) ) {
+				joins.add( new Join( JoinType.CROSS, table(), null ) );
+			} else if ( acceptWord( "CROSS" ) ) {
+				expectWord( "JOIN" );
+				joins.add( new Join( JoinType.CROSS, table(), null ) );
+			} else if ( acceptWord( "LEFT" ) ) {
+				acceptWord( "OUTER" );
+				expectWord( "JOIN" );
+				joins.add( join( JoinType.LEFT ) );
+			} else if ( acceptWord( "INNER" ) ) {
+				expectWord( "JOIN" );
+				joins.add( join( JoinType.INNER ) );
+			} else if ( acceptWord( "JOIN" ) ) {
+				joins.add( join( JoinType.INNER ) );
+			} else {
+				break;
+			}
+		}
+
+		QoQExpression where = acceptWord( "WHERE" ) ? expression() : null;
+
+		List<QoQExpression> groupBy = new ArrayList<>();
+		if ( acceptWord( "GROUP" ) ) {
+			expectWord( "BY" );
+			do {
+				groupBy.add( expression() );
+			} while ( acceptSymbol( "," ) );
+		}
+		QoQExpression having = acceptWord( "HAVING" ) ? expression() : null;
+
+		return new Select( distinct, top, items, from, joins, where, groupBy, having );
+	}
+
+	private SelectItem selectItem() {
+		if ( acceptSymbol( "*" ) ) {
+			return new SelectItem( new Star( null ), null );
+		}
+		// table.*
+		if ( isIdentifier( peek() ) && peek( 1 ).text().equals( "." ) && peek( 2 ).text().equals( "*" ) ) {
+			String table = next().text();
+			next();
+			next();
+			return new SelectItem( new Star( table ), null );
+		}
+		QoQExpression expression = expression();
+		return new SelectItem( expression, alias() );
+	}
+
+	private Table table() {
+		StringBuilder name = new StringBuilder( identifier() );
+		while ( acceptSymbol( "." ) ) {
+			name.append( '.' ).append( identifier() );
+		}
+		return new Table( name.toString(), alias() );
+	}
+
+	private Join join( JoinType type ) {
+		Table table = table();
+		expectWord( "ON" );
+		return new Join( type, table, expression() );
+	}
+
+	/**
+	 * Read an optional alias, with or without {@code AS}
+	 */
+	private String alias() {
+		if ( acceptWord( "AS" ) ) {
+			return identifier();
+		}
+		Token token = peek();
+		if ( token.type() == TokenType.QUOTED || ( token.type() == TokenType.WORD && !RESERVED.contains( token.text().toUpperCase() ) ) ) {
+			return next().text();
+		}
+		return null;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Expressions, from the lowest precedence to the highest
+	 * --------------------------------------------------------------------------
+	 */
+
+	private QoQExpression expression() {
+		QoQExpression left = and();
+		while ( acceptWord( "OR" ) ) {
+			left = new Binary( Operator.OR, left, and() );
+		}
+		return left;
+	}
+
+	private QoQExpression and() {
+		QoQExpression left = not();
+		while ( acceptWord( "AND" ) ) {
+			left = new Binary( Operator.AND, left, not() );
+		}
+		return left;
+	}
+
+	private QoQExpression not() {
+		if ( acceptWord( "NOT" ) ) {
+			return new Unary( true, not() );
+		}
+		return predicate();
+	}
+
+	private QoQExpression predicate() {
+		QoQExpression left = additive();
+		while ( true ) {
+			Token token = peek();
+			if ( token.type() == TokenType.SYMBOL ) {
+				Operator operator = switch ( token.text() ) {
+					case "=" -> Operator.EQUAL;
+					case "<>", "!=" -> Operator.NOT_EQUAL;
+					case "<" -> Operator.LESS;
+					case "<=" -> Operator.LESS_EQUAL;
+					case ">" -> Operator.GREATER;
+					case ">=" -> Operator.GREATER_EQUAL;
+					default -> null;
+				};
+				if ( operator == null ) {
+					return left;
+				}
+				next();
+				left = new Binary( operator, left, additive() );
+				continue;
+			}
+			if ( acceptWord( "IS" ) ) {
+				boolean negated = acceptWord( "NOT" );
+				expectWord( "NULL" );
+				left = new IsNull( left, negated );
+				continue;
+			}
+			boolean negated = false;
+			if ( isWord( token, "NOT" ) && ( isWord( peek( 1 ), "LIKE" ) || isWord( peek( 1 ), "IN" ) || isWord( peek( 1 ), "BETWEEN" ) ) ) {
+				next();
+				negated = true;
+			}
+			if ( acceptWord( "LIKE" ) ) {
+				left = new Like( left, additive(), negated );
+			} else if ( acceptWord( "IN" ) ) {
+				expectSymbol( "(" );
+				List<QoQExpression> list = new ArrayList<>();
+				do {
+					list.add( expression() );
+				} while ( acceptSymbol( "," ) );
+				expectSymbol( ")" );
+				left = new In( left, list, negated );
+			} else if ( acceptWord( "BETWEEN" ) ) {
+				QoQExpression low = additive();
+				expectWord( "AND" );
+				left = new Between( left, low, additive(), negated );
+			} else {
+				return left;
+			}
+		}
+	}
+
+	private QoQExpression additive() {
+		QoQExpression left = multiplicative();
+		while ( true ) {
+			if ( acceptSymbol( "+" ) ) {
+				left = new Binary( Operator.PLUS, left, multiplicative() );
+			} else if ( acceptSymbol( "-" ) ) {
+				left = new Binary( Operator.MINUS, left, multiplicative() );
+			} else if ( acceptSymbol( "||" ) ) {
+				left = new Binary( Operator.CONCAT, left, multiplicative() );
+			} else {
+				return left;
+			}
+		}
+	}
+
+	private QoQExpression multiplicative() {
+		QoQExpression left = unary();
+		while ( true ) {
+			if ( acceptSymbol( "*" ) ) {
+				left = new Binary( Operator.TIMES, left, unary() );
+			} else if ( acceptSymbol( "/" ) ) {
+				left = new Binary( Operator.DIVIDE, left, unary() );
+			} else if ( acceptSymbol( "%" ) ) {
+				left = new Binary( Operator.MODULO, left, unary() );
+			} else {
+				return left;
+			}
+		}
+	}
+
+	private QoQExpression unary() {
+		if ( acceptSymbol( "-" ) ) {
+			QoQExpression operand = unary();
+			if ( operand instanceof Literal literal && literal.value() instanceof Number number ) {
+				return new Literal( number instanceof Integer i ? ( Object ) ( -i ) : ( Object ) ( -number.doubleValue() ) );
+			}
+			return new Unary( false, operand );
+		}
+		acceptSymbol( "+" );
+		return primary();
+	}
+
+	private QoQExpression primary() {
+		Token token = next();
+		switch ( token.type() ) {
+			case STRING :
+				return new Literal( token.text() );
+			case NUMBER :
+				return new Literal( number( token.text() ) );
+			case SYMBOL :
+				if ( token.text().equals( "?" ) ) {
+					return new Param( params++ );
+				}
+				if ( token.text().equals( "(" ) ) {
+					QoQExpression expression = expression();
+					expectSymbol( ")" );
+					return expression;
+				}
+				throw error( "Unexpected [" + token.text() + "]", token );
+			case QUOTED :
+				return column( token.text() );
+			case WORD :
+				String word = token.text().toUpperCase();
+				switch ( word ) {
+					case "NULL" :
+						return new Literal( null );
+					case "TRUE" :
+						return new Literal( true );
+					case "FALSE" :
+						return new Literal( false );
+					case "CASE" :
+						return caseExpression();
+					case "CAST" :
+						expectSymbol( "(" );
+						QoQExpression value = expression();
+						expectWord( "AS" );
+						String type = identifier().toUpperCase();
+						// Lengths and precisions such as VARCHAR(50) are accepted and ignored
+						if ( acceptSymbol( "(" ) ) {
+							while ( !acceptSymbol( ")" ) ) {
+								next();
+							}
+						}
+						expectSymbol( ")" );
+						return new Cast( value, type );
+					default :
+						if ( RESERVED.contains( word ) ) {
+							throw error( "Unexpected [" + token.text() + "]", token );
+						}
+						if ( acceptSymbol( "(" ) ) {
+							return function( word );
+						}
+						return column( token.text() );
+				}
+			default :
+				throw error( "Unexpected end of the SQL", token );
+		}
+	}
+
+	private QoQExpression column( String first ) {
+		if ( acceptSymbol( "." ) ) {
+			return new Column( first, identifier() );
+		}
+		return new Column( null, first );
+	}
+
+	private QoQExpression function( String name ) {
+		List<QoQExpression>	arguments	= new ArrayList<>();
+		boolean				distinct	= false;
+		if ( acceptSymbol( "*" ) ) {
+			arguments.add( new Star( null ) );
+		} else if ( !isSymbol( peek(), ")" ) ) {
+			distinct = acceptWord( "DISTINCT" );
+			do {
+				arguments.add( expression() );
+			} while ( acceptSymbol( "," ) );
+		}
+		expectSymbol( ")" );
+		return new Function( name, arguments, distinct );
+	}
+
+	private QoQExpression caseExpression() {
+		QoQExpression		operand		= isWord( peek(), "WHEN" ) ? null : expression();
+		List<QoQExpression>	conditions	= new ArrayList<>();
+		List<QoQExpression>	results		= new ArrayList<>();
+		while ( acceptWord( "WHEN" ) ) {
+			conditions.add( expression() );
+			expectWord( "THEN" );
+			results.add( expression() );
+		}
+		if ( conditions.isEmpty() ) {
+			throw error( "CASE needs at least one WHEN" );
+		}
+		QoQExpression otherwise = acceptWord( "ELSE" ) ? expression() : null;
+		expectWord( "END" );
+		return new Case( operand, conditions, results, otherwise );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Token helpers
+	 * --------------------------------------------------------------------------
+	 */
+
+	private Token peek() {
+		return peek( 0 );
+	}
+
+	private Token peek( int offset ) {
+		return tokens.get( Math.min( current + offset, tokens.size() - 1 ) );
+	}
+
+	private Token next() {
+		Token token = peek();
+		if ( current < tokens.size() - 1 ) {
+			current++;
+		}
+		return token;
+	}
+
+	private static boolean isWord( Token token, String word ) {
+		return token.type() == TokenType.WORD && token.text().equalsIgnoreCase( word );
+	}
+
+	private static boolean isSymbol( Token token, String symbol ) {
+		return token.type() == TokenType.SYMBOL && token.text().equals( symbol );
+	}
+
+	private static boolean isIdentifier( Token token ) {
+		return token.type() == TokenType.QUOTED || ( token.type() == TokenType.WORD && !RESERVED.contains( token.text().toUpperCase() ) );
+	}
+
+	private boolean acceptWord( String word ) {
+		if ( isWord( peek(), word ) ) {
+			next();
+			return true;
+		}
+		return false;
+	}
+
+	private boolean acceptSymbol( String symbol ) {
+		if ( isSymbol( peek(), symbol ) ) {
+			next();
+			return true;
+		}
+		return false;
+	}
+
+	private void expectWord( String word ) {
+		if ( !acceptWord( word ) ) {
+			throw error( "Expected [" + word + "] but found [" + peek().text() + "]" );
+		}
+	}
+
+	private void expectSymbol( String symbol ) {
+		if ( !acceptSymbol( symbol ) ) {
+			throw error( "Expected [" + symbol + "] but found [" + peek().text() + "]" );
+		}
+	}
+
+	private String identifier() {
+		if ( !isIdentifier( peek() ) ) {
+			throw error( "Expected a name but found [" + peek().text() + "]" );
+		}
+		return next().text();
+	}
+
+	private int integer() {
+		Token token = next();
+		if ( token.type() != TokenType.NUMBER || token.text().contains( "." ) ) {
+			throw error( "Expected an integer but found [" + token.text() + "]", token );
+		}
+		return Integer.parseInt( token.text() );
+	}
+
+	private static Object number( String text ) {
+		if ( !text.contains( "." ) && !text.contains( "e" ) && !text.contains( "E" ) ) {
+			try {
+				return Integer.valueOf( text );
+			} catch ( NumberFormatException e ) {
+				// Too large for an int
+			}
+		}
+		return new BigDecimal( text ).doubleValue();
+	}
+
+	private DatabaseException error( String message ) {
+		return error( message, peek() );
+	}
+
+	private DatabaseException error( String message, Token token ) {
+		return new DatabaseException( "Invalid query of queries SQL at position " + token.position() + ": " + message, sql );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Tokenizer
+	 * --------------------------------------------------------------------------
+	 */
+
+	private static List<Token> tokenize( String sql ) {
+		List<Token>	tokens	= new ArrayList<>();
+		int			length	= sql.length();
+		int			i		= 0;
+		while ( i < length ) {
+			char c = sql.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				i++;
+			} else if ( c == '-' && i + 1 < length && sql.charAt( i + 1 ) == '-' ) {
+				while ( i < length && sql.charAt( i ) != '\n' ) {
+					i++;
+				}
+			} else if ( c == '/' && i + 1 < length && sql.charAt( i + 1 ) == '*' ) {
+				int end = sql.indexOf( "*/", i + 2 );
+				i = end < 0 ? length : end + 2;
+			} else if ( Character.isLetter( c ) || c == '_' || c == '$' ) {
+				int start = i;
+				while ( i < length && ( Character.isLetterOrDigit( sql.charAt( i ) ) || sql.charAt( i ) == '_' || sql.charAt( i ) == '$' ) ) {
+					i++;
+				}
+				tokens.add( new Token( TokenType.WORD, sql.substring( start, i ), start ) );
+			} else if ( Character.isDigit( c ) || ( c == '.' && i + 1 < length && Character.isDigit( sql.charAt( i + 1 ) ) ) ) {
+				int start = i;
+				while ( i < length && ( Character.isDigit( sql.charAt( i ) ) || sql.charAt( i ) == '.' ) ) {
+					i++;
+				}
+				if ( i < length && ( sql.charAt( i ) == 'e' || sql.charAt( i ) == 'E' ) ) {
+					i++;
+					if ( i < length && ( sql.charAt( i ) == '+' || sql.charAt( i ) == '-' ) ) {
+						i++;
+					}
+					while ( i < length && Character.isDigit( sql.charAt( i ) ) ) {
+						i++;
+					}
+				}
+				tokens.add( new Token( TokenType.NUMBER, sql.substring( start, i ), start ) );
+			} else if ( c == '\'' ) {
+				int				start	= i++;
+				StringBuilder	text	= new StringBuilder();
+				while ( true ) {
+					if ( i >= length ) {
+						throw new DatabaseException( "Invalid query of queries SQL: unterminated string at position " + start, sql );
+					}
+					char s = sql.charAt( i++ );
+					if ( s == '\'' ) {
+						// Two quotes are an escaped quote
+						if ( i < length && sql.charAt( i ) == '\'' ) {
+							text.append( '\'' );
+							i++;
+							continue;
+						}
+						break;
+					}
+					text.append( s );
+				}
+				tokens.add( new Token( TokenType.STRING, text.toString(), start ) );
+			} else if ( c == '[' || c == '"' || c == '`' ) {
+				char	close	= c == '[' ? ']' : c;
+				int		end		= sql.indexOf( close, i + 1 );
+				if ( end < 0 ) {
+					throw new DatabaseException( "Invalid query of queries SQL: unterminated name at position " + i, sql );
+				}
+				tokens.add( new Token( TokenType.QUOTED, sql.substring( i + 1, end ), i ) );
+				i = end + 1;
+			} else {
+				String two = i + 1 < length ? sql.substring( i, i + 2 ) : "";
+				if ( two.equals( "<>" ) || two.equals( "!=" ) || two.equals( "<=" ) || two.equals( ">=" ) || two.equals( "||" ) ) {
+					tokens.add( new Token( TokenType.SYMBOL, two, i ) );
+					i += 2;
+				} else if ( "=<>+-*/%(),.?;".indexOf( c ) >= 0 ) {
+					tokens.add( new Token( TokenType.SYMBOL, String.valueOf( c ), i ) );
+					i++;
+				} else {
+					throw new DatabaseException( "Invalid query of queries SQL: unexpected character [" + c + "] at position " + i, sql );
+				}
+			}
+		}
+		tokens.add( new Token( TokenType.END, "", length ) );
+		return tokens;
+	}
+
+}
@@ -0,0 +1,129 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import java.util.List;
+
+/**
+ * The logical plan of a query of queries: one or more selects combined with {@code UNION}, then ordered and limited.
+ * Plans only hold the parsed SQL, so they are cached per SQL string and shared by every execution.
+ *
+ * @param selects    The selects, at least one
+ * @param unionAll   For each select after the first, whether it is combined with {@code UNION ALL} rather than {@code UNION}
+ * @param orderBy    The ordering of the result
+ * @param limit      The maximum number of rows, or null
+ * @param paramCount The number of positional parameters
+ */
+public record QoQStatement( List<Select> selects, List<Boolean> unionAll, List<OrderItem> orderBy, Integer limit, int paramCount ) {
+
+	/**
+	 * A single select
+	 *
+	 * @param distinct Whether duplicate rows are removed
+	 * @param top      The maximum number of rows from {@code TOP n}, or null
+	 * @param items    The selected expressions
+	 * @param from     The first table
+	 * @param joins    The other tables
+	 * @param where    The row filter, or null
+	 * @param groupBy  The grouping expressions
+	 * @param having   The group filter, or null
+	 */
+	public record Select(
+	    boolean distinct,
+	    Integer top,
+	    List<SelectItem> items,
+	    Table from,
+	    List<Join> joins,
+	    QoQExpression where,
+	    List<QoQExpression> groupBy,
+	    QoQExpression having ) {
+
+		/**
+		 * Verify if this select aggregates rows into groups
+		 *
+		 * @return True if it has a {@code GROUP BY} or uses aggregate functions
+		 */
+		public boolean isAggregate() {
+			if ( !groupBy.isEmpty() || ( having != null ) ) {
+				return true;
+			}
+			for ( SelectItem item : items ) {
+				if ( item.expression().hasAggregate() ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * A selected expression
+	 *
+	 * @param expression The expression
+	 * @param alias      The column name given with {@code AS}, or null
+	 */
+	public record SelectItem( QoQExpression expression, String alias ) {
+	}
+
+	/**
+	 * A queried table, which is a query variable
+	 *
+	 * @param name  The variable name, such as {@code qry} or {@code variables.qry}
+	 * @param alias The alias, or null
+	 */
+	public record Table( String name, String alias ) {
+
+		/**
+		 * Get the name columns of this table are qualified with
+		 *
+		 * @return The alias, or the last part of the variable name
+		 */
+		public String reference() {
+			return alias != null ? alias : name.substring( name.lastIndexOf( '.' ) + 1 );
+		}
+	}
+
+	/**
+	 * The ways to join a table
+	 */
+	public enum JoinType {
+		INNER,
+		LEFT,
+		CROSS
+	}
+
+	/**
+	 * A joined table
+	 *
+	 * @param type  The kind of join
+	 * @param table The table
+	 * @param on    The join condition, null for a cross join
+	 */
+	public record Join( JoinType type, Table table, QoQExpression on ) {
+	}
+
+	/**
+	 * An ordering expression
+	 *
+	 * @param expression The expression, a position in the select list if it is an integer literal
+	 * @param descending Whether the order is descending
+	 */
+	public record OrderItem( QoQExpression expression, boolean descending ) {
+	}
+
+}
@@ -23,12 +23,14 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.StaticClassBoxContext;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.loader.resolvers.BoxResolver;
 import ortus.boxlang.runtime.loader.resolvers.IClassResolver;
 import ortus.boxlang.runtime.loader.resolvers.JavaResolver;
+import ortus.boxlang.runtime.metrics.MetricsRegistry;
 import ortus.boxlang.runtime.runnables.BoxClassSupport;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
@@ -265,7 +267,29 @@ public class ClassLocator extends ClassLoader {
 	 * @return An optional containing the class record if found, empty otherwise
 	 */
 	private Optional<ClassLocation> getClass( String name ) {
-		return Optional.ofNullable( resolverCache.get( name ) );
+		ClassLocation location = resolverCache.get( name );
+		BoxRuntime.getInstance().getMetricsRegistry().increment( location != null ? "classLocator.cache.hits" : "classLocator.cache.misses" );
+		return Optional.ofNullable( location );
+	}
+
+	/**
+	 * Resolve a class with a resolver, timing it in the {@code classLocator.resolve} metric
+	 *
+	 * @param resolverPrefix The prefix of the resolver to use
+	 * @param context        The current context of execution
+	 * @param name           The fully qualified path of the class to resolve
+	 * @param imports        The list of imports to use when resolving the class
+	 *
+	 * @return An optional containing the class record if found, empty otherwise
+	 */
+	private Optional<ClassLocation> resolve( String resolverPrefix, IBoxContext context, String name, List<ImportDefinition> imports ) {
+		MetricsRegistry	metrics	= BoxRuntime.getInstance().getMetricsRegistry();
+		long			start	= metrics.startTimer();
+		try {
+			return getResolver( resolverPrefix ).resolve( context, name, imports );
+		} finally {
+			metrics.stopTimer( "classLocator.resolve", start );
+		}
 	}
 
 	/**
@@ -415,7 +439,7 @@ public class ClassLocator extends ClassLoader {
 		// Try to resolve it
 		Optional<ClassLocation>			resolvedClass	= getClass( cacheKey )
 		    // Resolve it
-		    .or( () -> getResolver( resolverPrefix ).resolve( context, name, thisImports ) )
+		    .or( () -> resolve( resolverPrefix, context, name, thisImports ) )
 		    // If found, cache it
 		    .map( target -> {
 			    if ( target.cachable() ) {
@@ -567,9 +591,9 @@ public class ClassLocator extends ClassLoader {
 		// Try to get it from cache
 		Optional<ClassLocation> resolvedClass = getClass( name )
 		    // Is it a BoxClass?
-		    .or( () -> getResolver( "bx" ).resolve( context, name, imports ) )
+		    .or( () -> resolve( "bx", context, name, imports ) )
 		    // Is it a JavaClass?
-		    .or( () -> getResolver( "java" ).resolve( context, name, imports ) )
+		    .or( () -> resolve( "java", context, name, imports ) )
 		    // If found, cache it
 		    .map( target -> {
 			    if ( target.cachable() ) {
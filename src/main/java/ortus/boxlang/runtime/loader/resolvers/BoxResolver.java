@@ -21,11 +21,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.CompilerConfig.CacheMode;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.loader.ClassLocator;
 import ortus.boxlang.runtime.loader.ClassLocator.ClassLocation;
@@ -57,6 +61,11 @@ public class BoxResolver extends BaseResolver {
 	 */
 	private static final List<ImportDefinition>	EMPTY_IMPORTS		= List.of();
 
+	/**
+	 * Whether a possible class file exists, remembered in the trusted cache mode so lookups don't stat the file system
+	 */
+	private final Map<Path, Boolean>			trustedExists		= new ConcurrentHashMap<>();
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Constructor
@@ -220,7 +229,7 @@ public class BoxResolver extends BaseResolver {
 		    } )
 		    // Verify that the file exists
 		    // TODO: Make this case insensitive
-		    .filter( possibleMatch -> possibleMatch.absolutePath().toFile().exists() )
+		    .filter( possibleMatch -> exists( possibleMatch.absolutePath() ) )
 		    // Map it to a ClassLocation object
 		    .map( possibleMatch -> {
 
@@ -296,11 +305,33 @@ public class BoxResolver extends BaseResolver {
 			Path targetPath = parentPath.resolve( slashName.substring( 1 ) + extension ).normalize();
 
 			// TODO: Make this case insensitive
-			if ( Files.exists( targetPath ) ) {
+			if ( exists( targetPath ) ) {
 				return targetPath;
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Check if a possible class file exists. In the trusted cache mode the answer for a path is remembered, the
+	 * candidate files still need one check to pick the extension but the file system is not asked again.
+	 *
+	 * @param path The possible class file
+	 *
+	 * @return True if the file exists
+	 */
+	private boolean exists( Path path ) {
+		if ( BoxRuntime.getInstance().getConfiguration().compiler.cacheMode == CacheMode.TRUSTED ) {
+			return trustedExists.computeIfAbsent( path, Files::exists );
+		}
+		return Files.exists( path );
+	}
+
+	/**
+	 * Forget the remembered class files of the trusted cache mode, so every lookup checks the file system again
+	 */
+	public void clearTrustedCache() {
+		trustedExists.clear();
+	}
+
 }
@@ -0,0 +1,362 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.logging;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import ortus.boxlang.runtime.config.segments.RuntimeConfig;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * Writes the messages of {@code writeLog()} and {@code bx:log} to their log files.
+ * <p>
+ * Each log file gets one rolling appender which stays open for the life of the runtime, instead of opening and closing
+ * the file for every message. Messages are queued by the logging thread and written by a single writer thread, which
+ * drains the queue in batches and flushes each file once per batch.
+ * <p>
+ * When the queue is full the logging thread waits for room, unless {@code logsNeverBlock} is enabled, in which case the
+ * message is dropped and counted in the metrics.
+ * <p>
+ * A log file deleted while the runtime is running, by a cleanup job for example, is created again on the next write.
+ */
+public class LogFileManager {
+
+	/**
+	 * The fully qualified class name reported as the caller of the events
+	 */
+	private static final String										FQCN			= LogFileManager.class.getName();
+
+	/**
+	 * The most events written between two flushes of a file
+	 */
+	private static final int										MAX_BATCH_SIZE	= 512;
+
+	/**
+	 * The logger
+	 */
+	private static final org.slf4j.Logger							logger			= LoggerFactory.getLogger( LogFileManager.class );
+
+	/**
+	 * The appenders by absolute log file path
+	 */
+	private final Map<String, RollingFileAppender<ILoggingEvent>>	appenders		= new ConcurrentHashMap<>();
+
+	/**
+	 * The events waiting to be written
+	 */
+	private final BlockingQueue<QueuedEvent>						queue;
+
+	/**
+	 * The number of events queued since the start
+	 */
+	private final AtomicLong										queued			= new AtomicLong();
+
+	/**
+	 * The number of events written since the start, successfully or not
+	 */
+	private final AtomicLong										written			= new AtomicLong();
+
+	/**
+	 * The number of events dropped because the queue was full
+	 */
+	private final LongAdder											dropped			= new LongAdder();
+
+	/**
+	 * The number of events which could not be written
+	 */
+	private final LongAdder											failed			= new LongAdder();
+
+	/**
+	 * The runtime configuration with the rolling settings
+	 */
+	private final RuntimeConfig										config;
+
+	/**
+	 * The writer thread, started with the first event
+	 */
+	private volatile Thread											writer;
+
+	/**
+	 * An event and the file it goes to
+	 *
+	 * @param filePath The absolute path of the log file
+	 * @param event    The logging event
+	 */
+	private record QueuedEvent( String filePath, ILoggingEvent event ) {
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param config The runtime configuration
+	 */
+	public LogFileManager( RuntimeConfig config ) {
+		this.config	= config;
+		this.queue	= new ArrayBlockingQueue<>( Math.max( 1, config.logsQueueSize ) );
+	}
+
+	/**
+	 * Log a message to a file
+	 *
+	 * @param filePath The absolute path of the log file
+	 * @param category The log category, reported as the logger name
+	 * @param level    The level
+	 * @param message  The message
+	 */
+	public void log( String filePath, String category, Level level, String message ) {
+		LoggerContext	loggerContext	= ( LoggerContext ) LoggerFactory.getILoggerFactory();
+		Logger			categoryLogger	= loggerContext.getLogger( category );
+		LoggingEvent	event			= new LoggingEvent( FQCN, categoryLogger, level, message, null, null );
+		// Capture what depends on the logging thread before it is written elsewhere
+		event.prepareForDeferredProcessing();
+
+		ensureWriter();
+		QueuedEvent queuedEvent = new QueuedEvent( filePath, event );
+		if ( config.logsNeverBlock ) {
+			if ( !queue.offer( queuedEvent ) ) {
+				dropped.increment();
+				return;
+			}
+		} else {
+			try {
+				queue.put( queuedEvent );
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				dropped.increment();
+				return;
+			}
+		}
+		queued.incrementAndGet();
+	}
+
+	/**
+	 * Wait until every event queued so far has been written
+	 *
+	 * @param timeout The most milliseconds to wait
+	 *
+	 * @return True if the events were written, false if the timeout expired first
+	 */
+	public boolean flush( long timeout ) {
+		long	target		= queued.get();
+		long	deadline	= System.currentTimeMillis() + timeout;
+		synchronized ( written ) {
+			while ( written.get() < target ) {
+				long remaining = deadline - System.currentTimeMillis();
+				if ( remaining <= 0 ) {
+					return false;
+				}
+				try {
+					written.wait( remaining );
+				} catch ( InterruptedException e ) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Write the queued events, stop the writer and close all the log files
+	 *
+	 * @param timeout The most milliseconds to wait for the queued events
+	 */
+	public void shutdown( long timeout ) {
+		if ( !flush( timeout ) ) {
+			logger.warn( "Closing the log files with [{}] messages still queued", queue.size() );
+		}
+		synchronized ( this ) {
+			if ( writer != null ) {
+				writer.interrupt();
+				writer = null;
+			}
+		}
+		appenders.values().forEach( RollingFileAppender::stop );
+		appenders.clear();
+	}
+
+	/**
+	 * Get the metrics of the log files
+	 *
+	 * @return A struct with the number of queued, written, dropped and failed events, the queue capacity and the open files
+	 */
+	public IStruct getMetrics() {
+		return Struct.of(
+		    "queueSize", queue.size(),
+		    "queueCapacity", queue.size() + queue.remainingCapacity(),
+		    "queued", queued.get(),
+		    "written", written.get(),
+		    "dropped", dropped.sum(),
+		    "failed", failed.sum(),
+		    "files", Array.fromList( new ArrayList<>( appenders.keySet() ) )
+		);
+	}
+
+	/**
+	 * Start the writer thread if it is not running
+	 */
+	private void ensureWriter() {
+		if ( writer != null ) {
+			return;
+		}
+		synchronized ( this ) {
+			if ( writer == null ) {
+				Thread thread = new Thread( this::write, "boxlang-log-writer" );
+				thread.setDaemon( true );
+				thread.start();
+				writer = thread;
+			}
+		}
+	}
+
+	/**
+	 * Write the queued events in batches until the thread is interrupted
+	 */
+	private void write() {
+		List<QueuedEvent>	batch	= new ArrayList<>( MAX_BATCH_SIZE );
+		Set<String>			checked	= new HashSet<>();
+		while ( !Thread.currentThread().isInterrupted() ) {
+			try {
+				batch.add( queue.take() );
+			} catch ( InterruptedException e ) {
+				return;
+			}
+			queue.drainTo( batch, MAX_BATCH_SIZE - 1 );
+
+			for ( int i = 0; i < batch.size(); i++ ) {
+				QueuedEvent queuedEvent = batch.get( i );
+				try {
+					RollingFileAppender<ILoggingEvent> appender = getAppender( queuedEvent.filePath(), checked.add( queuedEvent.filePath() ) );
+					// Only the writer thread appends, so the flush can be saved for the last event of each file in the batch
+					appender.setImmediateFlush( isLastOfFile( batch, i ) );
+					appender.doAppend( queuedEvent.event() );
+				} catch ( RuntimeException e ) {
+					failed.increment();
+					logger.error( "Unable to write to the log file [{}]", queuedEvent.filePath(), e );
+				}
+			}
+
+			synchronized ( written ) {
+				written.addAndGet( batch.size() );
+				written.notifyAll();
+			}
+			batch.clear();
+			checked.clear();
+		}
+	}
+
+	/**
+	 * Verify if an event is the last one of its file in a batch
+	 *
+	 * @param batch The batch
+	 * @param index The index of the event
+	 *
+	 * @return True if no later event of the batch goes to the same file
+	 */
+	private static boolean isLastOfFile( List<QueuedEvent> batch, int index ) {
+		String filePath = batch.get( index ).filePath();
+		for ( int i = index + 1; i < batch.size(); i++ ) {
+			if ( batch.get( i ).filePath().equals( filePath ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the appender of a log file, opening it if needed
+	 *
+	 * @param filePath The absolute path of the log file
+	 * @param check    Whether to verify that the file still exists, once per batch
+	 *
+	 * @return The started appender
+	 */
+	private RollingFileAppender<ILoggingEvent> getAppender( String filePath, boolean check ) {
+		RollingFileAppender<ILoggingEvent> appender = appenders.get( filePath );
+		if ( appender != null && check && !Files.exists( Paths.get( filePath ) ) ) {
+			// The file was deleted under us, a new appender creates it again
+			appender.stop();
+			appender = null;
+		}
+		if ( appender == null ) {
+			appender = createAppender( filePath );
+			appenders.put( filePath, appender );
+		}
+		return appender;
+	}
+
+	/**
+	 * Create a rolling appender for a log file. Rolled files get the date and an index before the extension.
+	 *
+	 * @param filePath The absolute path of the log file
+	 *
+	 * @return The started appender
+	 */
+	private RollingFileAppender<ILoggingEvent> createAppender( String filePath ) {
+		LoggerContext						loggerContext	= ( LoggerContext ) LoggerFactory.getILoggerFactory();
+		RollingFileAppender<ILoggingEvent>	appender		= new RollingFileAppender<>();
+		appender.setContext( loggerContext );
+		appender.setName( filePath );
+		appender.setFile( filePath );
+		appender.setEncoder( LoggingConfigurator.encoder );
+
+		String	fileName	= Path.of( filePath ).getFileName().toString();
+		int		extension	= fileName.lastIndexOf( '.' );
+		String	base		= extension > 0 ? filePath.substring( 0, filePath.length() - fileName.length() + extension ) : filePath;
+		String	suffix		= extension > 0 ? fileName.substring( extension ) : "";
+
+		SizeAndTimeBasedRollingPolicy<ILoggingEvent> policy = new SizeAndTimeBasedRollingPolicy<>();
+		policy.setContext( loggerContext );
+		policy.setParent( appender );
+		policy.setFileNamePattern( base + ".%d{yyyy-MM-dd}.%i" + suffix );
+		policy.setMaxFileSize( FileSize.valueOf( config.logsMaxFileSize ) );
+		policy.setMaxHistory( config.logsMaxHistory );
+		policy.setTotalSizeCap( FileSize.valueOf( config.logsTotalSizeCap ) );
+		policy.start();
+
+		appender.setRollingPolicy( policy );
+		appender.setTriggeringPolicy( policy );
+		appender.start();
+		return appender;
+	}
+
+}
@@ -0,0 +1,208 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * A histogram of durations in nanoseconds, made for concurrent recording.
+ * <p>
+ * The values are counted in log-linear buckets, like an HDR histogram: every power of two is split in
+ * {@link #SUB_BUCKETS} equal buckets, so a percentile is precise to about 12% of its value whatever its magnitude.
+ * Recording is a couple of atomic additions and needs no lock. A histogram takes about 4KB.
+ */
+public class LatencyHistogram {
+
+	/**
+	 * The number of bits used to split a power of two
+	 */
+	private static final int		SUB_BUCKET_BITS	= 3;
+
+	/**
+	 * The number of buckets in each power of two
+	 */
+	private static final int		SUB_BUCKETS		= 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Enough buckets for any positive long
+	 */
+	private static final int		BUCKETS			= ( 64 - SUB_BUCKET_BITS ) * SUB_BUCKETS;
+
+	/**
+	 * Nanoseconds in a millisecond, the unit of the snapshots
+	 */
+	private static final double		NANOS_PER_MILLI	= 1_000_000d;
+
+	/**
+	 * The count of values per bucket
+	 */
+	private final AtomicLongArray	buckets			= new AtomicLongArray( BUCKETS );
+
+	/**
+	 * The number of values
+	 */
+	private final LongAdder			count			= new LongAdder();
+
+	/**
+	 * The sum of the values
+	 */
+	private final LongAdder			sum				= new LongAdder();
+
+	/**
+	 * The largest value
+	 */
+	private final AtomicLong		max				= new AtomicLong();
+
+	/**
+	 * Record a duration
+	 *
+	 * @param nanos The duration in nanoseconds, negative values count as zero
+	 */
+	public void record( long nanos ) {
+		long value = Math.max( nanos, 0 );
+		buckets.incrementAndGet( bucketOf( value ) );
+		count.increment();
+		sum.add( value );
+		if ( value > max.get() ) {
+			max.accumulateAndGet( value, Math::max );
+		}
+	}
+
+	/**
+	 * Get the number of recorded values
+	 *
+	 * @return The count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Get the sum of the recorded values
+	 *
+	 * @return The sum in nanoseconds
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * Get the largest recorded value
+	 *
+	 * @return The largest value in nanoseconds
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Get a percentile of the recorded values. Values recorded while this runs may or may not be seen.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The highest value of the bucket holding the percentile, in nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getPercentile( double percentile ) {
+		long total = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			total += buckets.get( i );
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		long	rank	= Math.max( 1, ( long ) Math.ceil( total * Math.min( percentile, 100 ) / 100 ) );
+		long	seen	= 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += buckets.get( i );
+			if ( seen >= rank ) {
+				return Math.min( highestValueOf( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clear the recorded values
+	 */
+	public void reset() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			buckets.set( i, 0 );
+		}
+		count.reset();
+		sum.reset();
+		max.set( 0 );
+	}
+
+	/**
+	 * Get a summary of the recorded values, with durations in milliseconds
+	 *
+	 * @return A struct with the count, sum, mean, max, p50, p90, p99 and p999
+	 */
+	public IStruct toStruct() {
+		long	recorded	= getCount();
+		long	total		= getSum();
+		return Struct.of(
+		    "count", recorded,
+		    "sum", total / NANOS_PER_MILLI,
+		    "mean", recorded == 0 ? 0d : total / NANOS_PER_MILLI / recorded,
+		    "max", getMax() / NANOS_PER_MILLI,
+		    "p50", getPercentile( 50 ) / NANOS_PER_MILLI,
+		    "p90", getPercentile( 90 ) / NANOS_PER_MILLI,
+		    "p99", getPercentile( 99 ) / NANOS_PER_MILLI,
+		    "p999", getPercentile( 99.9 ) / NANOS_PER_MILLI
+		);
+	}
+
+	/**
+	 * Get the bucket of a value
+	 *
+	 * @param value A positive value
+	 *
+	 * @return The bucket index
+	 */
+	static int bucketOf( long value ) {
+		if ( value < SUB_BUCKETS ) {
+			return ( int ) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros( value );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + ( int ) ( ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 ) );
+	}
+
+	/**
+	 * Get the highest value which falls in a bucket
+	 *
+	 * @param bucket The bucket index
+	 *
+	 * @return The highest value
+	 */
+	static long highestValueOf( int bucket ) {
+		if ( bucket < SUB_BUCKETS ) {
+			return bucket;
+		}
+		int		exponent	= bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long	width		= 1L << ( exponent - SUB_BUCKET_BITS );
+		long	lowest		= ( long ) ( SUB_BUCKETS + bucket % SUB_BUCKETS ) * width;
+		return lowest + width - 1;
+	}
+
+}
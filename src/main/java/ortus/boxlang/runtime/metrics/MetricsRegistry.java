@@ -0,0 +1,296 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.types.util.JSONUtil;
+
+/**
+ * The metrics of the runtime: counters, latency histograms and gauges, all kept in memory.
+ * <p>
+ * Counters and histograms are updated by the instrumented code, such as function invocations or query executions, but
+ * only while the registry is enabled. When it is disabled the instrumented code only reads a volatile flag.
+ * Gauges are read when a snapshot is taken, so they cost nothing in between.
+ * <p>
+ * Metric names are dot separated, like {@code jdbc.query}. Snapshots are available as a struct, in the Prometheus text
+ * format or as JSON.
+ */
+public class MetricsRegistry {
+
+	/**
+	 * The start value of a timer which was started while the registry was disabled
+	 */
+	public static final long								TIMER_OFF	= Long.MIN_VALUE;
+
+	/**
+	 * The prefix of the Prometheus metric names
+	 */
+	private static final String								PROMETHEUS	= "boxlang_";
+
+	/**
+	 * Whether metrics are recorded
+	 */
+	private volatile boolean								enabled		= false;
+
+	/**
+	 * The counters by name
+	 */
+	private final Map<String, LongAdder>					counters	= new ConcurrentHashMap<>();
+
+	/**
+	 * The histograms by name
+	 */
+	private final Map<String, LatencyHistogram>				histograms	= new ConcurrentHashMap<>();
+
+	/**
+	 * The gauges by name. A gauge supplies a number, a boolean or a struct whose values are flattened into more gauges.
+	 */
+	private final Map<String, Supplier<? extends Object>>	gauges		= new ConcurrentHashMap<>();
+
+	/**
+	 * Verify if metrics are recorded
+	 *
+	 * @return True if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Turn the recording of metrics on or off. Recorded values are kept when it is turned off.
+	 *
+	 * @param enabled True to record metrics
+	 *
+	 * @return This registry
+	 */
+	public MetricsRegistry setEnabled( boolean enabled ) {
+		this.enabled = enabled;
+		return this;
+	}
+
+	/**
+	 * Add one to a counter, if the registry is enabled
+	 *
+	 * @param name The counter name
+	 */
+	public void increment( String name ) {
+		if ( enabled ) {
+			counters.computeIfAbsent( name, key -> new LongAdder() ).increment();
+		}
+	}
+
+	/**
+	 * Start timing something
+	 *
+	 * @return The start time to pass to {@link #stopTimer(String, long)}, or {@link #TIMER_OFF} if the registry is disabled
+	 */
+	public long startTimer() {
+		return enabled ? System.nanoTime() : TIMER_OFF;
+	}
+
+	/**
+	 * Record the time elapsed since a timer was started into a histogram
+	 *
+	 * @param name  The histogram name
+	 * @param start The value returned by {@link #startTimer()}
+	 */
+	public void stopTimer( String name, long start ) {
+		if ( start != TIMER_OFF ) {
+			histogram( name ).record( System.nanoTime() - start );
+		}
+	}
+
+	/**
+	 * Get a histogram, creating it if needed
+	 *
+	 * @param name The histogram name
+	 *
+	 * @return The histogram
+	 */
+	public LatencyHistogram histogram( String name ) {
+		return histograms.computeIfAbsent( name, key -> new LatencyHistogram() );
+	}
+
+	/**
+	 * Get the value of a counter
+	 *
+	 * @param name The counter name
+	 *
+	 * @return The value, 0 if the counter does not exist
+	 */
+	public long getCount( String name ) {
+		LongAdder counter = counters.get( name );
+		return counter == null ? 0 : counter.sum();
+	}
+
+	/**
+	 * Register a gauge, replacing any gauge with the same name
+	 *
+	 * @param name     The gauge name
+	 * @param supplier Supplies a number, a boolean, or a struct whose numbers and booleans become gauges named after their keys
+	 *
+	 * @return This registry
+	 */
+	public MetricsRegistry registerGauge( String name, Supplier<? extends Object> supplier ) {
+		gauges.put( name, supplier );
+		return this;
+	}
+
+	/**
+	 * Remove a gauge
+	 *
+	 * @param name The gauge name
+	 *
+	 * @return This registry
+	 */
+	public MetricsRegistry removeGauge( String name ) {
+		gauges.remove( name );
+		return this;
+	}
+
+	/**
+	 * Clear the counters and histograms. Gauges are kept.
+	 */
+	public void reset() {
+		counters.clear();
+		histograms.clear();
+	}
+
+	/**
+	 * Take a snapshot of all the metrics
+	 *
+	 * @return A struct with the {@code enabled} flag and the {@code counters}, {@code histograms} and {@code gauges}. Durations are in
+	 *         milliseconds.
+	 */
+	public IStruct snapshot() {
+		IStruct counterValues = new Struct( IStruct.TYPES.SORTED );
+		counters.forEach( ( name, counter ) -> counterValues.put( name, counter.sum() ) );
+
+		IStruct histogramValues = new Struct( IStruct.TYPES.SORTED );
+		histograms.forEach( ( name, histogram ) -> histogramValues.put( name, histogram.toStruct() ) );
+
+		IStruct gaugeValues = new Struct( IStruct.TYPES.SORTED );
+		readGauges().forEach( gaugeValues::put );
+
+		return Struct.of(
+		    "enabled", enabled,
+		    "counters", counterValues,
+		    "histograms", histogramValues,
+		    "gauges", gaugeValues
+		);
+	}
+
+	/**
+	 * Export all the metrics in the Prometheus text format. Counters get a {@code _total} suffix, histograms are exported as
+	 * summaries in seconds.
+	 *
+	 * @return The metrics as text
+	 */
+	public String toPrometheus() {
+		StringBuilder text = new StringBuilder();
+		new TreeMap<>( counters ).forEach( ( name, counter ) -> {
+			String metric = prometheusName( name ) + "_total";
+			text.append( "# TYPE " ).append( metric ).append( " counter\n" );
+			text.append( metric ).append( ' ' ).append( counter.sum() ).append( '\n' );
+		} );
+		new TreeMap<>( histograms ).forEach( ( name, histogram ) -> {
+			String metric = prometheusName( name ) + "_seconds";
+			text.append( "# TYPE " ).append( metric ).append( " summary\n" );
+			for ( double quantile : new double[] { 0.5, 0.9, 0.99, 0.999 } ) {
+				text.append( metric ).append( "{quantile=\"" ).append( quantile ).append( "\"} " )
+				    .append( histogram.getPercentile( quantile * 100 ) / 1e9 ).append( '\n' );
+			}
+			text.append( metric ).append( "_sum " ).append( histogram.getSum() / 1e9 ).append( '\n' );
+			text.append( metric ).append( "_count " ).append( histogram.getCount() ).append( '\n' );
+		} );
+		readGauges().forEach( ( name, value ) -> {
+			String metric = prometheusName( name );
+			text.append( "# TYPE " ).append( metric ).append( " gauge\n" );
+			text.append( metric ).append( ' ' ).append( value ).append( '\n' );
+		} );
+		return text.toString();
+	}
+
+	/**
+	 * Export a snapshot of all the metrics as JSON
+	 *
+	 * @return The snapshot as a JSON string
+	 */
+	public String toJSON() {
+		try {
+			return JSONUtil.getJSONBuilder().asString( snapshot() );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Unable to serialize the runtime metrics", e );
+		}
+	}
+
+	/**
+	 * Read all the gauges, flattening the structs they supply. A gauge which fails is skipped.
+	 *
+	 * @return The gauge values by name, sorted by name
+	 */
+	private Map<String, Number> readGauges() {
+		Map<String, Number> values = new TreeMap<>();
+		gauges.forEach( ( name, supplier ) -> {
+			try {
+				flatten( name, supplier.get(), values );
+			} catch ( RuntimeException e ) {
+				// A gauge reading a component which is shutting down, there is nothing to report
+			}
+		} );
+		return values;
+	}
+
+	/**
+	 * Add a gauge value, or the values of a struct under the gauge name
+	 *
+	 * @param name   The gauge name
+	 * @param value  The value
+	 * @param values The values to add to
+	 */
+	private static void flatten( String name, Object value, Map<String, Number> values ) {
+		if ( value instanceof Number number ) {
+			values.put( name, number );
+		} else if ( value instanceof Boolean bool ) {
+			values.put( name, bool ? 1 : 0 );
+		} else if ( value instanceof Map<?, ?> map ) {
+			map.forEach( ( key, nested ) -> flatten( name + "." + key, nested, values ) );
+		}
+	}
+
+	/**
+	 * Turn a metric name into a valid Prometheus name
+	 *
+	 * @param name The metric name
+	 *
+	 * @return The Prometheus name
+	 */
+	private static String prometheusName( String name ) {
+		return PROMETHEUS + name.replaceAll( "([a-z0-9])([A-Z])", "$1_$2" ).replaceAll( "[^a-zA-Z0-9_]", "_" ).toLowerCase();
+	}
+
+}
@@ -1,32 +1,175 @@
 package ortus.boxlang.runtime.net;
 
 import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * Manages the {@link HttpClient} instances used by the runtime.
+ * <p>
+ * There is always a {@code default} client. Additional named clients can be declared in the {@code runtime.httpClients}
+ * section of the configuration or registered programmatically. A client supports the following settings:
+ * <ul>
+ * <li>{@code connectTimeout} - The connect timeout in seconds, 0 means no timeout</li>
+ * <li>{@code version} - {@code HTTP_2} (default) or {@code HTTP_1_1}</li>
+ * <li>{@code followRedirects} - {@code NEVER} (default), {@code NORMAL} or {@code ALWAYS}</li>
+ * <li>{@code executor} - The name of an {@link ortus.boxlang.runtime.services.AsyncService} executor to run async work on</li>
+ * </ul>
+ * <p>
+ * Clients are thread-safe and keep their own connection pools, so they are built once and shared.
+ */
 public class HttpManager {
 
 	/**
-	 * Singleton instance of the HttpManager.
+	 * The name of the default client
+	 */
+	public static final Key						DEFAULT_CLIENT	= Key._DEFAULT;
+
+	/**
+	 * The registered clients
 	 */
-	private static HttpClient instance;
+	private static final Map<Key, HttpClient>	clients			= new ConcurrentHashMap<>();
 
 	/**
-	 * Private constructor. Use getInstance() instead.
+	 * Private constructor. Use getClient() instead.
 	 */
 	private HttpManager() {
 	}
 
 	/**
-	 * Get the singleton instance of the HttpManager.
+	 * Get the default client.
 	 * <p>
 	 * Will construct a new instance if one does not already exist, otherwise returns the existing instance.
 	 *
-	 * @return The HttpManager instance.
+	 * @return The default HttpClient
 	 */
 	public static HttpClient getClient() {
-		if ( instance == null ) {
-			instance = HttpClient.newHttpClient();
+		return getClient( DEFAULT_CLIENT );
+	}
+
+	/**
+	 * Get a named client. Clients declared in the runtime configuration are built on first use.
+	 *
+	 * @param name The name of the client
+	 *
+	 * @throws BoxRuntimeException If the client is not registered or configured
+	 *
+	 * @return The HttpClient
+	 */
+	public static HttpClient getClient( Key name ) {
+		return clients.computeIfAbsent( name, key -> {
+			IStruct settings = getConfiguredClients().getAsStruct( key );
+			if ( settings != null ) {
+				return buildClient( settings );
+			}
+			if ( key.equals( DEFAULT_CLIENT ) ) {
+				return buildClient( null );
+			}
+			throw new BoxRuntimeException(
+			    "The HTTP client [" + key.getName() + "] is not registered. Registered clients are " + clients.keySet().toString()
+			);
+		} );
+	}
+
+	/**
+	 * Register a client under a name, replacing any existing one
+	 *
+	 * @param name   The name of the client
+	 * @param client The client
+	 */
+	public static void registerClient( Key name, HttpClient client ) {
+		clients.put( name, client );
+	}
+
+	/**
+	 * Build and register a client from a struct of settings, replacing any existing one
+	 *
+	 * @param name     The name of the client
+	 * @param settings The client settings
+	 *
+	 * @return The new client
+	 */
+	public static HttpClient registerClient( Key name, IStruct settings ) {
+		HttpClient client = buildClient( settings );
+		registerClient( name, client );
+		return client;
+	}
+
+	/**
+	 * Verify if a client has been built or is configured
+	 *
+	 * @param name The name of the client
+	 *
+	 * @return True if the client exists
+	 */
+	public static boolean hasClient( Key name ) {
+		return clients.containsKey( name ) || getConfiguredClients().containsKey( name );
+	}
+
+	/**
+	 * Remove a client. If it is configured, it will be rebuilt on the next request for it.
+	 *
+	 * @param name The name of the client
+	 */
+	public static void removeClient( Key name ) {
+		clients.remove( name );
+	}
+
+	/**
+	 * Build a new client from a struct of settings
+	 *
+	 * @param settings The client settings, can be null for the defaults
+	 *
+	 * @return The new client
+	 */
+	public static HttpClient buildClient( IStruct settings ) {
+		HttpClient.Builder builder = HttpClient.newBuilder().version( HttpClient.Version.HTTP_2 );
+		if ( settings == null ) {
+			return builder.build();
+		}
+
+		Integer connectTimeout = IntegerCaster.cast( settings.getOrDefault( Key.connectTimeout, 0 ) );
+		if ( connectTimeout > 0 ) {
+			builder.connectTimeout( Duration.ofSeconds( connectTimeout ) );
+		}
+
+		String version = StringCaster.cast( settings.getOrDefault( Key.version, "HTTP_2" ) ).toUpperCase();
+		switch ( version ) {
+			case "HTTP_2", "HTTP/2", "2" -> builder.version( HttpClient.Version.HTTP_2 );
+			case "HTTP_1_1", "HTTP/1.1", "1.1" -> builder.version( HttpClient.Version.HTTP_1_1 );
+			default -> throw new BoxRuntimeException( "Invalid HTTP client version [" + version + "], valid values are HTTP_2 and HTTP_1_1" );
+		}
+
+		String redirects = StringCaster.cast( settings.getOrDefault( Key.followRedirects, "NEVER" ) ).toUpperCase();
+		try {
+			builder.followRedirects( HttpClient.Redirect.valueOf( redirects ) );
+		} catch ( IllegalArgumentException e ) {
+			throw new BoxRuntimeException( "Invalid HTTP client followRedirects [" + redirects + "], valid values are NEVER, NORMAL and ALWAYS" );
+		}
+
+		String executor = StringCaster.cast( settings.getOrDefault( Key.executor, "" ) );
+		if ( !executor.isEmpty() ) {
+			builder.executor( BoxRuntime.getInstance().getAsyncService().getExecutor( executor ).executor() );
 		}
-		return instance;
+
+		return builder.build();
+	}
+
+	/**
+	 * Get the clients declared in the runtime configuration
+	 *
+	 * @return The struct of client name to client settings
+	 */
+	private static IStruct getConfiguredClients() {
+		return BoxRuntime.getInstance().getConfiguration().runtime.httpClients;
 	}
 
 }
@@ -0,0 +1,714 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.net;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
+import ortus.boxlang.runtime.dynamic.casters.StructCaster;
+import ortus.boxlang.runtime.events.jfr.HTTPRequestEvent;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * Builds HTTP requests from BoxLang HTTP params and turns responses into the BoxLang HTTP result struct.
+ * This is shared by the {@code http} component and the async/parallel HTTP BIFs.
+ */
+public class HttpUtil {
+
+	/**
+	 * Private constructor, this is a static utility
+	 */
+	private HttpUtil() {
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Requests
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Build a request from a URL, method and an array of HTTP params, as collected by the {@code httpparam} component.
+	 *
+	 * @param url     The URL to call
+	 * @param method  The HTTP method
+	 * @param params  An array of param structs with a type, name and value
+	 * @param timeout The request timeout in seconds, null or 0 for no timeout
+	 *
+	 * @throws URISyntaxException If the URL is invalid
+	 *
+	 * @return The request
+	 */
+	public static HttpRequest buildRequest( String url, String method, Array params, Integer timeout ) throws URISyntaxException {
+		return buildRequest( url, method, params, timeout, false, "form-data" );
+	}
+
+	/**
+	 * Build a request from a URL, method and an array of HTTP params, as collected by the {@code httpparam} component.
+	 * <p>
+	 * When {@code multipart} is true, or any {@code file} param is present, form fields and files are sent as a multipart body.
+	 * Files are streamed from disk as the body is written, they are never loaded into memory.
+	 *
+	 * @param url           The URL to call
+	 * @param method        The HTTP method
+	 * @param params        An array of param structs with a type, name and value
+	 * @param timeout       The request timeout in seconds, null or 0 for no timeout
+	 * @param multipart     Whether to send form fields as a multipart body
+	 * @param multipartType The multipart subtype: form-data or related
+	 *
+	 * @throws URISyntaxException If the URL is invalid
+	 *
+	 * @return The request
+	 */
+	public static HttpRequest buildRequest(
+	    String url,
+	    String method,
+	    Array params,
+	    Integer timeout,
+	    boolean multipart,
+	    String multipartType ) throws URISyntaxException {
+		HttpRequest.Builder			builder			= HttpRequest.newBuilder();
+		URIBuilder					uriBuilder		= new URIBuilder( url );
+		HttpRequest.BodyPublisher	bodyPublisher	= HttpRequest.BodyPublishers.noBody();
+		Map<String, String>			formFields		= new LinkedHashMap<>();
+		List<IStruct>				files			= new ArrayList<>();
+		// Decide on the body first, form fields are only encoded when they are not sent as a multipart body
+		boolean						isMultipart		= multipart || params.stream()
+		    .anyMatch( p -> "file".equalsIgnoreCase( StructCaster.cast( p ).getAsString( Key.type ) ) );
+		builder.header( "User-Agent", "BoxLang" );
+		for ( Object p : params ) {
+			IStruct	param	= StructCaster.cast( p );
+			String	type	= param.getAsString( Key.type );
+			switch ( type.toLowerCase() ) {
+				case "header" -> builder.header( param.getAsString( Key._NAME ), param.getAsString( Key.value ) );
+				case "body" -> bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
+				case "xml" -> {
+					builder.header( "Content-Type", "text/xml" );
+					bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
+				}
+				// @TODO move URLEncoder.encode usage a non-deprecated method
+				case "cgi" -> builder.header( param.getAsString( Key._NAME ),
+				    java.net.URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
+				case "file" -> files.add( param );
+				case "url" -> uriBuilder.addParameter(
+				    param.getAsString( Key._NAME ),
+				    BooleanCaster.cast( param.getOrDefault( Key.encoded, true ) )
+				        ? URLEncoder.encode( StringCaster.cast( param.get( Key.value ) ), StandardCharsets.UTF_8 )
+				        : StringCaster.cast( param.get( Key.value ) )
+				);
+				case "formfield" -> {
+					String value = StringCaster.cast( param.get( Key.value ) );
+					if ( !isMultipart && BooleanCaster.cast( param.getOrDefault( Key.encoded, true ) ) ) {
+						value = URLEncoder.encode( value, StandardCharsets.UTF_8 );
+					}
+					formFields.put( param.getAsString( Key._NAME ), value );
+				}
+				case "cookie" -> builder.header( "Cookie",
+				    param.getAsString( Key._NAME ) + "=" + URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
+				default -> throw new BoxRuntimeException( "Unhandled HTTPParam type: " + type );
+			}
+		}
+
+		if ( isMultipart ) {
+			String boundary = "----BoxLangBoundary" + UUID.randomUUID().toString().replace( "-", "" );
+			bodyPublisher = buildMultipartBody( boundary, formFields, files );
+			builder.header( "Content-Type", "multipart/" + multipartType + "; boundary=" + boundary );
+		} else if ( !formFields.isEmpty() ) {
+			bodyPublisher = HttpRequest.BodyPublishers.ofString(
+			    formFields.entrySet()
+			        .stream()
+			        .map( e -> e.getKey() + "=" + e.getValue() )
+			        .collect( Collectors.joining( "&" ) )
+			);
+			builder.header( "Content-Type", "application/x-www-form-urlencoded" );
+		}
+
+		if ( timeout != null && timeout > 0 ) {
+			builder.timeout( Duration.ofSeconds( timeout ) );
+		}
+
+		builder.method( method.toUpperCase(), bodyPublisher );
+		builder.uri( uriBuilder.build() );
+		return builder.build();
+	}
+
+	/**
+	 * Build a multipart body. Each file part is published straight from disk.
+	 *
+	 * @param boundary   The multipart boundary
+	 * @param formFields The form fields, unencoded
+	 * @param files      The file params: name, file and an optional mimetype
+	 *
+	 * @return The body publisher
+	 */
+	private static HttpRequest.BodyPublisher buildMultipartBody( String boundary, Map<String, String> formFields, List<IStruct> files ) {
+		List<HttpRequest.BodyPublisher>	parts	= new ArrayList<>();
+		StringBuilder					text	= new StringBuilder();
+
+		formFields.forEach( ( name, value ) -> text
+		    .append( "--" ).append( boundary ).append( "\r\n" )
+		    .append( "Content-Disposition: form-data; name=\"" ).append( name ).append( "\"\r\n\r\n" )
+		    .append( value ).append( "\r\n" ) );
+
+		for ( IStruct file : files ) {
+			Path	filePath	= Path.of( file.getAsString( Key.file ) );
+			String	mimeType	= file.getAsString( Key.mimetype );
+			try {
+				if ( mimeType == null || mimeType.isEmpty() ) {
+					mimeType = Files.probeContentType( filePath );
+				}
+				text.append( "--" ).append( boundary ).append( "\r\n" )
+				    .append( "Content-Disposition: form-data; name=\"" ).append( file.getAsString( Key._NAME ) )
+				    .append( "\"; filename=\"" ).append( filePath.getFileName().toString() ).append( "\"\r\n" )
+				    .append( "Content-Type: " ).append( mimeType == null ? "application/octet-stream" : mimeType ).append( "\r\n\r\n" );
+				parts.add( HttpRequest.BodyPublishers.ofString( text.toString() ) );
+				parts.add( HttpRequest.BodyPublishers.ofFile( filePath ) );
+			} catch ( IOException e ) {
+				throw new BoxRuntimeException( "Unable to read the file [" + filePath.toString() + "] for upload", e );
+			}
+			text.setLength( 0 );
+			text.append( "\r\n" );
+		}
+
+		text.append( "--" ).append( boundary ).append( "--\r\n" );
+		parts.add( HttpRequest.BodyPublishers.ofString( text.toString() ) );
+		return HttpRequest.BodyPublishers.concat( parts.toArray( new HttpRequest.BodyPublisher[ 0 ] ) );
+	}
+
+	/**
+	 * Build a request from a request definition struct, as passed to the {@code httpAsync()} and {@code httpMulti()} BIFs.
+	 * <p>
+	 * Supported keys are {@code url} (required), {@code method} (GET), {@code params} (an array of httpparam structs),
+	 * {@code headers} (a struct of header names and values), {@code body} and {@code timeout} (in seconds).
+	 *
+	 * @param definition The request definition
+	 *
+	 * @return The request
+	 */
+	public static HttpRequest buildRequest( IStruct definition ) {
+		Object url = definition.get( Key.URL );
+		if ( url == null || StringCaster.cast( url ).isEmpty() ) {
+			throw new BoxRuntimeException( "An HTTP request definition requires a [url]" );
+		}
+
+		Array params = new Array();
+		if ( definition.get( Key.params ) != null ) {
+			params.addAll( ArrayCaster.cast( definition.get( Key.params ) ) );
+		}
+		if ( definition.get( Key.headers ) != null ) {
+			StructCaster.cast( definition.get( Key.headers ) )
+			    .entrySet()
+			    .forEach( entry -> params.add( Struct.of(
+			        Key.type, "header",
+			        Key._NAME, entry.getKey().getName(),
+			        Key.value, StringCaster.cast( entry.getValue() )
+			    ) ) );
+		}
+		if ( definition.get( Key.body ) != null ) {
+			params.add( Struct.of( Key.type, "body", Key.value, StringCaster.cast( definition.get( Key.body ) ) ) );
+		}
+
+		Object timeout = definition.get( Key.timeout );
+		try {
+			return buildRequest(
+			    StringCaster.cast( url ),
+			    StringCaster.cast( definition.getOrDefault( Key.method, "GET" ) ),
+			    params,
+			    timeout == null ? null : IntegerCaster.cast( timeout )
+			);
+		} catch ( URISyntaxException e ) {
+			throw new BoxRuntimeException( e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Execution
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Send a request and block until the result is available. Text responses are decoded, binary ones are returned as a byte array.
+	 *
+	 * @param client  The client to use
+	 * @param request The request to send
+	 *
+	 * @return The BoxLang HTTP result struct
+	 */
+	public static IStruct send( HttpClient client, HttpRequest request ) {
+		return send( client, request, "auto" );
+	}
+
+	/**
+	 * Send a request and block until the result is available
+	 *
+	 * @param client      The client to use
+	 * @param request     The request to send
+	 * @param getAsBinary How to treat the body: auto, yes, no or never
+	 *
+	 * @return The BoxLang HTTP result struct
+	 */
+	public static IStruct send( HttpClient client, HttpRequest request, String getAsBinary ) {
+		HttpResponse<byte[]> response = await( client, request, HttpResponse.BodyHandlers.ofByteArray() );
+		return buildResult( response, decodeBody( response, getAsBinary ) );
+	}
+
+	/**
+	 * Send a request without blocking. The client's own executor completes the future, so no thread is held while
+	 * waiting on the network.
+	 *
+	 * @param client  The client to use
+	 * @param request The request to send
+	 *
+	 * @return A future of the BoxLang HTTP result struct
+	 */
+	public static CompletableFuture<IStruct> sendAsync( HttpClient client, HttpRequest request ) {
+		return sendAsync( client, request, "auto" );
+	}
+
+	/**
+	 * Send a request without blocking
+	 *
+	 * @param client      The client to use
+	 * @param request     The request to send
+	 * @param getAsBinary How to treat the body: auto, yes, no or never
+	 *
+	 * @return A future of the BoxLang HTTP result struct
+	 */
+	public static CompletableFuture<IStruct> sendAsync( HttpClient client, HttpRequest request, String getAsBinary ) {
+		return awaitAsync( client, request, HttpResponse.BodyHandlers.ofByteArray() )
+		    .thenApply( response -> buildResult( response, decodeBody( response, getAsBinary ) ) );
+	}
+
+	/**
+	 * Send a request and stream the response body into a file as it arrives. The file is created or truncated.
+	 * The {@code fileContent} of the result is empty.
+	 *
+	 * @param client  The client to use
+	 * @param request The request to send
+	 * @param target  The file to write to
+	 *
+	 * @return The BoxLang HTTP result struct
+	 */
+	public static IStruct sendToFile( HttpClient client, HttpRequest request, Path target ) {
+		HttpResponse<Path> response = await( client, request, fileHandler( target ) );
+		return buildResult( response, "" );
+	}
+
+	/**
+	 * Send a request without blocking and stream the response body into a file as it arrives
+	 *
+	 * @param client  The client to use
+	 * @param request The request to send
+	 * @param target  The file to write to
+	 *
+	 * @return A future of the BoxLang HTTP result struct
+	 */
+	public static CompletableFuture<IStruct> sendToFileAsync( HttpClient client, HttpRequest request, Path target ) {
+		return awaitAsync( client, request, fileHandler( target ) )
+		    .thenApply( response -> buildResult( response, "" ) );
+	}
+
+	/**
+	 * Send a request and hand the response body to a consumer line by line as it arrives, which suits streaming
+	 * endpoints such as NDJSON or server-sent events. The consumer runs on the calling thread and the body is never held
+	 * in memory. The {@code fileContent} of the result is empty.
+	 *
+	 * @param client   The client to use
+	 * @param request  The request to send
+	 * @param consumer The consumer of each line
+	 *
+	 * @return The BoxLang HTTP result struct
+	 */
+	public static IStruct sendToConsumer( HttpClient client, HttpRequest request, Consumer<String> consumer ) {
+		HttpResponse<Stream<String>> response = await( client, request, HttpResponse.BodyHandlers.ofLines() );
+		try ( Stream<String> lines = response.body() ) {
+			lines.forEach( consumer );
+		}
+		return buildResult( response, "" );
+	}
+
+	/**
+	 * Send a request and wait for its response, translating the checked exceptions
+	 *
+	 * @param client  The client to use
+	 * @param request The request to send
+	 * @param handler The body handler
+	 *
+	 * @return The response
+	 */
+	private static <T> HttpResponse<T> await( HttpClient client, HttpRequest request, HttpResponse.BodyHandler<T> handler ) {
+		HTTPRequestEvent	event		= new HTTPRequestEvent();
+		HttpResponse<T>		response	= null;
+		event.begin();
+		try {
+			response = client.send( request, handler );
+			return response;
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( e.getMessage(), e );
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new BoxRuntimeException( e.getMessage(), e );
+		} finally {
+			commitEvent( event, request, response );
+		}
+	}
+
+	/**
+	 * Send a request without blocking, recording it once its response arrives
+	 *
+	 * @param client  The client to use
+	 * @param request The request to send
+	 * @param handler The body handler
+	 *
+	 * @return A future of the response
+	 */
+	private static <T> CompletableFuture<HttpResponse<T>> awaitAsync( HttpClient client, HttpRequest request, HttpResponse.BodyHandler<T> handler ) {
+		HTTPRequestEvent event = new HTTPRequestEvent();
+		event.begin();
+		return client
+		    .sendAsync( request, handler )
+		    .whenComplete( ( response, error ) -> commitEvent( event, request, response ) );
+	}
+
+	/**
+	 * Commit an HTTP request event if JFR is recording it
+	 *
+	 * @param event    The event, begun before the request was sent
+	 * @param request  The request
+	 * @param response The response, or null if there was none
+	 */
+	private static void commitEvent( HTTPRequestEvent event, HttpRequest request, HttpResponse<?> response ) {
+		if ( event.shouldCommit() ) {
+			event.method		= request.method();
+			event.url			= request.uri().toString();
+			event.statusCode	= response != null ? response.statusCode() : 0;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Build a body handler which writes into a file, creating its parent directories
+	 *
+	 * @param target The file to write to
+	 *
+	 * @return The body handler
+	 */
+	private static HttpResponse.BodyHandler<Path> fileHandler( Path target ) {
+		try {
+			Path parent = target.toAbsolutePath().getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Unable to create the directory for [" + target.toString() + "]", e );
+		}
+		return HttpResponse.BodyHandlers.ofFile( target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+	}
+
+	/**
+	 * Decide whether a body is returned as a string or as a byte array.
+	 * <ul>
+	 * <li>{@code yes} - always binary</li>
+	 * <li>{@code no} - binary only when the content type is not text</li>
+	 * <li>{@code auto} - same as {@code no}, a missing content type is treated as text</li>
+	 * <li>{@code never} - always text</li>
+	 * </ul>
+	 *
+	 * @param response    The response
+	 * @param getAsBinary How to treat the body: auto, yes, no or never
+	 *
+	 * @return The body as a string or a byte array
+	 */
+	private static Object decodeBody( HttpResponse<byte[]> response, String getAsBinary ) {
+		String	mode		= getAsBinary == null ? "auto" : getAsBinary.toLowerCase();
+		String	contentType	= response.headers().firstValue( "Content-Type" ).orElse( "" ).toLowerCase();
+		if ( mode.equals( "yes" ) || ( !mode.equals( "never" ) && !isTextContentType( contentType ) ) ) {
+			return response.body();
+		}
+		return new String( response.body(), getCharset( contentType ) );
+	}
+
+	/**
+	 * Verify if a content type is textual. An empty content type is considered text.
+	 *
+	 * @param contentType The lower cased content type
+	 *
+	 * @return True if the content type is text
+	 */
+	private static boolean isTextContentType( String contentType ) {
+		return contentType.isEmpty()
+		    || contentType.startsWith( "text/" )
+		    || contentType.contains( "json" )
+		    || contentType.contains( "xml" )
+		    || contentType.contains( "javascript" )
+		    || contentType.contains( "x-www-form-urlencoded" )
+		    || contentType.contains( "charset=" );
+	}
+
+	/**
+	 * Get the charset of a content type, defaulting to UTF-8 like the JDK string body handler
+	 *
+	 * @param contentType The lower cased content type
+	 *
+	 * @return The charset
+	 */
+	private static Charset getCharset( String contentType ) {
+		int index = contentType.indexOf( "charset=" );
+		if ( index >= 0 ) {
+			String charset = contentType.substring( index + 8 ).split( ";" )[ 0 ].trim().replace( "\"", "" );
+			try {
+				return Charset.forName( charset );
+			} catch ( IllegalArgumentException e ) {
+				// Fall through to the default
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Send all requests concurrently and wait for all of them to complete.
+	 *
+	 * @param client   The client to use
+	 * @param requests The requests to send
+	 *
+	 * @return An array of BoxLang HTTP result structs, in the same order as the requests
+	 */
+	public static Array sendAll( HttpClient client, List<HttpRequest> requests ) {
+		List<CompletableFuture<IStruct>> futures = requests
+		    .stream()
+		    .map( request -> sendAsync( client, request ) )
+		    .toList();
+
+		try {
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture[ 0 ] ) ).join();
+		} catch ( CompletionException e ) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			throw new BoxRuntimeException( cause.getMessage(), cause );
+		}
+
+		Array results = new Array( futures.size() );
+		futures.forEach( future -> results.add( future.join() ) );
+		return results;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Responses
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Build the BoxLang HTTP result struct from a response
+	 *
+	 * @param response    The response
+	 * @param fileContent The value to expose as the {@code fileContent} of the result
+	 *
+	 * @return The result struct
+	 */
+	public static IStruct buildResult( HttpResponse<?> response, Object fileContent ) {
+		Struct		HTTPResult			= new Struct();
+		HttpHeaders	httpHeaders			= response.headers();
+		IStruct		headers				= transformToResponseHeaderStruct( httpHeaders.map() );
+		String		httpVersionString	= response.version() == HttpClient.Version.HTTP_1_1 ? "HTTP/1.1" : "HTTP/2";
+		String		statusCodeString	= String.valueOf( response.statusCode() );
+		String		statusText			= HTTPStatusReasons.getReasonForStatus( response.statusCode() );
+
+		headers.put( Key.HTTP_Version, httpVersionString );
+		headers.put( Key.status_code, statusCodeString );
+		headers.put( Key.explanation, statusText );
+
+		HTTPResult.put( Key.responseHeader, headers );
+		HTTPResult.put( Key.header, generateHeaderString( generateStatusLine( httpVersionString, statusCodeString, statusText ), headers ) );
+		HTTPResult.put( Key.HTTP_Version, httpVersionString );
+		HTTPResult.put( Key.statusCode, response.statusCode() );
+		HTTPResult.put( Key.status_code, response.statusCode() );
+		HTTPResult.put( Key.statusText, statusText );
+		HTTPResult.put( Key.status_text, statusText );
+		HTTPResult.put( Key.fileContent, fileContent );
+		HTTPResult.put( Key.errorDetail, "" );
+		Optional<String> contentTypeHeader = httpHeaders.firstValue( "Content-Type" );
+		contentTypeHeader.ifPresent( ( contentType ) -> {
+			String[] contentTypeParts = contentType.split( ";\s*" );
+			if ( contentTypeParts.length > 0 ) {
+				HTTPResult.put( Key.mimetype, contentTypeParts[ 0 ] );
+			}
+			if ( contentTypeParts.length > 1 ) {
+				String charset = contentTypeParts[ 1 ].replace( "charset=", "" );
+				HTTPResult.put( Key.charset, charset );
+			}
+		} );
+		HTTPResult.put( Key.cookies, generateCookiesQuery( headers ) );
+		return HTTPResult;
+	}
+
+	private static Query generateCookiesQuery( IStruct headers ) {
+		Query cookies = new Query();
+		cookies.addColumn( Key._NAME, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.value, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.path, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.domain, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.expires, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.secure, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.httpOnly, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.samesite, QueryColumnType.VARCHAR );
+
+		Object				cookieValue		= headers.getOrDefault( Key.of( "Set-Cookie" ), new Array() );
+		CastAttempt<Array>	isValuesArray	= ArrayCaster.attempt( cookieValue );
+		if ( isValuesArray.wasSuccessful() ) {
+			Array values = isValuesArray.getOrFail();
+			for ( Object value : values ) {
+				parseCookieStringIntoQuery( StringCaster.cast( value ), cookies );
+			}
+		} else {
+			parseCookieStringIntoQuery( StringCaster.cast( cookieValue ), cookies );
+		}
+
+		return cookies;
+	}
+
+	private static void parseCookieStringIntoQuery( String cookieString, Query cookies ) {
+		IStruct		cookieStruct;
+		String[]	parts	= cookieString.split( ";" );
+		if ( parts.length == 0 ) {
+			return;
+		}
+
+		String[] nameAndValue = parts[ 0 ].split( "=" );
+		if ( nameAndValue.length != 2 ) {
+			return;
+		}
+
+		cookieStruct = new Struct();
+		cookieStruct.put( Key._NAME, nameAndValue[ 0 ] );
+		cookieStruct.put( Key.value, nameAndValue[ 1 ] );
+
+		if ( parts.length > 1 ) {
+			Arrays.stream( parts, 1, parts.length )
+			    .forEach( metadata -> {
+				    String[] metadataParts = metadata.split( "=" );
+				    if ( metadataParts.length == 0 ) {
+					    return;
+				    }
+				    Key	metadataType	= Key.of( metadataParts[ 0 ] );
+				    Object metadataValue = true;
+				    if ( metadataParts.length == 2 ) {
+					    metadataValue = metadataParts[ 1 ];
+				    }
+
+				    if ( metadataType.equals( Key.of( "max-age" ) ) ) {
+					    metadataType = Key.expires;
+					    metadataValue = StringCaster.cast( DoubleCaster.cast( metadataValue ) / 60 / 60 / 24 );
+				    }
+
+				    cookieStruct.put( metadataType, metadataValue );
+			    } );
+		}
+
+		cookies.add( cookieStruct );
+	}
+
+	private static String generateStatusLine( String httpVersionString, String statusCodeString, String statusText ) {
+		return httpVersionString + " " + statusCodeString + " " + statusText;
+	}
+
+	private static String generateHeaderString( String statusLine, IStruct headers ) {
+		return statusLine + " " + headers.entrySet()
+		    .stream()
+		    .sorted( Map.Entry.comparingByKey() )
+		    .map( entry -> {
+			    StringBuilder	sb				= new StringBuilder();
+			    Object			headerValues	= entry.getValue();
+			    CastAttempt<Array> isValuesArray = ArrayCaster.attempt( headerValues );
+			    if ( isValuesArray.wasSuccessful() ) {
+				    Array values = isValuesArray.getOrFail();
+				    for ( Object value : values ) {
+					    String headerValue = StringCaster.cast( value );
+					    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
+				    }
+			    } else {
+				    String headerValue = StringCaster.cast( headerValues );
+				    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
+			    }
+			    return sb.toString().trim();
+		    } ).collect( Collectors.joining( " " ) );
+	}
+
+	private static IStruct transformToResponseHeaderStruct( Map<String, List<String>> headersMap ) {
+		IStruct responseHeaders = new Struct();
+
+		// Add all the headers to our struct
+		for ( String headerName : headersMap.keySet() ) {
+			if ( ":status".equals( headerName ) ) {
+				continue;
+			}
+			Key		headerNameKey	= Key.of( headerName );
+			Array	values			= ( Array ) responseHeaders.getOrDefault( headerNameKey, new Array() );
+			values.addAll( headersMap.get( headerName ) );
+			responseHeaders.put( headerNameKey, values );
+		}
+
+		for ( Key structHeaderKey : responseHeaders.keySet() ) {
+			CastAttempt<Array> isValuesArray = ArrayCaster.attempt( responseHeaders.get( structHeaderKey ) );
+			if ( isValuesArray.wasSuccessful() ) {
+				Array values = isValuesArray.getOrFail();
+				if ( values.size() == 1 ) {
+					responseHeaders.put( structHeaderKey, values.get( 0 ) );
+				}
+			}
+		}
+
+		return responseHeaders;
+	}
+
+}
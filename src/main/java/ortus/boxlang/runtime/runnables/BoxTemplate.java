@@ -22,7 +22,10 @@ import java.util.List;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.events.BoxEvent;
+import ortus.boxlang.runtime.events.jfr.TemplateExecutionEvent;
 import ortus.boxlang.runtime.loader.ImportDefinition;
+import ortus.boxlang.runtime.services.InterceptorService;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.AbortException;
@@ -43,21 +46,25 @@ public abstract class BoxTemplate implements ITemplateRunnable {
 	 *
 	 */
 	public void invoke( IBoxContext context ) {
-		BoxRuntime runtime = BoxRuntime.getInstance();
+		BoxRuntime				runtime	= BoxRuntime.getInstance();
+		TemplateExecutionEvent	event	= new TemplateExecutionEvent();
 
 		context.pushTemplate( this );
+		event.begin();
 		try {
-			// Announcements
-			IStruct data = Struct.of(
-			    "context", context,
-			    "template", this,
-			    "templatePath", this.getRunnablePath()
-			);
-			runtime.announce( "preTemplateInvoke", data );
+			// Announcements, the data is only built if someone is listening
+			InterceptorService	interceptorService	= runtime.getInterceptorService();
+			IStruct				data				= null;
+			if ( interceptorService.hasListeners( BoxEvent.PRE_TEMPLATE_INVOKE ) ) {
+				data = getInvocationData( context );
+				interceptorService.announce( BoxEvent.PRE_TEMPLATE_INVOKE, data );
+			}
 			_invoke( context );
 
 			// Announce
-			runtime.announce( "postTemplateInvoke", data );
+			if ( interceptorService.hasListeners( BoxEvent.POST_TEMPLATE_INVOKE ) ) {
+				interceptorService.announce( BoxEvent.POST_TEMPLATE_INVOKE, data != null ? data : getInvocationData( context ) );
+			}
 		} catch ( AbortException e ) {
 			context.flushBuffer( true );
 			// Swallowing aborts here if type="page"
@@ -70,10 +77,30 @@ public abstract class BoxTemplate implements ITemplateRunnable {
 			throw e;
 		} finally {
 			context.popTemplate();
+			if ( event.shouldCommit() ) {
+				ResolvedFilePath path = this.getRunnablePath();
+				event.path = path != null ? String.valueOf( path.absolutePath() ) : null;
+				event.commit();
+			}
 		}
 
 	}
 
+	/**
+	 * Build the data announced around a template invocation
+	 *
+	 * @param context The context the template is invoked with
+	 *
+	 * @return The announcement data
+	 */
+	private IStruct getInvocationData( IBoxContext context ) {
+		return Struct.of(
+		    "context", context,
+		    "template", this,
+		    "templatePath", this.getRunnablePath()
+		);
+	}
+
 	/**
 	 * The imports for this runnable
 	 */
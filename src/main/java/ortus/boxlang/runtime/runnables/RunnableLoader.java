@@ -89,6 +89,15 @@ public class RunnableLoader {
 		}
 	}
 
+	/**
+	 * Get the Boxpiler implementation used when generating bytecode
+	 *
+	 * @return The boxpiler
+	 */
+	public IBoxpiler getBoxpiler() {
+		return this.boxpiler;
+	}
+
 	/**
 	 * Load the class for a template, JIT compiling if needed
 	 *
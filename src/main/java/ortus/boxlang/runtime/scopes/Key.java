@@ -92,6 +92,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		arrayFindAll					= Key.of( "arrayFindAll" );
 	public static final Key		asOptional						= Key.of( "asOptional" );
 	public static final Key		assocAttribs					= Key.of( "assocAttribs" );
+	public static final Key		async							= Key.of( "async" );
 	public static final Key		asyncService					= Key.of( "asyncService" );
 	public static final Key		attribute						= Key.of( "attribute" );
 	public static final Key		attributeCollection				= Key.of( "attributeCollection" );
@@ -113,6 +114,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		cached							= Key.of( "cached" );
 	public static final Key		cachedwithin					= Key.of( "cachedwithin" );
 	public static final Key		cachedWithin					= Key.of( "cachedWithin" );
+	public static final Key		cacheMode						= Key.of( "cacheMode" );
 	public static final Key		cacheName						= Key.of( "cacheName" );
 	public static final Key		caches							= Key.of( "caches" );
 	public static final Key		cacheService					= Key.of( "cacheService" );
@@ -129,6 +131,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		classGenerationDirectory		= Key.of( "classGenerationDirectory" );
 	public static final Key		className						= Key.of( "className" );
 	public static final Key		clazz							= Key.of( "clazz" );
+	public static final Key		client							= Key.of( "client" );
 	public static final Key		clientCert						= Key.of( "clientCert" );
 	public static final Key		clientCertPassword				= Key.of( "clientCertPassword" );
 	public static final Key		closure							= Key.of( "closure" );
@@ -150,6 +153,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		component						= Key.of( "component" );
 	public static final Key		condition						= Key.of( "condition" );
 	public static final Key		configure						= Key.of( "configure" );
+	public static final Key		connectTimeout					= Key.of( "connectTimeout" );
 	public static final Key		content							= Key.of( "content" );
 	public static final Key		context							= Key.of( "context" );
 	public static final Key		contextual						= Key.of( "contextual" );
@@ -210,6 +214,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		domain							= Key.of( "domain" );
 	public static final Key		dspLocale						= Key.of( "dspLocale" );
 	public static final Key		dump							= Key.of( "dump" );
+	public static final Key		dumpOptimizedAST				= Key.of( "dumpOptimizedAST" );
 	public static final Key		duration						= Key.of( "duration" );
 	public static final Key		elapsedTime						= Key.of( "elapsedTime" );
 	public static final Key		elem							= Key.of( "elem" );
@@ -242,6 +247,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		executionMode					= Key.of( "executionMode" );
 	public static final Key		executionState					= Key.of( "executionState" );
 	public static final Key		executionTime					= Key.of( "executionTime" );
+	public static final Key		executor						= Key.of( "executor" );
 	public static final Key		expires							= Key.of( "expires" );
 	public static final Key		expireURL						= Key.of( "expireURL" );
 	public static final Key		explanation						= Key.of( "explanation" );
@@ -260,6 +266,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		findNoCase						= Key.of( "findNoCase" );
 	public static final Key		firstRowAsHeaders				= Key.of( "firstRowAsHeaders" );
 	public static final Key		fixnewline						= Key.of( "fixnewline" );
+	public static final Key		followRedirects					= Key.of( "followRedirects" );
 	public static final Key		format							= Key.of( "format" );
 	public static final Key		freeMemoryPercentageThreshold	= Key.of( "freeMemoryPercentageThreshold" );
 	public static final Key		from							= Key.of( "from" );
@@ -284,6 +291,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		hours							= Key.of( "hours" );
 	public static final Key		HTTP							= Key.of( "http" );
 	public static final Key		HTTP_Version					= Key.of( "http_version" );
+	public static final Key		httpClients						= Key.of( "httpClients" );
 	public static final Key		httpOnly						= Key.of( "httpOnly" );
 	public static final Key		HTTPParams						= Key.of( "httpParams" );
 	public static final Key		id								= Key.of( "id" );
@@ -337,6 +345,11 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		localeSensitive					= Key.of( "localeSensitive" );
 	public static final Key		log								= Key.of( "log" );
 	public static final Key		logger							= Key.of( "logger" );
+	public static final Key		logsMaxFileSize					= Key.of( "logsMaxFileSize" );
+	public static final Key		logsMaxHistory					= Key.of( "logsMaxHistory" );
+	public static final Key		logsNeverBlock					= Key.of( "logsNeverBlock" );
+	public static final Key		logsQueueSize					= Key.of( "logsQueueSize" );
+	public static final Key		logsTotalSizeCap				= Key.of( "logsTotalSizeCap" );
 	public static final Key		lucee							= Key.of( "lucee" );
 	public static final Key		main							= Key.of( "main" );
 	public static final Key		mapping							= Key.of( "mapping" );
@@ -352,8 +365,10 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		merge							= Key.of( "merge" );
 	public static final Key		message							= Key.of( "message" );
 	public static final Key		metadata						= Key.of( "metadata" );
+	public static final Key		metadataCacheTimeout			= Key.of( "metadataCacheTimeout" );
 	public static final Key		method							= Key.of( "method" );
 	public static final Key		methodname						= Key.of( "methodname" );
+	public static final Key		metricsEnabled					= Key.of( "metricsEnabled" );
 	public static final Key		millisecond						= Key.of( "millisecond" );
 	public static final Key		milliseconds					= Key.of( "milliseconds" );
 	public static final Key		mimetype						= Key.of( "mimetype " );
@@ -400,6 +415,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		onApplicationEnd				= Key.of( "onApplicationEnd" );
 	public static final Key		onApplicationRestart			= Key.of( "onApplicationRestart" );
 	public static final Key		onApplicationStart				= Key.of( "onApplicationStart" );
+	public static final Key		onChunk							= Key.of( "onChunk" );
 	public static final Key		onError							= Key.of( "onError" );
 	public static final Key		onLoad							= Key.of( "onLoad" );
 	public static final Key		onMissingMethod					= Key.of( "onMissingMethod" );
@@ -411,6 +427,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		onSessionEnd					= Key.of( "onSessionEnd" );
 	public static final Key		onSessionStart					= Key.of( "onSessionStart" );
 	public static final Key		onUnload						= Key.of( "onUnload" );
+	public static final Key		optimizeAST						= Key.of( "optimizeAST" );
 	public static final Key		options							= Key.of( "options" );
 	public static final Key		ordered							= Key.of( "ordered" );
 	public static final Key		os								= Key.of( "os" );
@@ -454,11 +471,14 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		recurse							= Key.of( "recurse" );
 	public static final Key		recursive						= Key.of( "recursive" );
 	public static final Key		redirect						= Key.of( "redirect" );
+	public static final Key		refresh							= Key.of( "refresh" );
 	public static final Key		reg_expression					= Key.of( "reg_expression" );
 	public static final Key		regex							= Key.of( "regex" );
 	public static final Key		region							= Key.of( "region" );
 	public static final Key		rename							= Key.of( "rename" );
 	public static final Key		replacements					= Key.of( "replacements" );
+	public static final Key		request							= Key.of( "request" );
+	public static final Key		requests						= Key.of( "requests" );
 	public static final Key		requestTimeout					= Key.of( "requestTimeout" );
 	public static final Key		required						= Key.of( "required" );
 	public static final Key		resetTimeoutOnAccess			= Key.of( "resetTimeoutOnAccess" );
@@ -507,6 +527,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		size							= Key.of( "size" );
 	public static final Key		sleep							= Key.of( "sleep" );
 	public static final Key		sort							= Key.of( "sort" );
+	public static final Key		sorted							= Key.of( "sorted" );
 	public static final Key		sortFunc						= Key.of( "sortFunc" );
 	public static final Key		sortOrder						= Key.of( "sortOrder" );
 	public static final Key		sortType						= Key.of( "sortType" );
@@ -525,6 +546,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		status_text						= Key.of( "status_text" );
 	public static final Key		statusCode						= Key.of( "statusCode" );
 	public static final Key		statusText						= Key.of( "statusText" );
+	public static final Key		stickyConnections				= Key.of( "stickyConnections" );
 	public static final Key		storedproc						= Key.of( "storedproc" );
 	public static final Key		strict							= Key.of( "strict" );
 	public static final Key		strictMapping					= Key.of( "strictMapping" );
@@ -579,9 +601,11 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		useQueryString					= Key.of( "useQueryString" );
 	public static final Key		useRegex						= Key.of( "useRegex" );
 	public static final Key		useSecureJSONPrefix				= Key.of( "useSecureJSONPrefix" );
+	public static final Key		useVirtualThreads				= Key.of( "useVirtualThreads" );
 	public static final Key		validator						= Key.of( "validator" );
 	public static final Key		validators						= Key.of( "validators" );
 	public static final Key		value							= Key.of( "value" );
+	public static final Key		values							= Key.of( "values" );
 	public static final Key		var								= Key.of( "var" );
 	public static final Key		variable						= Key.of( "variable" );
 	public static final Key		variables						= Key.of( "variables" );
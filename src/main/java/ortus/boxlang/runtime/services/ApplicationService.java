@@ -21,8 +21,10 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,6 +39,7 @@ import ortus.boxlang.runtime.application.ApplicationClassListener;
 import ortus.boxlang.runtime.application.ApplicationDefaultListener;
 import ortus.boxlang.runtime.application.ApplicationListener;
 import ortus.boxlang.runtime.application.ApplicationTemplateListener;
+import ortus.boxlang.runtime.config.segments.CompilerConfig.CacheMode;
 import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.interop.DynamicObject;
@@ -61,19 +64,24 @@ public class ApplicationService extends BaseService {
 	 * The applications for this runtime
 	 * TODO: timeout applications
 	 */
-	private Map<Key, Application>	applications							= new ConcurrentHashMap<>();
+	private Map<Key, Application>			applications							= new ConcurrentHashMap<>();
 
 	/**
 	 * Extensions to search for application descriptor templates
 	 */
 	// TODO: contribute cfc from compat extension
-	private Set<String>				applicationDescriptorClassExtensions	= new HashSet<>( Arrays.asList( "bx", "cfc" ) );
+	private Set<String>						applicationDescriptorClassExtensions	= new HashSet<>( Arrays.asList( "bx", "cfc" ) );
 
 	/**
 	 * Extensions to search for application descriptor classes
 	 */
 	// TODO: contribute cfc from compat extension
-	private Set<String>				applicationDescriptorExtensions			= new HashSet<>( Arrays.asList( "bxm", "cfm" ) );
+	private Set<String>						applicationDescriptorExtensions			= new HashSet<>( Arrays.asList( "bxm", "cfm" ) );
+
+	/**
+	 * Cached Application descriptor lookups by template directory
+	 */
+	private Map<String, DescriptorLookup>	descriptorLookups						= new ConcurrentHashMap<>();
 
 	/**
 	 * The types of application listeners we support: Application classes and
@@ -213,37 +221,12 @@ public class ApplicationService extends BaseService {
 		if ( template != null ) {
 
 			// Look for an Application descriptor based on our lookup rules
-			String	directoryOfTemplate	= null;
-			String	packagePath			= "";
-			String	rootMapping			= context.getConfig().getAsStruct( Key.runtime ).getAsStruct( Key.mappings )
+			String				rootMapping	= context.getConfig().getAsStruct( Key.runtime ).getAsStruct( Key.mappings )
 			    .getAsString( Key._slash );
-			if ( template.isAbsolute() ) {
-				directoryOfTemplate	= new File( template ).getParent();
-				searchResult		= fileLookup( directoryOfTemplate );
-			} else {
-				directoryOfTemplate = new File( template.toString() ).getParent();
-				while ( directoryOfTemplate != null ) {
-					if ( directoryOfTemplate.equals( File.separator ) ) {
-						searchResult = fileLookup( rootMapping );
-					} else {
-						searchResult = fileLookup( Paths.get( rootMapping, directoryOfTemplate ).toString() );
-					}
-					if ( searchResult != null ) {
-						// set packagePath to the relative path from the rootMapping to the
-						// directoryOfTemplate with slashes replaced with dots
-						packagePath = directoryOfTemplate.replace( File.separator, "." );
-						if ( packagePath.endsWith( "." ) ) {
-							packagePath = packagePath.substring( 0, packagePath.length() - 1 );
-						}
-						// trim leading .
-						if ( packagePath.startsWith( "." ) ) {
-							packagePath = packagePath.substring( 1 );
-						}
-						break;
-					}
-					directoryOfTemplate = new File( directoryOfTemplate ).getParent();
-				}
-			}
+			DescriptorLookup	lookup		= findApplicationDescriptor( template, rootMapping );
+			String				packagePath	= lookup.packagePath();
+			searchResult = lookup.search();
+
 			// If we found an Application class, instantiate it
 			if ( searchResult != null ) {
 				if ( searchResult.type() == ApplicationDescriptorType.CLASS ) {
@@ -300,9 +283,94 @@ public class ApplicationService extends BaseService {
 		return listener;
 	}
 
+	/**
+	 * Find the Application descriptor for a template, using the cached lookup when none of the searched directories changed.
+	 *
+	 * @param template    The template path
+	 * @param rootMapping The root mapping, used to resolve relative templates
+	 *
+	 * @return The lookup result
+	 */
+	private DescriptorLookup findApplicationDescriptor( URI template, String rootMapping ) {
+		String	directoryOfTemplate;
+		String	cacheKey;
+		if ( template.isAbsolute() ) {
+			directoryOfTemplate	= new File( template ).getParent();
+			cacheKey			= directoryOfTemplate;
+		} else {
+			directoryOfTemplate	= new File( template.toString() ).getParent();
+			cacheKey			= rootMapping + "|" + directoryOfTemplate;
+		}
+
+		// In the trusted cache mode a lookup is never checked again
+		DescriptorLookup	lookup	= this.descriptorLookups.get( cacheKey );
+		boolean				trusted	= this.runtime.getConfiguration().compiler.cacheMode == CacheMode.TRUSTED;
+		if ( lookup == null || ( !trusted && !lookup.isCurrent() ) ) {
+			lookup = template.isAbsolute() ? searchAbsolute( directoryOfTemplate ) : searchRelative( directoryOfTemplate, rootMapping );
+			this.descriptorLookups.put( cacheKey, lookup );
+		}
+		return lookup;
+	}
+
+	/**
+	 * Search the directory of an absolute template
+	 *
+	 * @param directoryOfTemplate The directory of the template
+	 *
+	 * @return The lookup result
+	 */
+	private DescriptorLookup searchAbsolute( String directoryOfTemplate ) {
+		List<DirectoryStamp> stamps = new ArrayList<>();
+		stamps.add( DirectoryStamp.of( directoryOfTemplate ) );
+		return new DescriptorLookup( fileLookup( directoryOfTemplate ), "", stamps );
+	}
+
+	/**
+	 * Search the directory of a template relative to the root mapping, walking up until a descriptor is found
+	 *
+	 * @param directoryOfTemplate The directory of the template, relative to the root mapping
+	 * @param rootMapping         The root mapping
+	 *
+	 * @return The lookup result
+	 */
+	private DescriptorLookup searchRelative( String directoryOfTemplate, String rootMapping ) {
+		List<DirectoryStamp> stamps = new ArrayList<>();
+		while ( directoryOfTemplate != null ) {
+			String directory;
+			if ( directoryOfTemplate.equals( File.separator ) ) {
+				directory = rootMapping;
+			} else {
+				directory = Paths.get( rootMapping, directoryOfTemplate ).toString();
+			}
+			stamps.add( DirectoryStamp.of( directory ) );
+			ApplicationDescriptorSearch searchResult = fileLookup( directory );
+			if ( searchResult != null ) {
+				// set packagePath to the relative path from the rootMapping to the
+				// directoryOfTemplate with slashes replaced with dots
+				String packagePath = directoryOfTemplate.replace( File.separator, "." );
+				if ( packagePath.endsWith( "." ) ) {
+					packagePath = packagePath.substring( 0, packagePath.length() - 1 );
+				}
+				// trim leading .
+				if ( packagePath.startsWith( "." ) ) {
+					packagePath = packagePath.substring( 1 );
+				}
+				return new DescriptorLookup( searchResult, packagePath, stamps );
+			}
+			directoryOfTemplate = new File( directoryOfTemplate ).getParent();
+		}
+		return new DescriptorLookup( null, "", stamps );
+	}
+
+	/**
+	 * Clear the cache of Application descriptor lookups, so the next requests search for their descriptors again
+	 */
+	public void clearApplicationDescriptorCache() {
+		this.descriptorLookups.clear();
+	}
+
 	/**
 	 * Search a directory for all known file extensions.
-	 * TODO: Cache this lookup when in a production mode
 	 */
 	private ApplicationDescriptorSearch fileLookup( String path ) {
 		// Look for a class first
@@ -326,4 +394,51 @@ public class ApplicationService extends BaseService {
 	private record ApplicationDescriptorSearch( Path path, ApplicationDescriptorType type ) {
 	}
 
+	/**
+	 * A cached descriptor lookup. Creating or deleting a file changes the last modified time of its directory, so the
+	 * lookup stays valid as long as none of the directories it searched changed. Since many file systems only keep that time
+	 * to the second or two, a directory changed shortly before it was searched is searched again, until its time is old enough
+	 * to show any later change.
+	 *
+	 * @param search      The descriptor found, null if none
+	 * @param packagePath The package of the descriptor, relative to the root mapping
+	 * @param stamps      The searched directories
+	 */
+	private record DescriptorLookup( ApplicationDescriptorSearch search, String packagePath, List<DirectoryStamp> stamps ) {
+
+		boolean isCurrent() {
+			for ( DirectoryStamp stamp : stamps ) {
+				if ( !stamp.isCurrent() ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A directory and its last modified time when it was searched
+	 *
+	 * @param directory    The directory
+	 * @param lastModified The last modified time, 0 if it does not exist
+	 * @param searchedAt   When the directory was searched
+	 */
+	private record DirectoryStamp( File directory, long lastModified, long searchedAt ) {
+
+		/**
+		 * The coarsest last modified time resolution of the file systems we run on, in milliseconds
+		 */
+		static final long MODIFIED_TIME_RESOLUTION = 2000;
+
+		static DirectoryStamp of( String path ) {
+			File directory = new File( path );
+			return new DirectoryStamp( directory, directory.lastModified(), System.currentTimeMillis() );
+		}
+
+		boolean isCurrent() {
+			// A change right after the search may have kept the same time, so a recent time can't be trusted
+			return searchedAt - lastModified >= MODIFIED_TIME_RESOLUTION && directory.lastModified() == lastModified;
+		}
+	}
+
 }
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.async.executors.BoxScheduledExecutor;
 import ortus.boxlang.runtime.async.executors.ExecutorRecord;
+import ortus.boxlang.runtime.async.executors.VirtualThreads;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
@@ -53,6 +54,8 @@ import ortus.boxlang.runtime.types.exceptions.KeyNotFoundException;
  * <li>SINGLE</li>
  * <li>SCHEDULED</li>
  * <li>WORK_STEALING</li>
+ * <li>FORK_JOIN</li>
+ * <li>VIRTUAL</li>
  * </ul>
  *
  * The default max threads is 20, you can override this by passing in a maxThreads value for some of the executors.
@@ -81,7 +84,8 @@ public class AsyncService extends BaseService {
 		SINGLE,  // Single-threaded executor
 		SCHEDULED, // Scheduled thread pool
 		WORK_STEALING,  // Work-stealing executor,
-		FORK_JOIN // Fork join pool
+		FORK_JOIN, // Fork join pool
+		VIRTUAL // A new virtual thread per task
 	}
 
 	/**
@@ -94,6 +98,26 @@ public class AsyncService extends BaseService {
 	 */
 	public static final Long			DEFAULT_TIMEOUT		= 30L;
 
+	/**
+	 * The name of the shared executor used by parallel collection operations
+	 */
+	public static final String			PARALLEL_EXECUTOR	= "boxlang-parallel";
+
+	/**
+	 * The size of the shared parallel executor when no max threads are requested
+	 */
+	public static final int				PARALLEL_THREADS	= Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * The largest pool a parallel collection operation can request
+	 */
+	public static final int				MAX_PARALLEL_POOL	= 256;
+
+	/**
+	 * Collections smaller than this run parallel operations sequentially on the calling thread
+	 */
+	public static final int				MIN_PARALLEL_SIZE	= 2;
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Private Properties
@@ -303,6 +327,48 @@ public class AsyncService extends BaseService {
 		return this;
 	}
 
+	/**
+	 * Get the shared executor for parallel collection operations like {@code arrayEach( parallel=true )}.
+	 * <p>
+	 * Callers share one work-stealing pool per size instead of building a pool per call: {@code boxlang-parallel} is sized to the
+	 * available processors and is used when no max threads are requested, otherwise {@code boxlang-parallel-{maxThreads}} is used.
+	 * The pools are registered with the service, so they show up in the executor stats and are shutdown with the runtime.
+	 *
+	 * @param maxThreads The max threads requested, null or 0 for the default. Capped at {@link #MAX_PARALLEL_POOL}
+	 *
+	 * @return The executor record
+	 */
+	public ExecutorRecord getParallelExecutor( Integer maxThreads ) {
+		int		threads	= ( maxThreads == null || maxThreads <= 0 ) ? PARALLEL_THREADS : Math.min( maxThreads, MAX_PARALLEL_POOL );
+		String	name	= threads == PARALLEL_THREADS ? PARALLEL_EXECUTOR : PARALLEL_EXECUTOR + "-" + threads;
+
+		ExecutorRecord executor = this.executors.get( name );
+		if ( executor != null && !executor.executor().isShutdown() ) {
+			return executor;
+		}
+		return this.executors.compute(
+		    name,
+		    ( key, existing ) -> existing == null || existing.executor().isShutdown()
+		        ? buildExecutor( name, ExecutorType.FORK_JOIN, threads )
+		        : existing
+		);
+	}
+
+	/**
+	 * Get the stats of the shared parallel collection executors: active threads, queued tasks and steals.
+	 *
+	 * @return A struct of executor name to its stats
+	 */
+	public IStruct getParallelExecutorStats() {
+		IStruct stats = new Struct();
+		this.executors.forEach( ( name, executor ) -> {
+			if ( name.startsWith( PARALLEL_EXECUTOR ) ) {
+				stats.put( name, executor.getStats() );
+			}
+		} );
+		return stats;
+	}
+
 	/**
 	 * Get the executor names registered with the service
 	 *
@@ -418,11 +484,23 @@ public class AsyncService extends BaseService {
 		return newExecutor( name, ExecutorType.WORK_STEALING, ( maxThreads == null ? DEFAULT_MAX_THREADS : maxThreads ) );
 	}
 
+	/**
+	 * Build a virtual thread executor, which starts a new virtual thread for each task.
+	 * On a JVM without virtual threads this falls back to a cached pool of platform threads.
+	 *
+	 * @param name The name of the executor
+	 *
+	 * @return The executor record
+	 */
+	public ExecutorRecord newVirtualExecutor( String name ) {
+		return newExecutor( name, ExecutorType.VIRTUAL );
+	}
+
 	/**
 	 * Build an executor without registering it using BoxLang specs
 	 *
 	 * @param name       The name of the executor
-	 * @param type       The executor type: CACHED, FIXED, SINGLE, SCHEDULED, WORK_STEALING
+	 * @param type       The executor type: CACHED, FIXED, SINGLE, SCHEDULED, WORK_STEALING, FORK_JOIN, VIRTUAL
 	 * @param maxThreads The max threads, if applicable
 	 *
 	 * @return The executor
@@ -448,6 +526,9 @@ public class AsyncService extends BaseService {
 			case FORK_JOIN :
 				executor = maxThreads != null ? new ForkJoinPool( maxThreads ) : ForkJoinPool.commonPool();
 				break;
+			case VIRTUAL :
+				executor = VirtualThreads.newExecutor( name + "-" );
+				break;
 			default :
 				executor = null;
 		}
@@ -14,8 +14,13 @@
  */
 package ortus.boxlang.runtime.services;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,8 +31,10 @@ import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.jdbc.DataSource;
 import ortus.boxlang.runtime.jdbc.drivers.IJDBCDriver;
 import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.EncryptionUtil;
 
 /**
  * The datasource manager which stores a registry of configured datasources.
@@ -36,6 +43,14 @@ import ortus.boxlang.runtime.types.Struct;
  * <p>
  * The datasource manager can look up datasources by name or by configuration. If by name, the datasource name will be prefixed with the application
  * name or web server name, if those exist.
+ * <p>
+ * The service also keeps which datasource each name resolves to for each application, so requests don't rebuild datasource
+ * configurations on every query. Resolutions are dropped whenever a datasource is registered or removed, or when
+ * {@link #invalidateResolutions()} is called.
+ * <p>
+ * Resolutions are not used at all while a module listens to <code>onRequestContextConfig</code>, since it may change the datasource
+ * configuration of each request in ways the settings fingerprint can't see. Such requests build their datasources from their own
+ * configuration, as they did before resolutions were shared.
  */
 public class DatasourceService extends BaseService {
 
@@ -48,17 +63,65 @@ public class DatasourceService extends BaseService {
 	/**
 	 * Logger
 	 */
-	private static final Logger		logger		= LoggerFactory.getLogger( DatasourceService.class );
+	private static final Logger						logger				= LoggerFactory.getLogger( DatasourceService.class );
+
+	/**
+	 * The maximum number of resolutions kept. They are all dropped when it is reached.
+	 */
+	private static final int						MAX_RESOLUTIONS		= 10000;
 
 	/**
 	 * Map of datasources registered with the service.
 	 */
-	private Map<Key, DataSource>	datasources	= new HashMap<>();
+	private Map<Key, DataSource>					datasources			= new ConcurrentHashMap<>();
+
+	/**
+	 * The datasources resolved by name for each application
+	 */
+	private final Map<ResolutionKey, Resolution>	resolutions			= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented when the resolutions are invalidated, so a resolution started before is not kept
+	 */
+	private final AtomicLong						resolutionVersion	= new AtomicLong();
+
+	/**
+	 * The last settings fingerprint computed for each application
+	 */
+	private final Map<Key, SettingsFingerprint>		fingerprints		= new ConcurrentHashMap<>();
 
 	/**
 	 * Map of JDBC drivers registered with the service.
 	 */
-	private Map<Key, IJDBCDriver>	jdbcDrivers	= new HashMap<>();
+	private Map<Key, IJDBCDriver>					jdbcDrivers			= new HashMap<>();
+
+	/**
+	 * The key of a resolution
+	 *
+	 * @param application The application name, empty outside an application
+	 * @param datasource  The datasource name, null for the default datasource
+	 * @param fingerprint The fingerprint of the runtime and application datasource settings
+	 */
+	private record ResolutionKey( Key application, Key datasource, String fingerprint ) {
+	}
+
+	/**
+	 * A resolved datasource
+	 *
+	 * @param datasource The datasource
+	 * @param version    The resolution version it was resolved in
+	 */
+	private record Resolution( DataSource datasource, long version ) {
+	}
+
+	/**
+	 * A settings fingerprint
+	 *
+	 * @param settings Copies of the settings values it was computed from
+	 * @param value    The fingerprint
+	 */
+	private record SettingsFingerprint( List<Object> settings, String value ) {
+	}
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -246,9 +309,101 @@ public class DatasourceService extends BaseService {
 	 */
 	public DataSource register( Key name, DataSource datasource ) {
 		this.datasources.put( name, datasource );
+		invalidateResolutions();
+		return datasource;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Datasource Resolutions
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Get the datasource a name resolves to in an application, resolving it if it was not resolved yet or was invalidated.
+	 *
+	 * @param application The application name, empty outside an application
+	 * @param name        The datasource name, null for the default datasource
+	 * @param fingerprint The fingerprint of the runtime and application datasource settings
+	 * @param resolver    Resolves the datasource from the configuration, returns null if there is no such datasource
+	 *
+	 * @return The datasource, or null if there is no such datasource
+	 */
+	public DataSource resolve( Key application, Key name, String fingerprint, Supplier<DataSource> resolver ) {
+		ResolutionKey	key			= new ResolutionKey( application, name, fingerprint );
+		long			version		= this.resolutionVersion.get();
+		Resolution		resolution	= this.resolutions.get( key );
+		if ( resolution != null && resolution.version() == version ) {
+			return resolution.datasource();
+		}
+		DataSource datasource = resolver.get();
+		// Unknown names are not kept, they may be registered later
+		if ( datasource != null ) {
+			if ( this.resolutions.size() >= MAX_RESOLUTIONS ) {
+				this.resolutions.clear();
+			}
+			this.resolutions.put( key, new Resolution( datasource, version ) );
+		}
 		return datasource;
 	}
 
+	/**
+	 * Get the fingerprint of the datasource settings of an application, which tells resolutions made with other settings apart.
+	 * It is a SHA-256 digest of the settings values, so two different settings can't share resolutions. The digest is only
+	 * computed again when the settings differ from the ones of the last call for the application, so the requests of an
+	 * application with unchanged settings only pay for comparing them.
+	 *
+	 * @param application The application name, empty outside an application
+	 * @param settings    The settings values
+	 *
+	 * @return The fingerprint
+	 */
+	public String getSettingsFingerprint( Key application, List<Object> settings ) {
+		SettingsFingerprint fingerprint = this.fingerprints.get( application );
+		if ( fingerprint != null && fingerprint.settings().equals( settings ) ) {
+			return fingerprint.value();
+		}
+		// Keep copies, so later changes to the settings can't make them look unchanged
+		List<Object> copies = new ArrayList<>( settings.size() );
+		settings.forEach( value -> copies.add( copySetting( value ) ) );
+		fingerprint = new SettingsFingerprint( copies, EncryptionUtil.hash( copies, "SHA-256" ) );
+		this.fingerprints.put( application, fingerprint );
+		return fingerprint.value();
+	}
+
+	/**
+	 * Copy a settings value, with all the structs and arrays it contains
+	 *
+	 * @param value The value
+	 *
+	 * @return The copy
+	 */
+	private static Object copySetting( Object value ) {
+		if ( value instanceof IStruct struct ) {
+			IStruct copy = new Struct( struct.getType() );
+			struct.entrySet().forEach( entry -> copy.put( entry.getKey(), copySetting( entry.getValue() ) ) );
+			return copy;
+		}
+		if ( value instanceof Array array ) {
+			Array copy = new Array();
+			array.forEach( item -> copy.add( copySetting( item ) ) );
+			return copy;
+		}
+		return value;
+	}
+
+	/**
+	 * Drop all the resolutions, so names are resolved again from the configuration.
+	 * Call it after changing datasource configurations without registering or removing datasources.
+	 *
+	 * @return DatasourceService
+	 */
+	public DatasourceService invalidateResolutions() {
+		this.resolutionVersion.incrementAndGet();
+		this.resolutions.clear();
+		return this;
+	}
+
 	/**
 	 * Do we have a datasource registered with the manager?
 	 *
@@ -303,6 +458,7 @@ public class DatasourceService extends BaseService {
 		if ( datasource != null ) {
 			datasource.shutdown();
 			this.datasources.remove( name );
+			invalidateResolutions();
 			return true;
 		}
 		return false;
@@ -326,6 +482,7 @@ public class DatasourceService extends BaseService {
 		// Shutdown all datasources in a parallel stream
 		this.datasources.values().parallelStream().forEach( DataSource::shutdown );
 		this.datasources.clear();
+		invalidateResolutions();
 		return this;
 	}
 
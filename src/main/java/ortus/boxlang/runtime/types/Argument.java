@@ -20,6 +20,7 @@ package ortus.boxlang.runtime.types;
 import java.util.Set;
 
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.TypeChecker;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.validation.Validatable;
 import ortus.boxlang.runtime.validation.Validator;
@@ -34,10 +35,12 @@ import ortus.boxlang.runtime.validation.Validator;
  * @param defaultExpression The default value of the argument as a Lambda to be evaluated at runtime
  * @param annotations       Annotations for the argument
  * @param documentation     Documentation for the argument
+ * @param validators        Validators for the argument
+ * @param typeChecker       The precompiled checker for the type of the argument
  *
  */
 public record Argument( boolean required, String type, Key name, Object defaultValue, DefaultExpression defaultExpression, IStruct annotations,
-    IStruct documentation, Set<Validator> validators ) implements Validatable {
+    IStruct documentation, Set<Validator> validators, TypeChecker typeChecker ) implements Validatable {
 
 	// Easy Type Constants
 	public static final String ANY = "any";
@@ -108,6 +111,11 @@ public record Argument( boolean required, String type, Key name, Object defaultV
 
 	public Argument( boolean required, String type, Key name, Object defaultValue, DefaultExpression defaultExpression, IStruct annotations,
 	    IStruct documentation, Set<Validator> validators ) {
+		this( required, type, name, defaultValue, defaultExpression, annotations, documentation, validators, TypeChecker.of( type ) );
+	}
+
+	public Argument( boolean required, String type, Key name, Object defaultValue, DefaultExpression defaultExpression, IStruct annotations,
+	    IStruct documentation, Set<Validator> validators, TypeChecker typeChecker ) {
 		this.required			= required;
 		this.type				= type;
 		this.name				= name;
@@ -116,6 +124,7 @@ public record Argument( boolean required, String type, Key name, Object defaultV
 		this.annotations		= annotations;
 		this.documentation		= documentation;
 		this.validators			= validators;
+		this.typeChecker			= typeChecker;
 	}
 
 	public Object getDefaultValue( IBoxContext context ) {
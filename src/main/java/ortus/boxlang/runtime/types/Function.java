@@ -31,8 +31,9 @@ import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.LambdaBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
-import ortus.boxlang.runtime.dynamic.casters.GenericCaster;
+import ortus.boxlang.runtime.dynamic.casters.TypeChecker;
 import ortus.boxlang.runtime.events.BoxEvent;
+import ortus.boxlang.runtime.events.jfr.FunctionInvocationEvent;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.runnables.IFunctionRunnable;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
@@ -68,22 +69,27 @@ public abstract class Function implements IType, IFunctionRunnable, Serializable
 	/**
 	 * Metadata object
 	 */
-	public transient BoxMeta	$bx;
+	public transient BoxMeta		$bx;
 
 	/**
 	 * The argument collection key which defaults to : {@code argumentCollection}
 	 */
-	public static final Key		ARGUMENT_COLLECTION	= Key.argumentCollection;
+	public static final Key			ARGUMENT_COLLECTION	= Key.argumentCollection;
 
 	/**
 	 * Cached lookup of the output annotation
 	 */
-	private Boolean				canOutput			= null;
+	private Boolean					canOutput			= null;
+
+	/**
+	 * Cached checker for the declared return type
+	 */
+	private transient TypeChecker	returnTypeChecker	= null;
 
 	/**
 	 * Serialization version
 	 */
-	private static final long	serialVersionUID	= 1L;
+	private static final long		serialVersionUID	= 1L;
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -156,34 +162,59 @@ public abstract class Function implements IType, IFunctionRunnable, Serializable
 	 * @return The result of the function, which may be null
 	 */
 	public Object invoke( FunctionBoxContext context ) {
-		InterceptorService	interceptorService	= BoxRuntime.getInstance().getInterceptorService();
-
-		// Announcements
-		IStruct				data				= Struct.of(
-		    Key.context, context,
-		    Key.function, this
-		);
-		interceptorService.announce(
-		    BoxEvent.PRE_FUNCTION_INVOKE,
-		    data
-		);
-
-		Object result = null;
+		// Every function call is a request timeout safepoint, so runaway recursion stops as well
+		context.checkRequestTimeout();
+
+		BoxRuntime			runtime				= BoxRuntime.getInstance();
+		InterceptorService	interceptorService	= runtime.getInterceptorService();
+
+		// Announcements, the data is only built if someone is listening
+		IStruct				data				= null;
+		if ( interceptorService.hasListeners( BoxEvent.PRE_FUNCTION_INVOKE ) ) {
+			data = Struct.of(
+			    Key.context, context,
+			    Key.function, this
+			);
+			interceptorService.announce(
+			    BoxEvent.PRE_FUNCTION_INVOKE,
+			    data
+			);
+		}
+
+		Object					result	= null;
+		FunctionInvocationEvent	event	= new FunctionInvocationEvent();
+		long					start	= runtime.getMetricsRegistry().startTimer();
 		context.pushTemplate( this );
+		event.begin();
 		try {
 			result = ensureReturnType( context, _invoke( context ) );
-			data.put( Key.result, result );
 
-			interceptorService.announce(
-			    BoxEvent.POST_FUNCTION_INVOKE,
-			    data
-			);
+			if ( interceptorService.hasListeners( BoxEvent.POST_FUNCTION_INVOKE ) ) {
+				// Share the pre-invoke data so interceptors see any changes made to it
+				if ( data == null ) {
+					data = Struct.of(
+					    Key.context, context,
+					    Key.function, this
+					);
+				}
+				data.put( Key.result, result );
+				interceptorService.announce(
+				    BoxEvent.POST_FUNCTION_INVOKE,
+				    data
+				);
+			}
 		} catch ( Throwable e ) {
 			context.flushBuffer( true );
 			throw e;
 		} finally {
 			context.popTemplate();
 			context.flushBuffer( false );
+			if ( event.shouldCommit() ) {
+				event.name		= getName().getName();
+				event.className	= context.isInClass() ? context.getThisClass().getName().getName() : null;
+				event.commit();
+			}
+			runtime.getMetricsRegistry().stopTimer( "function", start );
 		}
 
 		return result;
@@ -201,7 +232,7 @@ public abstract class Function implements IType, IFunctionRunnable, Serializable
 		if ( value == null ) {
 			return null;
 		}
-		CastAttempt<Object> typeCheck = GenericCaster.attempt( context, value, getReturnType(), true );
+		CastAttempt<Object> typeCheck = getReturnTypeChecker().attempt( context, value );
 		if ( !typeCheck.wasSuccessful() ) {
 			String actualType;
 			if ( value == null ) {
@@ -220,6 +251,18 @@ public abstract class Function implements IType, IFunctionRunnable, Serializable
 		return typeCheck.get();
 	}
 
+	/**
+	 * Get the checker for the declared return type, resolved on first use
+	 *
+	 * @return The type checker
+	 */
+	protected TypeChecker getReturnTypeChecker() {
+		if ( this.returnTypeChecker == null ) {
+			this.returnTypeChecker = TypeChecker.of( getReturnType() );
+		}
+		return this.returnTypeChecker;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Abstract methods for concrete classes to implement.
@@ -22,6 +22,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -29,9 +30,10 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.bifs.MemberDescriptor;
@@ -57,26 +59,37 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	/**
 	 * Query data as List of arrays
 	 */
-	private List<Object[]>				data				= Collections.synchronizedList( new ArrayList<Object[]>() );
+	private List<Object[]>									data				= Collections.synchronizedList( new ArrayList<Object[]>() );
 
 	/**
 	 * Map of column definitions
 	 */
-	private Map<Key, QueryColumn>		columns				= Collections.synchronizedMap( new LinkedHashMap<Key, QueryColumn>() );
+	private Map<Key, QueryColumn>							columns				= Collections.synchronizedMap( new LinkedHashMap<Key, QueryColumn>() );
+
+	/**
+	 * The column names in column order, shared by the row views. Rebuilt when columns change.
+	 */
+	private transient volatile Key[]						columnKeys;
+
+	/**
+	 * Indexes by their columns, null until an index is created
+	 */
+	private transient volatile Map<List<Key>, QueryIndex>	indexes;
+
 	/**
 	 * Metadata object
 	 */
-	public transient BoxMeta			$bx;
+	public transient BoxMeta								$bx;
 
 	/**
 	 * Function service
 	 */
-	private transient FunctionService	functionService;
+	private transient FunctionService						functionService;
 
 	/**
 	 * Serialization version
 	 */
-	private static final long			serialVersionUID	= 1L;
+	private static final long								serialVersionUID	= 1L;
 
 	/**
 	 * Create a new query
@@ -216,6 +229,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 			}
 		}
 		columns.put( name, new QueryColumn( name, type, this, newColIndex ) );
+		columnKeys = null;
 		if ( data.size() > 0 ) {
 			// loop over data and replace each array with a new array having an additional null at the end
 			for ( int i = 0; i < data.size(); i++ ) {
@@ -235,6 +249,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 				data.add( row );
 			}
 		}
+		invalidateIndexes();
 		return this;
 	}
 
@@ -327,8 +342,16 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 		// TODO: validate types
 		int newRow;
 		synchronized ( this ) {
-			data.add( row );
-			newRow = data.size();
+			synchronized ( data ) {
+				data.add( row );
+				newRow = data.size();
+				Map<List<Key>, QueryIndex> queryIndexes = indexes;
+				if ( queryIndexes != null ) {
+					for ( QueryIndex index : queryIndexes.values() ) {
+						index.add( newRow - 1, row );
+					}
+				}
+			}
 		}
 		return newRow;
 	}
@@ -373,10 +396,10 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return Last row added
 	 */
 	public int addRows( int rows ) {
-		Object[]	rowData	= new Object[ columns.size() ];
-		int			lastRow	= 0;
+		int lastRow = 0;
 		for ( int i = 0; i < rows; i++ ) {
-			lastRow = addRow( rowData );
+			// Each row needs its own array, or setting a cell would set it in all of them
+			lastRow = addRow( new Object[ columns.size() ] );
 		}
 		return lastRow;
 	}
@@ -390,6 +413,12 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 		QueryColumn	column	= getColumn( name );
 		int			index	= column.getIndex();
 		columns.remove( name );
+		columnKeys = null;
+		Map<List<Key>, QueryIndex> queryIndexes = indexes;
+		if ( queryIndexes != null ) {
+			queryIndexes.values().removeIf( queryIndex -> queryIndex.covers( name ) );
+		}
+		invalidateIndexes();
 		for ( Object[] row : data ) {
 			Object[] newRow = new Object[ row.length - 1 ];
 			System.arraycopy( row, 0, newRow, 0, index );
@@ -408,6 +437,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	public Query deleteRow( int index ) {
 		validateRow( index );
 		data.remove( index );
+		invalidateIndexes();
 		return this;
 	}
 
@@ -477,6 +507,35 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 		return struct;
 	}
 
+	/**
+	 * Get a row as a struct view. 0-based index!
+	 * Nothing is copied until the struct is modified, and modifications are never reflected in the query.
+	 *
+	 * @param index row index, starting at 0
+	 *
+	 * @return struct view of the row
+	 */
+	public IStruct getRowView( int index ) {
+		validateRow( index );
+		return new QueryRow( getColumnKeys(), data.get( index ) );
+	}
+
+	/**
+	 * Get the column names in column order
+	 *
+	 * @return array of column names, which must not be modified
+	 */
+	private Key[] getColumnKeys() {
+		Key[] keys = columnKeys;
+		if ( keys == null ) {
+			synchronized ( columns ) {
+				keys = columns.keySet().toArray( new Key[ 0 ] );
+			}
+			columnKeys = keys;
+		}
+		return keys;
+	}
+
 	/**
 	 * Get data for a single cell. 0-based index!
 	 *
@@ -493,6 +552,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 
 	/**
 	 * Set data for a single cell. 0-based index!
+	 * The row array is copied before it is written, so row views handed out before keep the values they had.
 	 *
 	 * @param columnName column name
 	 * @param rowIndex   row index, starting at 0
@@ -503,10 +563,147 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 		validateRow( rowIndex );
 		int columnIndex = getColumn( columnName ).getIndex();
 		// TODO: validate column type
-		data.get( rowIndex )[ columnIndex ] = value;
+		synchronized ( data ) {
+			Object[]	previous	= data.get( rowIndex );
+			Object[]	row			= previous.length > columnIndex ? previous.clone() : Arrays.copyOf( previous, columnIndex + 1 );
+			row[ columnIndex ] = value;
+			Map<List<Key>, QueryIndex> queryIndexes = indexes;
+			if ( queryIndexes != null ) {
+				for ( QueryIndex index : queryIndexes.values() ) {
+					if ( index.covers( columnName ) ) {
+						index.remove( rowIndex, previous );
+					}
+				}
+			}
+			data.set( rowIndex, row );
+			if ( queryIndexes != null ) {
+				for ( QueryIndex index : queryIndexes.values() ) {
+					if ( index.covers( columnName ) ) {
+						index.add( rowIndex, row );
+					}
+				}
+			}
+		}
 		return this;
 	}
 
+	/**
+	 * Replace the data of a row. 0-based index!
+	 *
+	 * @param rowIndex row index, starting at 0
+	 * @param row      row data as array of objects, in column order
+	 *
+	 * @return this query
+	 */
+	public Query setRow( int rowIndex, Object[] row ) {
+		validateRow( rowIndex );
+		synchronized ( data ) {
+			Object[]					previous		= data.set( rowIndex, row );
+			Map<List<Key>, QueryIndex>	queryIndexes	= indexes;
+			if ( queryIndexes != null ) {
+				for ( QueryIndex index : queryIndexes.values() ) {
+					index.remove( rowIndex, previous );
+					index.add( rowIndex, row );
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Create an index on one or more columns, or get the existing one. See {@link QueryIndex}.
+	 *
+	 * @param sorted      true for a sorted index, which also allows range scans
+	 * @param columnNames the columns to index
+	 *
+	 * @return the index
+	 */
+	public synchronized QueryIndex createIndex( boolean sorted, Key... columnNames ) {
+		List<Key> indexColumns = List.of( columnNames );
+		if ( indexes == null ) {
+			indexes = new ConcurrentHashMap<>();
+		}
+		QueryIndex index = indexes.get( indexColumns );
+		if ( index == null || index.isSorted() != sorted ) {
+			index = new QueryIndex( this, columnNames, sorted );
+			indexes.put( indexColumns, index );
+		}
+		return index;
+	}
+
+	/**
+	 * Get the index on some columns
+	 *
+	 * @param columnNames the indexed columns, in the order the index was created with
+	 *
+	 * @return the index, or null if there is none
+	 */
+	public QueryIndex getIndex( Key... columnNames ) {
+		Map<List<Key>, QueryIndex> queryIndexes = indexes;
+		return queryIndexes == null ? null : queryIndexes.get( List.of( columnNames ) );
+	}
+
+	/**
+	 * Remove the index on some columns
+	 *
+	 * @param columnNames the indexed columns, in the order the index was created with
+	 */
+	public void dropIndex( Key... columnNames ) {
+		Map<List<Key>, QueryIndex> queryIndexes = indexes;
+		if ( queryIndexes != null ) {
+			queryIndexes.remove( List.of( columnNames ) );
+		}
+	}
+
+	/**
+	 * Mark all indexes stale so they are rebuilt on their next use.
+	 * Only needed after changing the arrays from {@link #getData()} or {@link #getRow(int)} directly.
+	 */
+	public void invalidateIndexes() {
+		Map<List<Key>, QueryIndex> queryIndexes = indexes;
+		if ( queryIndexes != null ) {
+			queryIndexes.values().forEach( QueryIndex::invalidate );
+		}
+	}
+
+	/**
+	 * Find the rows having the given values in some columns. Uses the index on these columns if there is one, scans the rows otherwise.
+	 * Values are matched like in an index, see {@link QueryIndex#normalize(Object)}.
+	 *
+	 * @param columnNames the columns to match
+	 * @param values      one value per column
+	 *
+	 * @return the row indexes, starting at 0, in ascending order
+	 */
+	public int[] findRows( Key[] columnNames, Object[] values ) {
+		QueryIndex index = getIndex( columnNames );
+		if ( index != null ) {
+			return index.find( values );
+		}
+		if ( columnNames.length != values.length ) {
+			throw new BoxRuntimeException( columnNames.length + " columns were given with " + values.length + " values" );
+		}
+		int[]		positions	= new int[ columnNames.length ];
+		Object[]	expected	= new Object[ values.length ];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			positions[ i ]	= getColumn( columnNames[ i ] ).getIndex();
+			expected[ i ]	= QueryIndex.normalize( values[ i ] );
+		}
+		synchronized ( data ) {
+			return intStream().filter( rowIndex -> {
+				Object[] row = data.get( rowIndex );
+				for ( int i = 0; i < positions.length; i++ ) {
+					// Rows added with fewer values than columns read as nulls
+					Object value = positions[ i ] < row.length ? row[ positions[ i ] ] : null;
+					if ( !Objects.equals( expected[ i ], QueryIndex.normalize( value ) ) ) {
+						return false;
+					}
+				}
+				return true;
+			} ).toArray();
+		}
+	}
+
 	/**
 	 * Validate that a row index is within bounds
 	 * Throw exception if not
@@ -556,13 +753,22 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @param compareFunc function to use for sorting
 	 */
 	public void sort( Comparator<IStruct> compareFunc ) {
-		// data.sort( compareFunc );
-		Stream<IStruct> sorted = intStream()
-		    .mapToObj( index -> getRowAsStruct( index ) )
-		    .sorted( compareFunc );
-
-		data = sorted.map( row -> row.getWrapped().entrySet().stream().map( entry -> entry.getValue() ).toArray() )
-		    .collect( Collectors.toList() );
+		synchronized ( data ) {
+			// Sort the row positions with views of the rows, then move the rows themselves
+			Object[][]	rows	= data.toArray( new Object[ 0 ][] );
+			Key[]		keys	= getColumnKeys();
+			IStruct[]	views	= new IStruct[ rows.length ];
+			Integer[]	order	= new Integer[ rows.length ];
+			for ( int i = 0; i < rows.length; i++ ) {
+				views[ i ]	= new QueryRow( keys, rows[ i ] );
+				order[ i ]	= i;
+			}
+			Arrays.sort( order, ( a, b ) -> compareFunc.compare( views[ a ], views[ b ] ) );
+			for ( int i = 0; i < rows.length; i++ ) {
+				data.set( i, rows[ order[ i ] ] );
+			}
+			invalidateIndexes();
+		}
 	}
 
 	/***************************
@@ -597,7 +803,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 
 			@Override
 			public IStruct next() {
-				return getRowAsStruct( index++ );
+				return getRowView( index++ );
 			}
 		};
 	}
@@ -614,14 +820,17 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 
 	/**
 	 * Get the data as a Boxlang Array of Structs. Useful for queries with `returntype: "array"`.
+	 * The structs are views of the rows, see {@link QueryRow}.
 	 */
 	public Array toStructArray() {
-		Iterator<IStruct>	it			= iterator();
-		Array				structArray	= new Array();
-		while ( it.hasNext() ) {
-			structArray.add( it.next() );
+		synchronized ( data ) {
+			Key[]	keys		= getColumnKeys();
+			Array	structArray	= new Array( data.size() );
+			for ( Object[] row : data ) {
+				structArray.add( new QueryRow( keys, row ) );
+			}
+			return structArray;
 		}
-		return structArray;
 	}
 
 	@Override
@@ -632,7 +841,9 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 
 	@Override
 	public boolean remove( Object o ) {
-		return data.remove( o );
+		boolean removed = data.remove( o );
+		invalidateIndexes();
+		return removed;
 	}
 
 	@Override
@@ -650,17 +861,22 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 
 	@Override
 	public boolean removeAll( Collection<?> c ) {
-		return data.removeAll( c );
+		boolean removed = data.removeAll( c );
+		invalidateIndexes();
+		return removed;
 	}
 
 	@Override
 	public boolean retainAll( Collection<?> c ) {
-		return data.retainAll( c );
+		boolean removed = data.retainAll( c );
+		invalidateIndexes();
+		return removed;
 	}
 
 	@Override
 	public void clear() {
 		data.clear();
+		invalidateIndexes();
 	}
 
 	/***************************
@@ -730,7 +946,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 				sb.append( ",\n" );
 			}
 			sb.append( "  " );
-			sb.append( getRowAsStruct( i ).asString() );
+			sb.append( getRowView( i ).asString() );
 		}
 		sb.append( "\n]" );
 		return sb.toString();
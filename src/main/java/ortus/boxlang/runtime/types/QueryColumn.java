@@ -125,8 +125,7 @@ public class QueryColumn implements IReferenceable, Serializable {
 	 * @return This QueryColumn
 	 */
 	public QueryColumn setCell( int row, Object value ) {
-		query.validateRow( row );
-		query.getData().get( row )[ index ] = value;
+		query.setCell( name, row, value );
 		return this;
 	}
 
@@ -0,0 +1,447 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * An index on one or more columns of a query, to find rows by value without scanning the query.
+ * <p>
+ * A hash index answers equality lookups. A sorted index also answers range scans, in key order. Keys are matched the way
+ * BoxLang compares simple values: anything which can be read as a number compares by value, so {@code 1}, {@code 1.0} and
+ * {@code "1"} are the same key, and other strings ignore case. See {@link #normalize(Object)}.
+ * <p>
+ * Indexes are created with {@link Query#createIndex(boolean, Key...)}. The query keeps them up to date when rows are added,
+ * set or when cells are set. Other changes, such as deleting or sorting rows, mark them stale and they are rebuilt on their
+ * next use. All row positions are 0-based.
+ */
+public class QueryIndex {
+
+	/**
+	 * Orders keys by type first (nulls, numbers, strings, booleans, anything else), then by value
+	 */
+	private static final Comparator<Object>	KEY_ORDER	= QueryIndex::compareKeys;
+
+	/**
+	 * The indexed query
+	 */
+	private final Query						query;
+
+	/**
+	 * The indexed columns
+	 */
+	private final Key[]						columns;
+
+	/**
+	 * The positions of the indexed columns, resolved when the index is built
+	 */
+	private int[]							positions;
+
+	/**
+	 * Whether the keys are kept in order
+	 */
+	private final boolean					sorted;
+
+	/**
+	 * The rows by key, null when the index is stale
+	 */
+	private Map<Object, RowList>			entries;
+
+	/**
+	 * The lock shared with the query data, so the index and the rows always change together
+	 */
+	private final Object					lock;
+
+	/**
+	 * Create an index. It is built on its first use.
+	 *
+	 * @param query   The query to index
+	 * @param columns The columns to index
+	 * @param sorted  True to keep the keys in order and allow range scans
+	 */
+	QueryIndex( Query query, Key[] columns, boolean sorted ) {
+		if ( columns.length == 0 ) {
+			throw new BoxRuntimeException( "An index needs at least one column" );
+		}
+		for ( Key column : columns ) {
+			query.getColumn( column );
+		}
+		this.query		= query;
+		this.columns	= columns.clone();
+		this.sorted		= sorted;
+		this.lock		= query.getData();
+	}
+
+	/**
+	 * Get the indexed columns
+	 *
+	 * @return The column names
+	 */
+	public Key[] getColumns() {
+		return columns.clone();
+	}
+
+	/**
+	 * Verify if this index keeps its keys in order
+	 *
+	 * @return True for a sorted index
+	 */
+	public boolean isSorted() {
+		return sorted;
+	}
+
+	/**
+	 * Find the rows having the given values in the indexed columns
+	 *
+	 * @param values One value per indexed column
+	 *
+	 * @return The row positions in ascending order, empty if none match
+	 */
+	public int[] find( Object... values ) {
+		Object key = keyOf( values );
+		synchronized ( lock ) {
+			RowList rows = entries().get( key );
+			return rows == null ? new int[ 0 ] : rows.toArray();
+		}
+	}
+
+	/**
+	 * Find the first row having the given values in the indexed columns
+	 *
+	 * @param values One value per indexed column
+	 *
+	 * @return The row position, or -1 if none match
+	 */
+	public int findFirst( Object... values ) {
+		Object key = keyOf( values );
+		synchronized ( lock ) {
+			RowList rows = entries().get( key );
+			return rows == null ? -1 : rows.rows[ 0 ];
+		}
+	}
+
+	/**
+	 * Find the rows whose key falls in a range. Only available on sorted indexes.
+	 *
+	 * @param from          The lowest values, one per indexed column, or null for no lower bound
+	 * @param fromInclusive True to include rows equal to the lower bound
+	 * @param to            The highest values, one per indexed column, or null for no upper bound
+	 * @param toInclusive   True to include rows equal to the upper bound
+	 *
+	 * @return The row positions in key order
+	 */
+	public int[] range( Object[] from, boolean fromInclusive, Object[] to, boolean toInclusive ) {
+		if ( !sorted ) {
+			throw new BoxRuntimeException( "Range scans need a sorted index" );
+		}
+		Object	fromKey	= from == null ? null : keyOf( from );
+		Object	toKey	= to == null ? null : keyOf( to );
+		synchronized ( lock ) {
+			NavigableMap<Object, RowList> map = ( NavigableMap<Object, RowList> ) entries();
+			if ( from != null && to != null ) {
+				if ( compareKeys( fromKey, toKey ) > 0 ) {
+					return new int[ 0 ];
+				}
+				map = map.subMap( fromKey, fromInclusive, toKey, toInclusive );
+			} else if ( from != null ) {
+				map = map.tailMap( fromKey, fromInclusive );
+			} else if ( to != null ) {
+				map = map.headMap( toKey, toInclusive );
+			}
+			RowList result = new RowList();
+			for ( RowList rows : map.values() ) {
+				for ( int i = 0; i < rows.size; i++ ) {
+					result.append( rows.rows[ i ] );
+				}
+			}
+			return Arrays.copyOf( result.rows, result.size );
+		}
+	}
+
+	/**
+	 * Join another query to this one: each row of the other query is matched to the rows of this query having the same
+	 * values in the indexed columns.
+	 *
+	 * @param other        The other query
+	 * @param otherColumns The columns of the other query to match, in the order of the indexed columns
+	 *
+	 * @return The pairs of matching rows, as {@code [ otherRow, thisRow ]}, in the order of the other query
+	 */
+	public List<int[]> join( Query other, Key... otherColumns ) {
+		if ( otherColumns.length != columns.length ) {
+			throw new BoxRuntimeException( "The join needs " + columns.length + " columns, " + otherColumns.length + " were given" );
+		}
+		int[] otherPositions = new int[ otherColumns.length ];
+		for ( int i = 0; i < otherColumns.length; i++ ) {
+			otherPositions[ i ] = other.getColumn( otherColumns[ i ] ).getIndex();
+		}
+		// Copy the rows of the other query rather than holding its lock and ours together
+		Object[][]	otherRows	= other.getData().toArray( new Object[ 0 ][] );
+		List<int[]>	pairs		= new ArrayList<>();
+		for ( int i = 0; i < otherRows.length; i++ ) {
+			for ( int row : find( valuesOf( otherRows[ i ], otherPositions ) ) ) {
+				pairs.add( new int[] { i, row } );
+			}
+		}
+		return pairs;
+	}
+
+	/**
+	 * Get the number of distinct keys
+	 *
+	 * @return The key count
+	 */
+	public int size() {
+		synchronized ( lock ) {
+			return entries().size();
+		}
+	}
+
+	/**
+	 * Add a row which was just added or changed in the query
+	 *
+	 * @param index The row position
+	 * @param row   The row data
+	 */
+	void add( int index, Object[] row ) {
+		synchronized ( lock ) {
+			if ( entries != null ) {
+				entries.computeIfAbsent( keyOf( valuesOf( row, positions ) ), k -> new RowList() ).add( index );
+			}
+		}
+	}
+
+	/**
+	 * Remove a row which is about to change in the query
+	 *
+	 * @param index The row position
+	 * @param row   The row data, before the change
+	 */
+	void remove( int index, Object[] row ) {
+		synchronized ( lock ) {
+			if ( entries != null ) {
+				Object	key		= keyOf( valuesOf( row, positions ) );
+				RowList	rows	= entries.get( key );
+				if ( rows != null && rows.remove( index ) && rows.size == 0 ) {
+					entries.remove( key );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Mark the index stale, it is rebuilt on its next use
+	 */
+	void invalidate() {
+		synchronized ( lock ) {
+			entries = null;
+		}
+	}
+
+	/**
+	 * Verify if this index covers a column
+	 *
+	 * @param column The column name
+	 *
+	 * @return True if the column is indexed
+	 */
+	boolean covers( Key column ) {
+		for ( Key indexed : columns ) {
+			if ( indexed.equals( column ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the entries, building them if the index is stale. Must be called holding the lock.
+	 */
+	private Map<Object, RowList> entries() {
+		if ( entries == null ) {
+			positions = new int[ columns.length ];
+			for ( int i = 0; i < columns.length; i++ ) {
+				positions[ i ] = query.getColumn( columns[ i ] ).getIndex();
+			}
+			Map<Object, RowList>	built	= sorted ? new TreeMap<>( KEY_ORDER ) : new HashMap<>();
+			List<Object[]>			data	= query.getData();
+			for ( int i = 0; i < data.size(); i++ ) {
+				// Rows are visited in order, so appending keeps every list sorted
+				built.computeIfAbsent( keyOf( valuesOf( data.get( i ), positions ) ), k -> new RowList() ).append( i );
+			}
+			entries = built;
+		}
+		return entries;
+	}
+
+	/**
+	 * Read the values of some columns from a row
+	 */
+	private static Object[] valuesOf( Object[] row, int[] positions ) {
+		Object[] values = new Object[ positions.length ];
+		for ( int i = 0; i < positions.length; i++ ) {
+			values[ i ] = positions[ i ] < row.length ? row[ positions[ i ] ] : null;
+		}
+		return values;
+	}
+
+	/**
+	 * Build the key of a set of values
+	 */
+	private Object keyOf( Object[] values ) {
+		if ( values.length != columns.length ) {
+			throw new BoxRuntimeException( "The index is on " + columns.length + " columns, " + values.length + " values were given" );
+		}
+		if ( values.length == 1 ) {
+			return normalize( values[ 0 ] );
+		}
+		Object[] key = new Object[ values.length ];
+		for ( int i = 0; i < values.length; i++ ) {
+			key[ i ] = normalize( values[ i ] );
+		}
+		return Arrays.asList( key );
+	}
+
+	/**
+	 * Turn a value into the form it is indexed under. Two numbers or strings get the same key exactly when
+	 * {@link ortus.boxlang.runtime.operators.Compare} finds them equal. Query indexes, and the GROUP BY, DISTINCT and joins of
+	 * queries of queries all match values through this key.
+	 *
+	 * @param value The value
+	 *
+	 * @return Anything which casts to a number as a double, other strings lower cased, anything else as is
+	 */
+	public static Object normalize( Object value ) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( value instanceof Number || value instanceof String || value instanceof Boolean ) {
+			CastAttempt<Double> number = DoubleCaster.attempt( value );
+			if ( number.wasSuccessful() ) {
+				double d = number.get();
+				// -0.0 and 0.0 are not equal as Double objects
+				return d == 0 ? 0d : d;
+			}
+		}
+		if ( value instanceof String string ) {
+			return StringUtils.lowerCase( string, Locale.US );
+		}
+		return value;
+	}
+
+	/**
+	 * Compare two normalized keys
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static int compareKeys( Object left, Object right ) {
+		if ( left instanceof List<?> leftList && right instanceof List<?> rightList ) {
+			for ( int i = 0; i < Math.min( leftList.size(), rightList.size() ); i++ ) {
+				int result = compareKeys( leftList.get( i ), rightList.get( i ) );
+				if ( result != 0 ) {
+					return result;
+				}
+			}
+			return Integer.compare( leftList.size(), rightList.size() );
+		}
+		int rank = Integer.compare( rank( left ), rank( right ) );
+		if ( rank != 0 || left == null ) {
+			return rank;
+		}
+		if ( left instanceof Comparable && left.getClass() == right.getClass() ) {
+			return ( ( Comparable<Object> ) left ).compareTo( right );
+		}
+		return String.valueOf( left ).compareTo( String.valueOf( right ) );
+	}
+
+	/**
+	 * The position of a type in the key order
+	 */
+	private static int rank( Object value ) {
+		if ( value == null ) {
+			return 0;
+		}
+		if ( value instanceof Double ) {
+			return 1;
+		}
+		if ( value instanceof String ) {
+			return 2;
+		}
+		if ( value instanceof Boolean ) {
+			return 3;
+		}
+		return 4;
+	}
+
+	/**
+	 * A sorted list of row positions
+	 */
+	private static class RowList {
+
+		private int[]	rows	= new int[ 2 ];
+
+		private int		size;
+
+		void append( int row ) {
+			if ( size == rows.length ) {
+				rows = Arrays.copyOf( rows, size * 2 );
+			}
+			rows[ size++ ] = row;
+		}
+
+		void add( int row ) {
+			int position = Arrays.binarySearch( rows, 0, size, row );
+			if ( position >= 0 ) {
+				return;
+			}
+			position = -position - 1;
+			append( row );
+			System.arraycopy( rows, position, rows, position + 1, size - 1 - position );
+			rows[ position ] = row;
+		}
+
+		boolean remove( int row ) {
+			int position = Arrays.binarySearch( rows, 0, size, row );
+			if ( position < 0 ) {
+				return false;
+			}
+			System.arraycopy( rows, position + 1, rows, position, size - position - 1 );
+			size--;
+			return true;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf( rows, size );
+		}
+	}
+
+}
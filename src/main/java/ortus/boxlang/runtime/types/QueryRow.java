@@ -0,0 +1,198 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * A struct view of a single query row.
+ * <p>
+ * Creating a view copies nothing: it keeps a reference to the column names of the query and to the array holding the
+ * row, and reads the cells from there. The first time the struct is modified the row is copied into a regular linked map,
+ * so changes made to the struct are never reflected in the query, exactly like the copies returned by
+ * {@link Query#getRowAsStruct(int)}.
+ * <p>
+ * The view holds the row array itself rather than its index, so sorting the query or removing rows does not change what
+ * a view returns. {@link Query#setCell(Key, int, Object)} replaces the row array instead of writing into it, so a view
+ * keeps the values the row had when the view was created, like a copy would.
+ */
+public class QueryRow extends Struct {
+
+	/**
+	 * Serialization version
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a view of a query row
+	 *
+	 * @param columns The column names of the query, in column order
+	 * @param row     The row data, in column order
+	 */
+	public QueryRow( Key[] columns, Object[] row ) {
+		super( new RowMap( columns, row ), TYPES.LINKED );
+	}
+
+	/**
+	 * The map read by the struct. It reads the row until it is modified, then turns into a copy of the row.
+	 */
+	private static class RowMap extends AbstractMap<Key, Object> implements Serializable {
+
+		private static final long	serialVersionUID	= 1L;
+
+		private final Key[]			columns;
+
+		private Object[]			row;
+
+		private Map<Key, Object>	copy;
+
+		RowMap( Key[] columns, Object[] row ) {
+			this.columns	= columns;
+			this.row		= row;
+		}
+
+		@Override
+		public synchronized int size() {
+			return copy != null ? copy.size() : columns.length;
+		}
+
+		@Override
+		public synchronized boolean containsKey( Object key ) {
+			return copy != null ? copy.containsKey( key ) : indexOf( key ) >= 0;
+		}
+
+		@Override
+		public synchronized Object get( Object key ) {
+			if ( copy != null ) {
+				return copy.get( key );
+			}
+			int index = indexOf( key );
+			return index < 0 ? null : cell( row, index );
+		}
+
+		@Override
+		public synchronized Object put( Key key, Object value ) {
+			return materialize().put( key, value );
+		}
+
+		@Override
+		public synchronized Object remove( Object key ) {
+			return materialize().remove( key );
+		}
+
+		@Override
+		public synchronized void clear() {
+			materialize().clear();
+		}
+
+		@Override
+		public synchronized Set<Entry<Key, Object>> entrySet() {
+			if ( copy != null ) {
+				return copy.entrySet();
+			}
+			Object[] data = row;
+			return new AbstractSet<Entry<Key, Object>>() {
+
+				@Override
+				public int size() {
+					return columns.length;
+				}
+
+				@Override
+				public Iterator<Entry<Key, Object>> iterator() {
+					return new Iterator<Entry<Key, Object>>() {
+
+						private int index = 0;
+
+						@Override
+						public boolean hasNext() {
+							return index < columns.length;
+						}
+
+						@Override
+						public Entry<Key, Object> next() {
+							if ( index >= columns.length ) {
+								throw new NoSuchElementException();
+							}
+							Object value = cell( data, index );
+							return new SimpleImmutableEntry<>( columns[ index++ ], value );
+						}
+
+						/**
+						 * Removing through keySet(), values() or entrySet() copies the row first, like any other modification
+						 */
+						@Override
+						public void remove() {
+							if ( index == 0 ) {
+								throw new IllegalStateException();
+							}
+							synchronized ( RowMap.this ) {
+								materialize().remove( columns[ index - 1 ] );
+							}
+						}
+					};
+				}
+			};
+		}
+
+		/**
+		 * Find the position of a column, the column count is small enough that a scan is faster than hashing
+		 */
+		private int indexOf( Object key ) {
+			for ( int i = 0; i < columns.length; i++ ) {
+				if ( columns[ i ].equals( key ) ) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Read a cell, wrapping nulls the way a struct stores them. Rows added with fewer values than columns are padded with nulls.
+		 */
+		private static Object cell( Object[] data, int index ) {
+			Object value = index < data.length ? data[ index ] : null;
+			return value == null ? new NullValue() : value;
+		}
+
+		/**
+		 * Copy the row into a map which can be modified
+		 */
+		private Map<Key, Object> materialize() {
+			if ( copy == null ) {
+				Map<Key, Object> map = new LinkedHashMap<>( Math.max( INITIAL_CAPACITY, columns.length * 2 ) );
+				for ( int i = 0; i < columns.length; i++ ) {
+					map.put( columns[ i ], cell( row, i ) );
+				}
+				copy	= map;
+				row		= null;
+			}
+			return copy;
+		}
+	}
+
+}
@@ -0,0 +1,54 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.exceptions;
+
+/**
+ * Thrown when a request runs past its request timeout. The stack trace shows the code the request was running.
+ */
+public class RequestTimeoutException extends BoxLangException {
+
+	/**
+	 * The request timeout in milliseconds
+	 */
+	public long timeout;
+
+	/**
+	 * Constructor
+	 *
+	 * @param timeout The request timeout in milliseconds
+	 */
+	public RequestTimeoutException( long timeout ) {
+		super(
+		    "The request has exceeded its timeout of [" + timeout + "] milliseconds",
+		    "The request timeout can be changed with the runtime [requestTimeout] setting, in milliseconds, or the [requestTimeout] attribute of bx:setting, in seconds",
+		    "requestTimeout",
+		    null
+		);
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Get the request timeout
+	 *
+	 * @return The request timeout in milliseconds
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+}
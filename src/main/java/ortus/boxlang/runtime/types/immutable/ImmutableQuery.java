@@ -0,0 +1,196 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.immutable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumn;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.exceptions.UnmodifiableException;
+
+/**
+ * Represents an immutable Query. The columns and rows are copied from another query in the constructor. Once
+ * instantiated, the Query cannot be modified, so a single instance can be shared by any number of threads. An
+ * exception will be thrown if you invoke any mutator method. Indexes can still be created, since they don't change the data.
+ */
+public class ImmutableQuery extends Query implements IImmutable {
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Constructors
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Constructor to create an immutable copy of a query
+	 *
+	 * @param query The query to copy
+	 */
+	public ImmutableQuery( Query query ) {
+		super();
+		for ( Map.Entry<Key, QueryColumn> column : query.getColumns().entrySet() ) {
+			super.addColumn( column.getKey(), column.getValue().getType(), null );
+		}
+		synchronized ( query.getData() ) {
+			for ( Object[] row : query.getData() ) {
+				super.addRow( row.clone() );
+			}
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Static convenience methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Create an immutable Query from a Query, or return it if it is already immutable
+	 *
+	 * @param query The query
+	 *
+	 * @return The immutable Query
+	 */
+	public static ImmutableQuery of( Query query ) {
+		if ( query instanceof ImmutableQuery immutableQuery ) {
+			return immutableQuery;
+		}
+		return new ImmutableQuery( query );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Query Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public Query addColumn( Key name, QueryColumnType type ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public synchronized Query addColumn( Key name, QueryColumnType type, Object[] columnData ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public int addRow( Object[] row ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public int addRow( Array row ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public int addRow( IStruct row ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public int addRows( int rows ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public void deleteColumn( Key name ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public Query deleteRow( int index ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public int addData( Object rowData ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public Query setCell( Key columnName, int rowIndex, Object value ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public Query setRow( int rowIndex, Object[] row ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public void sort( Comparator<IStruct> compareFunc ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Collection Interface Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public boolean add( IStruct row ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public boolean remove( Object o ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public boolean addAll( Collection<? extends IStruct> rows ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public boolean removeAll( Collection<?> c ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public boolean retainAll( Collection<?> c ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	@Override
+	public void clear() {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * IReferenceable Interface Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public Object assign( IBoxContext context, Key name, Object value ) {
+		throw new UnmodifiableException( "Cannot modify immutable Query" );
+	}
+
+}
@@ -0,0 +1,503 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumn;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * A streaming JSON serializer for BoxLang types.
+ *
+ * Structs, arrays, queries, dates and keys are walked directly into a Jackson {@link JsonGenerator}, so no intermediate
+ * structs are created for queries and no full JSON string has to be built when the target is a {@link Writer},
+ * an {@link OutputStream}, a file or the output buffer of a context. Anything we don't know about is handed off
+ * to the Jackson jr builder in {@link JSONUtil}.
+ *
+ * Output is compact unless pretty printing is requested.
+ */
+public class JSONWriter {
+
+	/**
+	 * The available query serialization formats
+	 */
+	public enum QueryFormat {
+
+		/**
+		 * Top level struct with columns (array of strings) and data (array of arrays)
+		 */
+		ROW,
+		/**
+		 * Top level struct with rowCount, columns (array of strings) and data (struct of column name to array of values)
+		 */
+		COLUMN,
+		/**
+		 * An array of structs, one per row
+		 */
+		STRUCT;
+
+		/**
+		 * Resolve a query format from the values accepted by {@code jsonSerialize()}: row, column, struct, true, false, yes or no.
+		 *
+		 * @param format The format string
+		 *
+		 * @return The query format
+		 */
+		public static QueryFormat fromString( String format ) {
+			if ( format == null ) {
+				return ROW;
+			}
+			switch ( format.trim().toLowerCase() ) {
+				case "row" :
+				case "false" :
+				case "no" :
+					return ROW;
+				case "column" :
+				case "true" :
+				case "yes" :
+					return COLUMN;
+				case "struct" :
+					return STRUCT;
+				default :
+					throw new BoxRuntimeException( "Invalid queryFormat: " + format );
+			}
+		}
+	}
+
+	/**
+	 * The shared, thread-safe factory used to create generators
+	 */
+	private static final JsonFactory	JSON_FACTORY	= new JsonFactory()
+	    // We never close targets we didn't open ourselves
+	    .disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+
+	/**
+	 * The builder used for beans and other values we don't walk ourselves. The shared builder pretty prints, which
+	 * would break the layout of compact output, so we use our own copy with that turned off.
+	 */
+	private static final JSON			BEAN_WRITER		= JSONUtil.getJSONBuilder().without( JSON.Feature.PRETTY_PRINT_OUTPUT );
+
+	/**
+	 * The format to use for queries
+	 */
+	private final QueryFormat			queryFormat;
+
+	/**
+	 * Whether to pretty print the output
+	 */
+	private final boolean				prettyPrint;
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Constructors
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Creates a compact writer which serializes queries in row format
+	 */
+	public JSONWriter() {
+		this( QueryFormat.ROW, false );
+	}
+
+	/**
+	 * Creates a writer
+	 *
+	 * @param queryFormat The format to use for queries
+	 * @param prettyPrint Whether to pretty print the output
+	 */
+	public JSONWriter( QueryFormat queryFormat, boolean prettyPrint ) {
+		this.queryFormat	= queryFormat;
+		this.prettyPrint	= prettyPrint;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Targets
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Serialize a value to a JSON string
+	 *
+	 * @param value The value to serialize
+	 *
+	 * @return The JSON string
+	 */
+	public String asString( Object value ) {
+		StringWriter writer = new StringWriter();
+		write( value, writer );
+		return writer.toString();
+	}
+
+	/**
+	 * Serialize a value into a writer. The writer is flushed but not closed.
+	 *
+	 * @param value  The value to serialize
+	 * @param writer The writer to serialize into
+	 */
+	public void write( Object value, Writer writer ) {
+		try ( JsonGenerator generator = JSON_FACTORY.createGenerator( writer ) ) {
+			write( value, generator );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Error serializing to JSON", e );
+		}
+	}
+
+	/**
+	 * Serialize a value as UTF-8 into an output stream. The stream is flushed but not closed.
+	 *
+	 * @param value  The value to serialize
+	 * @param output The stream to serialize into
+	 */
+	public void write( Object value, OutputStream output ) {
+		try ( JsonGenerator generator = JSON_FACTORY.createGenerator( output, JsonEncoding.UTF8 ) ) {
+			write( value, generator );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Error serializing to JSON", e );
+		}
+	}
+
+	/**
+	 * Serialize a value as UTF-8 into a file, creating or truncating it.
+	 *
+	 * @param value The value to serialize
+	 * @param path  The file to write to
+	 */
+	public void write( Object value, Path path ) {
+		try (
+		    FileChannel channel = FileChannel.open(
+		        path,
+		        StandardOpenOption.CREATE,
+		        StandardOpenOption.TRUNCATE_EXISTING,
+		        StandardOpenOption.WRITE
+		    );
+		    OutputStream output = Channels.newOutputStream( channel ) ) {
+			write( value, output );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Error writing JSON to file " + path.toString(), e );
+		}
+	}
+
+	/**
+	 * Serialize a value into the output buffer of a context. The JSON is handed to the context in chunks as the generator
+	 * fills its internal buffer, so the full document is never materialized as a single string.
+	 *
+	 * @param value   The value to serialize
+	 * @param context The context whose output buffer receives the JSON
+	 */
+	public void write( Object value, IBoxContext context ) {
+		write( value, new ContextWriter( context ) );
+	}
+
+	/**
+	 * Serialize a value into an existing generator. The generator is not closed.
+	 *
+	 * @param value     The value to serialize
+	 * @param generator The generator to write to
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	public void write( Object value, JsonGenerator generator ) throws IOException {
+		if ( this.prettyPrint && generator.getPrettyPrinter() == null ) {
+			generator.useDefaultPrettyPrinter();
+		}
+		writeValue( generator, value );
+		generator.flush();
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Type walkers
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Write any value
+	 *
+	 * @param generator The generator
+	 * @param value     The value
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeValue( JsonGenerator generator, Object value ) throws IOException {
+		value = Struct.unWrapNull( value );
+
+		if ( value == null ) {
+			generator.writeNull();
+		} else if ( value instanceof String str ) {
+			generator.writeString( str );
+		} else if ( value instanceof Boolean bool ) {
+			generator.writeBoolean( bool );
+		} else if ( value instanceof Number number ) {
+			writeNumber( generator, number );
+		} else if ( value instanceof Key key ) {
+			generator.writeString( key.getName() );
+		} else if ( value instanceof Character character ) {
+			generator.writeString( character.toString() );
+		} else if ( value instanceof DateTime dateTime ) {
+			generator.writeString( dateTime.toString() );
+		} else if ( value instanceof IStruct struct ) {
+			writeStruct( generator, struct );
+		} else if ( value instanceof Query query ) {
+			writeQuery( generator, query );
+		} else if ( value instanceof Array array ) {
+			writeArray( generator, array );
+		} else if ( value instanceof Map<?, ?> map ) {
+			writeMap( generator, map );
+		} else if ( value instanceof byte[] bytes ) {
+			generator.writeBinary( bytes );
+		} else if ( value instanceof Object[] objects ) {
+			generator.writeStartArray();
+			for ( Object item : objects ) {
+				writeValue( generator, item );
+			}
+			generator.writeEndArray();
+		} else if ( value instanceof Collection<?> collection ) {
+			generator.writeStartArray();
+			for ( Object item : collection ) {
+				writeValue( generator, item );
+			}
+			generator.writeEndArray();
+		} else {
+			// Beans, enums and anything else we don't walk ourselves
+			BEAN_WRITER.write( value, generator );
+		}
+	}
+
+	/**
+	 * Write a number without boxing it into another representation
+	 *
+	 * @param generator The generator
+	 * @param number    The number
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeNumber( JsonGenerator generator, Number number ) throws IOException {
+		if ( number instanceof Integer || number instanceof Short || number instanceof Byte ) {
+			generator.writeNumber( number.intValue() );
+		} else if ( number instanceof Long ) {
+			generator.writeNumber( number.longValue() );
+		} else if ( number instanceof Double ) {
+			generator.writeNumber( number.doubleValue() );
+		} else if ( number instanceof Float ) {
+			generator.writeNumber( number.floatValue() );
+		} else if ( number instanceof BigDecimal bigDecimal ) {
+			generator.writeNumber( bigDecimal );
+		} else if ( number instanceof BigInteger bigInteger ) {
+			generator.writeNumber( bigInteger );
+		} else {
+			generator.writeNumber( number.toString() );
+		}
+	}
+
+	/**
+	 * Write a struct, reading its wrapped map directly so no entry set copy is made
+	 *
+	 * @param generator The generator
+	 * @param struct    The struct
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeStruct( JsonGenerator generator, IStruct struct ) throws IOException {
+		generator.writeStartObject();
+		for ( Map.Entry<Key, Object> entry : struct.getWrapped().entrySet() ) {
+			generator.writeFieldName( entry.getKey().getName() );
+			writeValue( generator, entry.getValue() );
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Write a generic Java map
+	 *
+	 * @param generator The generator
+	 * @param map       The map
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeMap( JsonGenerator generator, Map<?, ?> map ) throws IOException {
+		generator.writeStartObject();
+		for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+			generator.writeFieldName( String.valueOf( entry.getKey() ) );
+			writeValue( generator, entry.getValue() );
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Write an array
+	 *
+	 * @param generator The generator
+	 * @param array     The array
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeArray( JsonGenerator generator, Array array ) throws IOException {
+		generator.writeStartArray();
+		int size = array.size();
+		for ( int i = 0; i < size; i++ ) {
+			writeValue( generator, array.get( i ) );
+		}
+		generator.writeEndArray();
+	}
+
+	/**
+	 * Write a query in the configured format, straight from the row data
+	 *
+	 * @param generator The generator
+	 * @param query     The query
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeQuery( JsonGenerator generator, Query query ) throws IOException {
+		QueryColumn[]	columns	= query.getColumns().values().toArray( new QueryColumn[ 0 ] );
+		List<Object[]>	data	= query.getData();
+		int				rows	= data.size();
+
+		switch ( this.queryFormat ) {
+			case ROW -> {
+				generator.writeStartObject();
+				writeColumnNames( generator, columns );
+				generator.writeFieldName( "data" );
+				generator.writeStartArray();
+				for ( int i = 0; i < rows; i++ ) {
+					Object[] row = data.get( i );
+					generator.writeStartArray();
+					for ( QueryColumn column : columns ) {
+						writeValue( generator, row[ column.getIndex() ] );
+					}
+					generator.writeEndArray();
+				}
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+			case COLUMN -> {
+				generator.writeStartObject();
+				generator.writeFieldName( "rowCount" );
+				generator.writeNumber( rows );
+				writeColumnNames( generator, columns );
+				generator.writeFieldName( "data" );
+				generator.writeStartObject();
+				for ( QueryColumn column : columns ) {
+					int index = column.getIndex();
+					generator.writeFieldName( column.getName().getName() );
+					generator.writeStartArray();
+					for ( int i = 0; i < rows; i++ ) {
+						writeValue( generator, data.get( i )[ index ] );
+					}
+					generator.writeEndArray();
+				}
+				generator.writeEndObject();
+				generator.writeEndObject();
+			}
+			case STRUCT -> {
+				generator.writeStartArray();
+				for ( int i = 0; i < rows; i++ ) {
+					Object[] row = data.get( i );
+					generator.writeStartObject();
+					for ( QueryColumn column : columns ) {
+						generator.writeFieldName( column.getName().getName() );
+						writeValue( generator, row[ column.getIndex() ] );
+					}
+					generator.writeEndObject();
+				}
+				generator.writeEndArray();
+			}
+		}
+	}
+
+	/**
+	 * Write the "columns" field of a query
+	 *
+	 * @param generator The generator
+	 * @param columns   The query columns
+	 *
+	 * @throws IOException If the generator fails to write
+	 */
+	private void writeColumnNames( JsonGenerator generator, QueryColumn[] columns ) throws IOException {
+		generator.writeFieldName( "columns" );
+		generator.writeStartArray();
+		for ( QueryColumn column : columns ) {
+			generator.writeString( column.getName().getName() );
+		}
+		generator.writeEndArray();
+	}
+
+	/**
+	 * A writer which forwards every chunk the generator emits into the output buffer of a context
+	 */
+	private static class ContextWriter extends Writer {
+
+		private final IBoxContext context;
+
+		ContextWriter( IBoxContext context ) {
+			this.context = context;
+		}
+
+		@Override
+		public void write( char[] cbuf, int off, int len ) {
+			if ( len > 0 ) {
+				this.context.writeToBuffer( new String( cbuf, off, len ) );
+			}
+		}
+
+		@Override
+		public void write( String str, int off, int len ) {
+			if ( len > 0 ) {
+				this.context.writeToBuffer( str.substring( off, off + len ) );
+			}
+		}
+
+		@Override
+		public void flush() {
+			// The context decides when its buffer is flushed
+		}
+
+		@Override
+		public void close() {
+			// Nothing to release
+		}
+	}
+
+}
@@ -20,7 +20,6 @@ package ortus.boxlang.runtime.types.util;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Locale;
-import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.IntConsumer;
 import java.util.function.IntPredicate;
@@ -29,6 +28,8 @@ import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.StringUtils;
 
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.ExecutorRecord;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
@@ -485,6 +486,9 @@ public class ListUtil {
 	    Integer maxThreads,
 	    Boolean ordered ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && array.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		IntConsumer	exec		= idx -> callbackContext.invokeFunction( callback,
 		    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } );
 
@@ -492,17 +496,9 @@ public class ListUtil {
 		if ( !parallel ) {
 			intStream.forEach( exec );
 		} else if ( ordered ) {
-			AsyncService.buildExecutor(
-			    "ArrayEach_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> array.intStream().parallel().forEachOrdered( exec ) );
+			parallelExecutor( maxThreads ).submitAndGet( () -> array.intStream().parallel().forEachOrdered( exec ) );
 		} else {
-			AsyncService.buildExecutor(
-			    "ArrayEach_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> array.intStream().parallel().forEach( exec ) );
+			parallelExecutor( maxThreads ).submitAndGet( () -> array.intStream().parallel().forEach( exec ) );
 		}
 
 	}
@@ -525,6 +521,9 @@ public class ListUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && array.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		IntPredicate	test		= idx -> ( boolean ) callbackContext.invokeFunction( callback,
 		    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } );
 
@@ -532,11 +531,7 @@ public class ListUtil {
 
 		return !parallel
 		    ? ( Boolean ) intStream.anyMatch( test )
-		    : ( Boolean ) AsyncService.buildExecutor(
-		        "ArraySome_" + UUID.randomUUID().toString(),
-		        AsyncService.ExecutorType.FORK_JOIN,
-		        maxThreads
-		    ).submitAndGet( () -> array.intStream().parallel().anyMatch( test ) );
+		    : ( Boolean ) parallelExecutor( maxThreads ).submitAndGet( () -> array.intStream().parallel().anyMatch( test ) );
 
 	}
 
@@ -558,6 +553,9 @@ public class ListUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && array.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		IntPredicate	test		= idx -> ( boolean ) callbackContext.invokeFunction( callback,
 		    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } );
 
@@ -566,11 +564,7 @@ public class ListUtil {
 		return !parallel
 		    ? intStream.dropWhile( test ).toArray().length == 0
 		    : BooleanCaster.cast(
-		        AsyncService.buildExecutor(
-		            "ArrayEvery_" + UUID.randomUUID().toString(),
-		            AsyncService.ExecutorType.FORK_JOIN,
-		            maxThreads
-		        ).submitAndGet( () -> array.intStream().parallel().dropWhile( test ).toArray().length == 0 )
+		        parallelExecutor( maxThreads ).submitAndGet( () -> array.intStream().parallel().dropWhile( test ).toArray().length == 0 )
 		    );
 
 	}
@@ -593,6 +587,9 @@ public class ListUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && array.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		IntPredicate	test		= idx -> BooleanCaster.cast( callbackContext.invokeFunction( callback,
 		    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } ) );
 
@@ -604,11 +601,7 @@ public class ListUtil {
 		            .mapToObj( ( idx ) -> array.size() > idx ? array.get( idx ) : null )
 		            .toArray()
 
-		        : AsyncService.buildExecutor(
-		            "ArrayFilter_" + UUID.randomUUID().toString(),
-		            AsyncService.ExecutorType.FORK_JOIN,
-		            maxThreads
-		        ).submitAndGet( () -> array.intStream().parallel().filter( test ).mapToObj( array::get ).toArray() )
+		        : parallelExecutor( maxThreads ).submitAndGet( () -> array.intStream().parallel().filter( test ).mapToObj( array::get ).toArray() )
 		);
 
 	}
@@ -702,6 +695,9 @@ public class ListUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && array.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		java.util.function.IntFunction<Object>	mapper		= idx -> ( Object ) callbackContext.invokeFunction( callback,
 		    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } );
 
@@ -709,11 +705,8 @@ public class ListUtil {
 		if ( !parallel ) {
 			return new Array( intStream.mapToObj( mapper ).toArray() );
 		} else {
-			return ArrayCaster.cast( AsyncService.buildExecutor(
-			    "ArrayMap_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> new Array( array.intStream().parallel().mapToObj( mapper ).toArray() ) )
+			return ArrayCaster.cast(
+			    parallelExecutor( maxThreads ).submitAndGet( () -> new Array( array.intStream().parallel().mapToObj( mapper ).toArray() ) )
 			);
 		}
 
@@ -747,4 +740,16 @@ public class ListUtil {
 		    );
 
 	}
+
+	/**
+	 * Get the shared executor for a parallel operation
+	 *
+	 * @param maxThreads The max threads requested, null for the default
+	 *
+	 * @return The executor record
+	 */
+	private static ExecutorRecord parallelExecutor( Integer maxThreads ) {
+		return BoxRuntime.getInstance().getAsyncService().getParallelExecutor( maxThreads );
+	}
+
 }
@@ -17,4 +17,17 @@ public class QueryUtil {
 		return query.hasColumn( Key.of( column ) );
 	}
 
+	/**
+	 * Turns a comma-delimited list of column names into keys.
+	 *
+	 * @param columnList the column names
+	 * 
+	 * @return the column keys, in list order
+	 */
+	public static Key[] columnKeys( String columnList ) {
+		return ListUtil.asList( columnList, "," ).stream()
+		    .map( name -> Key.of( String.valueOf( name ).trim() ) )
+		    .toArray( Key[]::new );
+	}
+
 }
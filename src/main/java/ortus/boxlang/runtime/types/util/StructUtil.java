@@ -22,7 +22,6 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -31,6 +30,8 @@ import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.ExecutorRecord;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
@@ -98,6 +99,9 @@ public class StructUtil {
 	    Integer maxThreads,
 	    Boolean ordered ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && struct.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		Stream<Map.Entry<Key, Object>>		entryStream	= struct.entrySet().stream();
 
 		Consumer<Map.Entry<Key, Object>>	exec		= item -> callbackContext.invokeFunction(
@@ -108,17 +112,9 @@ public class StructUtil {
 		if ( !parallel ) {
 			entryStream.forEach( exec );
 		} else if ( ordered ) {
-			AsyncService.buildExecutor(
-			    "StructEach_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> entryStream.parallel().forEachOrdered( exec ) );
+			parallelExecutor( maxThreads ).submitAndGet( () -> entryStream.parallel().forEachOrdered( exec ) );
 		} else {
-			AsyncService.buildExecutor(
-			    "StructEach_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> entryStream.parallel().forEach( exec ) );
+			parallelExecutor( maxThreads ).submitAndGet( () -> entryStream.parallel().forEach( exec ) );
 		}
 
 	}
@@ -141,6 +137,9 @@ public class StructUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && struct.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		Stream<Map.Entry<Key, Object>>		entryStream	= struct.entrySet().stream();
 
 		Predicate<Map.Entry<Key, Object>>	test		= item -> ( boolean ) callbackContext.invokeFunction(
@@ -150,11 +149,7 @@ public class StructUtil {
 
 		return !parallel
 		    ? ( Boolean ) entryStream.anyMatch( test )
-		    : ( Boolean ) AsyncService.buildExecutor(
-		        "structSome_" + UUID.randomUUID().toString(),
-		        AsyncService.ExecutorType.FORK_JOIN,
-		        maxThreads
-		    ).submitAndGet( () -> entryStream.parallel().anyMatch( test ) );
+		    : ( Boolean ) parallelExecutor( maxThreads ).submitAndGet( () -> entryStream.parallel().anyMatch( test ) );
 
 	}
 
@@ -176,6 +171,9 @@ public class StructUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && struct.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		Stream<Map.Entry<Key, Object>>		entryStream	= struct.entrySet().stream();
 
 		Predicate<Map.Entry<Key, Object>>	test		= item -> ( boolean ) callbackContext.invokeFunction(
@@ -186,11 +184,7 @@ public class StructUtil {
 		return !parallel
 		    ? entryStream.dropWhile( test ).toArray().length == 0
 		    : BooleanCaster.cast(
-		        AsyncService.buildExecutor(
-		            "ArrayEvery_" + UUID.randomUUID().toString(),
-		            AsyncService.ExecutorType.FORK_JOIN,
-		            maxThreads
-		        ).submitAndGet( () -> entryStream.parallel().dropWhile( test ).toArray().length == 0 )
+		        parallelExecutor( maxThreads ).submitAndGet( () -> entryStream.parallel().dropWhile( test ).toArray().length == 0 )
 		    );
 
 	}
@@ -206,7 +200,6 @@ public class StructUtil {
 	 *
 	 * @return A filtered array
 	 */
-	@SuppressWarnings( "unchecked" )
 	public static Struct filter(
 	    IStruct struct,
 	    Function callback,
@@ -214,25 +207,24 @@ public class StructUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
-		Stream<Map.Entry<Key, Object>>		entryStream		= struct.entrySet().stream();
-		Stream<Map.Entry<Key, Object>>		filteredStream	= null;
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && struct.size() >= AsyncService.MIN_PARALLEL_SIZE;
 
-		Predicate<Map.Entry<Key, Object>>	test			= item -> BooleanCaster.cast( callbackContext.invokeFunction(
+		Stream<Map.Entry<Key, Object>>		entryStream	= struct.entrySet().stream();
+
+		Predicate<Map.Entry<Key, Object>>	test		= item -> BooleanCaster.cast( callbackContext.invokeFunction(
 		    callback,
 		    new Object[] { item.getKey().getName(), item.getValue(), struct }
 		) );
 
 		if ( !parallel ) {
-			filteredStream = entryStream.filter( test );
-		} else {
-			filteredStream = ( Stream<Map.Entry<Key, Object>> ) AsyncService.buildExecutor(
-			    "StructFilter_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> entryStream.parallel().filter( test ) );
+			return entryStream.filter( test ).collect( BLCollector.toStruct( struct.getType() ) );
 		}
 
-		return filteredStream.collect( BLCollector.toStruct( struct.getType() ) );
+		// Collect inside the pool, the stream is lazy and would otherwise be evaluated on the calling thread
+		return ( Struct ) parallelExecutor( maxThreads ).submitAndGet(
+		    () -> entryStream.parallel().filter( test ).collect( BLCollector.toStruct( struct.getType() ) )
+		);
 
 	}
 
@@ -254,6 +246,9 @@ public class StructUtil {
 	    Boolean parallel,
 	    Integer maxThreads ) {
 
+		// Small collections are not worth handing off to the pool
+		parallel = parallel && struct.size() >= AsyncService.MIN_PARALLEL_SIZE;
+
 		Stream<Map.Entry<Key, Object>>	entryStream	= struct.entrySet().stream();
 		Struct							result		= new Struct( struct.getType() );
 
@@ -267,11 +262,7 @@ public class StructUtil {
 			)
 			);
 		} else if ( struct.getType().equals( IStruct.TYPES.LINKED ) ) {
-			AsyncService.buildExecutor(
-			    "StructMap_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> entryStream.parallel().forEachOrdered( item -> result.put(
+			parallelExecutor( maxThreads ).submitAndGet( () -> entryStream.parallel().forEachOrdered( item -> result.put(
 			    item.getKey(),
 			    callbackContext.invokeFunction(
 			        callback,
@@ -280,11 +271,7 @@ public class StructUtil {
 			)
 			) );
 		} else {
-			AsyncService.buildExecutor(
-			    "StructMap_" + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads
-			).submitAndGet( () -> entryStream.parallel().forEach( item -> result.put(
+			parallelExecutor( maxThreads ).submitAndGet( () -> entryStream.parallel().forEach( item -> result.put(
 			    item.getKey(),
 			    callbackContext.invokeFunction(
 			        callback,
@@ -718,4 +705,15 @@ public class StructUtil {
 		return fromQueryString( target, "&" );
 	}
 
+	/**
+	 * Get the shared executor for a parallel operation
+	 *
+	 * @param maxThreads The max threads requested, null for the default
+	 *
+	 * @return The executor record
+	 */
+	private static ExecutorRecord parallelExecutor( Integer maxThreads ) {
+		return BoxRuntime.getInstance().getAsyncService().getParallelExecutor( maxThreads );
+	}
+
 }
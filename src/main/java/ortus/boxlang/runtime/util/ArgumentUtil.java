@@ -23,7 +23,7 @@ import java.util.Map;
 
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
-import ortus.boxlang.runtime.dynamic.casters.GenericCaster;
+import ortus.boxlang.runtime.dynamic.casters.TypeChecker;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.IntKey;
@@ -55,7 +55,7 @@ public class ArgumentUtil {
 			Object	value	= positionalArguments[ i ];
 			if ( arguments.length - 1 >= i ) {
 				name	= arguments[ i ].name();
-				value	= ensureArgumentType( context, name, value, arguments[ i ].type(), functionName );
+				value	= ensureArgumentType( context, name, value, arguments[ i ].typeChecker(), functionName );
 			} else {
 				name = Key.of( i + 1 );
 			}
@@ -72,7 +72,7 @@ public class ArgumentUtil {
 					throw new BoxRuntimeException( "Required argument " + arguments[ i ].name().getName() + " is missing" );
 				}
 				scope.put( arguments[ i ].name(),
-				    ensureArgumentType( context, arguments[ i ].name(), arguments[ i ].getDefaultValue( context ), arguments[ i ].type(), functionName )
+				    ensureArgumentType( context, arguments[ i ].name(), arguments[ i ].getDefaultValue( context ), arguments[ i ].typeChecker(), functionName )
 				);
 			}
 		}
@@ -159,11 +159,11 @@ public class ArgumentUtil {
 				}
 				// Make sure the default value is valid
 				scope.put( argument.name(),
-				    ensureArgumentType( context, argument.name(), argument.getDefaultValue( context ), argument.type(), functionName ) );
+				    ensureArgumentType( context, argument.name(), argument.getDefaultValue( context ), argument.typeChecker(), functionName ) );
 				// If they are here, confirm their types
 			} else {
 				scope.put( argument.name(),
-				    ensureArgumentType( context, argument.name(), scope.get( argument.name() ), argument.type(), functionName ) );
+				    ensureArgumentType( context, argument.name(), scope.get( argument.name() ), argument.typeChecker(), functionName ) );
 			}
 		}
 		return scope;
@@ -219,15 +219,29 @@ public class ArgumentUtil {
 	 *
 	 */
 	public static Object ensureArgumentType( IBoxContext context, Key name, Object value, String type, Key functionName ) {
+		return ensureArgumentType( context, name, value, TypeChecker.of( type ), functionName );
+	}
+
+	/**
+	 * Ensure the argument is the correct type using a precompiled type checker
+	 *
+	 * @param name        The name of the argument
+	 * @param value       The value of the argument
+	 * @param typeChecker The checker for the type of the argument
+	 *
+	 * @return The value of the argument
+	 *
+	 */
+	public static Object ensureArgumentType( IBoxContext context, Key name, Object value, TypeChecker typeChecker, Key functionName ) {
 		if ( value == null ) {
 			return null;
 		}
-		CastAttempt<Object> typeCheck = GenericCaster.attempt( context, value, type, true );
+		CastAttempt<Object> typeCheck = typeChecker.attempt( context, value );
 		if ( !typeCheck.wasSuccessful() ) {
 			throw new BoxRuntimeException(
 			    String.format( "In function [%s], argument [%s] with a type of [%s] does not match the declared type of [%s]",
 			        functionName.getName(), name.getName(), DynamicObject.unWrap( value ).getClass().getName(),
-			        type )
+			        typeChecker.getType() )
 			);
 		}
 		// Should we actually return the casted value??? Not CFML Compat! If so, return typeCheck.get() with check for NullValue instances.
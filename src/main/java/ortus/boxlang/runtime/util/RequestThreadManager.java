@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.VirtualThreads;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
@@ -76,6 +78,22 @@ public class RequestThreadManager {
 	 */
 	private static final ThreadGroup	THREAD_GROUP				= new ThreadGroup( "BL-Threads" );
 
+	/**
+	 * Creates an unstarted thread for the bx:thread component. This is a platform thread in the manager thread group,
+	 * or a virtual thread if the runtime {@code useVirtualThreads} setting is enabled and the JVM supports them.
+	 *
+	 * @param name The name of the thread
+	 * @param task The task to run
+	 *
+	 * @return The unstarted thread
+	 */
+	public Thread newThread( String name, Runnable task ) {
+		if ( BoxRuntime.getInstance().getConfiguration().runtime.useVirtualThreads && VirtualThreads.isSupported() ) {
+			return VirtualThreads.newThread( name, task );
+		}
+		return new Thread( THREAD_GROUP, task, name );
+	}
+
 	/**
 	 * Registers a thread with the manager
 	 *
@@ -242,19 +260,47 @@ public class RequestThreadManager {
 			targetThread.join( DEFAULT_THREAD_WAIT_TIME );
 			// Check if still alive, if so, force kill it
 			if ( targetThread.isAlive() ) {
-				targetThread.stop();
+				forceStop( targetThread );
 			}
 		} catch ( InterruptedException e ) {
 			// Set it again as good practice
 			targetThread.interrupt();
 			// Force kill the thread
-			targetThread.stop();
+			forceStop( targetThread );
 		} finally {
 			// Complete it
 			completeThread( name, "", new InterruptedException( "Thread requested to terminate" ), true );
 		}
 	}
 
+	/**
+	 * Interrupt all the running threads of the request without waiting for them, such as when the request times out.
+	 * The threads stop at their next interruptible call or request timeout check.
+	 */
+	public void interruptThreads() {
+		for ( IStruct threadData : this.threads.values() ) {
+			java.lang.Thread targetThread = ( ( ThreadBoxContext ) threadData.get( Key.context ) ).getThread();
+			if ( targetThread != null && targetThread.isAlive() && targetThread != java.lang.Thread.currentThread() ) {
+				targetThread.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Force a thread to stop. Virtual threads, and platform threads on newer JVMs, do not support this,
+	 * in which case the thread is left to notice its interruption.
+	 *
+	 * @param targetThread The thread to stop
+	 */
+	@SuppressWarnings( "removal" )
+	private void forceStop( Thread targetThread ) {
+		try {
+			targetThread.stop();
+		} catch ( UnsupportedOperationException e ) {
+			// Nothing else we can do, the thread has already been interrupted
+		}
+	}
+
 	/**
 	 * Detect if at least one thread
 	 *
@@ -288,7 +334,10 @@ public class RequestThreadManager {
 	 * @return true if the current thread is in a thread
 	 */
 	public boolean isInThread() {
-		return Thread.currentThread().getThreadGroup() == THREAD_GROUP;
+		Thread current = Thread.currentThread();
+		// Virtual threads all share a single JVM thread group, so we recognize them by name instead
+		return current.getThreadGroup() == THREAD_GROUP
+		    || ( VirtualThreads.isVirtual( current ) && current.getName().startsWith( DEFAULT_THREAD_PREFIX ) );
 	}
 
 	/**
@@ -19,6 +19,9 @@ package TestCases.phase3;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
@@ -27,8 +30,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.application.ApplicationDefaultListener;
+import ortus.boxlang.runtime.application.ApplicationTemplateListener;
 import ortus.boxlang.runtime.context.BaseBoxContext;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
@@ -102,4 +108,26 @@ public class ApplicationTest {
 		assertThat( context.getConfigItem( Key.of( "adHocConfig" ) ) ).isEqualTo( "adHocConfigValue" );
 	}
 
+	@DisplayName( "It finds Application descriptors added or removed after a cached lookup" )
+	@Test
+	public void testDescriptorLookupCache( @TempDir Path tempDir ) throws IOException {
+		Path template = tempDir.resolve( "index.bxm" );
+		Files.writeString( template, "hello" );
+
+		ScriptingRequestBoxContext requestContext = new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		requestContext.loadApplicationDescriptor( template.toUri() );
+		assertThat( requestContext.getApplicationListener() ).isInstanceOf( ApplicationDefaultListener.class );
+
+		// A descriptor added right away is found, even if the directory time didn't move
+		Path descriptor = tempDir.resolve( "Application.bxm" );
+		Files.writeString( descriptor, "<bx:set appLoaded = true>" );
+		requestContext.loadApplicationDescriptor( template.toUri() );
+		assertThat( requestContext.getApplicationListener() ).isInstanceOf( ApplicationTemplateListener.class );
+
+		// And so is its removal
+		Files.delete( descriptor );
+		requestContext.loadApplicationDescriptor( template.toUri() );
+		assertThat( requestContext.getApplicationListener() ).isInstanceOf( ApplicationDefaultListener.class );
+	}
+
 }
@@ -30,6 +30,7 @@ import ortus.boxlang.compiler.parser.BoxSourceType;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.interop.BoxClassInstantiationPlan;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.runnables.RunnableLoader;
@@ -763,6 +764,47 @@ public class ClassTest {
 
 	}
 
+	@DisplayName( "It reuses the instantiation plan of a class" )
+	@Test
+	public void testReusesInstantiationPlan() {
+
+		instance.executeSource(
+		    """
+		    cfc1 = new src.test.java.TestCases.phase3.Chihuahua();
+		    cfc2 = new src.test.java.TestCases.phase3.Chihuahua();
+		    result = cfc2.speak()
+		    results = cfc2.getResults()
+		    moped1 = new src.test.java.TestCases.phase3.SeniorVespa();
+		    moped2 = new src.test.java.TestCases.phase3.SeniorVespa();
+		           """, context );
+
+		assertThat( variables.get( Key.of( "result" ) ) ).isEqualTo( "Yip Yip!" );
+		assertThat( variables.getAsArray( Key.of( "results" ) ).get( 0 ) ).isEqualTo( "animal pseudo Animal.cfc" );
+
+		// Every instance owns its super instance
+		IClassRunnable	cfc1	= variables.getAsClassRunnable( Key.of( "cfc1" ) );
+		IClassRunnable	cfc2	= variables.getAsClassRunnable( Key.of( "cfc2" ) );
+		// The second instance reused the plan of the first one
+		BoxClassInstantiationPlan plan = BoxClassInstantiationPlan.peek( cfc1.getClass() );
+		assertThat( plan ).isNotNull();
+		instance.executeSource( "cfc3 = new src.test.java.TestCases.phase3.Chihuahua();", context );
+		assertThat( BoxClassInstantiationPlan.peek( cfc1.getClass() ) ).isSameInstanceAs( plan );
+
+		// Until the plans are invalidated
+		BoxClassInstantiationPlan.invalidateAll();
+		assertThat( BoxClassInstantiationPlan.peek( cfc1.getClass() ) ).isNull();
+		instance.executeSource( "cfc4 = new src.test.java.TestCases.phase3.Chihuahua();", context );
+		assertThat( BoxClassInstantiationPlan.peek( cfc1.getClass() ) ).isNotSameInstanceAs( plan );
+		assertThat( cfc1.getSuper() ).isNotSameInstanceAs( cfc2.getSuper() );
+		assertThat( cfc1.getSuper().getSuper() ).isNotSameInstanceAs( cfc2.getSuper().getSuper() );
+
+		// Interfaces are shared
+		IClassRunnable	moped1	= variables.getAsClassRunnable( Key.of( "moped1" ) );
+		IClassRunnable	moped2	= variables.getAsClassRunnable( Key.of( "moped2" ) );
+		assertThat( moped1.getSuper().getInterfaces() ).hasSize( 2 );
+		assertThat( moped1.getSuper().getInterfaces() ).isEqualTo( moped2.getSuper().getInterfaces() );
+	}
+
 	@DisplayName( "class as struct" )
 	@Test
 	public void testClassAsStruct() {
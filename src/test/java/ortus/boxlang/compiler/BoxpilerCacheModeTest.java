@@ -0,0 +1,123 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.compiler.javaboxpiler.JavaBoxpiler;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.CompilerConfig.CacheMode;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+public class BoxpilerCacheModeTest {
+
+	static BoxRuntime	instance;
+	static Boxpiler		boxpiler;
+	static CacheMode	originalMode;
+
+	@BeforeAll
+	public static void setUp() {
+		instance		= BoxRuntime.getInstance( true );
+		boxpiler		= JavaBoxpiler.getInstance();
+		originalMode	= boxpiler.cacheMode;
+	}
+
+	@AfterEach
+	public void tearDown() {
+		boxpiler.cacheMode = originalMode;
+		boxpiler.clearTrustedCache();
+	}
+
+	/**
+	 * Write a template and push its modification time forward so it is seen as a change
+	 */
+	private ResolvedFilePath writeTemplate( Path file, String source, long offset ) throws IOException {
+		Files.writeString( file, source );
+		file.toFile().setLastModified( System.currentTimeMillis() - 60000 + offset );
+		return ResolvedFilePath.of( file );
+	}
+
+	@DisplayName( "It recompiles changed templates in the check mode" )
+	@Test
+	public void testCheckMode( @TempDir Path tempDir ) throws IOException {
+		boxpiler.cacheMode = CacheMode.CHECK;
+		Path				file		= tempDir.resolve( "checked.bxs" );
+		ResolvedFilePath	template	= writeTemplate( file, "a = 1", 0 );
+
+		Class<?>			first		= boxpiler.compileTemplate( template );
+		assertThat( boxpiler.compileTemplate( template ) ).isSameInstanceAs( first );
+
+		writeTemplate( file, "a = 2", 10000 );
+		assertThat( boxpiler.compileTemplate( template ) ).isNotSameInstanceAs( first );
+	}
+
+	@DisplayName( "It never checks compiled templates in the trusted mode" )
+	@Test
+	public void testTrustedMode( @TempDir Path tempDir ) throws IOException {
+		boxpiler.cacheMode = CacheMode.TRUSTED;
+		Path				file		= tempDir.resolve( "trusted.bxs" );
+		ResolvedFilePath	template	= writeTemplate( file, "a = 1", 0 );
+
+		Class<?>			first		= boxpiler.compileTemplate( template );
+		writeTemplate( file, "a = 2", 10000 );
+		assertThat( boxpiler.compileTemplate( template ) ).isSameInstanceAs( first );
+
+		// Evicting the file makes the next use check it again
+		boxpiler.evictSource( file );
+		assertThat( boxpiler.compileTemplate( template ) ).isNotSameInstanceAs( first );
+	}
+
+	@DisplayName( "It releases the compile lock of a class after compiling it" )
+	@Test
+	public void testCompileLocksAreReleased( @TempDir Path tempDir ) throws IOException {
+		boxpiler.cacheMode = CacheMode.CHECK;
+		ResolvedFilePath template = writeTemplate( tempDir.resolve( "locked.bxs" ), "a = 1", 0 );
+
+		boxpiler.compileTemplate( template );
+		assertThat( boxpiler.compileLocks ).isEmpty();
+	}
+
+	@DisplayName( "It stops the source file watcher on shutdown" )
+	@Test
+	public void testWatchModeShutdown( @TempDir Path tempDir ) throws IOException {
+		boxpiler.cacheMode = CacheMode.WATCH;
+		ResolvedFilePath template = writeTemplate( tempDir.resolve( "watched.bxs" ), "a = 1", 0 );
+
+		boxpiler.compileTemplate( template );
+		assertThat( boxpiler.sourceFileWatcher ).isNotNull();
+
+		boxpiler.shutdown();
+		assertThat( boxpiler.sourceFileWatcher ).isNull();
+
+		// The watcher starts again on the next use
+		boxpiler.compileTemplate( template );
+		assertThat( boxpiler.sourceFileWatcher ).isNotNull();
+		boxpiler.shutdown();
+	}
+
+}
@@ -0,0 +1,151 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.expression.BoxBinaryOperation;
+import ortus.boxlang.compiler.ast.expression.BoxDecimalLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxStringConcat;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
+import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
+import ortus.boxlang.compiler.ast.statement.BoxIfElse;
+import ortus.boxlang.compiler.ast.visitor.OptimizingBoxVisitor;
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.compiler.parser.Parser;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+
+public class OptimizingBoxVisitorTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	private BoxNode optimize( String code ) throws IOException {
+		return new Parser().parse( code, BoxSourceType.BOXSCRIPT ).getRoot().accept( new OptimizingBoxVisitor() );
+	}
+
+	@DisplayName( "It folds arithmetic on literals" )
+	@Test
+	public void testFoldsArithmetic() throws IOException {
+		BoxNode root = optimize( "result = ( 1 + 2 ) * 3 - 1 / 2" );
+		assertThat( root.getDescendantsOfType( BoxBinaryOperation.class ) ).isEmpty();
+		assertThat( root.getDescendantsOfType( BoxDecimalLiteral.class ).get( 0 ).getValue() ).isEqualTo( "8.5" );
+	}
+
+	@DisplayName( "It leaves arithmetic on variables and divisions by zero alone" )
+	@Test
+	public void testKeepsNonConstants() throws IOException {
+		assertThat( optimize( "result = a + 1" ).getDescendantsOfType( BoxBinaryOperation.class ) ).hasSize( 1 );
+		assertThat( optimize( "result = 1 / 0" ).getDescendantsOfType( BoxBinaryOperation.class ) ).hasSize( 1 );
+	}
+
+	@DisplayName( "It folds concatenated string literals" )
+	@Test
+	public void testFoldsStrings() throws IOException {
+		BoxNode root = optimize( "result = \"brad\" & \" \" & \"wood\"" );
+		assertThat( root.getDescendantsOfType( BoxStringConcat.class ) ).isEmpty();
+		assertThat( root.getDescendantsOfType( BoxStringLiteral.class ).get( 0 ).getValue() ).isEqualTo( "brad wood" );
+	}
+
+	@DisplayName( "It removes branches which can never run" )
+	@Test
+	public void testRemovesDeadBranches() throws IOException {
+		BoxNode root = optimize( """
+		                         if ( false ) {
+		                             result = "then";
+		                         } else {
+		                             result = "else";
+		                         }
+		                         """ );
+		assertThat( root.getDescendantsOfType( BoxIfElse.class ) ).isEmpty();
+		assertThat( root.toString() ).doesNotContain( "then" );
+		assertThat( root.toString() ).contains( "else" );
+	}
+
+	@DisplayName( "It keeps branches declaring functions" )
+	@Test
+	public void testKeepsFunctionDeclarations() throws IOException {
+		// Script functions can't be declared inside an if, but template functions can
+		BoxNode root = new Parser().parse( """
+		                                   <bx:if false>
+		                                       <bx:function name="foo"></bx:function>
+		                                   </bx:if>
+		                                   """, BoxSourceType.BOXTEMPLATE ).getRoot().accept( new OptimizingBoxVisitor() );
+		assertThat( root.getDescendantsOfType( BoxIfElse.class ) ).hasSize( 1 );
+		assertThat( root.getDescendantsOfType( BoxFunctionDeclaration.class ) ).hasSize( 1 );
+	}
+
+	@DisplayName( "It keeps the operation of an expression statement" )
+	@Test
+	public void testKeepsExpressionStatements() throws IOException {
+		BoxNode root = optimize( "( ( 1 + 2 ) * 3 );" );
+		assertThat( root.getDescendantsOfType( BoxBinaryOperation.class ) ).hasSize( 1 );
+		assertThat( root.getDescendantsOfType( BoxDecimalLiteral.class ).get( 0 ).getValue() ).isEqualTo( "3.0" );
+		assertThat( instance.executeStatement( "( 1 + 2 ) * 3", context ) ).isEqualTo( 9.0 );
+	}
+
+	@DisplayName( "Optimized code gives the same results" )
+	@Test
+	public void testSameResults() {
+		instance.executeSource(
+		    """
+		    result = [ ( 1 + 2 ) * 3, 10 / 4, "a" & "b" ];
+		    if ( true ) {
+		        result.append( "yes" );
+		    }
+		    if ( false ) {
+		        result.append( "no" );
+		    }
+		    """,
+		    context );
+		Array array = variables.getAsArray( result );
+		assertThat( array ).hasSize( 4 );
+		assertThat( array.get( 0 ) ).isEqualTo( 9.0 );
+		assertThat( array.get( 1 ) ).isEqualTo( 2.5 );
+		assertThat( array.get( 2 ) ).isEqualTo( "ab" );
+		assertThat( array.get( 3 ) ).isEqualTo( "yes" );
+	}
+
+}
@@ -0,0 +1,84 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.ast.Issue;
+import ortus.boxlang.compiler.parser.BoxScriptParser;
+import ortus.boxlang.compiler.parser.ParsingResult;
+
+public class TwoStageParsingTest {
+
+	/**
+	 * Parse code first with SLL then with LL only, and check both give the same AST and issues
+	 *
+	 * @param code   the code to parse
+	 * @param script true to parse a script, false to parse an expression
+	 *
+	 * @return the number of rules which fell back to LL in the two-stage parse
+	 */
+	private int assertSameParse( String code, boolean script ) throws IOException {
+		BoxScriptParser	twoStage	= new BoxScriptParser();
+		BoxScriptParser	llOnly		= new BoxScriptParser();
+		llOnly.setSLLFirst( false );
+		ParsingResult	result		= script ? twoStage.parse( code ) : twoStage.parseExpression( code );
+		ParsingResult	expected	= script ? llOnly.parse( code ) : llOnly.parseExpression( code );
+
+		assertThat( result.isCorrect() ).isEqualTo( expected.isCorrect() );
+		if ( expected.getRoot() != null ) {
+			assertThat( result.getRoot().toJSON() ).isEqualTo( expected.getRoot().toJSON() );
+		}
+		assertThat( messages( result.getIssues() ) ).isEqualTo( messages( expected.getIssues() ) );
+		assertThat( llOnly.getLLFallbacks() ).isEqualTo( 0 );
+		return twoStage.getLLFallbacks();
+	}
+
+	private List<String> messages( List<Issue> issues ) {
+		return issues.stream().map( Issue::toString ).toList();
+	}
+
+	@DisplayName( "It parses simple code with SLL only" )
+	@Test
+	public void testSLLOnly() throws IOException {
+		assertThat( assertSameParse( "a + b * foo( 1, 'two' )", false ) ).isEqualTo( 0 );
+		assertThat( assertSameParse( "x = [ 1, 2 ].map( ( i ) -> i * 2 );", true ) ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It falls back to LL and gives the same AST when SLL stops early" )
+	@Test
+	public void testFallback() throws IOException {
+		assertThat( assertSameParse( "NOT isCustomFunction( foo )", false ) ).isEqualTo( 1 );
+		assertThat( assertSameParse( "5--6", false ) ).isEqualTo( 1 );
+		assertThat( assertSameParse( "++5^--6", true ) ).isEqualTo( 1 );
+	}
+
+	@DisplayName( "It reports the same issues as an LL parse for invalid code" )
+	@Test
+	public void testSameIssues() throws IOException {
+		assertThat( assertSameParse( "foo( 1, ", true ) ).isEqualTo( 1 );
+		assertThat( assertSameParse( "a +* b", true ) ).isEqualTo( 1 );
+	}
+
+}
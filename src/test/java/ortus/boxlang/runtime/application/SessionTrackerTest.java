@@ -0,0 +1,127 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.application;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.scopes.Key;
+
+public class SessionTrackerTest {
+
+	static BoxRuntime	instance;
+	static Application	application;
+	SessionTracker		tracker;
+
+	@BeforeAll
+	public static void setUp() {
+		instance	= BoxRuntime.getInstance( true );
+		application	= new Application( Key.of( "sessionTrackerTest" ) );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		tracker = new SessionTracker();
+	}
+
+	@DisplayName( "It counts the tracked sessions" )
+	@Test
+	public void testSize() {
+		Session session = new Session( Key.of( "one" ), application );
+		tracker.touch( session, 60_000, 0 );
+		tracker.touch( session, 60_000, 1_000 );
+		tracker.touch( new Session( Key.of( "two" ), application ), 60_000, 0 );
+		assertThat( tracker.size() ).isEqualTo( 2 );
+
+		assertThat( tracker.remove( Key.of( "one" ) ) ).isSameInstanceAs( session );
+		assertThat( tracker.size() ).isEqualTo( 1 );
+	}
+
+	@DisplayName( "It expires sessions once their timeout has passed" )
+	@Test
+	public void testExpire() {
+		Session session = new Session( Key.of( "one" ), application );
+		tracker.touch( session, 5_000, 100_000 );
+		assertThat( tracker.expire( 100_000 ) ).isEmpty();
+		assertThat( tracker.expire( 104_000 ) ).isEmpty();
+		assertThat( tracker.expire( 105_000 ) ).containsExactly( session );
+		assertThat( tracker.size() ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It moves the expiration of a session forward when it is touched" )
+	@Test
+	public void testTouchExtends() {
+		Session session = new Session( Key.of( "one" ), application );
+		tracker.touch( session, 5_000, 100_000 );
+		assertThat( tracker.expire( 101_000 ) ).isEmpty();
+		tracker.touch( session, 5_000, 103_000 );
+		assertThat( tracker.expire( 106_000 ) ).isEmpty();
+		assertThat( tracker.expire( 108_000 ) ).containsExactly( session );
+	}
+
+	@DisplayName( "It expires sessions with timeouts longer than a turn of the wheel" )
+	@Test
+	public void testLongTimeout() {
+		Session session = new Session( Key.of( "one" ), application );
+		tracker.touch( session, 3_600_000, 0 );
+		for ( long now = 0; now < 3_600_000; now += 60_000 ) {
+			assertThat( tracker.expire( now ) ).isEmpty();
+		}
+		assertThat( tracker.expire( 3_600_000 ) ).containsExactly( session );
+	}
+
+	@DisplayName( "It returns all the sessions when cleared" )
+	@Test
+	public void testClear() {
+		tracker.touch( new Session( Key.of( "one" ), application ), 60_000, 0 );
+		tracker.touch( new Session( Key.of( "two" ), application ), 60_000, 0 );
+		assertThat( tracker.clear() ).hasSize( 2 );
+		assertThat( tracker.size() ).isEqualTo( 0 );
+		assertThat( tracker.expire( 120_000 ) ).isEmpty();
+	}
+
+	@DisplayName( "It keeps a session touched while it expires" )
+	@Test
+	public void testTouchRacingExpire() {
+		int[]		lookups	= { 0 };
+		Session[]	touched	= { null };
+		Session		session	= new Session( Key.of( "one" ), application ) {
+
+								// The expiration looks the ID up twice, touch the session in between as another request would
+								@Override
+								public Key getID() {
+									if ( touched[ 0 ] != null && ++lookups[ 0 ] == 2 ) {
+										tracker.touch( touched[ 0 ], 3_600_000, 0 );
+									}
+									return super.getID();
+								}
+							};
+		tracker.touch( session, 0, 0 );
+		touched[ 0 ] = session;
+		tracker.expire( 1_000 );
+		assertThat( lookups[ 0 ] ).isAtLeast( 2 );
+		// The touch either moved the expiration forward, or tracked the session again
+		assertThat( tracker.size() ).isEqualTo( 1 );
+	}
+
+}
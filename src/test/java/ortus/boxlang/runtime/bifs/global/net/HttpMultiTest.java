@@ -0,0 +1,100 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ortus.boxlang.runtime.bifs.global.net;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+
+@WireMockTest
+public class HttpMultiTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It can make several HTTP calls in parallel and return the results in order" )
+	@Test
+	public void testHttpMulti( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/one" ).willReturn( aResponse().withBody( "one" ).withStatus( 200 ).withFixedDelay( 200 ) ) );
+		stubFor( get( "/two" ).willReturn( aResponse().withBody( "two" ).withStatus( 200 ) ) );
+		stubFor( post( "/three" ).withHeader( "X-Test", equalTo( "yes" ) ).willReturn( aResponse().withBody( "three" ).withStatus( 201 ) ) );
+
+		instance.executeSource( String.format( """
+		                                       result = httpMulti( [
+		                                       	{ url : "%1$s/one" },
+		                                       	{ url : "%1$s/two" },
+		                                       	{ url : "%1$s/three", method : "post", headers : { "X-Test" : "yes" }, body : "hello" }
+		                                       ] );
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() ),
+		    context );
+
+		Array results = variables.getAsArray( result );
+		assertThat( results.size() ).isEqualTo( 3 );
+		assertThat( ( ( IStruct ) results.get( 0 ) ).getAsString( Key.fileContent ) ).isEqualTo( "one" );
+		assertThat( ( ( IStruct ) results.get( 1 ) ).getAsString( Key.fileContent ) ).isEqualTo( "two" );
+		assertThat( ( ( IStruct ) results.get( 2 ) ).get( Key.statusCode ) ).isEqualTo( 201 );
+	}
+
+	@DisplayName( "It can make an HTTP call asynchronously" )
+	@Test
+	public void testHttpAsync( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/async" ).willReturn( aResponse().withBody( "async" ).withStatus( 200 ) ) );
+
+		instance.executeSource( String.format( """
+		                                       result = httpAsync( { url : "%s/async" } ).get();
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() ),
+		    context );
+
+		assertThat( variables.getAsStruct( result ).getAsString( Key.fileContent ) ).isEqualTo( "async" );
+	}
+
+}
@@ -0,0 +1,83 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.query;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+
+public class QueryFindRowsTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It finds rows by value" )
+	@Test
+	public void testFindRows() {
+		instance.executeSource(
+		    """
+		    query = queryNew( "id,name", "integer,varchar", [ [ 1, "Luis" ], [ 2, "Brad" ], [ 1, "Jon" ] ] );
+		    result = queryFindRows( query, "id", 1 );
+		    """,
+		    context );
+
+		Array rows = variables.getAsArray( result );
+		assertThat( rows ).containsExactly( 1, 3 ).inOrder();
+	}
+
+	@DisplayName( "It finds rows by several columns using member functions and an index" )
+	@Test
+	public void testFindRowsMember() {
+		instance.executeSource(
+		    """
+		    query = queryNew( "id,name", "integer,varchar", [ [ 1, "Luis" ], [ 2, "Brad" ], [ 1, "Jon" ] ] );
+		    query.createIndex( "id,name" );
+		    query.addRow( { id : 1, name : "jon" } );
+		    result = query.findRows( "id,name", [ 1, "JON" ] );
+		    """,
+		    context );
+
+		Array rows = variables.getAsArray( result );
+		assertThat( rows ).containsExactly( 3, 4 ).inOrder();
+	}
+
+}
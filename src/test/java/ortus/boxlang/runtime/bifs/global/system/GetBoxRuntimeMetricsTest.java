@@ -0,0 +1,95 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class GetBoxRuntimeMetricsTest {
+
+	static BoxRuntime	runtime;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		runtime = BoxRuntime.getInstance( true );
+		runtime.getMetricsRegistry().setEnabled( true );
+	}
+
+	@AfterAll
+	public static void teardown() {
+		runtime.getMetricsRegistry().setEnabled( runtime.getConfiguration().runtime.metricsEnabled ).reset();
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( runtime.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It can get the metrics as a struct" )
+	@Test
+	public void testStruct() {
+		runtime.executeSource(
+		    """
+		    function foo() {
+		        return len( "bar" );
+		    }
+		    foo();
+		    result = getBoxRuntimeMetrics()
+		    """,
+		    context );
+
+		IStruct metrics = variables.getAsStruct( result );
+		assertThat( metrics.getAsBoolean( Key.of( "enabled" ) ) ).isTrue();
+		IStruct histograms = metrics.getAsStruct( Key.of( "histograms" ) );
+		assertThat( histograms.containsKey( "function" ) ).isTrue();
+		assertThat( histograms.containsKey( "bif" ) ).isTrue();
+		assertThat( metrics.getAsStruct( Key.of( "gauges" ) ).keySet().stream().anyMatch( key -> key.getName().startsWith( "cache." ) ) ).isTrue();
+	}
+
+	@DisplayName( "It can get the metrics as JSON or in the Prometheus text format" )
+	@Test
+	public void testFormats() {
+		runtime.executeSource(
+		    """
+		    json = getBoxRuntimeMetrics( "json" )
+		    prometheus = getBoxRuntimeMetrics( format = "prometheus" )
+		    """,
+		    context );
+
+		assertThat( variables.getAsString( Key.of( "json" ) ) ).contains( "\"histograms\"" );
+		assertThat( variables.getAsString( Key.of( "prometheus" ) ) ).contains( "boxlang_bif_seconds_count" );
+	}
+
+}
@@ -104,6 +104,8 @@ public class WriteLogTest {
 		    writeLog( text="Hello Logger!", log="Foo", file="foo.log" )
 		    """,
 		    context );
+		// Messages are written to their files asynchronously
+		instance.getLogFileManager().flush( 5000 );
 		assertTrue( FileSystemUtil.exists( logFilePath ) );
 		String fileContent = StringCaster.cast( FileSystemUtil.read( logFilePath ) );
 		assertTrue( StringUtils.contains( fileContent, "Hello Logger!" ) );
@@ -127,6 +129,8 @@ public class WriteLogTest {
 		    writeLog( text="Hello Root Logger!" );
 		    """,
 		    context );
+		// Messages are written to their files asynchronously
+		instance.getLogFileManager().flush( 5000 );
 		assertTrue( FileSystemUtil.exists( logFilePath ) );
 		String fileContent = StringCaster.cast( FileSystemUtil.read( logFilePath ) );
 		assertTrue( StringUtils.contains( fileContent, "[ERROR]" ) );
@@ -22,6 +22,8 @@ package ortus.boxlang.runtime.components.jdbc;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,6 +43,8 @@ import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.QueryColumn;
 import ortus.boxlang.runtime.types.exceptions.BoxValidationException;
 import ortus.boxlang.runtime.types.exceptions.DatabaseException;
+import ortus.boxlang.runtime.types.exceptions.UnmodifiableException;
+import ortus.boxlang.runtime.types.immutable.IImmutable;
 
 public class DBInfoTest extends BaseJDBCTest {
 
@@ -380,4 +384,27 @@ public class DBInfoTest extends BaseJDBCTest {
 		    .orElse( null );
 		assertNotNull( testTableRow );
 	}
+
+	@DisplayName( "It caches metadata until the schema changes" )
+	@Test
+	public void testMetadataCache() {
+		getInstance().executeSource( "cfdbinfo( type='columns', name='result', table='admins' )", getContext(), BoxSourceType.CFSCRIPT );
+		Query first = getVariables().getAsQuery( result );
+		assertTrue( first instanceof IImmutable );
+		assertThrows( UnmodifiableException.class, () -> first.addRows( 1 ) );
+
+		getInstance().executeSource( "cfdbinfo( type='columns', name='result', table='admins' )", getContext(), BoxSourceType.CFSCRIPT );
+		assertSame( first, getVariables().getAsQuery( result ) );
+
+		// An explicit refresh reads the metadata again
+		getInstance().executeSource( "cfdbinfo( type='columns', name='result', table='admins', refresh=true )", getContext(), BoxSourceType.CFSCRIPT );
+		Query refreshed = getVariables().getAsQuery( result );
+		assertNotSame( first, refreshed );
+
+		// So does a schema change
+		getDatasource().execute( "CREATE TABLE cachedTable ( id INTEGER )" );
+		getInstance().executeSource( "cfdbinfo( type='columns', name='result', table='admins' )", getContext(), BoxSourceType.CFSCRIPT );
+		assertNotSame( refreshed, getVariables().getAsQuery( result ) );
+		getDatasource().execute( "DROP TABLE cachedTable" );
+	}
 }
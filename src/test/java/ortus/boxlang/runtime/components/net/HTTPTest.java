@@ -18,6 +18,7 @@
 
 package ortus.boxlang.runtime.components.net;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aMultipart;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.created;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
@@ -28,12 +29,18 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.google.common.truth.Truth.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
@@ -96,6 +103,23 @@ public class HTTPTest {
 		assertThat( cfhttp.getAsString( Key.fileContent ).replaceAll( "\\s+", "" ) ).isEqualTo( "Done" );
 	}
 
+	@DisplayName( "It can make an async HTTP call which returns a future" )
+	@Test
+	public void testCanMakeAsyncHTTPCall( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/posts/1" ).willReturn( aResponse().withBody( "Done" ).withStatus( 200 ) ) );
+
+		instance.executeSource( String.format( """
+		                                       http url="%s" async=true result="future";
+		                                       result = future.get();
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() + "/posts/1" ),
+		    context );
+
+		assertThat( variables.get( Key.of( "future" ) ) ).isInstanceOf( CompletableFuture.class );
+		IStruct res = variables.getAsStruct( result );
+		assertThat( res.get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( res.getAsString( Key.fileContent ) ).isEqualTo( "Done" );
+	}
+
 	@DisplayName( "It parses returned cookies into a Cookies query object" )
 	@Test
 	public void testCookiesInQuery( WireMockRuntimeInfo wmRuntimeInfo ) {
@@ -164,6 +188,70 @@ public class HTTPTest {
 		assertThat( body ).isEqualTo( "{\"id\": 1, \"name\": \"foobar\", \"body\": \"lorem ipsum dolor\"}" );
 	}
 
+	@DisplayName( "It can stream a response body to a file" )
+	@Test
+	public void testDownloadToFile( WireMockRuntimeInfo wmRuntimeInfo, @TempDir Path tempDir ) throws IOException {
+		stubFor( get( "/download" ).willReturn( ok().withHeader( "Content-Type", "text/plain" ).withBody( "file contents" ) ) );
+
+		variables.put( Key.of( "dir" ), tempDir.resolve( "nested" ).toString() );
+		instance.executeSource( String.format( """
+		                                       http url="%s" path=dir file="out.txt";
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() + "/download" ), context );
+
+		IStruct res = variables.getAsStruct( cfhttp );
+		assertThat( res.get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( res.getAsString( Key.fileContent ) ).isEmpty();
+		assertThat( Files.readString( tempDir.resolve( "nested" ).resolve( "out.txt" ) ) ).isEqualTo( "file contents" );
+	}
+
+	@DisplayName( "It can hand a response body to a callback line by line" )
+	@Test
+	public void testOnChunk( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/stream" ).willReturn( ok().withHeader( "Content-Type", "application/x-ndjson" ).withBody( "{\"a\":1}\n{\"a\":2}\n" ) ) );
+
+		instance.executeSource( String.format( """
+		                                       lines = [];
+		                                       http url="%s" onChunk=( line ) => lines.append( line );
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() + "/stream" ), context );
+
+		assertThat( variables.getAsArray( Key.of( "lines" ) ).toArray() ).isEqualTo( new Object[] { "{\"a\":1}", "{\"a\":2}" } );
+		assertThat( variables.getAsStruct( cfhttp ).get( Key.statusCode ) ).isEqualTo( 200 );
+	}
+
+	@DisplayName( "It returns binary content types as a byte array" )
+	@Test
+	public void testBinaryResponse( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/image" ).willReturn( ok().withHeader( "Content-Type", "image/png" ).withBody( new byte[] { 1, 2, 3 } ) ) );
+
+		instance.executeSource( String.format( """
+		                                       http url="%s";
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() + "/image" ), context );
+
+		assertThat( variables.getAsStruct( cfhttp ).get( Key.fileContent ) ).isEqualTo( new byte[] { 1, 2, 3 } );
+	}
+
+	@DisplayName( "It can upload a file as a multipart request" )
+	@Test
+	public void testMultipartFileUpload( WireMockRuntimeInfo wmRuntimeInfo, @TempDir Path tempDir ) throws IOException {
+		Path upload = tempDir.resolve( "upload.txt" );
+		Files.writeString( upload, "uploaded contents" );
+		stubFor(
+		    post( "/upload" )
+		        .withMultipartRequestBody( aMultipart().withName( "file" ).withBody( equalTo( "uploaded contents" ) ) )
+		        .withMultipartRequestBody( aMultipart().withName( "name" ).withBody( equalTo( "foo bar" ) ) )
+		        .willReturn( created() ) );
+
+		variables.put( Key.of( "upload" ), upload.toString() );
+		instance.executeSource( String.format( """
+		                                       http method="POST" url="%s" {
+		                                       	httpparam type="formfield" name="name" value="foo bar";
+		                                       	httpparam type="file" name="file" file=upload;
+		                                       }
+		                                       """, wmRuntimeInfo.getHttpBaseUrl() + "/upload" ), context );
+
+		assertThat( variables.getAsStruct( cfhttp ).get( Key.statusCode ) ).isEqualTo( 201 );
+	}
+
 	@DisplayName( "It can make a post request with a json body" )
 	@Test
 	public void testPostJsonBody( WireMockRuntimeInfo wmRuntimeInfo ) {
@@ -109,6 +109,8 @@ public class LogTest {
 		    """,
 		    context, BoxSourceType.BOXSCRIPT );
 
+		// Messages are written to their files asynchronously
+		instance.getLogFileManager().flush( 5000 );
 		assertTrue( FileSystemUtil.exists( logFilePath ) );
 		String fileContent = StringCaster.cast( FileSystemUtil.read( logFilePath ) );
 		assertTrue( StringUtils.contains( fileContent, "Hello Logger!" ) );
@@ -128,6 +130,8 @@ public class LogTest {
 		    """,
 		    context, BoxSourceType.CFTEMPLATE );
 
+		// Messages are written to their files asynchronously
+		instance.getLogFileManager().flush( 5000 );
 		assertTrue( FileSystemUtil.exists( logFilePath ) );
 		String fileContent = StringCaster.cast( FileSystemUtil.read( logFilePath ) );
 		assertTrue( StringUtils.contains( fileContent, "Hello Logger!" ) );
@@ -147,6 +151,8 @@ public class LogTest {
 		    """,
 		    context, BoxSourceType.BOXTEMPLATE );
 
+		// Messages are written to their files asynchronously
+		instance.getLogFileManager().flush( 5000 );
 		assertTrue( FileSystemUtil.exists( logFilePath ) );
 		String fileContent = StringCaster.cast( FileSystemUtil.read( logFilePath ) );
 		assertTrue( StringUtils.contains( fileContent, "Hello Logger!" ) );
@@ -19,19 +19,23 @@
 package ortus.boxlang.runtime.components.system;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.compiler.parser.BoxSourceType;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.exceptions.RequestTimeoutException;
 
 public class SettingTest {
 
@@ -100,4 +104,70 @@ public class SettingTest {
 
 	}
 
+	@DisplayName( "It stops a runaway loop once the request times out" )
+	@Test
+	public void testRequestTimeoutInLoop() {
+		RequestTimeoutException e = assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    setting requestTimeout=0.2;
+		    while ( true ) {
+		    }
+		    """,
+		    context ) );
+		// The attribute is in seconds
+		assertThat( e.getTimeout() ).isEqualTo( 200 );
+		assertThat( e.getMessage() ).contains( "200" );
+	}
+
+	@DisplayName( "It stops runaway recursion and tag loops once the request times out" )
+	@Test
+	public void testRequestTimeoutInFunctionsAndComponents() {
+		assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    setting requestTimeout=0.2;
+		    function spin( n ) {
+		        return n > 100 ? 0 : spin( n + 1 ) + spin( n + 1 );
+		    }
+		    spin( 0 );
+		    """,
+		    context ) );
+
+		context = new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    <bx:setting requestTimeout="0.2">
+		    <bx:loop from="1" to="2000000000" index="i"></bx:loop>
+		    """,
+		    context, BoxSourceType.BOXTEMPLATE ) );
+	}
+
+	@DisplayName( "It reports the time left before the request times out" )
+	@Test
+	public void testRemainingTime() {
+		RequestBoxContext requestContext = context.getRequestContext();
+		assertThat( requestContext.getRemainingTime() ).isEqualTo( -1 );
+
+		requestContext.setRequestTimeout( 60000L );
+		assertThat( requestContext.getRemainingTime() ).isAtLeast( 1L );
+		assertThat( requestContext.getRemainingTime() ).isAtMost( 60000L );
+		requestContext.checkTimeout();
+
+		requestContext.setRequestTimeout( 0L );
+		assertThat( requestContext.getRemainingTime() ).isEqualTo( -1 );
+	}
+
+	@DisplayName( "It reads the requestTimeout attribute in seconds" )
+	@Test
+	public void testRequestTimeoutInSeconds() {
+		instance.executeSource(
+		    """
+		    <cfsetting requestTimeout="60">
+		    <cfset result = "done">
+		    """,
+		    context, BoxSourceType.CFTEMPLATE );
+		assertThat( variables.getAsString( result ) ).isEqualTo( "done" );
+		assertThat( context.getRequestContext().getRequestTimeout() ).isEqualTo( 60_000L );
+		assertThat( context.getRequestContext().getRemainingTime() ).isGreaterThan( 1_000L );
+	}
+
 }
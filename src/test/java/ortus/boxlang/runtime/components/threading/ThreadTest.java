@@ -19,6 +19,7 @@
 package ortus.boxlang.runtime.components.threading;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.compiler.parser.BoxSourceType;
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.VirtualThreads;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.scopes.IScope;
@@ -256,4 +258,54 @@ public class ThreadTest {
 		assertThat( variables.getAsDouble( Key.of( "totalTime" ) ) < 1000 ).isTrue();
 	}
 
+	@DisplayName( "It can run and join threads with virtual threads enabled" )
+	@Test
+	public void testCanRunVirtualThreads() {
+		instance.getConfiguration().runtime.useVirtualThreads = true;
+		try {
+			// @formatter:off
+			instance.executeSource(
+			    """
+			    inThread = false;
+			    thread name="myThread" {
+			    	inThread = isInThread();
+			    }
+			    thread name="myThread" action="join";
+			    result = myThread;
+			    """,
+			    context, BoxSourceType.CFSCRIPT );
+			// @formatter:on
+		} finally {
+			instance.getConfiguration().runtime.useVirtualThreads = false;
+		}
+
+		assertThat( variables.getAsStruct( result ).get( Key.status ) ).isEqualTo( "COMPLETED" );
+		assertThat( variables.getAsBoolean( Key.of( "inThread" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It runs the thread body on a virtual thread when the JVM supports them" )
+	@Test
+	public void testRunsOnAVirtualThread() {
+		assumeTrue( VirtualThreads.isSupported() );
+		instance.getConfiguration().runtime.useVirtualThreads = true;
+		try {
+			// @formatter:off
+			instance.executeSource(
+			    """
+			    thread name="myThread" {
+			    	variables.bodyThread = createObject( "java", "java.lang.Thread" ).currentThread();
+			    }
+			    thread name="myThread" action="join";
+			    """,
+			    context, BoxSourceType.CFSCRIPT );
+			// @formatter:on
+		} finally {
+			instance.getConfiguration().runtime.useVirtualThreads = false;
+		}
+
+		java.lang.Thread bodyThread = ( java.lang.Thread ) variables.get( Key.of( "bodyThread" ) );
+		assertThat( bodyThread ).isNotSameInstanceAs( java.lang.Thread.currentThread() );
+		assertThat( VirtualThreads.isVirtual( bodyThread ) ).isTrue();
+	}
+
 }
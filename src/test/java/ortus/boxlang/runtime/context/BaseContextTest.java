@@ -22,7 +22,9 @@ import static com.google.common.truth.Truth.assertThat;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
@@ -247,4 +249,19 @@ public class BaseContextTest {
 		assertThat( lexical.size() ).isEqualTo( 0 );
 	}
 
-}
\ No newline at end of file
+	@DisplayName( "It gets the request context from its parent" )
+	@Test
+	public void testRequestContext() {
+		assertThat( context.getRequestContext() ).isSameInstanceAs( context );
+		assertThat( instance.getRuntimeContext().getRequestContext() ).isNull();
+
+		IBoxContext	parent	= Mockito.spy( new ContainerBoxContext( context ) );
+		IBoxContext	child	= new ContainerBoxContext( parent );
+		assertThat( child.getRequestContext() ).isSameInstanceAs( context );
+		assertThat( child.getRequestContext() ).isSameInstanceAs( context );
+		// The child asks its parent once and remembers the answer, it does not walk the chain
+		Mockito.verify( parent, Mockito.times( 1 ) ).getRequestContext();
+		Mockito.verify( parent, Mockito.never() ).getParentOfType( RequestBoxContext.class );
+	}
+
+}
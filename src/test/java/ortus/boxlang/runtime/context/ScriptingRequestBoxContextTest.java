@@ -21,6 +21,8 @@ package ortus.boxlang.runtime.context;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext.ScopeSearchResult;
 import ortus.boxlang.runtime.loader.ImportDefinition;
 import ortus.boxlang.runtime.runnables.BoxTemplate;
@@ -182,4 +185,19 @@ public class ScriptingRequestBoxContextTest {
 		var datasources = ( IStruct ) context.getConfigItems( Key.runtime, Key.datasources );
 		assertThat( datasources.containsKey( Key.bxDefaultDatasource ) ).isTrue();
 	}
+
+	@Test
+	@DisplayName( "It flushes large output to the output stream" )
+	void testFlushLargeOutput() {
+		ByteArrayOutputStream		stream	= new ByteArrayOutputStream();
+		ScriptingRequestBoxContext	context	= new ScriptingRequestBoxContext( BoxRuntime.getInstance().getRuntimeContext() );
+		context.setOut( new PrintStream( stream, true ) );
+
+		String output = "x".repeat( 20000 ) + "end";
+		context.writeToBuffer( output );
+		context.flushBuffer( false );
+
+		assertThat( stream.toString() ).isEqualTo( output );
+		assertThat( context.getBuffer().length() ).isEqualTo( 0 );
+	}
 }
@@ -0,0 +1,105 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.dynamic.casters;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.NullValue;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxCastException;
+
+public class TypeCheckerTest {
+
+	static BoxRuntime	instance;
+	static IBoxContext	context;
+
+	@BeforeAll
+	public static void setUp() {
+		instance	= BoxRuntime.getInstance( true );
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+	}
+
+	@DisplayName( "It shares one checker per declared type" )
+	@Test
+	void testItCachesCheckers() {
+		assertThat( TypeChecker.of( "String" ) ).isSameInstanceAs( TypeChecker.of( "String" ) );
+		assertThat( TypeChecker.of( null ) ).isSameInstanceAs( TypeChecker.ANY );
+		assertThat( TypeChecker.of( "String" ).getType() ).isEqualTo( "String" );
+	}
+
+	@DisplayName( "It passes values which already have the declared type" )
+	@Test
+	void testItPassesMatchingValues() {
+		Array	array	= Array.of( 1, 2 );
+		Struct	struct	= new Struct();
+		assertThat( TypeChecker.of( "string" ).attempt( context, "brad" ).get() ).isEqualTo( "brad" );
+		assertThat( TypeChecker.of( "numeric" ).attempt( context, 5.5 ).get() ).isEqualTo( 5.5 );
+		assertThat( TypeChecker.of( "Array" ).attempt( context, array ).get() ).isSameInstanceAs( array );
+		assertThat( TypeChecker.of( "struct" ).attempt( context, struct ).get() ).isSameInstanceAs( struct );
+	}
+
+	@DisplayName( "It casts like the generic caster" )
+	@Test
+	void testItCastsLikeTheGenericCaster() {
+		Object[][] cases = {
+		    { "numeric", "42" },
+		    { "integer", 42.0 },
+		    { "boolean", "yes" },
+		    { "string", 42 },
+		    { "any", "brad" },
+		    { "string[]", Array.of( 1, 2 ) },
+		    { "java.lang.String", "brad" }
+		};
+		for ( Object[] test : cases ) {
+			CastAttempt<Object>	expected	= GenericCaster.attempt( context, test[ 1 ], test[ 0 ], true );
+			CastAttempt<Object>	actual		= TypeChecker.of( ( String ) test[ 0 ] ).attempt( context, test[ 1 ] );
+			assertThat( actual.wasSuccessful() ).isEqualTo( expected.wasSuccessful() );
+			if ( test[ 1 ] instanceof Array ) {
+				assertThat( ( Object[] ) actual.get() ).isEqualTo( ( Object[] ) expected.get() );
+			} else {
+				assertThat( actual.get() ).isEqualTo( expected.get() );
+			}
+		}
+	}
+
+	@DisplayName( "It fails values which do not match" )
+	@Test
+	void testItFailsMismatches() {
+		assertThat( TypeChecker.of( "numeric" ).attempt( context, "brad" ).wasSuccessful() ).isFalse();
+		assertThat( TypeChecker.of( "struct" ).attempt( context, "brad" ).wasSuccessful() ).isFalse();
+		assertThat( TypeChecker.of( "query" ).attempt( context, new Struct() ).wasSuccessful() ).isFalse();
+	}
+
+	@DisplayName( "It handles null and void types" )
+	@Test
+	void testItHandlesNullTypes() {
+		assertThat( TypeChecker.of( "void" ).attempt( context, null ).get() ).isInstanceOf( NullValue.class );
+		assertThat( TypeChecker.of( "any" ).attempt( context, null ).get() ).isInstanceOf( NullValue.class );
+		assertThrows( BoxCastException.class, () -> TypeChecker.of( "void" ).attempt( context, "brad" ) );
+	}
+
+}
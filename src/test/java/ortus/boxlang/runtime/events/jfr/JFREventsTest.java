@@ -0,0 +1,86 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.events.jfr;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+
+public class JFREventsTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context = new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+	}
+
+	@DisplayName( "It records function, BIF and lock events" )
+	@Test
+	public void testRecordsEvents( @TempDir Path tempDir ) throws IOException {
+		Path file = tempDir.resolve( "boxlang.jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( FunctionInvocationEvent.class ).withoutThreshold();
+			recording.enable( BIFInvocationEvent.class ).withoutThreshold();
+			recording.enable( LockWaitEvent.class ).withoutThreshold();
+			recording.start();
+			instance.executeSource(
+			    """
+			    function recordedFunction() {
+			        return len( "brad" );
+			    }
+			    lock name="recordedLock" timeout=5 {
+			        result = recordedFunction();
+			    }
+			    """,
+			    context );
+			recording.stop();
+			recording.dump( file );
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents( file );
+		assertThat( events.stream().anyMatch( event -> event.getEventType().getName().equals( "boxlang.FunctionInvocation" )
+		    && event.getString( "name" ).equals( "recordedFunction" ) ) ).isTrue();
+		assertThat( events.stream().anyMatch( event -> event.getEventType().getName().equals( "boxlang.BIFInvocation" )
+		    && event.getString( "name" ).equalsIgnoreCase( "len" ) ) ).isTrue();
+		assertThat( events.stream().anyMatch( event -> event.getEventType().getName().equals( "boxlang.LockWait" )
+		    && event.getString( "name" ).equals( "recordedlock" ) && event.getBoolean( "acquired" ) ) ).isTrue();
+	}
+
+}
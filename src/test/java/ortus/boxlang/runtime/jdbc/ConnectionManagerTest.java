@@ -19,10 +19,14 @@ package ortus.boxlang.runtime.jdbc;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.config.segments.DatasourceConfig;
@@ -165,4 +169,59 @@ public class ConnectionManagerTest {
 		assertThat( datasource.getConfiguration().isOnTheFly() ).isTrue();
 	}
 
+	@DisplayName( "It holds connections until the request ends in the sticky mode" )
+	@Test
+	public void testStickyConnections() throws SQLException {
+		ConnectionManager	manager		= new ConnectionManager( context ).setStickyConnections( true );
+		DataSource			datasource	= JDBCTestUtils.buildDatasource( "sticky" );
+
+		Connection			connection	= manager.getConnection( datasource );
+		manager.releaseConnection( connection );
+		assertThat( connection.isClosed() ).isFalse();
+		assertThat( manager.getConnection( datasource ) ).isSameInstanceAs( connection );
+
+		manager.shutdown();
+		assertThat( connection.isClosed() ).isTrue();
+		datasource.shutdown();
+	}
+
+	@DisplayName( "It holds connections per credentials in the sticky mode" )
+	@Test
+	public void testStickyConnectionsWithCredentials() throws SQLException {
+		ConnectionManager	manager		= new ConnectionManager( context ).setStickyConnections( true );
+		DataSource			datasource	= Mockito.mock( DataSource.class );
+		Connection			luis		= Mockito.mock( Connection.class );
+		Connection			brad		= Mockito.mock( Connection.class );
+		Connection			pooled		= Mockito.mock( Connection.class );
+		Mockito.when( datasource.getConnection( "luis", "secret" ) ).thenReturn( luis );
+		Mockito.when( datasource.getConnection( "brad", "secret" ) ).thenReturn( brad );
+		Mockito.when( datasource.getConnection() ).thenReturn( pooled );
+
+		Connection connection = manager.getConnection( datasource, "luis", "secret" );
+		assertThat( connection ).isSameInstanceAs( luis );
+		manager.releaseConnection( connection );
+		Mockito.verify( luis, Mockito.never() ).close();
+		assertThat( manager.getConnection( datasource, "luis", "secret" ) ).isSameInstanceAs( luis );
+		assertThat( manager.getConnection( datasource, "brad", "secret" ) ).isSameInstanceAs( brad );
+		assertThat( manager.getConnection( datasource ) ).isSameInstanceAs( pooled );
+		Mockito.verify( datasource, Mockito.times( 1 ) ).getConnection( "luis", "secret" );
+
+		manager.shutdown();
+		Mockito.verify( luis ).close();
+		Mockito.verify( brad ).close();
+		Mockito.verify( pooled ).close();
+	}
+
+	@DisplayName( "It returns connections to the pool after each query by default" )
+	@Test
+	public void testReleaseConnection() throws SQLException {
+		ConnectionManager	manager		= new ConnectionManager( context );
+		DataSource			datasource	= JDBCTestUtils.buildDatasource( "released" );
+
+		Connection			connection	= manager.getConnection( datasource );
+		manager.releaseConnection( connection );
+		assertThat( connection.isClosed() ).isTrue();
+		datasource.shutdown();
+	}
+
 }
@@ -0,0 +1,71 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.types.Query;
+
+public class DatabaseMetadataCacheTest {
+
+	DatabaseMetadataCache cache;
+
+	@BeforeEach
+	void setupEach() throws SQLException {
+		cache = new DatabaseMetadataCache( 60000 );
+		cache.get( "tables", null, null, Query::new );
+		cache.get( "columns", null, "tblUsers", Query::new );
+		cache.get( "columns", null, "mySchema.tblUsers", Query::new );
+		cache.get( "columns", null, "otherSchema.tblUsers", Query::new );
+		cache.get( "columns", null, "tblOrders", Query::new );
+	}
+
+	@DisplayName( "It flushes on schema changes after leading comments" )
+	@Test
+	public void testFlushOnSchemaChange() {
+		cache.flushOnSchemaChange( "SELECT * FROM tblUsers" );
+		cache.flushOnSchemaChange( "-- DROP TABLE tblUsers\nSELECT 1" );
+		assertThat( cache.size() ).isEqualTo( 5 );
+
+		cache.flushOnSchemaChange( "/* migration 42 */\n-- add a column\n  ALTER TABLE tblUsers ADD age INTEGER" );
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It flushes a table with or without its schema" )
+	@Test
+	public void testFlushTable() {
+		cache.flush( "TBLUSERS" );
+		// Only the orders columns are left, the list of tables is about every table
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@DisplayName( "It keeps tables of other schemas" )
+	@Test
+	public void testFlushQualifiedTable() {
+		cache.flush( "mySchema.tblUsers" );
+		// The other schema columns are left, along with the orders columns
+		assertThat( cache.size() ).isEqualTo( 2 );
+	}
+
+}
@@ -0,0 +1,244 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.exceptions.DatabaseException;
+
+public class QoQExecutorTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+		instance.executeSource(
+		    """
+		    developers = queryNew( "id,name,role", "integer,varchar,varchar", [
+		        [ 1, "Luis", "CEO" ],
+		        [ 42, "Eric", "Developer" ],
+		        [ 77, "Michael", "Developer" ],
+		        [ 9, "Brad", "Architect" ]
+		    ] );
+		    projects = queryNew( "owner,title", "integer,varchar", [
+		        [ 42, "qb" ],
+		        [ 42, "quick" ],
+		        [ 1, "ColdBox" ]
+		    ] );
+		    """,
+		    context );
+	}
+
+	private Query query( String sql ) {
+		instance.executeSource( "result = queryExecute( \"" + sql + "\", [], { dbtype : \"query\" } )", context );
+		return variables.getAsQuery( result );
+	}
+
+	@DisplayName( "It filters, projects and sorts a query" )
+	@Test
+	public void testSelect() {
+		Query query = query( "SELECT name, id * 2 AS twice FROM developers WHERE role = 'developer' OR id < 5 ORDER BY id DESC" );
+		assertThat( query.getColumnList() ).isEqualTo( "name,twice" );
+		assertThat( query.size() ).isEqualTo( 3 );
+		assertThat( query.getRowAsStruct( 0 ).get( "name" ) ).isEqualTo( "Michael" );
+		assertThat( query.getRowAsStruct( 2 ).get( "name" ) ).isEqualTo( "Luis" );
+		assertThat( query.getRowAsStruct( 2 ).get( "twice" ) ).isEqualTo( 2.0 );
+	}
+
+	@DisplayName( "It binds parameters" )
+	@Test
+	public void testParameters() {
+		instance.executeSource(
+		    """
+		    result = queryExecute( "SELECT name FROM developers WHERE id IN ( :first, :second ) ORDER BY name", { first : 1, second : 9 }, { dbtype : "query" } );
+		    """,
+		    context );
+		Query query = variables.getAsQuery( result );
+		assertThat( query.size() ).isEqualTo( 2 );
+		assertThat( query.getRowAsStruct( 0 ).get( "name" ) ).isEqualTo( "Brad" );
+	}
+
+	@DisplayName( "It groups and aggregates rows" )
+	@Test
+	public void testGroupBy() {
+		Query query = query( "SELECT role, COUNT(*) AS total, MAX(id) AS highest FROM developers GROUP BY role HAVING COUNT(*) > 1" );
+		assertThat( query.size() ).isEqualTo( 1 );
+		assertThat( query.getRowAsStruct( 0 ).get( "role" ) ).isEqualTo( "Developer" );
+		assertThat( query.getRowAsStruct( 0 ).get( "total" ) ).isEqualTo( 2 );
+		assertThat( query.getRowAsStruct( 0 ).get( "highest" ) ).isEqualTo( 77 );
+
+		Query empty = query( "SELECT COUNT(*) AS total FROM developers WHERE id > 1000" );
+		assertThat( empty.size() ).isEqualTo( 1 );
+		assertThat( empty.getRowAsStruct( 0 ).get( "total" ) ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It joins queries" )
+	@Test
+	public void testJoins() {
+		Query inner = query( "SELECT d.name, p.title FROM developers d INNER JOIN projects p ON p.owner = d.id ORDER BY p.title" );
+		assertThat( inner.size() ).isEqualTo( 3 );
+		assertThat( inner.getRowAsStruct( 0 ).get( "title" ) ).isEqualTo( "ColdBox" );
+		assertThat( inner.getRowAsStruct( 0 ).get( "name" ) ).isEqualTo( "Luis" );
+
+		Query left = query( "SELECT d.name, p.title FROM developers d LEFT JOIN projects p ON p.owner = d.id WHERE p.title IS NULL ORDER BY d.name" );
+		assertThat( left.size() ).isEqualTo( 2 );
+		assertThat( left.getRowAsStruct( 0 ).get( "name" ) ).isEqualTo( "Brad" );
+	}
+
+	@DisplayName( "It matches join keys like the conditions compare them" )
+	@Test
+	public void testJoinKeyTypes() {
+		instance.executeSource(
+		    """
+		    tickets = queryNew( "owner,subject", "varchar,varchar", [
+		        [ "42", "numeric string" ],
+		        [ "42.0", "decimal string" ],
+		        [ "LUIS", "name" ]
+		    ] );
+		    """,
+		    context );
+		// The OR keeps the join from hashing, so every pair of rows is compared
+		Query	hashed		= query( "SELECT d.name, t.subject FROM developers d INNER JOIN tickets t ON t.owner = d.id ORDER BY t.subject" );
+		Query	compared	= query(
+		    "SELECT d.name, t.subject FROM developers d INNER JOIN tickets t ON t.owner = d.id OR 1 = 0 ORDER BY t.subject" );
+		assertThat( hashed.size() ).isEqualTo( 2 );
+		assertThat( hashed.getRowAsStruct( 0 ).get( "subject" ) ).isEqualTo( "decimal string" );
+		assertThat( hashed.getRowAsStruct( 1 ).get( "subject" ) ).isEqualTo( "numeric string" );
+		assertThat( compared.size() ).isEqualTo( hashed.size() );
+
+		Query byName = query( "SELECT d.id FROM developers d INNER JOIN tickets t ON t.owner = d.name" );
+		assertThat( byName.size() ).isEqualTo( 1 );
+		assertThat( byName.getRowAsStruct( 0 ).get( "id" ) ).isEqualTo( 1 );
+	}
+
+	@DisplayName( "It groups and deduplicates numeric strings with their numbers" )
+	@Test
+	public void testNumericStringKeys() {
+		instance.executeSource(
+		    """
+		    mixed = queryNew( "code", "varchar", [ [ "42" ], [ "42.0" ], [ "Luis" ], [ "LUIS" ] ] );
+		    mixed.addRow( { code : 42 } );
+		    """,
+		    context );
+		Query grouped = query( "SELECT code, COUNT(*) AS total FROM mixed GROUP BY code ORDER BY total DESC" );
+		assertThat( grouped.size() ).isEqualTo( 2 );
+		assertThat( grouped.getRowAsStruct( 0 ).get( "total" ) ).isEqualTo( 3 );
+		assertThat( grouped.getRowAsStruct( 1 ).get( "total" ) ).isEqualTo( 2 );
+
+		assertThat( query( "SELECT DISTINCT code FROM mixed" ).size() ).isEqualTo( 2 );
+	}
+
+	@DisplayName( "It runs a query of queries from the query component" )
+	@Test
+	public void testQueryComponent() {
+		instance.executeSource(
+		    """
+		    <bx:query name="result" dbtype="query">
+		        SELECT d.name, p.title FROM developers d INNER JOIN projects p ON p.owner = d.id WHERE d.name = 'eric' ORDER BY p.title
+		    </bx:query>
+		    """,
+		    context, BoxSourceType.BOXTEMPLATE );
+		Query query = variables.getAsQuery( result );
+		assertThat( query.size() ).isEqualTo( 2 );
+		assertThat( query.getRowAsStruct( 0 ).get( "title" ) ).isEqualTo( "qb" );
+		assertThat( query.getRowAsStruct( 1 ).get( "title" ) ).isEqualTo( "quick" );
+	}
+
+	@DisplayName( "It uses the indexes of a query" )
+	@Test
+	public void testIndex() {
+		instance.executeSource( "developers.createIndex( \"role\" )", context );
+		Query query = query( "SELECT id FROM developers WHERE role = 'DEVELOPER' AND id > 50" );
+		assertThat( query.size() ).isEqualTo( 1 );
+		assertThat( query.getRowAsStruct( 0 ).get( "id" ) ).isEqualTo( 77 );
+	}
+
+	@DisplayName( "It keeps the most recently used plans" )
+	@Test
+	public void testPlanCache() {
+		String			sql		= "SELECT id FROM developers WHERE id = ?";
+		QoQStatement	plan	= QoQExecutor.getPlan( sql );
+		assertThat( QoQExecutor.getPlan( sql ) ).isSameInstanceAs( plan );
+
+		// Filling the cache drops the plans used least recently, not the ones still in use
+		String			oldest		= "SELECT name FROM developers WHERE id = ?";
+		QoQStatement	oldestPlan	= QoQExecutor.getPlan( oldest );
+		for ( int i = 0; i < QoQExecutor.MAX_PLANS; i++ ) {
+			QoQExecutor.getPlan( "SELECT id FROM developers WHERE id = " + i );
+			QoQExecutor.getPlan( sql );
+		}
+		assertThat( QoQExecutor.getPlan( sql ) ).isSameInstanceAs( plan );
+		assertThat( QoQExecutor.getPlan( oldest ) ).isNotSameInstanceAs( oldestPlan );
+	}
+
+	@DisplayName( "It combines selects with UNION" )
+	@Test
+	public void testUnion() {
+		Query query = query( "SELECT role FROM developers UNION SELECT title FROM projects WHERE owner = 1 ORDER BY 1" );
+		assertThat( query.getColumnList() ).isEqualTo( "role" );
+		assertThat( query.size() ).isEqualTo( 4 );
+		assertThat( query.getRowAsStruct( 0 ).get( "role" ) ).isEqualTo( "Architect" );
+
+		assertThat( query( "SELECT role FROM developers UNION ALL SELECT role FROM developers" ).size() ).isEqualTo( 8 );
+	}
+
+	@DisplayName( "It supports DISTINCT, TOP, LIKE and functions" )
+	@Test
+	public void testExpressions() {
+		assertThat( query( "SELECT DISTINCT role FROM developers" ).size() ).isEqualTo( 3 );
+		assertThat( query( "SELECT TOP 2 name FROM developers ORDER BY id" ).size() ).isEqualTo( 2 );
+
+		Query query = query( "SELECT UPPER(name) AS upper, CASE WHEN id > 10 THEN 'big' ELSE 'small' END AS size FROM developers WHERE name LIKE '%ic%' ORDER BY name" );
+		assertThat( query.size() ).isEqualTo( 2 );
+		assertThat( query.getRowAsStruct( 0 ).get( "upper" ) ).isEqualTo( "ERIC" );
+		assertThat( query.getRowAsStruct( 0 ).get( "size" ) ).isEqualTo( "big" );
+	}
+
+	@DisplayName( "It reports invalid SQL and unknown tables or columns" )
+	@Test
+	public void testErrors() {
+		assertThrows( DatabaseException.class, () -> query( "SELECT FROM developers" ) );
+		assertThrows( DatabaseException.class, () -> query( "SELECT name FROM nothing" ) );
+		assertThrows( DatabaseException.class, () -> query( "SELECT nothing FROM developers" ) );
+	}
+
+}
@@ -20,7 +20,9 @@ package ortus.boxlang.runtime.loader.resolvers;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -31,8 +33,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.CompilerConfig.CacheMode;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.interop.DynamicObject;
@@ -112,4 +116,26 @@ public class BoxResolverTest {
 		assertThat( boxResolver.resolve( context, className ).isPresent() ).isFalse();
 	}
 
+	@DisplayName( "It does not check the file system again in the trusted cache mode" )
+	@Test
+	void testTrustedModeRemembersLookups( @TempDir Path tempDir ) throws IOException {
+		BoxResolver	boxResolver	= BoxResolver.getInstance();
+		CacheMode	original	= runtime.getConfiguration().compiler.cacheMode;
+		runtime.getConfiguration().runtime.registerMapping( "/trustedResolver", tempDir.toString() );
+		try {
+			runtime.getConfiguration().compiler.cacheMode = CacheMode.TRUSTED;
+			assertThat( boxResolver.findFromLocal( context, "trustedResolver.Late", new ArrayList<>() ).isPresent() ).isFalse();
+
+			// A class added later is not seen until the trusted lookups are cleared
+			Files.writeString( tempDir.resolve( "Late.bx" ), "class {}" );
+			assertThat( boxResolver.findFromLocal( context, "trustedResolver.Late", new ArrayList<>() ).isPresent() ).isFalse();
+
+			boxResolver.clearTrustedCache();
+			assertThat( boxResolver.findFromLocal( context, "trustedResolver.Late", new ArrayList<>() ).isPresent() ).isTrue();
+		} finally {
+			runtime.getConfiguration().compiler.cacheMode = original;
+			boxResolver.clearTrustedCache();
+		}
+	}
+
 }
@@ -0,0 +1,107 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.logging;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ch.qos.logback.classic.Level;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.RuntimeConfig;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class LogFileManagerTest {
+
+	static BoxRuntime	instance;
+	LogFileManager		manager;
+
+	@TempDir
+	Path				tempDir;
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		manager = new LogFileManager( new RuntimeConfig() );
+	}
+
+	@AfterEach
+	public void teardownEach() {
+		manager.shutdown( 5000 );
+	}
+
+	@DisplayName( "It writes messages to their log files" )
+	@Test
+	public void testWritesMessages() throws IOException {
+		String file = tempDir.resolve( "audit.log" ).toString();
+		for ( int i = 0; i < 100; i++ ) {
+			manager.log( file, "Audit", Level.INFO, "Message " + i );
+		}
+		manager.log( file, "Audit", Level.ERROR, "Something failed" );
+		assertThat( manager.flush( 5000 ) ).isTrue();
+
+		String content = Files.readString( Path.of( file ) );
+		assertThat( content ).contains( "Message 0" );
+		assertThat( content ).contains( "Message 99" );
+		assertThat( content ).contains( "[ERROR]" );
+		assertThat( content ).contains( "Audit" );
+	}
+
+	@DisplayName( "It creates a deleted log file again" )
+	@Test
+	public void testRecreatesDeletedFile() throws IOException {
+		Path file = tempDir.resolve( "deleted.log" );
+		manager.log( file.toString(), "Deleted", Level.INFO, "Before" );
+		assertThat( manager.flush( 5000 ) ).isTrue();
+		Files.delete( file );
+
+		manager.log( file.toString(), "Deleted", Level.INFO, "After" );
+		assertThat( manager.flush( 5000 ) ).isTrue();
+		assertThat( Files.readString( file ) ).contains( "After" );
+	}
+
+	@DisplayName( "It reports metrics" )
+	@Test
+	public void testMetrics() {
+		String file = tempDir.resolve( "metrics.log" ).toString();
+		manager.log( file, "Metrics", Level.INFO, "One" );
+		manager.log( file, "Metrics", Level.INFO, "Two" );
+		manager.flush( 5000 );
+
+		IStruct metrics = manager.getMetrics();
+		assertThat( metrics.get( "queued" ) ).isEqualTo( 2L );
+		assertThat( metrics.get( "written" ) ).isEqualTo( 2L );
+		assertThat( metrics.get( "dropped" ) ).isEqualTo( 0L );
+		assertThat( metrics.getAsArray( Key.of( "files" ) ) ).contains( file );
+	}
+
+}
@@ -0,0 +1,110 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+public class MetricsRegistryTest {
+
+	@DisplayName( "It places every value in a bucket whose highest value is within an eighth of it" )
+	@Test
+	public void testBuckets() {
+		for ( long value : new long[] { 0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789, Long.MAX_VALUE } ) {
+			long highest = LatencyHistogram.highestValueOf( LatencyHistogram.bucketOf( value ) );
+			assertThat( highest ).isAtLeast( value );
+			assertThat( ( double ) highest - value ).isAtMost( value / 8d );
+		}
+	}
+
+	@DisplayName( "It computes percentiles" )
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for ( long millis = 1; millis <= 1000; millis++ ) {
+			histogram.record( millis * 1_000_000 );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getMax() ).isEqualTo( 1_000_000_000L );
+		assertThat( ( double ) histogram.getPercentile( 50 ) ).isWithin( 500_000_000 / 8d ).of( 500_000_000 );
+		assertThat( ( double ) histogram.getPercentile( 99 ) ).isWithin( 990_000_000 / 8d ).of( 990_000_000 );
+		assertThat( histogram.getPercentile( 100 ) ).isEqualTo( 1_000_000_000L );
+
+		histogram.reset();
+		assertThat( histogram.getCount() ).isEqualTo( 0 );
+		assertThat( histogram.getPercentile( 50 ) ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It records nothing while disabled" )
+	@Test
+	public void testDisabled() {
+		MetricsRegistry metrics = new MetricsRegistry();
+		metrics.increment( "things" );
+		long start = metrics.startTimer();
+		assertThat( start ).isEqualTo( MetricsRegistry.TIMER_OFF );
+		metrics.stopTimer( "work", start );
+
+		IStruct snapshot = metrics.snapshot();
+		assertThat( snapshot.getAsBoolean( Key.of( "enabled" ) ) ).isFalse();
+		assertThat( snapshot.getAsStruct( Key.of( "counters" ) ) ).isEmpty();
+		assertThat( snapshot.getAsStruct( Key.of( "histograms" ) ) ).isEmpty();
+	}
+
+	@DisplayName( "It takes snapshots of counters, histograms and gauges" )
+	@Test
+	public void testSnapshot() {
+		MetricsRegistry metrics = new MetricsRegistry().setEnabled( true );
+		metrics.increment( "things" );
+		metrics.increment( "things" );
+		metrics.stopTimer( "work", metrics.startTimer() );
+		metrics.registerGauge( "pool", () -> Struct.of( "active", 2, "idle", 3 ) );
+
+		IStruct snapshot = metrics.snapshot();
+		assertThat( snapshot.getAsStruct( Key.of( "counters" ) ).get( "things" ) ).isEqualTo( 2L );
+		assertThat( snapshot.getAsStruct( Key.of( "histograms" ) ).getAsStruct( Key.of( "work" ) ).get( "count" ) ).isEqualTo( 1L );
+		assertThat( snapshot.getAsStruct( Key.of( "gauges" ) ).get( "pool.active" ) ).isEqualTo( 2 );
+		assertThat( snapshot.getAsStruct( Key.of( "gauges" ) ).get( "pool.idle" ) ).isEqualTo( 3 );
+		assertThat( metrics.toJSON() ).contains( "\"things\"" );
+
+		metrics.reset();
+		assertThat( metrics.getCount( "things" ) ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It exports the Prometheus text format" )
+	@Test
+	public void testPrometheus() {
+		MetricsRegistry metrics = new MetricsRegistry().setEnabled( true );
+		metrics.increment( "jdbc.query.errors" );
+		metrics.histogram( "jdbc.query" ).record( 2_000_000 );
+		metrics.registerGauge( "poolSize", () -> 4 );
+
+		String text = metrics.toPrometheus();
+		assertThat( text ).contains( "# TYPE boxlang_jdbc_query_errors_total counter\nboxlang_jdbc_query_errors_total 1\n" );
+		assertThat( text ).contains( "# TYPE boxlang_jdbc_query_seconds summary\n" );
+		assertThat( text ).contains( "boxlang_jdbc_query_seconds_count 1\n" );
+		assertThat( text ).contains( "boxlang_jdbc_query_seconds_sum 0.002\n" );
+		assertThat( text ).contains( "# TYPE boxlang_pool_size gauge\nboxlang_pool_size 4\n" );
+	}
+
+}
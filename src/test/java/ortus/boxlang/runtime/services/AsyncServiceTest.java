@@ -32,6 +32,7 @@ import org.mockito.Spy;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.async.executors.ExecutorRecord;
+import ortus.boxlang.runtime.scopes.Key;
 
 class AsyncServiceTest {
 
@@ -102,4 +103,23 @@ class AsyncServiceTest {
 		assertThat( asyncService.getExecutor( "tdd3" ).executor().isShutdown() ).isTrue();
 	}
 
+	@DisplayName( "It shares parallel executors per size" )
+	@Test
+	void testItSharesParallelExecutors() {
+		ExecutorRecord defaultPool = asyncService.getParallelExecutor( null );
+		assertThat( defaultPool.name() ).isEqualTo( AsyncService.PARALLEL_EXECUTOR );
+		assertThat( asyncService.getParallelExecutor( 0 ) ).isSameInstanceAs( defaultPool );
+
+		ExecutorRecord sizedPool = asyncService.getParallelExecutor( 3 );
+		assertThat( sizedPool ).isNotSameInstanceAs( defaultPool );
+		assertThat( asyncService.getParallelExecutor( 3 ) ).isSameInstanceAs( sizedPool );
+		assertThat( asyncService.hasExecutor( sizedPool.name() ) ).isTrue();
+		assertThat( asyncService.getParallelExecutorStats().keySet() ).containsAtLeast( Key.of( defaultPool.name() ), Key.of( sizedPool.name() ) );
+
+		// A shutdown pool is replaced on the next request
+		sizedPool.shutdownQuiet();
+		assertThat( asyncService.getParallelExecutor( 3 ) ).isNotSameInstanceAs( sizedPool );
+		assertThat( asyncService.getParallelExecutor( 3 ).submitAndGet( () -> 42 ) ).isEqualTo( 42 );
+	}
+
 }
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +36,7 @@ import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import tools.JDBCTestUtils;
 
 public class DataSourceServiceTest {
 
@@ -168,4 +170,55 @@ public class DataSourceServiceTest {
 		assertThat( service.driverSize() ).isEqualTo( 0 );
 	}
 
+	@DisplayName( "It keeps resolved datasources until they are invalidated" )
+	@Test
+	void testResolutions() {
+		DataSource	datasource	= JDBCTestUtils.buildDatasource( "resolved" );
+		int[]		calls		= { 0 };
+		Key			app			= Key.of( "myApp" );
+
+		assertThat( service.resolve( app, datasourceName, "1", () -> {
+			calls[ 0 ]++;
+			return datasource;
+		} ) ).isSameInstanceAs( datasource );
+		assertThat( service.resolve( app, datasourceName, "1", () -> {
+			calls[ 0 ]++;
+			return datasource;
+		} ) ).isSameInstanceAs( datasource );
+		assertThat( calls[ 0 ] ).isEqualTo( 1 );
+
+		// Another fingerprint, as after a settings change, resolves again
+		service.resolve( app, datasourceName, "2", () -> {
+			calls[ 0 ]++;
+			return datasource;
+		} );
+		assertThat( calls[ 0 ] ).isEqualTo( 2 );
+
+		service.invalidateResolutions();
+		service.resolve( app, datasourceName, "1", () -> {
+			calls[ 0 ]++;
+			return datasource;
+		} );
+		assertThat( calls[ 0 ] ).isEqualTo( 3 );
+		datasource.shutdown();
+	}
+
+	@DisplayName( "It only digests the settings again when they change" )
+	@Test
+	void testSettingsFingerprints() {
+		Key		app			= Key.of( "myApp" );
+		IStruct	datasources	= Struct.of( "main", Struct.of( "driver", "derby", "database", "one" ) );
+
+		String	fingerprint	= service.getSettingsFingerprint( app, Arrays.asList( "main", datasources ) );
+		// Equal settings, as rebuilt by the next request, reuse the digest
+		assertThat( service.getSettingsFingerprint( app, Arrays.asList( "main", Struct.of( "main", Struct.of( "driver", "derby", "database", "one" ) ) ) ) )
+		    .isSameInstanceAs( fingerprint );
+
+		// Changing the settings in place is seen, since the service keeps its own copy
+		datasources.getAsStruct( Key.of( "main" ) ).put( "database", "two" );
+		String changed = service.getSettingsFingerprint( app, Arrays.asList( "main", datasources ) );
+		assertThat( changed ).isNotEqualTo( fingerprint );
+		assertThat( service.getSettingsFingerprint( app, Arrays.asList( "other", datasources ) ) ).isNotEqualTo( changed );
+	}
+
 }
@@ -30,6 +30,7 @@ import org.mockito.Spy;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.events.UnitTestInterceptor;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.Key;
@@ -155,6 +156,27 @@ class InterceptorServiceTest {
 		assertThat( service.getState( pointKey ).exists( mockInterceptor ) ).isFalse();
 	}
 
+	@DisplayName( "it only builds announcement data when someone is listening" )
+	@Test
+	void testItSkipsAnnouncementsWithoutListeners() {
+		DynamicObject	mockInterceptor	= DynamicObject.of( new MockInterceptor() );
+		int[]			built			= new int[] { 0 };
+
+		assertThat( service.hasListeners( BoxEvent.PRE_FUNCTION_INVOKE ) ).isFalse();
+		service.announce( BoxEvent.PRE_FUNCTION_INVOKE, () -> {
+			built[ 0 ]++;
+			return new Struct();
+		} );
+		assertThat( built[ 0 ] ).isEqualTo( 0 );
+
+		service.register( mockInterceptor, BoxEvent.PRE_FUNCTION_INVOKE.key() );
+		assertThat( service.hasListeners( BoxEvent.PRE_FUNCTION_INVOKE ) ).isTrue();
+		assertThat( service.hasListeners( BoxEvent.PRE_FUNCTION_INVOKE.key() ) ).isTrue();
+
+		service.unregister( mockInterceptor, BoxEvent.PRE_FUNCTION_INVOKE.key() );
+		assertThat( service.hasListeners( BoxEvent.PRE_FUNCTION_INVOKE ) ).isFalse();
+	}
+
 	@DisplayName( "it can unregister interceptors with all states" )
 	@Test
 	void testItCanUnregisterInterceptorsWithAllStates() {
@@ -0,0 +1,136 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+public class QueryIndexTest {
+
+	static Key	id		= Key.of( "id" );
+	static Key	name	= Key.of( "name" );
+	Query		qry;
+
+	@BeforeEach
+	public void setupEach() {
+		qry = new Query();
+		qry.addColumn( id, QueryColumnType.INTEGER );
+		qry.addColumn( name, QueryColumnType.VARCHAR );
+		qry.addRow( new Object[] { 3, "Luis" } );
+		qry.addRow( new Object[] { 1, "Brad" } );
+		qry.addRow( new Object[] { 2, "Jon" } );
+		qry.addRow( new Object[] { 1, "Gavin" } );
+	}
+
+	@DisplayName( "It finds rows by key" )
+	@Test
+	public void testFind() {
+		QueryIndex index = qry.createIndex( false, id );
+		assertThat( index.find( 1 ) ).asList().containsExactly( 1, 3 ).inOrder();
+		assertThat( index.find( 2.0 ) ).asList().containsExactly( 2 );
+		assertThat( index.find( 5 ) ).isEmpty();
+		assertThat( index.findFirst( 3 ) ).isEqualTo( 0 );
+		assertThat( index.size() ).isEqualTo( 3 );
+
+		QueryIndex names = qry.createIndex( false, name, id );
+		assertThat( names.find( "brad", 1 ) ).asList().containsExactly( 1 );
+		assertThat( qry.getIndex( name, id ) ).isSameInstanceAs( names );
+	}
+
+	@DisplayName( "It matches numeric strings like the numbers they hold" )
+	@Test
+	public void testNumericStrings() {
+		assertThat( qry.findRows( new Key[] { id }, new Object[] { "1" } ) ).asList().containsExactly( 1, 3 ).inOrder();
+		QueryIndex index = qry.createIndex( false, id );
+		assertThat( index.find( "1.0" ) ).asList().containsExactly( 1, 3 ).inOrder();
+		assertThat( qry.findRows( new Key[] { id }, new Object[] { "2" } ) ).asList().containsExactly( 2 );
+	}
+
+	@DisplayName( "It scans rows shorter than the columns" )
+	@Test
+	public void testShortRows() {
+		qry.addColumn( Key.of( "role" ), QueryColumnType.VARCHAR );
+		qry.addRow( new Object[] { 4 } );
+		assertThat( qry.findRows( new Key[] { Key.of( "role" ) }, new Object[] { null } ) ).asList().containsExactly( 0, 1, 2, 3, 4 );
+	}
+
+	@DisplayName( "It scans ranges of a sorted index" )
+	@Test
+	public void testRange() {
+		QueryIndex index = qry.createIndex( true, id );
+		assertThat( index.range( new Object[] { 1 }, false, null, false ) ).asList().containsExactly( 2, 0 ).inOrder();
+		assertThat( index.range( null, false, new Object[] { 2 }, true ) ).asList().containsExactly( 1, 3, 2 ).inOrder();
+		assertThat( index.range( new Object[] { 3 }, true, new Object[] { 1 }, true ) ).isEmpty();
+	}
+
+	@DisplayName( "It joins another query" )
+	@Test
+	public void testJoin() {
+		Query other = new Query();
+		other.addColumn( Key.of( "personId" ), QueryColumnType.INTEGER );
+		other.addRow( new Object[] { 1 } );
+		other.addRow( new Object[] { 4 } );
+		other.addRow( new Object[] { 3 } );
+
+		List<int[]> pairs = qry.createIndex( false, id ).join( other, Key.of( "personId" ) );
+		assertThat( pairs ).hasSize( 3 );
+		assertThat( pairs.get( 0 ) ).asList().containsExactly( 0, 1 ).inOrder();
+		assertThat( pairs.get( 1 ) ).asList().containsExactly( 0, 3 ).inOrder();
+		assertThat( pairs.get( 2 ) ).asList().containsExactly( 2, 0 ).inOrder();
+	}
+
+	@DisplayName( "It follows changes to the query" )
+	@Test
+	public void testMaintenance() {
+		QueryIndex index = qry.createIndex( false, id );
+		assertThat( index.find( 1 ) ).hasLength( 2 );
+
+		qry.addRow( new Object[] { 1, "Eric" } );
+		assertThat( index.find( 1 ) ).asList().containsExactly( 1, 3, 4 ).inOrder();
+
+		qry.setCell( id, 1, 7 );
+		assertThat( index.find( 1 ) ).asList().containsExactly( 3, 4 ).inOrder();
+		assertThat( index.find( 7 ) ).asList().containsExactly( 1 );
+
+		qry.deleteRow( 0 );
+		assertThat( index.find( 7 ) ).asList().containsExactly( 0 );
+
+		qry.setRow( 0, new Object[] { 2, "Brad" } );
+		assertThat( index.find( 2 ) ).asList().containsExactly( 0, 1 ).inOrder();
+
+		qry.deleteColumn( id );
+		assertThat( qry.getIndex( id ) ).isNull();
+	}
+
+	@DisplayName( "It finds rows with or without an index" )
+	@Test
+	public void testFindRows() {
+		Key[] columns = new Key[] { name };
+		assertThat( qry.findRows( columns, new Object[] { "JON" } ) ).asList().containsExactly( 2 );
+		qry.createIndex( false, name );
+		assertThat( qry.findRows( columns, new Object[] { "JON" } ) ).asList().containsExactly( 2 );
+	}
+
+}
@@ -19,6 +19,8 @@ package ortus.boxlang.runtime.types;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -88,4 +90,84 @@ public class QueryTest {
 		assertThat( ctx.unwrapQueryColumn( qry.dereference( context, Key.of( "foo" ), false ) ) ).isEqualTo( "gavin" );
 	}
 
+	@DisplayName( "Row views read the query and copy the row when modified" )
+	@Test
+	void testRowViews() {
+		Query qry = new Query();
+		qry.addColumn( Key.of( "foo" ), QueryColumnType.VARCHAR );
+		qry.addColumn( Key.of( "bar" ), QueryColumnType.INTEGER );
+		qry.addRow( new Object[] { "a", null } );
+
+		IStruct row = qry.getRowView( 0 );
+		assertThat( row.size() ).isEqualTo( 2 );
+		assertThat( row.get( Key.of( "foo" ) ) ).isEqualTo( "a" );
+		assertThat( row.containsKey( Key.of( "bar" ) ) ).isTrue();
+		assertThat( row.get( Key.of( "bar" ) ) ).isNull();
+		assertThat( row.getKeysAsStrings() ).containsExactly( "foo", "bar" ).inOrder();
+
+		row.put( Key.of( "foo" ), "b" );
+		row.put( Key.of( "baz" ), true );
+		assertThat( row.get( Key.of( "foo" ) ) ).isEqualTo( "b" );
+		assertThat( row.size() ).isEqualTo( 3 );
+		assertThat( qry.getCell( Key.of( "foo" ), 0 ) ).isEqualTo( "a" );
+	}
+
+	@DisplayName( "Sorting moves the rows and keeps existing views" )
+	@Test
+	void testSort() {
+		Query qry = new Query();
+		qry.addColumn( Key.of( "name" ), QueryColumnType.VARCHAR );
+		qry.addRow( new Object[] { "luis" } );
+		qry.addRow( new Object[] { "brad" } );
+		qry.addRow( new Object[] { "jon" } );
+
+		Array rows = qry.toStructArray();
+		qry.sort( ( a, b ) -> a.getAsString( Key.of( "name" ) ).compareTo( b.getAsString( Key.of( "name" ) ) ) );
+
+		assertThat( qry.getColumnData( Key.of( "name" ) ) ).asList().containsExactly( "brad", "jon", "luis" ).inOrder();
+		assertThat( qry.getData() ).hasSize( 3 );
+		assertThat( ( ( IStruct ) rows.get( 0 ) ).get( Key.of( "name" ) ) ).isEqualTo( "luis" );
+	}
+
+	@DisplayName( "Row views keep their values when the query changes" )
+	@Test
+	void testRowViewsAreSnapshots() {
+		Query qry = new Query();
+		qry.addColumn( Key.of( "foo" ), QueryColumnType.VARCHAR );
+		qry.addColumn( Key.of( "bar" ), QueryColumnType.INTEGER );
+		qry.addRow( new Object[] { "a", 1 } );
+
+		Array	rows	= qry.toStructArray();
+		IStruct	row		= qry.getRowView( 0 );
+		qry.setCell( Key.of( "foo" ), 0, "b" );
+		assertThat( qry.getCell( Key.of( "foo" ), 0 ) ).isEqualTo( "b" );
+		assertThat( ( ( IStruct ) rows.get( 0 ) ).get( Key.of( "foo" ) ) ).isEqualTo( "a" );
+		assertThat( row.get( Key.of( "foo" ) ) ).isEqualTo( "a" );
+		assertThat( qry.getRowView( 0 ).get( Key.of( "foo" ) ) ).isEqualTo( "b" );
+	}
+
+	@DisplayName( "Row views can remove keys through their key set" )
+	@Test
+	void testRowViewRemovals() {
+		Query qry = new Query();
+		qry.addColumn( Key.of( "foo" ), QueryColumnType.VARCHAR );
+		qry.addColumn( Key.of( "bar" ), QueryColumnType.INTEGER );
+		qry.addColumn( Key.of( "baz" ), QueryColumnType.INTEGER );
+		qry.addRow( new Object[] { "a", 1, 2 } );
+
+		IStruct row = qry.getRowView( 0 );
+		row.keySet().remove( Key.of( "foo" ) );
+		assertThat( row.getKeysAsStrings() ).containsExactly( "bar", "baz" ).inOrder();
+
+		row = qry.getRowView( 0 );
+		row.keySet().removeIf( key -> key.equals( Key.of( "bar" ) ) );
+		assertThat( row.getKeysAsStrings() ).containsExactly( "foo", "baz" ).inOrder();
+
+		row = qry.getRowView( 0 );
+		row.keySet().retainAll( List.of( Key.of( "bar" ) ) );
+		assertThat( row.getKeysAsStrings() ).containsExactly( "bar" );
+
+		assertThat( qry.getRowView( 0 ).size() ).isEqualTo( 3 );
+	}
+
 }
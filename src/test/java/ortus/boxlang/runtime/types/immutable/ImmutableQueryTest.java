@@ -0,0 +1,85 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.immutable;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.UnmodifiableException;
+
+public class ImmutableQueryTest {
+
+	private IBoxContext	context	= new ScriptingRequestBoxContext();
+	private Key			name	= Key.of( "name" );
+
+	private Query createQuery() {
+		Query query = new Query();
+		query.addColumn( Key.id, QueryColumnType.INTEGER );
+		query.addColumn( name, QueryColumnType.VARCHAR );
+		query.addRow( new Object[] { 1, "Brad" } );
+		query.addRow( new Object[] { 2, "Luis" } );
+		return query;
+	}
+
+	@DisplayName( "It copies the columns and rows of a query" )
+	@Test
+	void testCopy() {
+		Query			query		= createQuery();
+		ImmutableQuery	immutable	= ImmutableQuery.of( query );
+
+		assertThat( immutable.size() ).isEqualTo( 2 );
+		assertThat( immutable.getColumnList() ).isEqualTo( "id,name" );
+		assertThat( immutable.getCell( name, 1 ) ).isEqualTo( "Luis" );
+		assertThat( ImmutableQuery.of( immutable ) ).isSameInstanceAs( immutable );
+
+		// Changing the original does not change the copy
+		query.setCell( name, 1, "Jon" );
+		assertThat( immutable.getCell( name, 1 ) ).isEqualTo( "Luis" );
+	}
+
+	@Test
+	void testImmutability() {
+		final ImmutableQuery immutable = ImmutableQuery.of( createQuery() );
+
+		assertThat( immutable instanceof IImmutable ).isTrue();
+		assertThrows( UnmodifiableException.class, () -> immutable.addColumn( Key.of( "age" ), QueryColumnType.INTEGER ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.addRow( new Object[] { 3, "Jon" } ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.addRow( Struct.of( "id", 3, "name", "Jon" ) ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.addRows( 1 ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.deleteColumn( name ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.deleteRow( 0 ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.setCell( name, 0, "Jon" ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.sort( ( a, b ) -> 0 ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.clear() );
+		assertThrows( UnmodifiableException.class, () -> immutable.removeAll( List.of() ) );
+		assertThrows( UnmodifiableException.class, () -> immutable.assign( context, name, "Jon" ) );
+		assertThat( immutable.size() ).isEqualTo( 2 );
+	}
+
+}
@@ -0,0 +1,120 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+
+public class JSONWriterTest {
+
+	static BoxRuntime instance;
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	public static class Person {
+
+		public String getName() {
+			return "brad";
+		}
+
+		public int getAge() {
+			return 42;
+		}
+	}
+
+	private Query buildQuery() {
+		Query query = new Query();
+		query.addColumn( Key.of( "id" ), QueryColumnType.INTEGER );
+		query.addColumn( Key.of( "name" ), QueryColumnType.VARCHAR );
+		query.addRow( new Object[] { 1, "brad" } );
+		query.addRow( new Object[] { 2, null } );
+		return query;
+	}
+
+	@DisplayName( "It writes compact output by default" )
+	@Test
+	void testCompactOutput() {
+		IStruct struct = Struct.linkedOf( "one", "wood", "two", null, "three", Array.of( 1, 2 ) );
+		assertThat( new JSONWriter().asString( struct ) ).isEqualTo( "{\"one\":\"wood\",\"two\":null,\"three\":[1,2]}" );
+	}
+
+	@DisplayName( "It writes queries in every format" )
+	@Test
+	void testQueryFormats() {
+		Query query = buildQuery();
+		assertThat( new JSONWriter( JSONWriter.QueryFormat.ROW, false ).asString( query ) )
+		    .isEqualTo( "{\"columns\":[\"id\",\"name\"],\"data\":[[1,\"brad\"],[2,null]]}" );
+		assertThat( new JSONWriter( JSONWriter.QueryFormat.COLUMN, false ).asString( query ) )
+		    .isEqualTo( "{\"rowCount\":2,\"columns\":[\"id\",\"name\"],\"data\":{\"id\":[1,2],\"name\":[\"brad\",null]}}" );
+		assertThat( new JSONWriter( JSONWriter.QueryFormat.STRUCT, false ).asString( query ) )
+		    .isEqualTo( "[{\"id\":1,\"name\":\"brad\"},{\"id\":2,\"name\":null}]" );
+	}
+
+	@DisplayName( "It applies the query format to nested queries" )
+	@Test
+	void testNestedQuery() {
+		IStruct struct = Struct.linkedOf( "results", buildQuery() );
+		assertThat( new JSONWriter( JSONWriter.QueryFormat.STRUCT, false ).asString( struct ) )
+		    .isEqualTo( "{\"results\":[{\"id\":1,\"name\":\"brad\"},{\"id\":2,\"name\":null}]}" );
+	}
+
+	@DisplayName( "It keeps beans compact when nested in compact output" )
+	@Test
+	void testCompactBeans() {
+		IStruct struct = Struct.linkedOf( "person", new Person() );
+		assertThat( new JSONWriter().asString( struct ) ).isEqualTo( "{\"person\":{\"age\":42,\"name\":\"brad\"}}" );
+	}
+
+	@DisplayName( "It streams into a file" )
+	@Test
+	void testWriteToFile( @TempDir Path tempDir ) throws IOException {
+		Path target = tempDir.resolve( "out.json" );
+		new JSONWriter().write( Array.of( "a", true, 3 ), target );
+		assertThat( Files.readString( target ) ).isEqualTo( "[\"a\",true,3]" );
+	}
+
+	@DisplayName( "It streams into the output buffer of a context" )
+	@Test
+	void testWriteToContext() {
+		IBoxContext context = new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		new JSONWriter().write( Struct.linkedOf( "name", "brad" ), context );
+		assertThat( context.getBuffer().toString() ).isEqualTo( "{\"name\":\"brad\"}" );
+	}
+
+}